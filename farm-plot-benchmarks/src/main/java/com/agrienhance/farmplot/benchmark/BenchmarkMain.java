@@ -0,0 +1,43 @@
+package com.agrienhance.farmplot.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmark jar. Runs JMH as usual, but unless a result
+ * format is given on the command line the results are also written as JSON
+ * to jmh-results/&lt;timestamp&gt;.json, so every run leaves a machine-readable
+ * record that can be compared with earlier runs (e.g. in a JMH visualizer).
+ */
+public final class BenchmarkMain {
+
+    static final Path RESULTS_DIRECTORY = Path.of("jmh-results");
+
+    private static final DateTimeFormatter RUN_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(withDefaultResultFile(args, LocalDateTime.now()));
+    }
+
+    static String[] withDefaultResultFile(String[] args, LocalDateTime runStartedAt) throws IOException {
+        List<String> options = Arrays.asList(args);
+        if (options.contains("-rf") || options.contains("-rff") || options.contains("-h")
+                || options.contains("-l") || options.contains("-lp")) {
+            return args;
+        }
+        Files.createDirectories(RESULTS_DIRECTORY);
+        List<String> withResultFile = new ArrayList<>(List.of("-rf", "json", "-rff",
+                RESULTS_DIRECTORY.resolve(RUN_TIMESTAMP.format(runStartedAt) + ".json").toString()));
+        withResultFile.addAll(options);
+        return withResultFile.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,45 @@
+package com.agrienhance.farmplot.benchmark;
+
+import com.agrienhance.farmplot.api.dto.geojson.PolygonGeometryDto;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plot boundaries of a given vertex count shared by the benchmarks, so that
+ * results for the same size are comparable across suites.
+ */
+final class FieldPolygons {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private FieldPolygons() {
+    }
+
+    // A roughly circular ~4 ha field near Nairobi
+    static Polygon fieldPolygon(int vertexCount) {
+        Coordinate[] ring = new Coordinate[vertexCount + 1];
+        for (int i = 0; i < vertexCount; i++) {
+            double angle = 2 * Math.PI * i / vertexCount;
+            ring[i] = new Coordinate(36.8 + 0.001 * Math.cos(angle), -1.3 + 0.001 * Math.sin(angle));
+        }
+        ring[vertexCount] = ring[0];
+        return GEOMETRY_FACTORY.createPolygon(ring);
+    }
+
+    // The same field as a request body would carry it
+    static PolygonGeometryDto fieldPolygonDto(int vertexCount) {
+        List<List<Double>> ring = new ArrayList<>(vertexCount + 1);
+        for (Coordinate coordinate : fieldPolygon(vertexCount).getExteriorRing().getCoordinates()) {
+            ring.add(List.of(coordinate.getX(), coordinate.getY()));
+        }
+        return PolygonGeometryDto.builder()
+                .type("Polygon")
+                .coordinates(List.of(ring))
+                .build();
+    }
+}
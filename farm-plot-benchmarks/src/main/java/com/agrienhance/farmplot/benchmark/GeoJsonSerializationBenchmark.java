@@ -0,0 +1,65 @@
+package com.agrienhance.farmplot.benchmark;
+
+import com.agrienhance.farmplot.api.json.GeoJsonModule;
+import com.agrienhance.farmplot.application.mapper.GeometryMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a plot boundary to a response body: the old path through
+ * GeometryMapper's PolygonGeometryDto (boxed coordinate lists) against the
+ * GeoJsonModule serializer that streams the CoordinateSequence. Run with
+ * -prof gc to see gc.alloc.rate.norm, the bytes allocated per response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoJsonSerializationBenchmark {
+
+    @Param({ "5", "50", "500" })
+    private int vertices;
+
+    // Leaves the response stream open, as Spring's message converter does
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new GeoJsonModule())
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private final GeometryMapper geometryMapper = new GeometryMapper();
+    // Discards the bytes so only serialization is measured, not buffer growth
+    private final OutputStream responseBody = OutputStream.nullOutputStream();
+
+    private Polygon polygon;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        polygon = FieldPolygons.fieldPolygon(vertices);
+    }
+
+    @Benchmark
+    public void polygonGeometryDto() throws IOException {
+        objectMapper.writeValue(responseBody, geometryMapper.toPolygonGeometryDto(polygon));
+    }
+
+    @Benchmark
+    public void streamingSerializer() throws IOException {
+        objectMapper.writeValue(responseBody, polygon);
+    }
+}
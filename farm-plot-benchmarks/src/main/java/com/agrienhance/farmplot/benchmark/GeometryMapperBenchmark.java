@@ -0,0 +1,57 @@
+package com.agrienhance.farmplot.benchmark;
+
+import com.agrienhance.farmplot.api.dto.geojson.PolygonGeometryDto;
+import com.agrienhance.farmplot.application.mapper.GeometryMapper;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GeometryMapper conversions between the boxed GeoJSON DTO and JTS, the
+ * per-request cost of every plot boundary a client sends (toPolygon) and
+ * of the DTO-based response path (toPolygonGeometryDto).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeometryMapperBenchmark {
+
+    @Param({ "5", "50", "500", "5000", "50000" })
+    private int vertices;
+
+    private final GeometryMapper geometryMapper = new GeometryMapper();
+
+    private Polygon polygon;
+    private PolygonGeometryDto polygonDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        polygon = FieldPolygons.fieldPolygon(vertices);
+        polygonDto = FieldPolygons.fieldPolygonDto(vertices);
+    }
+
+    @Benchmark
+    public Polygon toPolygon() {
+        return geometryMapper.toPolygon(polygonDto);
+    }
+
+    @Benchmark
+    public PolygonGeometryDto toPolygonGeometryDto() {
+        return geometryMapper.toPolygonGeometryDto(polygon);
+    }
+}
@@ -0,0 +1,186 @@
+package com.agrienhance.farmplot.benchmark;
+
+import com.agrienhance.farmplot.api.dto.farm.CreateFarmRequest;
+import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
+import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
+import com.agrienhance.farmplot.api.dto.plot.CreatePlotRequest;
+import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
+import com.agrienhance.farmplot.api.dto.poi.CreatePointOfInterestRequest;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
+import com.agrienhance.farmplot.application.mapper.FarmMapper;
+import com.agrienhance.farmplot.application.mapper.FarmMapperImpl;
+import com.agrienhance.farmplot.application.mapper.GeometryMapper;
+import com.agrienhance.farmplot.application.mapper.PlotMapper;
+import com.agrienhance.farmplot.application.mapper.PlotMapperImpl;
+import com.agrienhance.farmplot.application.mapper.PointOfInterestMapper;
+import com.agrienhance.farmplot.application.mapper.PointOfInterestMapperImpl;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.entity.PointOfInterest;
+import com.agrienhance.farmplot.domain.enums.LandTenureType;
+import com.agrienhance.farmplot.domain.enums.POIType;
+import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The generated MapStruct mappers, wired the way the service wires them (a
+ * Spring context with GeometryMapper). Plot mappings are measured per
+ * boundary size; farm and POI mappings only carry a point, so they run once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapStructMapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private PlotMapper plotMapper;
+    private FarmMapper farmMapper;
+    private PointOfInterestMapper poiMapper;
+
+    private Farm farm;
+    private CreateFarmRequest createFarmRequest;
+    private PointOfInterest poi;
+    private CreatePointOfInterestRequest createPoiRequest;
+
+    /**
+     * Separate state so that only the plot benchmarks run per boundary size.
+     */
+    @State(Scope.Benchmark)
+    public static class Plots {
+
+        @Param({ "5", "50", "500", "5000", "50000" })
+        private int vertices;
+
+        private Plot plot;
+        private CreatePlotRequest createPlotRequest;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Farm farm = Farm.builder().farmIdentifier(UUID.randomUUID()).build();
+            plot = Plot.builder()
+                    .plotIdentifier(UUID.randomUUID())
+                    .farm(farm)
+                    .plotName("North field")
+                    .cultivatorReferenceId(UUID.randomUUID())
+                    .plotGeometry(FieldPolygons.fieldPolygon(vertices))
+                    .calculatedAreaHectares(new BigDecimal("4.1250"))
+                    .landTenureType(LandTenureType.OWNED)
+                    .tenantId(UUID.randomUUID())
+                    .createdAt(OffsetDateTime.now())
+                    .updatedAt(OffsetDateTime.now())
+                    .version(3L)
+                    .build();
+            createPlotRequest = CreatePlotRequest.builder()
+                    .farmIdentifier(farm.getFarmIdentifier())
+                    .plotName("North field")
+                    .plotGeometry(FieldPolygons.fieldPolygonDto(vertices))
+                    .landTenureType(LandTenureType.OWNED)
+                    .build();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(GeometryMapper.class, PlotMapperImpl.class,
+                FarmMapperImpl.class, PointOfInterestMapperImpl.class);
+        plotMapper = context.getBean(PlotMapper.class);
+        farmMapper = context.getBean(FarmMapper.class);
+        poiMapper = context.getBean(PointOfInterestMapper.class);
+
+        PointGeometryDto location = PointGeometryDto.builder().coordinates(List.of(36.8, -1.3)).build();
+        GeometryMapper geometryMapper = context.getBean(GeometryMapper.class);
+        farm = Farm.builder()
+                .farmIdentifier(UUID.randomUUID())
+                .farmName("Kiambu Estate")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("KE")
+                .region("Kiambu")
+                .generalLocationCoordinates(geometryMapper.toPoint(location))
+                .tenantId(UUID.randomUUID())
+                .createdAt(OffsetDateTime.now())
+                .updatedAt(OffsetDateTime.now())
+                .version(1L)
+                .build();
+        createFarmRequest = CreateFarmRequest.builder()
+                .farmName("Kiambu Estate")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("KE")
+                .region("Kiambu")
+                .generalLocationCoordinates(location)
+                .build();
+        poi = PointOfInterest.builder()
+                .poiIdentifier(UUID.randomUUID())
+                .parentEntityIdentifier(farm.getFarmIdentifier())
+                .parentEntityType(ParentEntityType.FARM)
+                .poiName("Borehole")
+                .poiType(POIType.WATER_SOURCE)
+                .coordinates(geometryMapper.toPoint(location))
+                .tenantId(farm.getTenantId())
+                .createdAt(OffsetDateTime.now())
+                .updatedAt(OffsetDateTime.now())
+                .version(1L)
+                .build();
+        createPoiRequest = CreatePointOfInterestRequest.builder()
+                .poiName("Borehole")
+                .poiType(POIType.WATER_SOURCE)
+                .coordinates(location)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PlotResponse plotToPlotResponse(Plots plots) {
+        return plotMapper.plotToPlotResponse(plots.plot);
+    }
+
+    @Benchmark
+    public Plot createRequestToPlot(Plots plots) {
+        return plotMapper.createRequestToPlot(plots.createPlotRequest);
+    }
+
+    @Benchmark
+    public FarmResponse farmToFarmResponse() {
+        return farmMapper.farmToFarmResponse(farm);
+    }
+
+    @Benchmark
+    public Farm createRequestToFarm() {
+        return farmMapper.createRequestToFarm(createFarmRequest);
+    }
+
+    @Benchmark
+    public PointOfInterestResponse poiToPoiResponse() {
+        return poiMapper.poiToPoiResponse(poi);
+    }
+
+    @Benchmark
+    public PointOfInterest createRequestToPoi() {
+        return poiMapper.createRequestToPoi(createPoiRequest);
+    }
+}
@@ -0,0 +1,106 @@
+package com.agrienhance.farmplot.benchmark;
+
+import com.agrienhance.farmplot.application.spatial.GeodesicArea;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process geodesic area against PostGIS ST_Area(geography), the work
+ * createPlot used to hand to the database. The database side runs the
+ * statement behind PlotRepository.calculateAreaInSquareMeters over a plain
+ * JDBC connection to a PostGIS container (needs Docker), so it measures the
+ * round trip without JPA overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlotAreaBenchmark {
+
+    private static final String POSTGIS_IMAGE = "postgis/postgis:16-3.4";
+
+    @Param({ "5", "50", "500" })
+    private int vertices;
+
+    private Polygon polygon;
+    private String polygonWkt;
+
+    /**
+     * Separate state so the in-process benchmark runs without Docker.
+     */
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        private PostgreSQLContainer<?> postgis;
+        private Connection connection;
+        private PreparedStatement areaStatement;
+
+        @Setup(Level.Trial)
+        public void start() throws Exception {
+            postgis = new PostgreSQLContainer<>(
+                    DockerImageName.parse(POSTGIS_IMAGE).asCompatibleSubstituteFor("postgres"));
+            postgis.start();
+            connection = DriverManager.getConnection(postgis.getJdbcUrl(), postgis.getUsername(),
+                    postgis.getPassword());
+            areaStatement = connection.prepareStatement(repositoryAreaQuery());
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws SQLException {
+            connection.close();
+            postgis.stop();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        polygon = FieldPolygons.fieldPolygon(vertices);
+        polygonWkt = polygon.toText();
+    }
+
+    @Benchmark
+    public double geodesicAreaInProcess() {
+        return GeodesicArea.squareMeters(polygon);
+    }
+
+    @Benchmark
+    public double postgisAreaQuery(Database database) throws SQLException {
+        database.areaStatement.setString(1, polygonWkt);
+        try (ResultSet resultSet = database.areaStatement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getDouble(1);
+        }
+    }
+
+    // Reuse the repository's SQL so the benchmark follows any change to it
+    private static String repositoryAreaQuery() throws NoSuchMethodException {
+        Query query = PlotRepository.class.getMethod("calculateAreaInSquareMeters", String.class)
+                .getAnnotation(Query.class);
+        return query.value().replace(":plotGeometryText", "?");
+    }
+}
@@ -0,0 +1,82 @@
+package com.agrienhance.farmplot.benchmark;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
+import com.agrienhance.farmplot.api.json.GeoJsonModule;
+import com.agrienhance.farmplot.domain.enums.LandTenureType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a whole PlotResponse body, configured like the service's Boot
+ * ObjectMapper (JavaTimeModule, GeoJsonModule and the lenient field
+ * selection filter from JacksonConfig). Run with -prof gc for the bytes
+ * allocated per response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlotResponseSerializationBenchmark {
+
+    @Param({ "5", "50", "500", "5000", "50000" })
+    private int vertices;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new GeoJsonModule())
+            .filterProvider(new SimpleFilterProvider().setFailOnUnknownId(false))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+    // Discards the bytes so only serialization is measured, not buffer growth
+    private final OutputStream responseBody = OutputStream.nullOutputStream();
+
+    private PlotResponse plotResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plotResponse = PlotResponse.builder()
+                .plotIdentifier(UUID.randomUUID())
+                .farmIdentifier(UUID.randomUUID())
+                .plotName("North field")
+                .cultivatorReferenceId(UUID.randomUUID())
+                .plotGeometry(FieldPolygons.fieldPolygon(vertices))
+                .calculatedAreaHectares(new BigDecimal("4.1250"))
+                .landTenureType(LandTenureType.OWNED)
+                .tenantId(UUID.randomUUID())
+                .createdAt(OffsetDateTime.now())
+                .updatedAt(OffsetDateTime.now())
+                .version(3L)
+                .build();
+    }
+
+    @Benchmark
+    public void writePlotResponse() throws IOException {
+        objectMapper.writeValue(responseBody, plotResponse);
+    }
+}
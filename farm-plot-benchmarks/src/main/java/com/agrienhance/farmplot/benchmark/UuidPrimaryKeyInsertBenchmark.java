@@ -0,0 +1,155 @@
+package com.agrienhance.farmplot.benchmark;
+
+import com.agrienhance.farmplot.domain.identifier.EntityUuidStrategy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk inserts keyed by random (v4) against time-ordered (v7) UUIDs, into a
+ * table shaped like plots: a UUID primary key, the tenant and a payload.
+ * The table is pre-filled first, so inserts land in an index that no longer
+ * fits in a handful of pages.
+ *
+ * Next to the time per batch, two counters are reported per batch:
+ * indexPagesAdded, the growth of the primary key index in 8 kB pages (each
+ * leaf page split adds one), and walBytes, the WAL written by the batch. A
+ * checkpoint precedes every batch, so the first change to each page after
+ * it writes the full page to the WAL, as it does in production. Needs Docker.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, batchSize = 1)
+@Measurement(iterations = 10, batchSize = 1)
+@Fork(1)
+public class UuidPrimaryKeyInsertBenchmark {
+
+    private static final String POSTGIS_IMAGE = "postgis/postgis:16-3.4";
+
+    private static final int PREFILLED_ROWS = 200_000;
+    private static final int ROWS_PER_BATCH = 20_000;
+    private static final int ROWS_PER_JDBC_BATCH = 1_000;
+
+    @Param({ "RANDOM", "TIME_ORDERED" })
+    private EntityUuidStrategy strategy;
+
+    private PostgreSQLContainer<?> postgis;
+    private Connection connection;
+    private final UUID tenantId = UUID.randomUUID();
+
+    private long indexPagesBefore;
+    private long walPositionBefore;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class WriteAmplification {
+        public long indexPagesAdded;
+        public long walBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            indexPagesAdded = 0;
+            walBytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() throws SQLException {
+        postgis = new PostgreSQLContainer<>(
+                DockerImageName.parse(POSTGIS_IMAGE).asCompatibleSubstituteFor("postgres"));
+        postgis.start();
+        Properties properties = new Properties();
+        properties.setProperty("user", postgis.getUsername());
+        properties.setProperty("password", postgis.getPassword());
+        properties.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(postgis.getJdbcUrl(), properties);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bench_plots (plot_identifier UUID PRIMARY KEY, "
+                    + "tenant_id UUID NOT NULL, plot_name VARCHAR(255) NOT NULL)");
+        }
+        insertRows(PREFILLED_ROWS);
+    }
+
+    @Setup(Level.Invocation)
+    public void checkpoint() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+        }
+        indexPagesBefore = indexPages();
+        walPositionBefore = walPosition();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws SQLException {
+        connection.close();
+        postgis.stop();
+    }
+
+    @Benchmark
+    public void insertBatch(WriteAmplification counters) throws SQLException {
+        insertRows(ROWS_PER_BATCH);
+        counters.indexPagesAdded += indexPages() - indexPagesBefore;
+        counters.walBytes += walPosition() - walPositionBefore;
+    }
+
+    private void insertRows(int rows) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_plots (plot_identifier, tenant_id, plot_name) VALUES (?, ?, ?)")) {
+            for (int row = 1; row <= rows; row++) {
+                insert.setObject(1, strategy.next());
+                insert.setObject(2, tenantId);
+                insert.setString(3, "Plot " + row);
+                insert.addBatch();
+                if (row % ROWS_PER_JDBC_BATCH == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private long indexPages() throws SQLException {
+        return queryLong("SELECT pg_relation_size('bench_plots_pkey') / current_setting('block_size')::bigint");
+    }
+
+    // Absolute WAL position in bytes, so two readings subtract to the WAL written in between
+    private long walPosition() throws SQLException {
+        return queryLong("SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint");
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.agrienhance.farmplot.api.controller;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.farm.CreateFarmRequest;
 import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
 import com.agrienhance.farmplot.api.dto.farm.UpdateFarmRequest;
@@ -19,21 +20,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 // import org.springframework.security.access.prepost.PreAuthorize; // For authorization later
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.UUID;
 import com.agrienhance.farmplot.api.dto.poi.CreatePointOfInterestRequest;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchReport;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestPlotAssignmentReport;
 import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
+import com.agrienhance.farmplot.application.export.OfflinePackage;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.application.service.FarmApplicationService;
+import com.agrienhance.farmplot.application.service.OfflinePackageService;
 import com.agrienhance.farmplot.application.service.PointOfInterestApplicationService; // Import
 import com.agrienhance.farmplot.domain.enums.ParentEntityType; // Import
 import org.springframework.data.domain.Page; // If using paginated list
 import org.springframework.data.domain.Pageable; // If using paginated list
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.List; // If using non-paginated list
 
@@ -46,6 +59,7 @@ public class FarmController {
         // Placeholder for the application service - to be implemented
         private final FarmApplicationService farmApplicationService;
         private final PointOfInterestApplicationService poiApplicationService; // Add this
+        private final OfflinePackageService offlinePackageService;
 
         private UUID getAuthenticatedTenantId() {
                 // TODO: Replace with actual logic to extract tenantId from Spring Security
@@ -91,18 +105,59 @@ public class FarmController {
                 return ResponseEntity.ok(farm);
         }
 
+        @Operation(summary = "Download the farm as an offline GeoPackage",
+                        description = "A SQLite GeoPackage with the farm, its plots, land tenures and points of interest. Send the ETag back in If-None-Match to skip the download while nothing changed.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "GeoPackage file"),
+                        @ApiResponse(responseCode = "304", description = "The client's copy is current"),
+                        @ApiResponse(responseCode = "404", description = "Farm not found")
+        })
+        @GetMapping("/{farmIdentifier}/offline-package")
+        public ResponseEntity<Resource> getOfflinePackage(
+                        @Parameter(description = "UUID of the farm to package") @PathVariable UUID farmIdentifier,
+                        WebRequest webRequest) throws IOException {
+                UUID tenantId = getAuthenticatedTenantId();
+                OfflinePackage offlinePackage = offlinePackageService.getFarmPackage(farmIdentifier, tenantId);
+                String eTag = "\"" + offlinePackage.contentHash() + "\"";
+                if (webRequest.checkNotModified(eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+                }
+                return ResponseEntity.ok()
+                                .eTag(eTag)
+                                .contentType(MediaType.parseMediaType(OfflinePackage.MEDIA_TYPE))
+                                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                                .filename("farm-" + farmIdentifier + ".gpkg").build().toString())
+                                .body(new FileSystemResource(offlinePackage.file()));
+        }
+
         @Operation(summary = "List all farms for the current tenant (paginated)")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "List of farms retrieved")
+                        @ApiResponse(responseCode = "200", description = "List of farms retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Unknown field in fields")
         })
         @GetMapping
         public ResponseEntity<Page<FarmResponse>> listFarms(
+                        @Parameter(description = "Comma-separated farm fields to return, e.g. farmIdentifier,farmName; the location is only loaded when generalLocationCoordinates is listed. Omit for all fields") @RequestParam(required = false) String fields,
                         @Parameter(description = "Pagination and sorting parameters") @PageableDefault(size = 20, sort = "farmName") Pageable pageable) {
                 UUID tenantId = getAuthenticatedTenantId();
-                Page<FarmResponse> farms = farmApplicationService.listFarmsByTenant(tenantId, pageable);
+                Page<FarmResponse> farms = farmApplicationService.listFarmsByTenant(tenantId, pageable,
+                                FieldSelection.parse(fields, FarmResponse.class));
                 return ResponseEntity.ok(farms);
         }
 
+        @Operation(summary = "List all farms by name using a continuation cursor instead of page numbers")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Slice of farms retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+        })
+        @GetMapping("/scroll")
+        public ResponseEntity<CursorPageResponse<FarmResponse>> scrollFarms(
+                        @Parameter(description = "nextCursor of the previous slice; omit for the first slice") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Maximum number of farms in the slice") @RequestParam(defaultValue = "20") int size) {
+                UUID tenantId = getAuthenticatedTenantId();
+                return ResponseEntity.ok(farmApplicationService.scrollFarmsByTenant(tenantId, cursor, size));
+        }
+
         @Operation(summary = "Update an existing farm")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Farm updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FarmResponse.class))),
@@ -152,6 +207,37 @@ public class FarmController {
                 return new ResponseEntity<>(createdPoi, HttpStatus.CREATED);
         }
 
+        @Operation(summary = "Create many Points Of Interest for a specific farm in one request")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results for rejected POIs", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PointOfInterestBatchReport.class))),
+                        @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+                        @ApiResponse(responseCode = "404", description = "Farm not found")
+        })
+        @PostMapping("/{farmIdentifier}/pois/batch")
+        public ResponseEntity<PointOfInterestBatchReport> createFarmPois(
+                        @Parameter(description = "UUID of the farm") @PathVariable UUID farmIdentifier,
+                        @RequestBody List<CreatePointOfInterestRequest> requests) {
+                // Items are validated one by one so a bad POI doesn't reject the whole batch
+                PointOfInterestBatchReport report = poiApplicationService.createPois(
+                                farmIdentifier,
+                                ParentEntityType.FARM,
+                                getAuthenticatedTenantId(),
+                                requests);
+                return ResponseEntity.ok(report);
+        }
+
+        @Operation(summary = "Move the farm-level Points Of Interest of a farm to the plots that contain them")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "POIs assigned", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PointOfInterestPlotAssignmentReport.class))),
+                        @ApiResponse(responseCode = "404", description = "Farm not found")
+        })
+        @PostMapping("/{farmIdentifier}/pois/assign-to-plots")
+        public ResponseEntity<PointOfInterestPlotAssignmentReport> assignFarmPoisToPlots(
+                        @Parameter(description = "UUID of the farm") @PathVariable UUID farmIdentifier) {
+                return ResponseEntity.ok(poiApplicationService.assignFarmPoisToPlots(farmIdentifier,
+                                getAuthenticatedTenantId()));
+        }
+
         @Operation(summary = "List all Points Of Interest for a specific farm")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "List of POIs retrieved"),
@@ -160,14 +246,31 @@ public class FarmController {
         @GetMapping("/{farmIdentifier}/pois")
         public ResponseEntity<List<PointOfInterestResponse>> listFarmPois( // Or Page<PointOfInterestResponse> with
                                                                            // Pageable
-                        @Parameter(description = "UUID of the farm") @PathVariable UUID farmIdentifier) {
+                        @Parameter(description = "UUID of the farm") @PathVariable UUID farmIdentifier,
+                        @Parameter(description = "Comma-separated POI fields to return; coordinates are only loaded when listed. Omit for all fields") @RequestParam(required = false) String fields) {
                 // UUID tenantId = ... from security context ...
                 UUID tenantId = getAuthenticatedTenantId();
                 // If using Pageable: Page<PointOfInterestResponse> pois =
                 // poiApplicationService.listPoisByParentPaginated(farmIdentifier,
                 // ParentEntityType.FARM, tenantId, pageable);
                 List<PointOfInterestResponse> pois = poiApplicationService.listPoisByParent(farmIdentifier,
-                                ParentEntityType.FARM, tenantId);
+                                ParentEntityType.FARM, tenantId, FieldSelection.parse(fields, PointOfInterestResponse.class));
                 return ResponseEntity.ok(pois);
         }
+
+        @Operation(summary = "List the Points Of Interest of a specific farm using a continuation cursor")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Slice of POIs retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+                        @ApiResponse(responseCode = "404", description = "Farm not found")
+        })
+        @GetMapping("/{farmIdentifier}/pois/scroll")
+        public ResponseEntity<CursorPageResponse<PointOfInterestResponse>> scrollFarmPois(
+                        @Parameter(description = "UUID of the farm") @PathVariable UUID farmIdentifier,
+                        @Parameter(description = "nextCursor of the previous slice; omit for the first slice") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Maximum number of POIs in the slice") @RequestParam(defaultValue = "20") int size) {
+                UUID tenantId = getAuthenticatedTenantId();
+                return ResponseEntity.ok(poiApplicationService.scrollPoisByParent(farmIdentifier,
+                                ParentEntityType.FARM, tenantId, cursor, size));
+        }
 }
\ No newline at end of file
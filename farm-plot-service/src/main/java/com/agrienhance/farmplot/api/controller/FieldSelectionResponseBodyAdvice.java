@@ -0,0 +1,61 @@
+package com.agrienhance.farmplot.api.controller;
+
+import com.agrienhance.farmplot.application.projection.FieldSelection;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+
+/**
+ * Serializes only the fields listed in the fields= query parameter, for
+ * handler methods that declare that parameter. The controller has already
+ * validated the list, and the service has skipped loading unselected
+ * geometry.
+ */
+@RestControllerAdvice
+public class FieldSelectionResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAMETER = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Method method = returnType.getMethod();
+        return super.supports(returnType, converterType) && method != null
+                && Arrays.stream(method.getParameters()).anyMatch(FieldSelectionResponseBodyAdvice::isFieldsParameter);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection selection = FieldSelection.parse(servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER));
+        if (!selection.isAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider().addFilter(FieldSelection.JSON_FILTER,
+                    SimpleBeanPropertyFilter.filterOutAllExcept(selection.names())));
+        }
+    }
+
+    private static boolean isFieldsParameter(Parameter parameter) {
+        RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+        if (requestParam == null) {
+            return false;
+        }
+        String name = !requestParam.name().isEmpty() ? requestParam.name()
+                : !requestParam.value().isEmpty() ? requestParam.value() : parameter.getName();
+        return FIELDS_PARAMETER.equals(name);
+    }
+}
@@ -1,11 +1,21 @@
 package com.agrienhance.farmplot.api.controller;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.landtenure.CreateOrUpdateLandTenureRequest;
 import com.agrienhance.farmplot.api.dto.landtenure.LandTenureResponse;
 import com.agrienhance.farmplot.api.dto.plot.CreatePlotRequest;
+import com.agrienhance.farmplot.api.dto.plot.PlotImportReport;
+import com.agrienhance.farmplot.api.dto.plot.PlotLookupResponse;
 import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
 import com.agrienhance.farmplot.api.dto.plot.UpdatePlotRequest;
+import com.agrienhance.farmplot.application.export.PlotExportFormat;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.application.service.PlotApplicationService;
+import com.agrienhance.farmplot.application.service.PlotExportService;
+import com.agrienhance.farmplot.application.service.PlotImportService;
+import com.agrienhance.farmplot.application.service.PlotLookupService;
+import com.agrienhance.farmplot.application.service.PlotTileService;
+import com.agrienhance.farmplot.application.spatial.SimplificationLevel;
 
 // import com.agrienhance.farmplot.application.service.PlotApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,21 +32,29 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 // import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.UUID;
 
 import com.agrienhance.farmplot.api.dto.poi.CreatePointOfInterestRequest;
+import com.agrienhance.farmplot.api.dto.poi.NearbyPointOfInterestResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchReport;
 import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
 import com.agrienhance.farmplot.application.service.PointOfInterestApplicationService; // Import
+import com.agrienhance.farmplot.domain.enums.POIType;
 import com.agrienhance.farmplot.domain.enums.ParentEntityType; // Import
 import org.springframework.data.domain.Page; // If using paginated list
 import org.springframework.data.domain.Pageable; // If using paginated list
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List; // If using non-paginated list
 
@@ -46,9 +64,15 @@ import java.util.List; // If using non-paginated list
 @AllArgsConstructor
 public class PlotController {
 
+        private static final String MAPBOX_VECTOR_TILE = "application/vnd.mapbox-vector-tile";
+
         // Placeholder for the application service
         private final PlotApplicationService plotApplicationService;
         private final PointOfInterestApplicationService poiApplicationService; // Add this
+        private final PlotTileService plotTileService;
+        private final PlotImportService plotImportService;
+        private final PlotExportService plotExportService;
+        private final PlotLookupService plotLookupService;
 
         private UUID getAuthenticatedTenantId() {
                 // TODO: Replace with actual logic to extract tenantId from Spring Security
@@ -61,7 +85,8 @@ public class PlotController {
         @Operation(summary = "Define a new plot for a farm")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Plot created successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PlotResponse.class))),
-                        @ApiResponse(responseCode = "400", description = "Invalid input data (e.g., farm not found, invalid geometry)")
+                        @ApiResponse(responseCode = "400", description = "Invalid input data (e.g., farm not found, invalid geometry)"),
+                        @ApiResponse(responseCode = "409", description = "Boundary overlaps other plots of the farm (overlap policy REJECT)")
         })
         @PostMapping
         // @PreAuthorize("hasAuthority('CREATE_PLOT')")
@@ -78,45 +103,154 @@ public class PlotController {
 
         }
 
+        @Operation(summary = "Bulk import plots from a GeoJSON FeatureCollection of Polygon features")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Import finished; see the per-feature results for rejected features", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PlotImportReport.class))),
+                        @ApiResponse(responseCode = "400", description = "Body is not a readable FeatureCollection")
+        })
+        @PostMapping(value = "/import", consumes = { "application/geo+json", MediaType.APPLICATION_JSON_VALUE })
+        // @PreAuthorize("hasAuthority('CREATE_PLOT')")
+        public ResponseEntity<PlotImportReport> importPlots(
+                        @Parameter(description = "Farm for features without a farmIdentifier property") @RequestParam(required = false) UUID farmIdentifier,
+                        InputStream featureCollection) {
+                // The body is streamed straight into the importer, never bound to a DTO
+                PlotImportReport report = plotImportService.importPlots(featureCollection, farmIdentifier,
+                                getAuthenticatedTenantId());
+                return ResponseEntity.ok(report);
+        }
+
         @Operation(summary = "Get plot details by its identifier")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Plot details retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PlotResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Invalid simplifyTolerance or zoom"),
                         @ApiResponse(responseCode = "404", description = "Plot not found")
         })
         @GetMapping("/{plotIdentifier}")
         // @PreAuthorize("hasAuthority('VIEW_PLOT')")
         public ResponseEntity<PlotResponse> getPlotById(
-                        @Parameter(description = "UUID of the plot to retrieve") @PathVariable UUID plotIdentifier) {
-                PlotResponse plot = plotApplicationService.getPlotById(plotIdentifier, getAuthenticatedTenantId());
+                        @Parameter(description = "UUID of the plot to retrieve") @PathVariable UUID plotIdentifier,
+                        @Parameter(description = "Simplify the boundary to this tolerance in degrees, preserving topology") @RequestParam(required = false) Double simplifyTolerance,
+                        @Parameter(description = "Simplify the boundary for display at this map zoom level (0-24); alternative to simplifyTolerance") @RequestParam(required = false) Integer zoom) {
+                PlotResponse plot = plotApplicationService.getPlotById(plotIdentifier, getAuthenticatedTenantId(),
+                                SimplificationLevel.of(simplifyTolerance, zoom));
                 return ResponseEntity.ok(plot);
         }
 
         @Operation(summary = "List all plots (paginated), optionally filtered by farm identifier")
         @ApiResponses(value = {
-                        @ApiResponse(responseCode = "200", description = "List of plots retrieved")
+                        @ApiResponse(responseCode = "200", description = "List of plots retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Unknown field in fields, or invalid simplifyTolerance or zoom")
         })
         @GetMapping
         // @PreAuthorize("hasAuthority('LIST_PLOTS')")
         public ResponseEntity<Page<PlotResponse>> listPlots(
                         @Parameter(description = "Optional UUID of the farm to filter plots by") @RequestParam(required = false) UUID farmIdentifier,
+                        @Parameter(description = "Comma-separated plot fields to return, e.g. plotIdentifier,plotName; the polygon is only loaded when plotGeometry is listed. Omit for all fields") @RequestParam(required = false) String fields,
+                        @Parameter(description = "Simplify boundaries to this tolerance in degrees, preserving topology") @RequestParam(required = false) Double simplifyTolerance,
+                        @Parameter(description = "Simplify boundaries for display at this map zoom level (0-24); alternative to simplifyTolerance") @RequestParam(required = false) Integer zoom,
                         // tenantId would come from security context
                         @Parameter(description = "Pagination and sorting parameters") @PageableDefault(size = 20, sort = "plotName") Pageable pageable) {
+                FieldSelection fieldSelection = FieldSelection.parse(fields, PlotResponse.class);
+                SimplificationLevel simplification = SimplificationLevel.of(simplifyTolerance, zoom);
                 Page<PlotResponse> plots = Page.empty(pageable);
                 if (farmIdentifier != null) {
                         plots = plotApplicationService.listPlotsByFarm(farmIdentifier, getAuthenticatedTenantId(),
-                                        pageable);
+                                        pageable, fieldSelection, simplification);
                 } else {
-                        plots = plotApplicationService.listPlots(getAuthenticatedTenantId(), pageable);
+                        plots = plotApplicationService.listPlots(getAuthenticatedTenantId(), pageable, fieldSelection,
+                                        simplification);
                 }
                 return ResponseEntity.ok(plots);
 
         }
 
+        @Operation(summary = "List all plots by name using a continuation cursor instead of page numbers")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Slice of plots retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+        })
+        @GetMapping("/scroll")
+        // @PreAuthorize("hasAuthority('LIST_PLOTS')")
+        public ResponseEntity<CursorPageResponse<PlotResponse>> scrollPlots(
+                        @Parameter(description = "nextCursor of the previous slice; omit for the first slice") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Maximum number of plots in the slice") @RequestParam(defaultValue = "20") int size) {
+                return ResponseEntity.ok(plotApplicationService.scrollPlots(getAuthenticatedTenantId(), cursor, size));
+        }
+
+        @Operation(summary = "Export all plots of the current tenant as NDJSON or a GeoJSON FeatureCollection")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Plots streamed as one consistent snapshot")
+        })
+        @GetMapping("/export")
+        // @PreAuthorize("hasAuthority('EXPORT_PLOTS')")
+        public ResponseEntity<StreamingResponseBody> exportPlots(
+                        @Parameter(description = "NDJSON (one Feature per line) or GEOJSON (FeatureCollection)") @RequestParam(defaultValue = "NDJSON") PlotExportFormat format) {
+                UUID tenantId = getAuthenticatedTenantId();
+                // Runs after the handler returns, writing rows as they come off the cursor
+                StreamingResponseBody body = out -> plotExportService.exportPlots(tenantId, format, out);
+                return ResponseEntity.ok()
+                                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                                .filename("plots." + format.getFileExtension()).build().toString())
+                                .body(body);
+        }
+
+        @Operation(summary = "Find the plots a position falls into")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Plots covering the position (usually zero or one)"),
+                        @ApiResponse(responseCode = "400", description = "Position out of range")
+        })
+        @GetMapping("/lookup/point")
+        // @PreAuthorize("hasAuthority('VIEW_PLOT')")
+        public ResponseEntity<List<PlotLookupResponse>> lookupPlotsAtPoint(
+                        @Parameter(description = "WGS84 longitude") @RequestParam double lon,
+                        @Parameter(description = "WGS84 latitude") @RequestParam double lat) {
+                return ResponseEntity.ok(plotLookupService.findPlotsAtPoint(lon, lat, getAuthenticatedTenantId()));
+        }
+
+        @Operation(summary = "Find the plots intersecting a bounding box")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Plots intersecting the box"),
+                        @ApiResponse(responseCode = "400", description = "Bounding box out of range or inverted")
+        })
+        @GetMapping("/lookup/bbox")
+        // @PreAuthorize("hasAuthority('LIST_PLOTS')")
+        public ResponseEntity<List<PlotLookupResponse>> lookupPlotsInBoundingBox(
+                        @Parameter(description = "Western longitude") @RequestParam double minLon,
+                        @Parameter(description = "Southern latitude") @RequestParam double minLat,
+                        @Parameter(description = "Eastern longitude") @RequestParam double maxLon,
+                        @Parameter(description = "Northern latitude") @RequestParam double maxLat) {
+                return ResponseEntity.ok(plotLookupService.findPlotsInBoundingBox(minLon, minLat, maxLon, maxLat,
+                                getAuthenticatedTenantId()));
+        }
+
+        @Operation(summary = "Get the plots of the current tenant as a Mapbox Vector Tile")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Vector tile rendered", content = @Content(mediaType = MAPBOX_VECTOR_TILE)),
+                        @ApiResponse(responseCode = "204", description = "No plots fall into the tile"),
+                        @ApiResponse(responseCode = "400", description = "Invalid tile address")
+        })
+        @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+        // @PreAuthorize("hasAuthority('LIST_PLOTS')")
+        public ResponseEntity<byte[]> getPlotTile(
+                        @Parameter(description = "Zoom level") @PathVariable int z,
+                        @Parameter(description = "Tile column") @PathVariable int x,
+                        @Parameter(description = "Tile row") @PathVariable int y) {
+                byte[] tile = plotTileService.getPlotTile(z, x, y, getAuthenticatedTenantId());
+                if (tile.length == 0) {
+                        return ResponseEntity.noContent().build();
+                }
+                return ResponseEntity.ok()
+                                .contentType(MediaType.parseMediaType(MAPBOX_VECTOR_TILE))
+                                .body(tile);
+        }
+
         @Operation(summary = "Update an existing plot")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Plot updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PlotResponse.class))),
                         @ApiResponse(responseCode = "400", description = "Invalid input data"),
-                        @ApiResponse(responseCode = "404", description = "Plot not found")
+                        @ApiResponse(responseCode = "404", description = "Plot not found"),
+                        @ApiResponse(responseCode = "409", description = "Boundary overlaps other plots of the farm (overlap policy REJECT)")
         })
         @PutMapping("/{plotIdentifier}")
         // @PreAuthorize("hasAuthority('UPDATE_PLOT')")
@@ -201,14 +335,66 @@ public class PlotController {
                 return new ResponseEntity<>(createdPoi, HttpStatus.CREATED);
         }
 
+        @Operation(summary = "Create many Points Of Interest for a specific plot in one request")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results for rejected POIs", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PointOfInterestBatchReport.class))),
+                        @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+                        @ApiResponse(responseCode = "404", description = "Plot not found")
+        })
+        @PostMapping("/{plotIdentifier}/pois/batch")
+        public ResponseEntity<PointOfInterestBatchReport> createPlotPois(
+                        @Parameter(description = "UUID of the plot") @PathVariable UUID plotIdentifier,
+                        @RequestBody List<CreatePointOfInterestRequest> requests) {
+                // Items are validated one by one so a bad POI doesn't reject the whole batch
+                PointOfInterestBatchReport report = poiApplicationService.createPois(
+                                plotIdentifier,
+                                ParentEntityType.PLOT,
+                                getAuthenticatedTenantId(),
+                                requests);
+                return ResponseEntity.ok(report);
+        }
+
+        @Operation(summary = "Find the Points Of Interest of a type nearest to a plot's boundary, closest first")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Nearest POIs with their geodesic distance; POIs inside the plot are at 0"),
+                        @ApiResponse(responseCode = "400", description = "Invalid type, limit or distance"),
+                        @ApiResponse(responseCode = "404", description = "Plot not found")
+        })
+        @GetMapping("/{plotIdentifier}/nearest-pois")
+        public ResponseEntity<List<NearbyPointOfInterestResponse>> findNearestPois(
+                        @Parameter(description = "UUID of the plot") @PathVariable UUID plotIdentifier,
+                        @Parameter(description = "Type of POI to search for") @RequestParam POIType poiType,
+                        @Parameter(description = "Maximum number of POIs to return (1-100)") @RequestParam(defaultValue = "5") int limit,
+                        @Parameter(description = "Only POIs within this geodesic distance in meters; omit for no limit") @RequestParam(required = false) Double maxDistanceMeters) {
+                return ResponseEntity.ok(poiApplicationService.findNearestPoisToPlot(plotIdentifier, poiType, limit,
+                                maxDistanceMeters, getAuthenticatedTenantId()));
+        }
+
         @Operation(summary = "List all Points Of Interest for a specific plot")
         // ... (ApiResponses similar to FarmController's listFarmPois) ...
         @GetMapping("/{plotIdentifier}/pois")
         public ResponseEntity<List<PointOfInterestResponse>> listPlotPois( // Or Page<PointOfInterestResponse> with
                                                                            // Pageable
-                        @Parameter(description = "UUID of the plot") @PathVariable UUID plotIdentifier) {
+                        @Parameter(description = "UUID of the plot") @PathVariable UUID plotIdentifier,
+                        @Parameter(description = "Comma-separated POI fields to return; coordinates are only loaded when listed. Omit for all fields") @RequestParam(required = false) String fields) {
                 List<PointOfInterestResponse> pois = poiApplicationService.listPoisByParent(plotIdentifier,
-                                ParentEntityType.PLOT, getAuthenticatedTenantId());
+                                ParentEntityType.PLOT, getAuthenticatedTenantId(),
+                                FieldSelection.parse(fields, PointOfInterestResponse.class));
                 return ResponseEntity.ok(pois);
         }
+
+        @Operation(summary = "List the Points Of Interest of a specific plot using a continuation cursor")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Slice of POIs retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+                        @ApiResponse(responseCode = "404", description = "Plot not found")
+        })
+        @GetMapping("/{plotIdentifier}/pois/scroll")
+        public ResponseEntity<CursorPageResponse<PointOfInterestResponse>> scrollPlotPois(
+                        @Parameter(description = "UUID of the plot") @PathVariable UUID plotIdentifier,
+                        @Parameter(description = "nextCursor of the previous slice; omit for the first slice") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Maximum number of POIs in the slice") @RequestParam(defaultValue = "20") int size) {
+                return ResponseEntity.ok(poiApplicationService.scrollPoisByParent(plotIdentifier,
+                                ParentEntityType.PLOT, getAuthenticatedTenantId(), cursor, size));
+        }
 }
\ No newline at end of file
@@ -1,15 +1,21 @@
 package com.agrienhance.farmplot.api.controller;
 
+import com.agrienhance.farmplot.api.dto.poi.NearbyPointOfInterestResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestClusterTileResponse;
 import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
 import com.agrienhance.farmplot.api.dto.poi.UpdatePointOfInterestRequest;
 import com.agrienhance.farmplot.application.service.PointOfInterestApplicationService;
+import com.agrienhance.farmplot.application.service.PointOfInterestClusterService;
+import com.agrienhance.farmplot.domain.enums.POIType;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,6 +25,7 @@ import java.util.UUID;
 public class PointOfInterestController {
 
     private final PointOfInterestApplicationService poiApplicationService;
+    private final PointOfInterestClusterService poiClusterService;
 
     // This is a placeholder for getting the tenant ID.
     // In a real app, this would come from a security context (e.g., JWT).
@@ -26,6 +33,27 @@ public class PointOfInterestController {
         return UUID.fromString("a1a1a1a1-b2b2-c3c3-d4d4-e5e5e5e5e5e5");
     }
 
+    @GetMapping("/nearest")
+    @Operation(summary = "Find the Points of Interest of a type nearest to a location, closest first")
+    public ResponseEntity<List<NearbyPointOfInterestResponse>> findNearestPois(
+            @Parameter(description = "Longitude of the search origin (WGS84)") @RequestParam double longitude,
+            @Parameter(description = "Latitude of the search origin (WGS84)") @RequestParam double latitude,
+            @Parameter(description = "Type of POI to search for") @RequestParam POIType poiType,
+            @Parameter(description = "Maximum number of POIs to return (1-100)") @RequestParam(defaultValue = "5") int limit,
+            @Parameter(description = "Only POIs within this geodesic distance in meters; omit for no limit") @RequestParam(required = false) Double maxDistanceMeters) {
+        return ResponseEntity.ok(poiApplicationService.findNearestPois(longitude, latitude, poiType, limit,
+                maxDistanceMeters, getTenantIdFromContext()));
+    }
+
+    @GetMapping("/clusters/{z}/{x}/{y}")
+    @Operation(summary = "Get the Points of Interest of an XYZ map tile grouped into clusters, with counts per POI type")
+    public ResponseEntity<PointOfInterestClusterTileResponse> getClusterTile(
+            @Parameter(description = "Zoom level") @PathVariable int z,
+            @Parameter(description = "Tile column") @PathVariable int x,
+            @Parameter(description = "Tile row") @PathVariable int y) {
+        return ResponseEntity.ok(poiClusterService.getClusterTile(z, x, y, getTenantIdFromContext()));
+    }
+
     @GetMapping("/{poiIdentifier}")
     @Operation(summary = "Get a specific Point of Interest by its identifier")
     public ResponseEntity<PointOfInterestResponse> getPoiById(@PathVariable UUID poiIdentifier) {
@@ -0,0 +1,45 @@
+package com.agrienhance.farmplot.api.controller;
+
+import com.agrienhance.farmplot.api.dto.sync.SyncChangesResponse;
+import com.agrienhance.farmplot.application.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1/sync")
+@Tag(name = "Offline Sync", description = "Delta sync of farms, plots, points of interest and land tenures for offline clients")
+@AllArgsConstructor
+public class SyncController {
+
+        private final SyncService syncService;
+
+        private UUID getAuthenticatedTenantId() {
+                // TODO: Replace with actual logic to extract tenantId from Spring Security
+                // context
+                return UUID.fromString("a1a1a1a1-b2b2-c3c3-d4d4-e5e5e5e5e5e5");
+        }
+
+        @Operation(summary = "Get records created, updated or deleted since the last sync",
+                        description = "Omit 'since' for an initial full sync. Apply the batch, store nextToken, and repeat while hasMore is true.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Batch of changes retrieved"),
+                        @ApiResponse(responseCode = "400", description = "Invalid sync token or limit")
+        })
+        @GetMapping("/changes")
+        public ResponseEntity<SyncChangesResponse> getChanges(
+                        @Parameter(description = "nextToken of the previous sync; omit for a full sync") @RequestParam(required = false) String since,
+                        @Parameter(description = "Maximum number of changed records in the batch") @RequestParam(defaultValue = "200") int limit) {
+                return ResponseEntity.ok(syncService.getChangesSince(since, limit, getAuthenticatedTenantId()));
+        }
+}
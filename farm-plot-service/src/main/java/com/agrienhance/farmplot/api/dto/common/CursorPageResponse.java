@@ -0,0 +1,26 @@
+package com.agrienhance.farmplot.api.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One slice of a cursor (keyset) paginated listing.")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Items of this slice, in listing order.")
+    private List<T> content;
+
+    @Schema(description = "Opaque token to pass as 'cursor' to fetch the next slice. Null on the last slice.")
+    private String nextCursor;
+
+    @Schema(description = "Whether another slice follows this one.")
+    private boolean hasNext;
+}
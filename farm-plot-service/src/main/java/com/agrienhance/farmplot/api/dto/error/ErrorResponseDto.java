@@ -1,6 +1,8 @@
 package com.agrienhance.farmplot.api.dto.error;
 
+import com.agrienhance.farmplot.api.dto.plot.PlotOverlapResponse;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -34,6 +36,10 @@ public class ErrorResponseDto {
     @Schema(description = "List of validation errors, if applicable.")
     private List<String> validationErrors; // For handling multiple validation errors
 
+    @Schema(description = "Plots the rejected boundary overlaps, for plot overlap conflicts.")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<PlotOverlapResponse> overlaps;
+
     public ErrorResponseDto(int status, String error, String message, String path) {
         this.timestamp = OffsetDateTime.now();
         this.status = status;
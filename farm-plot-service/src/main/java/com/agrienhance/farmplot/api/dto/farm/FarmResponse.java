@@ -1,12 +1,15 @@
 package com.agrienhance.farmplot.api.dto.farm;
 
 import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Point;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -16,6 +19,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Schema(description = "Response payload representing a farm resource.")
+@JsonFilter(FieldSelection.JSON_FILTER) // Trims list responses to the fields= selection
 public class FarmResponse {
 
     @Schema(description = "Unique identifier of the farm.")
@@ -33,8 +37,9 @@ public class FarmResponse {
     @Schema(description = "Administrative region within the country.")
     private String region;
 
-    @Schema(description = "General location (centroid or main point) of the farm as GeoJSON Point_Legacy.")
-    private PointGeometryDto generalLocationCoordinates;
+    // Written as GeoJSON by GeoJsonModule straight from the JTS geometry
+    @Schema(description = "General location (centroid or main point) of the farm as GeoJSON Point_Legacy.", implementation = PointGeometryDto.class)
+    private Point generalLocationCoordinates;
 
     @Schema(description = "Descriptive notes about the farm.")
     private String notes;
@@ -0,0 +1,33 @@
+package com.agrienhance.farmplot.api.dto.plot;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Import result of a single GeoJSON feature.")
+public class PlotImportFeatureResult {
+
+    public enum Status {
+        IMPORTED, FAILED
+    }
+
+    @Schema(description = "Zero-based position of the feature in the FeatureCollection.", example = "0")
+    private int featureIndex;
+
+    @Schema(description = "Whether the feature was stored as a plot.")
+    private Status status;
+
+    @Schema(description = "UUID of the created plot, if imported.")
+    private UUID plotIdentifier;
+
+    @Schema(description = "Why the feature was rejected, if it failed.", example = "Geometry must be a GeoJSON Polygon.")
+    private String error;
+}
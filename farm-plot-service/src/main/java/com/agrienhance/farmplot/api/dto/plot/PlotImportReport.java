@@ -0,0 +1,31 @@
+package com.agrienhance.farmplot.api.dto.plot;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a bulk plot import, with one entry per feature of the FeatureCollection.")
+public class PlotImportReport {
+
+    @Schema(description = "Number of features read from the FeatureCollection.", example = "5000")
+    private int totalFeatures;
+
+    @Schema(description = "Number of plots created.", example = "4990")
+    private int importedCount;
+
+    @Schema(description = "Number of features that were rejected.", example = "10")
+    private int failedCount;
+
+    @Schema(description = "Per-feature results, in document order.")
+    @Builder.Default
+    private List<PlotImportFeatureResult> results = new ArrayList<>();
+}
@@ -0,0 +1,26 @@
+package com.agrienhance.farmplot.api.dto.plot;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A plot matched by a point or bounding box lookup.")
+public class PlotLookupResponse {
+
+    @Schema(description = "Unique identifier of the plot.")
+    private UUID plotIdentifier;
+
+    @Schema(description = "UUID of the farm this plot belongs to.")
+    private UUID farmIdentifier;
+
+    @Schema(description = "Name of the plot.")
+    private String plotName;
+}
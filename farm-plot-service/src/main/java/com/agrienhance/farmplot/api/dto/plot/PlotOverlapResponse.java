@@ -0,0 +1,27 @@
+package com.agrienhance.farmplot.api.dto.plot;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Another plot of the same farm that a plot boundary overlaps.")
+public class PlotOverlapResponse {
+
+    @Schema(description = "Unique identifier of the overlapped plot.")
+    private UUID plotIdentifier;
+
+    @Schema(description = "Name of the overlapped plot.")
+    private String plotName;
+
+    @Schema(description = "Area shared by the two plots in hectares.", example = "0.0125")
+    private BigDecimal overlapAreaHectares;
+}
@@ -1,16 +1,21 @@
 package com.agrienhance.farmplot.api.dto.plot;
 
 import com.agrienhance.farmplot.api.dto.geojson.PolygonGeometryDto;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.domain.enums.LandTenureType;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Polygon;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -18,6 +23,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Schema(description = "Response payload representing a plot resource.")
+@JsonFilter(FieldSelection.JSON_FILTER) // Trims list responses to the fields= selection
 public class PlotResponse {
 
     @Schema(description = "Unique identifier of the plot.")
@@ -32,8 +38,9 @@ public class PlotResponse {
     @Schema(description = "UUID of the cultivator assigned to this plot.")
     private UUID cultivatorReferenceId;
 
-    @Schema(description = "Geospatial boundary of the plot as a GeoJSON Polygon.")
-    private PolygonGeometryDto plotGeometry;
+    // Written as GeoJSON by GeoJsonModule straight from the JTS geometry
+    @Schema(description = "Geospatial boundary of the plot as a GeoJSON Polygon.", implementation = PolygonGeometryDto.class)
+    private Polygon plotGeometry;
 
     @Schema(description = "Calculated area of the plot in hectares.", example = "1.25")
     private BigDecimal calculatedAreaHectares;
@@ -54,4 +61,9 @@ public class PlotResponse {
 
     @Schema(description = "Version number for optimistic locking.")
     private Long version;
+
+    // Only set by create/update under the WARN overlap policy
+    @Schema(description = "Other plots of the farm this plot's boundary overlaps, when overlaps are reported as warnings.")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<PlotOverlapResponse> overlaps;
 }
\ No newline at end of file
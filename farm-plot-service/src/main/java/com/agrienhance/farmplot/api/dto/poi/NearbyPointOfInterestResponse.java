@@ -0,0 +1,21 @@
+package com.agrienhance.farmplot.api.dto.poi;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A Point Of Interest found by a nearest-neighbour search, with its distance from the search origin.")
+public class NearbyPointOfInterestResponse {
+
+    @Schema(description = "Geodesic (WGS84 spheroid) distance from the search origin in meters; 0 inside a plot origin.", example = "412.7")
+    private double distanceMeters;
+
+    @Schema(description = "The Point Of Interest.")
+    private PointOfInterestResponse poi;
+}
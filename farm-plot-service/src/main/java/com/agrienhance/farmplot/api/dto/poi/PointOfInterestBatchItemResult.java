@@ -0,0 +1,33 @@
+package com.agrienhance.farmplot.api.dto.poi;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a single POI of a batch create request.")
+public class PointOfInterestBatchItemResult {
+
+    public enum Status {
+        CREATED, FAILED
+    }
+
+    @Schema(description = "Zero-based position of the POI in the request array.", example = "0")
+    private int itemIndex;
+
+    @Schema(description = "Whether the POI was created.")
+    private Status status;
+
+    @Schema(description = "UUID of the created POI, if created.")
+    private UUID poiIdentifier;
+
+    @Schema(description = "Why the POI was rejected, if it failed.", example = "poiType: POI type cannot be null.")
+    private String error;
+}
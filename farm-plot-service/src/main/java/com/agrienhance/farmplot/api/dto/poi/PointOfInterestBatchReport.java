@@ -0,0 +1,31 @@
+package com.agrienhance.farmplot.api.dto.poi;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a batch POI create request, with one entry per submitted POI.")
+public class PointOfInterestBatchReport {
+
+    @Schema(description = "Number of POIs in the request.", example = "250")
+    private int totalItems;
+
+    @Schema(description = "Number of POIs created.", example = "248")
+    private int createdCount;
+
+    @Schema(description = "Number of POIs that were rejected.", example = "2")
+    private int failedCount;
+
+    @Schema(description = "Per-POI results, in request order.")
+    @Builder.Default
+    private List<PointOfInterestBatchItemResult> results = new ArrayList<>();
+}
@@ -0,0 +1,28 @@
+package com.agrienhance.farmplot.api.dto.poi;
+
+import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
+import com.agrienhance.farmplot.domain.enums.POIType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A group of nearby Points Of Interest shown as a single marker at low zoom levels.")
+public class PointOfInterestClusterResponse {
+
+    @Schema(description = "Mean position of the clustered POIs as a GeoJSON Point.", implementation = PointGeometryDto.class)
+    private PointGeometryDto centroid;
+
+    @Schema(description = "Number of POIs in the cluster.", example = "42")
+    private long poiCount;
+
+    @Schema(description = "Number of POIs in the cluster per POI type.", example = "{\"WATER_SOURCE\": 30, \"SOIL_SENSOR\": 12}")
+    private Map<POIType, Long> countsByType;
+}
@@ -0,0 +1,34 @@
+package com.agrienhance.farmplot.api.dto.poi;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "The Point Of Interest clusters of one XYZ map tile.")
+public class PointOfInterestClusterTileResponse {
+
+    @Schema(description = "Zoom level of the tile.", example = "10")
+    private int z;
+
+    @Schema(description = "Tile column.", example = "612")
+    private int x;
+
+    @Schema(description = "Tile row.", example = "515")
+    private int y;
+
+    @Schema(description = "Number of POIs in the tile, across all clusters.", example = "1250")
+    private long totalCount;
+
+    @Schema(description = "Clusters of the tile, in row-major grid cell order.")
+    @Builder.Default
+    private List<PointOfInterestClusterResponse> clusters = new ArrayList<>();
+}
@@ -0,0 +1,26 @@
+package com.agrienhance.farmplot.api.dto.poi;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of moving a farm's Points Of Interest to the plots that contain them.")
+public class PointOfInterestPlotAssignmentReport {
+
+    @Schema(description = "The farm whose POIs were assigned.")
+    private UUID farmIdentifier;
+
+    @Schema(description = "Number of farm-level POIs that now belong to the plot containing them.", example = "48210")
+    private long assignedCount;
+
+    @Schema(description = "Number of POIs left at farm level because no plot of the farm contains them.", example = "1790")
+    private long remainingFarmLevelCount;
+}
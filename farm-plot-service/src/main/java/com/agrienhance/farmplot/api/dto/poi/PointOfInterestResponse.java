@@ -1,14 +1,17 @@
 package com.agrienhance.farmplot.api.dto.poi;
 
 import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.domain.enums.POIType;
 import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Point;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -18,6 +21,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Schema(description = "Response payload representing a Point Of Interest.")
+@JsonFilter(FieldSelection.JSON_FILTER) // Trims list responses to the fields= selection
 public class PointOfInterestResponse {
 
     @Schema(description = "Unique identifier of the POI.")
@@ -35,8 +39,9 @@ public class PointOfInterestResponse {
     @Schema(description = "Type of the POI.")
     private POIType poiType;
 
-    @Schema(description = "Coordinates of the POI as a GeoJSON Point.")
-    private PointGeometryDto coordinates;
+    // Written as GeoJSON by GeoJsonModule straight from the JTS geometry
+    @Schema(description = "Coordinates of the POI as a GeoJSON Point.", implementation = PointGeometryDto.class)
+    private Point coordinates;
 
     @Schema(description = "Optional notes for the POI.")
     private String notes;
@@ -0,0 +1,46 @@
+package com.agrienhance.farmplot.api.dto.sync;
+
+import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
+import com.agrienhance.farmplot.api.dto.landtenure.LandTenureResponse;
+import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_EMPTY) // Only kinds that changed are written
+@Schema(description = "One batch of records created, updated or deleted since a sync token.")
+public class SyncChangesResponse {
+
+    @Schema(description = "Farms created or updated, in their current state.")
+    private List<FarmResponse> farms;
+
+    @Schema(description = "Plots created or updated, in their current state.")
+    private List<PlotResponse> plots;
+
+    @Schema(description = "Points of interest created or updated, in their current state.")
+    private List<PointOfInterestResponse> pointsOfInterest;
+
+    @Schema(description = "Land tenures created or updated, in their current state.")
+    private List<LandTenureResponse> landTenures;
+
+    @Schema(description = "Records deleted, including those removed along with a deleted parent.")
+    private List<SyncTombstoneResponse> tombstones;
+
+    @Schema(description = "Token to pass as 'since' on the next sync. Store it once this batch has been applied.")
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    private String nextToken;
+
+    @Schema(description = "Whether more changes are pending; if so, sync again right away with nextToken.")
+    @JsonInclude(JsonInclude.Include.ALWAYS)
+    private boolean hasMore;
+}
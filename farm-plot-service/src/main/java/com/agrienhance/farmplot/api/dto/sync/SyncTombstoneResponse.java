@@ -0,0 +1,24 @@
+package com.agrienhance.farmplot.api.dto.sync;
+
+import com.agrienhance.farmplot.domain.enums.SyncEntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A record deleted since the sync token; the client should drop its local copy.")
+public class SyncTombstoneResponse {
+
+    @Schema(description = "Kind of the deleted record.", example = "PLOT")
+    private SyncEntityType entityType;
+
+    @Schema(description = "Identifier of the deleted record.")
+    private UUID identifier;
+}
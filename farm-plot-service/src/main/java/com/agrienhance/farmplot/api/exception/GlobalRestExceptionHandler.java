@@ -1,6 +1,7 @@
 package com.agrienhance.farmplot.api.exception;
 
 import com.agrienhance.farmplot.api.dto.error.ErrorResponseDto;
+import com.agrienhance.farmplot.application.exception.PlotOverlapException;
 import com.agrienhance.farmplot.application.exception.ResourceNotFoundException;
 import com.agrienhance.farmplot.application.exception.ValidationException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -45,6 +46,19 @@ public class GlobalRestExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(PlotOverlapException.class)
+    public ResponseEntity<ErrorResponseDto> handlePlotOverlapException(
+            PlotOverlapException ex, HttpServletRequest request) {
+        logger.warn("PlotOverlapException: {} for path {}", ex.getMessage(), request.getRequestURI());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI());
+        errorResponse.setOverlaps(ex.getOverlaps());
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class) // Handles @Valid DTO validation failures
     public ResponseEntity<ErrorResponseDto> handleMethodArgumentNotValidException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -0,0 +1,128 @@
+package com.agrienhance.farmplot.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Common part of the GeoJSON geometry deserializers: reads the geometry
+ * object, checks its type and hands the coordinates array to the subclass.
+ * Members other than type and coordinates (e.g. bbox) are skipped.
+ */
+abstract class GeoJsonGeometryDeserializer<T extends Geometry> extends StdDeserializer<T> {
+
+    // SRID 4326 (WGS 84) like every stored geometry; packed sequences keep
+    // the ordinates in one double[] instead of a Coordinate per position
+    static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326,
+            PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    private final String geometryType;
+
+    protected GeoJsonGeometryDeserializer(Class<T> geometryClass, String geometryType) {
+        super(geometryClass);
+        this.geometryType = geometryType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (T) context.handleUnexpectedToken(handledType(), parser);
+        }
+        String type = null;
+        T geometry = null;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken value = parser.nextToken();
+            if ("type".equals(field)) {
+                type = parser.getValueAsString();
+            } else if ("coordinates".equals(field) && value == JsonToken.START_ARRAY) {
+                geometry = readCoordinates(parser, context);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!geometryType.equals(type)) {
+            return context.reportInputMismatch(this, "GeoJSON geometry type must be '%s' but was '%s'.",
+                    geometryType, type);
+        }
+        if (geometry == null) {
+            return context.reportInputMismatch(this, "GeoJSON %s has no coordinates.", geometryType);
+        }
+        return geometry;
+    }
+
+    /**
+     * Reads the coordinates array; the parser is on its START_ARRAY and must be
+     * left on the matching END_ARRAY.
+     */
+    protected abstract T readCoordinates(JsonParser parser, DeserializationContext context) throws IOException;
+
+    /**
+     * Reads one [longitude, latitude, ...] position into the buffer. The
+     * parser is on the position's START_ARRAY; ordinates beyond the second
+     * (altitude) are dropped like everywhere else in the service.
+     */
+    protected void readPosition(JsonParser parser, DeserializationContext context, OrdinateBuffer buffer)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            context.reportInputMismatch(this, "GeoJSON position must be an array of numbers.");
+        }
+        buffer.add(readOrdinate(parser, context));
+        buffer.add(readOrdinate(parser, context));
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+        }
+    }
+
+    private double readOrdinate(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+            context.reportInputMismatch(this, "GeoJSON position needs a longitude and a latitude.");
+        }
+        return parser.getDoubleValue();
+    }
+
+    /**
+     * Growable x/y ordinate array backing a packed coordinate sequence.
+     */
+    static final class OrdinateBuffer {
+
+        private double[] ordinates;
+        private int size;
+
+        OrdinateBuffer(int initialPositions) {
+            ordinates = new double[2 * initialPositions];
+        }
+
+        void add(double ordinate) {
+            if (size == ordinates.length) {
+                ordinates = Arrays.copyOf(ordinates, size * 2);
+            }
+            ordinates[size++] = ordinate;
+        }
+
+        int positions() {
+            return size / 2;
+        }
+
+        double get(int index) {
+            return ordinates[index];
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(ordinates, size);
+        }
+    }
+}
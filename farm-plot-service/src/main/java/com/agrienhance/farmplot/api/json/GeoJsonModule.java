@@ -0,0 +1,22 @@
+package com.agrienhance.farmplot.api.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Reads and writes JTS {@link Polygon} and {@link Point} values as GeoJSON
+ * geometries directly on the JSON token stream. Ordinates go straight between
+ * the geometry's CoordinateSequence and the parser/generator, so no boxed
+ * coordinate lists are built per response.
+ */
+public class GeoJsonModule extends SimpleModule {
+
+    public GeoJsonModule() {
+        super("GeoJsonModule");
+        addSerializer(Polygon.class, new PolygonSerializer());
+        addSerializer(Point.class, new PointSerializer());
+        addDeserializer(Polygon.class, new PolygonDeserializer());
+        addDeserializer(Point.class, new PointDeserializer());
+    }
+}
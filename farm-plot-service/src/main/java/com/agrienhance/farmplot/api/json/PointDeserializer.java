@@ -0,0 +1,25 @@
+package com.agrienhance.farmplot.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import java.io.IOException;
+
+/**
+ * Reads a GeoJSON Point into a JTS Point.
+ */
+public class PointDeserializer extends GeoJsonGeometryDeserializer<Point> {
+
+    public PointDeserializer() {
+        super(Point.class, "Point");
+    }
+
+    @Override
+    protected Point readCoordinates(JsonParser parser, DeserializationContext context) throws IOException {
+        OrdinateBuffer buffer = new OrdinateBuffer(1);
+        readPosition(parser, context, buffer);
+        return GEOMETRY_FACTORY.createPoint(new PackedCoordinateSequence.Double(buffer.toArray(), 2, 0));
+    }
+}
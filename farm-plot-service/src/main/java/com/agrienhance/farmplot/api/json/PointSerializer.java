@@ -0,0 +1,29 @@
+package com.agrienhance.farmplot.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.locationtech.jts.geom.Point;
+
+import java.io.IOException;
+
+/**
+ * Writes a JTS Point as a GeoJSON Point with [longitude, latitude] coordinates.
+ */
+public class PointSerializer extends StdSerializer<Point> {
+
+    public PointSerializer() {
+        super(Point.class);
+    }
+
+    @Override
+    public void serialize(Point point, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Point");
+        generator.writeArrayFieldStart("coordinates");
+        generator.writeNumber(point.getX());
+        generator.writeNumber(point.getY());
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,57 @@
+package com.agrienhance.farmplot.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a GeoJSON Polygon into a JTS Polygon. Like GeometryMapper, rings
+ * whose last position doesn't repeat the first are closed.
+ */
+public class PolygonDeserializer extends GeoJsonGeometryDeserializer<Polygon> {
+
+    public PolygonDeserializer() {
+        super(Polygon.class, "Polygon");
+    }
+
+    @Override
+    protected Polygon readCoordinates(JsonParser parser, DeserializationContext context) throws IOException {
+        OrdinateBuffer buffer = new OrdinateBuffer(32);
+        List<LinearRing> rings = new ArrayList<>(1);
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            buffer.clear();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                readPosition(parser, context, buffer);
+            }
+            rings.add(toRing(buffer, context));
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+            return context.reportInputMismatch(this, "GeoJSON Polygon coordinates must be an array of rings.");
+        }
+        if (rings.isEmpty()) {
+            return context.reportInputMismatch(this, "GeoJSON Polygon needs an exterior ring.");
+        }
+        return GEOMETRY_FACTORY.createPolygon(rings.get(0),
+                rings.subList(1, rings.size()).toArray(new LinearRing[0]));
+    }
+
+    private LinearRing toRing(OrdinateBuffer buffer, DeserializationContext context) throws IOException {
+        int last = buffer.positions() - 1;
+        if (last >= 0 && (buffer.get(0) != buffer.get(2 * last) || buffer.get(1) != buffer.get(2 * last + 1))) {
+            buffer.add(buffer.get(0));
+            buffer.add(buffer.get(1));
+        }
+        if (buffer.positions() < 4) {
+            return context.reportInputMismatch(this,
+                    "GeoJSON linear ring needs at least 4 positions (3 distinct and the closing one).");
+        }
+        return GEOMETRY_FACTORY.createLinearRing(new PackedCoordinateSequence.Double(buffer.toArray(), 2, 0));
+    }
+}
@@ -0,0 +1,55 @@
+package com.agrienhance.farmplot.api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.IOException;
+
+/**
+ * Writes a JTS Polygon as a GeoJSON Polygon: exterior ring first, then the
+ * holes, each as an array of [longitude, latitude] positions.
+ */
+public class PolygonSerializer extends StdSerializer<Polygon> {
+
+    public PolygonSerializer() {
+        super(Polygon.class);
+    }
+
+    @Override
+    public void serialize(Polygon polygon, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        writePolygon(generator, polygon);
+    }
+
+    /**
+     * Also used by writers that stream GeoJSON without an ObjectMapper.
+     */
+    public static void writePolygon(JsonGenerator generator, Polygon polygon) throws IOException {
+        if (polygon == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("type", "Polygon");
+        generator.writeArrayFieldStart("coordinates");
+        writeRing(generator, polygon.getExteriorRing().getCoordinateSequence());
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            writeRing(generator, polygon.getInteriorRingN(i).getCoordinateSequence());
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeRing(JsonGenerator generator, CoordinateSequence ring) throws IOException {
+        generator.writeStartArray();
+        for (int i = 0; i < ring.size(); i++) {
+            generator.writeStartArray();
+            generator.writeNumber(ring.getX(i));
+            generator.writeNumber(ring.getY(i));
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,19 @@
+package com.agrienhance.farmplot.application.exception;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotOverlapResponse;
+
+import java.util.List;
+
+public class PlotOverlapException extends RuntimeException {
+
+    private final List<PlotOverlapResponse> overlaps;
+
+    public PlotOverlapException(List<PlotOverlapResponse> overlaps) {
+        super(String.format("Plot boundary overlaps %d other plot(s) of the farm.", overlaps.size()));
+        this.overlaps = List.copyOf(overlaps);
+    }
+
+    public List<PlotOverlapResponse> getOverlaps() {
+        return overlaps;
+    }
+}
@@ -0,0 +1,348 @@
+package com.agrienhance.farmplot.application.export;
+
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.LandTenure;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.entity.PointOfInterest;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.WKBWriter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Writes one farm with its plots, land tenures and points of interest as an
+ * OGC GeoPackage (a SQLite database) for offline use by field clients. Plots,
+ * farms and POIs are feature tables in WGS84; land tenures are an attributes
+ * table joined to plots by plot_identifier.
+ *
+ * Geometries are encoded as GeoPackage binary (header plus little-endian WKB)
+ * directly from the JTS objects.
+ */
+@Component
+public class FarmGeoPackageWriter {
+
+    /**
+     * Bumped whenever the tables or their encoding change, so packages built
+     * by an older writer are never served from cache.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int GPKG_APPLICATION_ID = 0x47504B47; // "GPKG"
+    private static final int GPKG_USER_VERSION = 10300; // GeoPackage 1.3
+    private static final int WGS84_SRS_ID = 4326;
+
+    private static final String WGS84_WKT = "GEOGCS[\"WGS 84\",DATUM[\"WGS_1984\",SPHEROID[\"WGS 84\",6378137,298.257223563,"
+            + "AUTHORITY[\"EPSG\",\"7030\"]],AUTHORITY[\"EPSG\",\"6326\"]],PRIMEM[\"Greenwich\",0,AUTHORITY[\"EPSG\",\"8901\"]],"
+            + "UNIT[\"degree\",0.0174532925199433,AUTHORITY[\"EPSG\",\"9122\"]],AUTHORITY[\"EPSG\",\"4326\"]]";
+
+    private static final DateTimeFormatter GPKG_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
+    private static final String[] SCHEMA = {
+            """
+            CREATE TABLE gpkg_spatial_ref_sys (
+                srs_name TEXT NOT NULL, srs_id INTEGER NOT NULL PRIMARY KEY, organization TEXT NOT NULL,
+                organization_coordsys_id INTEGER NOT NULL, definition TEXT NOT NULL, description TEXT)
+            """,
+            """
+            CREATE TABLE gpkg_contents (
+                table_name TEXT NOT NULL PRIMARY KEY, data_type TEXT NOT NULL, identifier TEXT UNIQUE,
+                description TEXT DEFAULT '', last_change DATETIME NOT NULL,
+                min_x DOUBLE, min_y DOUBLE, max_x DOUBLE, max_y DOUBLE,
+                srs_id INTEGER REFERENCES gpkg_spatial_ref_sys(srs_id))
+            """,
+            """
+            CREATE TABLE gpkg_geometry_columns (
+                table_name TEXT NOT NULL UNIQUE REFERENCES gpkg_contents(table_name), column_name TEXT NOT NULL,
+                geometry_type_name TEXT NOT NULL, srs_id INTEGER NOT NULL REFERENCES gpkg_spatial_ref_sys(srs_id),
+                z TINYINT NOT NULL, m TINYINT NOT NULL,
+                PRIMARY KEY (table_name, column_name))
+            """,
+            """
+            CREATE TABLE farms (
+                fid INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, geom POINT,
+                farm_identifier TEXT NOT NULL UNIQUE, farm_name TEXT, owner_reference_id TEXT,
+                country_code TEXT, region TEXT, notes TEXT, updated_at DATETIME)
+            """,
+            """
+            CREATE TABLE plots (
+                fid INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, geom POLYGON,
+                plot_identifier TEXT NOT NULL UNIQUE, farm_identifier TEXT NOT NULL, plot_name TEXT,
+                cultivator_reference_id TEXT, land_tenure_type TEXT, area_hectares REAL, updated_at DATETIME)
+            """,
+            """
+            CREATE TABLE points_of_interest (
+                fid INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, geom POINT,
+                poi_identifier TEXT NOT NULL UNIQUE, parent_entity_identifier TEXT NOT NULL,
+                parent_entity_type TEXT NOT NULL, poi_name TEXT, poi_type TEXT NOT NULL, notes TEXT,
+                updated_at DATETIME)
+            """,
+            """
+            CREATE TABLE land_tenures (
+                id INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL,
+                land_tenure_identifier TEXT NOT NULL UNIQUE, plot_identifier TEXT NOT NULL UNIQUE,
+                tenure_type TEXT NOT NULL, lease_start_date DATE, lease_end_date DATE,
+                owner_details TEXT, agreement_document_reference TEXT, updated_at DATETIME)
+            """
+    };
+
+    /**
+     * Writes a new GeoPackage at {@code file}, which must be empty or not exist yet.
+     *
+     * @throws IOException if the SQLite database can't be created or written.
+     */
+    public void write(Path file, Farm farm, List<Plot> plots, List<LandTenure> landTenures,
+            List<PointOfInterest> pointsOfInterest) throws IOException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file.toAbsolutePath())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA application_id = " + GPKG_APPLICATION_ID);
+                statement.execute("PRAGMA user_version = " + GPKG_USER_VERSION);
+                // The file is built under a temporary name and discarded on failure
+                statement.execute("PRAGMA journal_mode = OFF");
+                statement.execute("PRAGMA synchronous = OFF");
+            }
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : SCHEMA) {
+                    statement.execute(ddl);
+                }
+            }
+            writeSpatialRefSys(connection);
+            GeoPackageGeometryEncoder encoder = new GeoPackageGeometryEncoder();
+            writeFarm(connection, encoder, farm);
+            writePlots(connection, encoder, plots);
+            writePointsOfInterest(connection, encoder, pointsOfInterest);
+            writeLandTenures(connection, landTenures);
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IOException("Failed to write GeoPackage " + file.getFileName(), e);
+        }
+    }
+
+    private void writeSpatialRefSys(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO gpkg_spatial_ref_sys (srs_name, srs_id, organization, organization_coordsys_id, definition) VALUES (?, ?, ?, ?, ?)")) {
+            addSrs(insert, "Undefined cartesian SRS", -1, "NONE", -1, "undefined");
+            addSrs(insert, "Undefined geographic SRS", 0, "NONE", 0, "undefined");
+            addSrs(insert, "WGS 84 geodetic", WGS84_SRS_ID, "EPSG", WGS84_SRS_ID, WGS84_WKT);
+            insert.executeBatch();
+        }
+    }
+
+    private void addSrs(PreparedStatement insert, String name, int srsId, String organization, int coordsysId,
+            String definition) throws SQLException {
+        insert.setString(1, name);
+        insert.setInt(2, srsId);
+        insert.setString(3, organization);
+        insert.setInt(4, coordsysId);
+        insert.setString(5, definition);
+        insert.addBatch();
+    }
+
+    private void writeFarm(Connection connection, GeoPackageGeometryEncoder encoder, Farm farm) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO farms (geom, farm_identifier, farm_name, owner_reference_id, country_code, region, notes, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            insert.setBytes(1, encoder.encode(farm.getGeneralLocationCoordinates()));
+            insert.setString(2, uuid(farm.getFarmIdentifier()));
+            insert.setString(3, farm.getFarmName());
+            insert.setString(4, uuid(farm.getOwnerReferenceId()));
+            insert.setString(5, farm.getCountryCode());
+            insert.setString(6, farm.getRegion());
+            insert.setString(7, farm.getNotes());
+            insert.setString(8, timestamp(farm.getUpdatedAt()));
+            insert.executeUpdate();
+        }
+        registerFeatureTable(connection, "farms", "POINT", envelopeOf(List.of(farm), Farm::getGeneralLocationCoordinates));
+    }
+
+    private void writePlots(Connection connection, GeoPackageGeometryEncoder encoder, List<Plot> plots) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO plots (geom, plot_identifier, farm_identifier, plot_name, cultivator_reference_id,
+                                   land_tenure_type, area_hectares, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (Plot plot : plots) {
+                insert.setBytes(1, encoder.encode(plot.getPlotGeometry()));
+                insert.setString(2, uuid(plot.getPlotIdentifier()));
+                // Reading the id of the lazy farm proxy doesn't load the farm
+                insert.setString(3, uuid(plot.getFarm().getFarmIdentifier()));
+                insert.setString(4, plot.getPlotName());
+                insert.setString(5, uuid(plot.getCultivatorReferenceId()));
+                insert.setString(6, plot.getLandTenureType() != null ? plot.getLandTenureType().name() : null);
+                if (plot.getCalculatedAreaHectares() != null) {
+                    insert.setDouble(7, plot.getCalculatedAreaHectares().doubleValue());
+                } else {
+                    insert.setNull(7, Types.REAL);
+                }
+                insert.setString(8, timestamp(plot.getUpdatedAt()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        registerFeatureTable(connection, "plots", "POLYGON", envelopeOf(plots, Plot::getPlotGeometry));
+    }
+
+    private void writePointsOfInterest(Connection connection, GeoPackageGeometryEncoder encoder,
+            List<PointOfInterest> pointsOfInterest) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO points_of_interest (geom, poi_identifier, parent_entity_identifier, parent_entity_type,
+                                                poi_name, poi_type, notes, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (PointOfInterest poi : pointsOfInterest) {
+                insert.setBytes(1, encoder.encode(poi.getCoordinates()));
+                insert.setString(2, uuid(poi.getPoiIdentifier()));
+                insert.setString(3, uuid(poi.getParentEntityIdentifier()));
+                insert.setString(4, poi.getParentEntityType().name());
+                insert.setString(5, poi.getPoiName());
+                insert.setString(6, poi.getPoiType().name());
+                insert.setString(7, poi.getNotes());
+                insert.setString(8, timestamp(poi.getUpdatedAt()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        registerFeatureTable(connection, "points_of_interest", "POINT",
+                envelopeOf(pointsOfInterest, PointOfInterest::getCoordinates));
+    }
+
+    private void writeLandTenures(Connection connection, List<LandTenure> landTenures) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO land_tenures (land_tenure_identifier, plot_identifier, tenure_type, lease_start_date,
+                                          lease_end_date, owner_details, agreement_document_reference, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (LandTenure landTenure : landTenures) {
+                insert.setString(1, uuid(landTenure.getLandTenureIdentifier()));
+                insert.setString(2, uuid(landTenure.getPlot().getPlotIdentifier()));
+                insert.setString(3, landTenure.getTenureType().name());
+                insert.setString(4, landTenure.getLeaseStartDate() != null ? landTenure.getLeaseStartDate().toString() : null);
+                insert.setString(5, landTenure.getLeaseEndDate() != null ? landTenure.getLeaseEndDate().toString() : null);
+                insert.setString(6, landTenure.getOwnerDetails());
+                insert.setString(7, landTenure.getAgreementDocumentReference());
+                insert.setString(8, timestamp(landTenure.getUpdatedAt()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        try (PreparedStatement contents = connection.prepareStatement(
+                "INSERT INTO gpkg_contents (table_name, data_type, identifier, last_change) VALUES (?, 'attributes', ?, ?)")) {
+            contents.setString(1, "land_tenures");
+            contents.setString(2, "land_tenures");
+            contents.setString(3, timestamp(OffsetDateTime.now()));
+            contents.executeUpdate();
+        }
+    }
+
+    private void registerFeatureTable(Connection connection, String table, String geometryType, Envelope extent)
+            throws SQLException {
+        try (PreparedStatement contents = connection.prepareStatement("""
+                INSERT INTO gpkg_contents (table_name, data_type, identifier, last_change, min_x, min_y, max_x, max_y, srs_id)
+                VALUES (?, 'features', ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            contents.setString(1, table);
+            contents.setString(2, table);
+            contents.setString(3, timestamp(OffsetDateTime.now()));
+            setExtent(contents, 4, extent.isNull() ? null : extent.getMinX());
+            setExtent(contents, 5, extent.isNull() ? null : extent.getMinY());
+            setExtent(contents, 6, extent.isNull() ? null : extent.getMaxX());
+            setExtent(contents, 7, extent.isNull() ? null : extent.getMaxY());
+            contents.setInt(8, WGS84_SRS_ID);
+            contents.executeUpdate();
+        }
+        try (PreparedStatement columns = connection.prepareStatement(
+                "INSERT INTO gpkg_geometry_columns (table_name, column_name, geometry_type_name, srs_id, z, m) VALUES (?, 'geom', ?, ?, 0, 0)")) {
+            columns.setString(1, table);
+            columns.setString(2, geometryType);
+            columns.setInt(3, WGS84_SRS_ID);
+            columns.executeUpdate();
+        }
+    }
+
+    private static void setExtent(PreparedStatement statement, int index, Double value) throws SQLException {
+        if (value != null) {
+            statement.setDouble(index, value);
+        } else {
+            statement.setNull(index, Types.DOUBLE);
+        }
+    }
+
+    private static <T> Envelope envelopeOf(List<T> rows, Function<T, ? extends Geometry> geometry) {
+        Envelope extent = new Envelope();
+        for (T row : rows) {
+            Geometry value = geometry.apply(row);
+            if (value != null) {
+                extent.expandToInclude(value.getEnvelopeInternal());
+            }
+        }
+        return extent;
+    }
+
+    private static String uuid(UUID value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static String timestamp(OffsetDateTime value) {
+        return value != null ? GPKG_TIMESTAMP.format(value.withOffsetSameInstant(ZoneOffset.UTC)) : null;
+    }
+
+    /**
+     * GeoPackage binary geometry: "GP" magic, version, flags, SRS id and an
+     * optional envelope, followed by standard WKB. Points carry no envelope
+     * since it would only repeat the coordinates.
+     */
+    static final class GeoPackageGeometryEncoder {
+
+        private static final byte FLAG_LITTLE_ENDIAN = 0b0000_0001;
+        private static final byte FLAG_ENVELOPE_XY = 0b0000_0010;
+        private static final byte FLAG_EMPTY = 0b0001_0000;
+
+        private final WKBWriter wkbWriter = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN);
+
+        byte[] encode(Geometry geometry) {
+            if (geometry == null) {
+                return null;
+            }
+            boolean withEnvelope = !geometry.isEmpty() && geometry.getDimension() > 0;
+            byte flags = FLAG_LITTLE_ENDIAN;
+            if (withEnvelope) {
+                flags |= FLAG_ENVELOPE_XY;
+            }
+            if (geometry.isEmpty()) {
+                flags |= FLAG_EMPTY;
+            }
+            byte[] wkb = wkbWriter.write(geometry);
+            ByteBuffer buffer = ByteBuffer.allocate(8 + (withEnvelope ? 32 : 0) + wkb.length)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .put((byte) 'G').put((byte) 'P')
+                    .put((byte) 0) // version 1
+                    .put(flags)
+                    .putInt(WGS84_SRS_ID);
+            if (withEnvelope) {
+                Envelope envelope = geometry.getEnvelopeInternal();
+                buffer.putDouble(envelope.getMinX()).putDouble(envelope.getMaxX())
+                        .putDouble(envelope.getMinY()).putDouble(envelope.getMaxY());
+            }
+            return buffer.put(wkb).array();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.agrienhance.farmplot.application.export;
+
+import java.nio.file.Path;
+
+/**
+ * A built offline package of a farm and the content hash it was built from.
+ * The hash doubles as the HTTP entity tag of the download.
+ */
+public record OfflinePackage(Path file, String contentHash) {
+
+    public static final String MEDIA_TYPE = "application/geopackage+sqlite3";
+}
@@ -0,0 +1,18 @@
+package com.agrienhance.farmplot.application.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PlotExportFormat {
+
+    // One GeoJSON Feature per line (newline-delimited JSON)
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    // A single GeoJSON FeatureCollection
+    GEOJSON("application/geo+json", "geojson");
+
+    private final String mediaType;
+    private final String fileExtension;
+}
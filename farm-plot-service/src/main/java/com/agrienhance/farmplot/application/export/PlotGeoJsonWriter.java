@@ -0,0 +1,61 @@
+package com.agrienhance.farmplot.application.export;
+
+import com.agrienhance.farmplot.api.json.PolygonSerializer;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Writes plots as GeoJSON Features straight to a {@link JsonGenerator}.
+ * Coordinates are read from the JTS geometry directly, so no intermediate
+ * DTO or coordinate lists are built per plot.
+ */
+@Component
+public class PlotGeoJsonWriter {
+
+    public void writeFeature(JsonGenerator generator, Plot plot) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Feature");
+        generator.writeStringField("id", plot.getPlotIdentifier().toString());
+
+        generator.writeFieldName("geometry");
+        PolygonSerializer.writePolygon(generator, plot.getPlotGeometry());
+
+        generator.writeObjectFieldStart("properties");
+        writeUuid(generator, "plotIdentifier", plot.getPlotIdentifier());
+        // Reading the id of the lazy farm proxy doesn't load the farm
+        writeUuid(generator, "farmIdentifier", plot.getFarm() != null ? plot.getFarm().getFarmIdentifier() : null);
+        writeUuid(generator, "tenantId", plot.getTenantId());
+        generator.writeStringField("plotName", plot.getPlotName());
+        writeUuid(generator, "cultivatorReferenceId", plot.getCultivatorReferenceId());
+        generator.writeStringField("landTenureType",
+                plot.getLandTenureType() != null ? plot.getLandTenureType().name() : null);
+        if (plot.getCalculatedAreaHectares() != null) {
+            generator.writeNumberField("calculatedAreaHectares", plot.getCalculatedAreaHectares());
+        } else {
+            generator.writeNullField("calculatedAreaHectares");
+        }
+        writeTimestamp(generator, "createdAt", plot.getCreatedAt());
+        writeTimestamp(generator, "updatedAt", plot.getUpdatedAt());
+        if (plot.getVersion() != null) {
+            generator.writeNumberField("version", plot.getVersion());
+        } else {
+            generator.writeNullField("version");
+        }
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+    }
+
+    private void writeUuid(JsonGenerator generator, String field, UUID value) throws IOException {
+        generator.writeStringField(field, value != null ? value.toString() : null);
+    }
+
+    private void writeTimestamp(JsonGenerator generator, String field, OffsetDateTime value) throws IOException {
+        generator.writeStringField(field, value != null ? value.toString() : null);
+    }
+}
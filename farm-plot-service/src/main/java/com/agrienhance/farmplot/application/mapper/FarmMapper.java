@@ -4,6 +4,7 @@ import com.agrienhance.farmplot.api.dto.farm.CreateFarmRequest;
 import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
 import com.agrienhance.farmplot.api.dto.farm.UpdateFarmRequest;
 import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.repository.projection.FarmSummary;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -24,10 +25,13 @@ public interface FarmMapper {
     Farm createRequestToFarm(CreateFarmRequest request);
 
     // FarmResponse DTO from Farm Entity
-    @Mapping(source = "generalLocationCoordinates", target = "generalLocationCoordinates") // Uses
-                                                                                           // GeometryMapper.toPointGeometryDto
+    @Mapping(source = "generalLocationCoordinates", target = "generalLocationCoordinates") // Same JTS Point,
+                                                                                           // serialized by GeoJsonModule
     FarmResponse farmToFarmResponse(Farm farm);
 
+    // FarmResponse without location, for listings that leave it out
+    FarmResponse farmSummaryToFarmResponse(FarmSummary farmSummary);
+
     // Update existing Farm entity from UpdateFarmRequest
     // This will update only non-null fields from the request DTO onto the farm
     // entity
@@ -5,6 +5,7 @@ import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
 import com.agrienhance.farmplot.api.dto.plot.UpdatePlotRequest;
 import com.agrienhance.farmplot.domain.entity.Farm; // Required for mapping farmIdentifier
 import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.projection.PlotSummary;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -34,11 +35,14 @@ public interface PlotMapper {
     Plot createRequestToPlot(CreatePlotRequest request);
 
     // PlotResponse DTO from Plot Entity
-    @Mapping(source = "plotGeometry", target = "plotGeometry") // Uses GeometryMapper.toPolygonGeometryDto
+    @Mapping(source = "plotGeometry", target = "plotGeometry") // Same JTS Polygon, serialized by GeoJsonModule
     @Mapping(source = "farm.farmIdentifier", target = "farmIdentifier") // Map Farm object's ID to DTO field
     @Mapping(source = "landTenureType", target = "landTenureType") // ADD THIS MAPPING
     PlotResponse plotToPlotResponse(Plot plot);
 
+    // PlotResponse without geometry, for listings that leave it out
+    PlotResponse plotSummaryToPlotResponse(PlotSummary plotSummary);
+
     // Update existing Plot entity from UpdatePlotRequest
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(source = "plotGeometry", target = "plotGeometry") // Uses GeometryMapper.toPolygon
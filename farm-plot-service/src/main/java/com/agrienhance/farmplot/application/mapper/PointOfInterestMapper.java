@@ -4,6 +4,7 @@ import com.agrienhance.farmplot.api.dto.poi.CreatePointOfInterestRequest;
 import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
 import com.agrienhance.farmplot.api.dto.poi.UpdatePointOfInterestRequest;
 import com.agrienhance.farmplot.domain.entity.PointOfInterest;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestSummary;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -15,9 +16,12 @@ import org.mapstruct.ReportingPolicy;
         unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface PointOfInterestMapper {
 
-    @Mapping(source = "coordinates", target = "coordinates") // Uses GeometryMapper
+    @Mapping(source = "coordinates", target = "coordinates") // Same JTS Point, serialized by GeoJsonModule
     PointOfInterestResponse poiToPoiResponse(PointOfInterest poi);
 
+    // PointOfInterestResponse without coordinates, for listings that leave them out
+    PointOfInterestResponse poiSummaryToPoiResponse(PointOfInterestSummary poiSummary);
+
     @Mapping(source = "coordinates", target = "coordinates") // Uses GeometryMapper
     @Mapping(target = "poiIdentifier", ignore = true)
     @Mapping(target = "parentEntityIdentifier", ignore = true) // Will be set by service
@@ -0,0 +1,80 @@
+package com.agrienhance.farmplot.application.pagination;
+
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Position in a listing ordered by (sort key, identifier). Encoded as an
+ * opaque Base64URL token so clients don't rely on its contents.
+ *
+ * Null sort keys are listed as empty strings, matching the
+ * COALESCE(name, '') used by the keyset queries and their indexes.
+ */
+public record KeysetCursor(String sortKey, UUID identifier) {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Sorts before every real row: ('', nil UUID) is the smallest possible key
+    public static final KeysetCursor FIRST = new KeysetCursor("", new UUID(0L, 0L));
+
+    private static final char SEPARATOR = '|';
+
+    public KeysetCursor {
+        sortKey = sortKey != null ? sortKey : "";
+    }
+
+    public String encode() {
+        String raw = identifier.toString() + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. A null or blank token
+     * starts the listing from the beginning.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("Invalid pagination cursor.");
+            }
+            return new KeysetCursor(raw.substring(separator + 1), UUID.fromString(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid pagination cursor.");
+        }
+    }
+
+    public static int checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return size;
+    }
+
+    /**
+     * Builds the response slice from rows fetched with a limit of
+     * {@code size + 1}; the extra row only tells whether a next slice exists.
+     */
+    public static <E, R> CursorPageResponse<R> toPage(List<E> rows, int size,
+            Function<E, KeysetCursor> cursorOf, Function<E, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> slice = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(slice.get(slice.size() - 1)).encode() : null;
+        return CursorPageResponse.<R>builder()
+                .content(slice.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.agrienhance.farmplot.application.pagination;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Sync watermark: the last change a client has received, as the id of the
+ * transaction that made it plus (entity type, identifier) to break ties
+ * within one transaction. Encoded as an opaque Base64URL token so clients
+ * don't rely on its contents.
+ */
+public record SyncToken(long changeXid, String entityType, UUID identifier) {
+
+    // Sorts before every real change: transaction ids start above 0
+    public static final SyncToken FIRST = new SyncToken(0L, "", new UUID(0L, 0L));
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = Long.toString(changeXid) + SEPARATOR + entityType + SEPARATOR + identifier;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. A null or blank token
+     * means a full sync from the beginning.
+     */
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new ValidationException("Invalid sync token.");
+            }
+            return new SyncToken(Long.parseLong(parts[0]), parts[1], UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid sync token.");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.agrienhance.farmplot.application.projection;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Response fields requested through the fields= query parameter (sparse
+ * fieldsets), e.g. fields=plotIdentifier,plotName. Services use it to skip
+ * reading geometry columns nobody asked for; the response is trimmed to the
+ * selected fields by the {@link #JSON_FILTER} Jackson filter.
+ */
+public record FieldSelection(Set<String> names) {
+
+    /** Every field of the response; what callers get without fields=. */
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    /** Jackson filter id carried by response DTOs that support field selection. */
+    public static final String JSON_FILTER = "fieldSelection";
+
+    public FieldSelection {
+        names = names != null ? Set.copyOf(names) : null;
+    }
+
+    /**
+     * Parses a comma-separated field list. A null or blank list selects
+     * every field; names that are not properties of the response type are
+     * rejected.
+     */
+    public static FieldSelection parse(String fields, Class<?> responseType) {
+        FieldSelection selection = parse(fields);
+        if (selection.isAll()) {
+            return selection;
+        }
+        Set<String> known = Arrays.stream(responseType.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String name : selection.names()) {
+            if (!known.contains(name)) {
+                throw new ValidationException(String.format("Unknown field '%s'. Selectable fields are: %s.",
+                        name, String.join(", ", known)));
+            }
+        }
+        return selection;
+    }
+
+    /**
+     * Parses without validation, for callers that already validated the list.
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return names.isEmpty() ? ALL : new FieldSelection(names);
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String field) {
+        return names == null || names.contains(field);
+    }
+}
@@ -1,8 +1,10 @@
 package com.agrienhance.farmplot.application.service;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.farm.CreateFarmRequest;
 import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
 import com.agrienhance.farmplot.api.dto.farm.UpdateFarmRequest;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -38,9 +40,23 @@ public interface FarmApplicationService {
      *
      * @param tenantId The UUID of the tenant.
      * @param pageable Pagination and sorting information.
+     * @param fields   Response fields to fill; the location is only read when
+     *                 selected.
      * @return A Page of FarmResponse DTOs.
      */
-    Page<FarmResponse> listFarmsByTenant(UUID tenantId, Pageable pageable);
+    Page<FarmResponse> listFarmsByTenant(UUID tenantId, Pageable pageable, FieldSelection fields);
+
+    /**
+     * Lists the farms of a tenant by farm name, one slice at a time, seeking
+     * past the position in the cursor instead of counting and skipping rows.
+     *
+     * @param tenantId The UUID of the tenant.
+     * @param cursor   The nextCursor of the previous slice, or null to start.
+     * @param size     Maximum number of farms in the slice.
+     * @return A slice of FarmResponse DTOs with the cursor of the next slice.
+     * @throws com.agrienhance.farmplot.application.exception.ValidationException if the cursor or size is invalid.
+     */
+    CursorPageResponse<FarmResponse> scrollFarmsByTenant(UUID tenantId, String cursor, int size);
 
     /**
      * Updates an existing farm.
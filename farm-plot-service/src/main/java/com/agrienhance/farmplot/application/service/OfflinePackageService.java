@@ -0,0 +1,22 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.application.export.OfflinePackage;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Offline bundles of a farm (its plots, land tenures and points of interest)
+ * as GeoPackage files, cached by content hash.
+ */
+public interface OfflinePackageService {
+
+    /**
+     * Returns the farm's package, building it only if the farm or anything on
+     * it changed since the cached package was built.
+     *
+     * @throws com.agrienhance.farmplot.application.exception.ResourceNotFoundException if the farm doesn't exist for the tenant.
+     * @throws IOException if the package can't be written.
+     */
+    OfflinePackage getFarmPackage(UUID farmIdentifier, UUID tenantId) throws IOException;
+}
@@ -1,10 +1,13 @@
 package com.agrienhance.farmplot.application.service;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.landtenure.CreateOrUpdateLandTenureRequest;
 import com.agrienhance.farmplot.api.dto.landtenure.LandTenureResponse;
 import com.agrienhance.farmplot.api.dto.plot.CreatePlotRequest;
 import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
 import com.agrienhance.farmplot.api.dto.plot.UpdatePlotRequest;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
+import com.agrienhance.farmplot.application.spatial.SimplificationLevel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,11 +17,19 @@ public interface PlotApplicationService {
 
     PlotResponse createPlot(CreatePlotRequest createPlotRequest, UUID tenantId);
 
-    PlotResponse getPlotById(UUID plotIdentifier, UUID tenantId);
+    // Returned geometries are simplified to the given level (cached per plot version)
+    PlotResponse getPlotById(UUID plotIdentifier, UUID tenantId, SimplificationLevel simplification);
 
-    Page<PlotResponse> listPlots(UUID tenantId, Pageable pageable);
+    // Geometry is only read when the field selection includes plotGeometry
+    Page<PlotResponse> listPlots(UUID tenantId, Pageable pageable, FieldSelection fields,
+            SimplificationLevel simplification);
 
-    Page<PlotResponse> listPlotsByFarm(UUID farmIdentifier, UUID tenantId, Pageable pageable);
+    // Keyset listing ordered by plot name then identifier; cursor is null for
+    // the first slice and the previous slice's nextCursor afterwards.
+    CursorPageResponse<PlotResponse> scrollPlots(UUID tenantId, String cursor, int size);
+
+    Page<PlotResponse> listPlotsByFarm(UUID farmIdentifier, UUID tenantId, Pageable pageable,
+            FieldSelection fields, SimplificationLevel simplification);
 
     Page<PlotResponse> listAllPlotsForTenant(UUID tenantId, Pageable pageable); // New method
 
@@ -0,0 +1,24 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.application.export.PlotExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface PlotExportService {
+
+    /**
+     * Writes every plot of a tenant to the stream as GeoJSON, reading them
+     * through a server-side cursor in a single read-only transaction. The
+     * export is a consistent snapshot and memory use doesn't grow with the
+     * number of plots.
+     *
+     * @param tenantId The UUID of the tenant whose plots are exported.
+     * @param format   NDJSON (one Feature per line) or a GeoJSON FeatureCollection.
+     * @param out      Destination; flushed but not closed.
+     * @return The number of plots written.
+     * @throws IOException if writing to the stream fails.
+     */
+    long exportPlots(UUID tenantId, PlotExportFormat format, OutputStream out) throws IOException;
+}
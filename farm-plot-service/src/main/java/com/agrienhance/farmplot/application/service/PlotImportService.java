@@ -0,0 +1,26 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotImportReport;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface PlotImportService {
+
+    /**
+     * Creates plots from a GeoJSON FeatureCollection of Polygon features. The
+     * document is read feature by feature and written in JDBC batches, so it
+     * never has to fit in memory.
+     *
+     * Feature properties map to the fields of a plot: plotName,
+     * cultivatorReferenceId, landTenureType and farmIdentifier. A feature
+     * without farmIdentifier is assigned to the default farm.
+     *
+     * @param featureCollection     The GeoJSON document.
+     * @param defaultFarmIdentifier Farm for features that don't name one; may be null.
+     * @param tenantId              The UUID of the tenant importing the plots.
+     * @return Per-feature report. Rejected features don't stop the import.
+     * @throws com.agrienhance.farmplot.application.exception.ValidationException if the document is not a readable FeatureCollection.
+     */
+    PlotImportReport importPlots(InputStream featureCollection, UUID defaultFarmIdentifier, UUID tenantId);
+}
@@ -0,0 +1,28 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotLookupResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spatial lookups answered from an in-memory index of the tenant's plots
+ * instead of a PostGIS query per request.
+ */
+public interface PlotLookupService {
+
+    /**
+     * Finds the plots a WGS84 position falls into, boundary included.
+     *
+     * @throws com.agrienhance.farmplot.application.exception.ValidationException if the position is out of range.
+     */
+    List<PlotLookupResponse> findPlotsAtPoint(double longitude, double latitude, UUID tenantId);
+
+    /**
+     * Finds the plots intersecting a WGS84 bounding box.
+     *
+     * @throws com.agrienhance.farmplot.application.exception.ValidationException if the box is out of range or inverted.
+     */
+    List<PlotLookupResponse> findPlotsInBoundingBox(double minLongitude, double minLatitude,
+            double maxLongitude, double maxLatitude, UUID tenantId);
+}
@@ -0,0 +1,21 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotOverlapResponse;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import org.locationtech.jts.geom.Polygon;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PlotOverlapService {
+
+    // Plots of the farm whose interior overlaps the geometry, other than the
+    // excluded plot (the one being updated; null on create)
+    List<PlotOverlapResponse> findOverlaps(UUID farmIdentifier, UUID tenantId, Polygon geometry,
+            UUID excludedPlotIdentifier);
+
+    // Applies the configured overlap policy to a plot about to be saved:
+    // throws PlotOverlapException under REJECT, returns the overlaps under
+    // WARN and nothing under OFF
+    List<PlotOverlapResponse> checkOverlaps(Plot plot);
+}
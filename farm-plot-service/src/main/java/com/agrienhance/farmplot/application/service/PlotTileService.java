@@ -0,0 +1,21 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+
+import java.util.UUID;
+
+public interface PlotTileService {
+
+    /**
+     * Returns the plots of a tenant that fall into the given XYZ tile, encoded
+     * as a Mapbox Vector Tile with a single "plots" layer.
+     *
+     * @param z        Zoom level.
+     * @param x        Tile column.
+     * @param y        Tile row.
+     * @param tenantId The UUID of the tenant whose plots are rendered.
+     * @return The encoded tile, empty if no plot falls into the tile.
+     * @throws ValidationException if the tile address is invalid.
+     */
+    byte[] getPlotTile(int z, int x, int y, UUID tenantId);
+}
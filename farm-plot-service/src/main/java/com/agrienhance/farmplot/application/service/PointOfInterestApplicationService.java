@@ -1,8 +1,14 @@
 package com.agrienhance.farmplot.application.service;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.poi.CreatePointOfInterestRequest;
+import com.agrienhance.farmplot.api.dto.poi.NearbyPointOfInterestResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchReport;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestPlotAssignmentReport;
 import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
 import com.agrienhance.farmplot.api.dto.poi.UpdatePointOfInterestRequest;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
+import com.agrienhance.farmplot.domain.enums.POIType;
 import com.agrienhance.farmplot.domain.enums.ParentEntityType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,14 +24,36 @@ public interface PointOfInterestApplicationService {
                         CreatePointOfInterestRequest request); // tenantId will be in request or from
                                                                // context
 
+        // Parent validated once; invalid POIs are reported per item, the valid ones
+        // are inserted together
+        PointOfInterestBatchReport createPois(UUID parentEntityIdentifier,
+                        ParentEntityType parentEntityType,
+                        UUID tenantId,
+                        List<CreatePointOfInterestRequest> requests);
+
+        // Moves the farm's farm-level POIs to the plot containing them, in one set-based pass
+        PointOfInterestPlotAssignmentReport assignFarmPoisToPlots(UUID farmIdentifier, UUID tenantId);
+
         PointOfInterestResponse getPoiById(UUID poiIdentifier, UUID tenantId);
 
+        // Coordinates are only read when the field selection includes them
         List<PointOfInterestResponse> listPoisByParent(UUID parentEntityIdentifier, ParentEntityType parentEntityType,
-                        UUID tenantId);
+                        UUID tenantId, FieldSelection fields);
 
         Page<PointOfInterestResponse> listPoisByParentPaginated(UUID parentEntityIdentifier,
                         ParentEntityType parentEntityType, UUID tenantId, Pageable pageable);
 
+        CursorPageResponse<PointOfInterestResponse> scrollPoisByParent(UUID parentEntityIdentifier,
+                        ParentEntityType parentEntityType, UUID tenantId, String cursor, int size);
+
+        // Nearest POIs of a type, closest first with geodesic distances; maxDistanceMeters may be null
+        List<NearbyPointOfInterestResponse> findNearestPois(double longitude, double latitude, POIType poiType,
+                        int limit, Double maxDistanceMeters, UUID tenantId);
+
+        // Same, measured from the plot's boundary (POIs inside the plot are at distance 0)
+        List<NearbyPointOfInterestResponse> findNearestPoisToPlot(UUID plotIdentifier, POIType poiType, int limit,
+                        Double maxDistanceMeters, UUID tenantId);
+
         PointOfInterestResponse updatePoi(UUID poiIdentifier, UpdatePointOfInterestRequest request, UUID tenantId);
 
         void deletePoi(UUID poiIdentifier, UUID tenantId);
@@ -0,0 +1,24 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestClusterTileResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+
+import java.util.UUID;
+
+public interface PointOfInterestClusterService {
+
+    /**
+     * Groups the POIs of a tenant that fall into the given XYZ tile into
+     * grid clusters, with their centroids and counts per POI type. The grid
+     * cells of a tile line up with those of its neighbours and its child
+     * tiles, so clusters don't jump around while the map is panned.
+     *
+     * @param z        Zoom level.
+     * @param x        Tile column.
+     * @param y        Tile row.
+     * @param tenantId The UUID of the tenant whose POIs are clustered.
+     * @return The clusters of the tile; no clusters if no POI falls into it.
+     * @throws ValidationException if the tile address is invalid.
+     */
+    PointOfInterestClusterTileResponse getClusterTile(int z, int x, int y, UUID tenantId);
+}
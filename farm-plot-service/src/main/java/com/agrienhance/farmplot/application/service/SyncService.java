@@ -0,0 +1,21 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.api.dto.sync.SyncChangesResponse;
+
+import java.util.UUID;
+
+/**
+ * Delta sync for offline clients: the tenant's farms, plots, points of
+ * interest and land tenures changed since a sync token, in batches.
+ */
+public interface SyncService {
+
+    /**
+     * Returns up to {@code limit} changes made after the token, current state
+     * for created and updated records and tombstones for deleted ones. A null
+     * token returns everything, starting from the beginning.
+     *
+     * @throws com.agrienhance.farmplot.application.exception.ValidationException if the token or limit is invalid.
+     */
+    SyncChangesResponse getChangesSince(String syncToken, int limit, UUID tenantId);
+}
@@ -1,30 +1,47 @@
 package com.agrienhance.farmplot.application.service.impl;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.farm.CreateFarmRequest;
 import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
 import com.agrienhance.farmplot.api.dto.farm.UpdateFarmRequest;
 import com.agrienhance.farmplot.application.exception.ResourceNotFoundException;
 import com.agrienhance.farmplot.application.mapper.FarmMapper; // Import the mapper
+import com.agrienhance.farmplot.application.pagination.KeysetCursor;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.application.service.FarmApplicationService;
 import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.event.DomainEventType;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.FarmUpdatedEvent;
 import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.infrastructure.cache.EntityReadCache;
+import com.agrienhance.farmplot.infrastructure.outbox.OutboxEventWriter;
 
 import lombok.AllArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @AllArgsConstructor
 public class FarmApplicationServiceImpl implements FarmApplicationService {
 
+    // FarmResponse property that needs the location column
+    private static final String GEOMETRY_FIELD = "generalLocationCoordinates";
+
     private final FarmRepository farmRepository;
     private final FarmMapper farmMapper; // Inject the mapper
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventWriter outboxEventWriter;
+    private final EntityReadCache entityReadCache;
 
     @Override
     @Transactional
@@ -32,24 +49,43 @@ public class FarmApplicationServiceImpl implements FarmApplicationService {
         Farm farm = farmMapper.createRequestToFarm(request);
         farm.setTenantId(tenantId);
         Farm savedFarm = farmRepository.save(farm);
-        return farmMapper.farmToFarmResponse(savedFarm);
+        FarmResponse response = farmMapper.farmToFarmResponse(savedFarm);
+        outboxEventWriter.append(DomainEventType.FARM_CREATED, savedFarm.getFarmIdentifier(), tenantId, response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public FarmResponse getFarmById(UUID farmIdentifier, UUID tenantId) {
-        Farm farm = farmRepository.findByFarmIdentifierAndTenantId(farmIdentifier, tenantId)
+        Farm farm = entityReadCache.farms().get(tenantId, farmIdentifier,
+                () -> farmRepository.findByFarmIdentifierAndTenantId(farmIdentifier, tenantId))
                 .orElseThrow(() -> new ResourceNotFoundException("Farm", farmIdentifier.toString()));
         return farmMapper.farmToFarmResponse(farm);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<FarmResponse> listFarmsByTenant(UUID tenantId, Pageable pageable) {
+    public Page<FarmResponse> listFarmsByTenant(UUID tenantId, Pageable pageable, FieldSelection fields) {
+        if (!fields.includes(GEOMETRY_FIELD)) {
+            return farmRepository.findSummariesByTenantId(tenantId, pageable)
+                    .map(farmMapper::farmSummaryToFarmResponse);
+        }
         Page<Farm> farmPage = farmRepository.findAllByTenantId(tenantId, pageable);
         return farmPage.map(farmMapper::farmToFarmResponse); // Use method reference
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<FarmResponse> scrollFarmsByTenant(UUID tenantId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.checkPageSize(size);
+        List<Farm> farms = farmRepository.findKeysetPageByTenantId(tenantId, after.sortKey(), after.identifier(),
+                pageSize + 1); // One extra row tells whether there is a next slice
+        return KeysetCursor.toPage(farms, pageSize,
+                farm -> new KeysetCursor(farm.getFarmName(), farm.getFarmIdentifier()),
+                farmMapper::farmToFarmResponse);
+    }
+
     @Override
     @Transactional
     public FarmResponse updateFarm(UUID farmIdentifier, UpdateFarmRequest request, UUID tenantId) {
@@ -65,7 +101,10 @@ public class FarmApplicationServiceImpl implements FarmApplicationService {
         }
 
         Farm updatedFarm = farmRepository.save(farm);
-        return farmMapper.farmToFarmResponse(updatedFarm);
+        FarmResponse response = farmMapper.farmToFarmResponse(updatedFarm);
+        eventPublisher.publishEvent(new FarmUpdatedEvent(tenantId, farmIdentifier));
+        outboxEventWriter.append(DomainEventType.FARM_UPDATED, farmIdentifier, tenantId, response);
+        return response;
     }
 
     @Override
@@ -76,5 +115,9 @@ public class FarmApplicationServiceImpl implements FarmApplicationService {
         // Now that we've confirmed it exists under the tenant, we can delete by its
         // primary key.
         farmRepository.deleteById(farm.getFarmIdentifier());
+        // The farm's plots go with it (ON DELETE CASCADE) without plot events
+        eventPublisher.publishEvent(new FarmDeletedEvent(tenantId, farmIdentifier));
+        outboxEventWriter.append(DomainEventType.FARM_DELETED, farmIdentifier, tenantId,
+                Map.of("farmIdentifier", farmIdentifier, "tenantId", tenantId));
     }
 }
\ No newline at end of file
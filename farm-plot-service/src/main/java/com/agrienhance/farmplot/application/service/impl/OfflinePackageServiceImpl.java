@@ -0,0 +1,74 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.application.exception.ResourceNotFoundException;
+import com.agrienhance.farmplot.application.export.FarmGeoPackageWriter;
+import com.agrienhance.farmplot.application.export.OfflinePackage;
+import com.agrienhance.farmplot.application.service.OfflinePackageService;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.LandTenure;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.entity.PointOfInterest;
+import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.LandTenureRepository;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import com.agrienhance.farmplot.infrastructure.cache.OfflinePackageStore;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class OfflinePackageServiceImpl implements OfflinePackageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OfflinePackageServiceImpl.class);
+
+    private final FarmRepository farmRepository;
+    private final PlotRepository plotRepository;
+    private final LandTenureRepository landTenureRepository;
+    private final PointOfInterestRepository poiRepository;
+    private final FarmGeoPackageWriter geoPackageWriter;
+    private final OfflinePackageStore packageStore;
+
+    // Repeatable read: the package is built from exactly the rows the hash was computed over
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public OfflinePackage getFarmPackage(UUID farmIdentifier, UUID tenantId) throws IOException {
+        Farm farm = farmRepository.findByFarmIdentifierAndTenantId(farmIdentifier, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Farm", farmIdentifier.toString()));
+
+        String contentHash = "v" + FarmGeoPackageWriter.FORMAT_VERSION + "-"
+                + farmRepository.findContentFingerprint(farmIdentifier, tenantId);
+        Optional<Path> cached = packageStore.find(farmIdentifier, contentHash);
+        if (cached.isPresent()) {
+            return new OfflinePackage(cached.get(), contentHash);
+        }
+
+        List<Plot> plots = plotRepository.findAllByFarm_FarmIdentifierAndTenantId(farmIdentifier, tenantId);
+        List<LandTenure> landTenures = landTenureRepository
+                .findAllByPlot_Farm_FarmIdentifierAndTenantId(farmIdentifier, tenantId);
+        List<PointOfInterest> pointsOfInterest = new ArrayList<>(poiRepository
+                .findAllByParentEntityIdentifierAndParentEntityTypeAndTenantId(farmIdentifier, ParentEntityType.FARM, tenantId));
+        if (!plots.isEmpty()) {
+            pointsOfInterest.addAll(poiRepository.findAllByParentEntityIdentifierInAndParentEntityTypeAndTenantId(
+                    plots.stream().map(Plot::getPlotIdentifier).toList(), ParentEntityType.PLOT, tenantId));
+        }
+
+        Path file = packageStore.store(farmIdentifier, contentHash,
+                target -> geoPackageWriter.write(target, farm, plots, landTenures, pointsOfInterest));
+        logger.info("Built offline package of farm {} with {} plots and {} points of interest",
+                farmIdentifier, plots.size(), pointsOfInterest.size());
+        return new OfflinePackage(file, contentHash);
+    }
+}
@@ -1,44 +1,68 @@
 package com.agrienhance.farmplot.application.service.impl;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.landtenure.CreateOrUpdateLandTenureRequest;
 import com.agrienhance.farmplot.api.dto.landtenure.LandTenureResponse;
 import com.agrienhance.farmplot.api.dto.plot.CreatePlotRequest;
+import com.agrienhance.farmplot.api.dto.plot.PlotOverlapResponse;
 import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
 import com.agrienhance.farmplot.api.dto.plot.UpdatePlotRequest;
 import com.agrienhance.farmplot.application.exception.ResourceNotFoundException;
 import com.agrienhance.farmplot.application.mapper.LandTenureMapper;
 import com.agrienhance.farmplot.application.mapper.PlotMapper;
+import com.agrienhance.farmplot.application.pagination.KeysetCursor;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.application.service.PlotApplicationService;
+import com.agrienhance.farmplot.application.service.PlotOverlapService;
+import com.agrienhance.farmplot.application.spatial.GeodesicArea;
+import com.agrienhance.farmplot.application.spatial.SimplificationLevel;
 import com.agrienhance.farmplot.domain.entity.Farm;
 import com.agrienhance.farmplot.domain.entity.LandTenure;
 import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.event.DomainEventType;
+import com.agrienhance.farmplot.domain.event.LandTenureChangedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
 import com.agrienhance.farmplot.domain.repository.FarmRepository;
 import com.agrienhance.farmplot.domain.repository.LandTenureRepository;
 import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.infrastructure.cache.EntityReadCache;
+import com.agrienhance.farmplot.infrastructure.cache.SimplifiedGeometryCache;
+import com.agrienhance.farmplot.infrastructure.outbox.OutboxEventWriter;
 
-import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Polygon;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 @AllArgsConstructor
 public class PlotApplicationServiceImpl implements PlotApplicationService {
 
+    // PlotResponse property that needs the geometry column
+    private static final String GEOMETRY_FIELD = "plotGeometry";
+
     private final PlotRepository plotRepository;
     private final FarmRepository farmRepository; // Needed to fetch Farm entity
     private final PlotMapper plotMapper;
 
     private final LandTenureRepository landTenureRepository;
     private final LandTenureMapper landTenureMapper;
-    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimplifiedGeometryCache simplifiedGeometryCache;
+    private final PlotOverlapService plotOverlapService;
+    private final OutboxEventWriter outboxEventWriter;
+    private final EntityReadCache entityReadCache;
 
     @Override
     @Transactional
@@ -56,31 +80,59 @@ public class PlotApplicationServiceImpl implements PlotApplicationService {
         plot.setFarm(farm);
         plot.setTenantId(farm.getTenantId()); // Inherit tenantId from the farm
 
-        Plot savedPlot = plotRepository.saveAndFlush(plot);
-        entityManager.refresh(savedPlot);
-        return plotMapper.plotToPlotResponse(savedPlot);
+        // The database derives the same value into its generated column; computing it here
+        // saves flushing and re-reading the row just to fill in the response
+        plot.setCalculatedAreaHectares(GeodesicArea.hectares(plot.getPlotGeometry()));
+
+        List<PlotOverlapResponse> overlaps = plotOverlapService.checkOverlaps(plot);
+
+        Plot savedPlot = plotRepository.save(plot);
+        eventPublisher.publishEvent(new PlotChangedEvent(tenantId, savedPlot.getPlotIdentifier(),
+                null, extentOf(savedPlot.getPlotGeometry())));
+        PlotResponse response = plotMapper.plotToPlotResponse(savedPlot);
+        outboxEventWriter.append(DomainEventType.PLOT_CREATED, savedPlot.getPlotIdentifier(), tenantId, response);
+        response.setOverlaps(overlaps);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PlotResponse getPlotById(UUID plotIdentifier, UUID tenantId) {
-        Plot plot = plotRepository.findByPlotIdentifierAndTenantId(plotIdentifier, tenantId)
+    public PlotResponse getPlotById(UUID plotIdentifier, UUID tenantId, SimplificationLevel simplification) {
+        Plot plot = findPlotCached(plotIdentifier, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Plot", plotIdentifier.toString()));
-        return plotMapper.plotToPlotResponse(plot);
+        return toResponse(plot, simplification);
     }
 
     @Override
-    public Page<PlotResponse> listPlots(UUID tenantId, Pageable pageable) {
-
+    @Transactional(readOnly = true)
+    public Page<PlotResponse> listPlots(UUID tenantId, Pageable pageable, FieldSelection fields,
+            SimplificationLevel simplification) {
+        if (!fields.includes(GEOMETRY_FIELD)) {
+            return plotRepository.findSummariesByTenantId(tenantId, pageable)
+                    .map(plotMapper::plotSummaryToPlotResponse);
+        }
         Page<Plot> plotPage = plotRepository.findAllByTenantId(tenantId,
                 pageable);
-        return plotPage.map(plotMapper::plotToPlotResponse);
+        return plotPage.map(plot -> toResponse(plot, simplification));
 
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PlotResponse> listPlotsByFarm(UUID farmIdentifier, UUID tenantId, Pageable pageable) {
+    public CursorPageResponse<PlotResponse> scrollPlots(UUID tenantId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.checkPageSize(size);
+        List<Plot> plots = plotRepository.findKeysetPageByTenantId(tenantId, after.sortKey(), after.identifier(),
+                pageSize + 1);
+        return KeysetCursor.toPage(plots, pageSize,
+                plot -> new KeysetCursor(plot.getPlotName(), plot.getPlotIdentifier()),
+                plotMapper::plotToPlotResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PlotResponse> listPlotsByFarm(UUID farmIdentifier, UUID tenantId, Pageable pageable,
+            FieldSelection fields, SimplificationLevel simplification) {
         // Ensure farm exists and belongs to tenant first (optional, depends on desired
         // strictness)
         if (!farmRepository.existsById(farmIdentifier)) { // Simplified check, proper tenant check needed
@@ -92,9 +144,13 @@ public class PlotApplicationServiceImpl implements PlotApplicationService {
 
         }
 
+        if (!fields.includes(GEOMETRY_FIELD)) {
+            return plotRepository.findSummariesByFarmIdentifierAndTenantId(farmIdentifier, tenantId, pageable)
+                    .map(plotMapper::plotSummaryToPlotResponse);
+        }
         Page<Plot> plotPage = plotRepository.findAllByFarm_FarmIdentifierAndTenantId(farmIdentifier, tenantId,
                 pageable);
-        return plotPage.map(plotMapper::plotToPlotResponse);
+        return plotPage.map(plot -> toResponse(plot, simplification));
     }
 
     @Override
@@ -110,15 +166,24 @@ public class PlotApplicationServiceImpl implements PlotApplicationService {
         Plot plot = plotRepository.findByPlotIdentifierAndTenantId(plotIdentifier, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Plot", plotIdentifier.toString()));
 
+        Envelope previousExtent = extentOf(plot.getPlotGeometry());
         plotMapper.updatePlotFromRequest(request, plot);
 
-        // Recalculate area if geometry changed
+        // Recalculate area and look for overlaps if geometry changed
+        List<PlotOverlapResponse> overlaps = List.of();
         if (request.getPlotGeometry() != null && plot.getPlotGeometry() != null) {
-            // plot.setCalculatedAreaHectares(calculateAreaInHectares(plot.getPlotGeometry()));
+            plot.setCalculatedAreaHectares(GeodesicArea.hectares(plot.getPlotGeometry()));
+            overlaps = plotOverlapService.checkOverlaps(plot);
         }
 
         Plot updatedPlot = plotRepository.save(plot);
-        return plotMapper.plotToPlotResponse(updatedPlot);
+        // Also published for attribute-only changes: tiles and lookups carry the plot name
+        eventPublisher.publishEvent(new PlotChangedEvent(tenantId, plotIdentifier,
+                previousExtent, extentOf(updatedPlot.getPlotGeometry())));
+        PlotResponse response = plotMapper.plotToPlotResponse(updatedPlot);
+        outboxEventWriter.append(DomainEventType.PLOT_UPDATED, plotIdentifier, tenantId, response);
+        response.setOverlaps(overlaps);
+        return response;
     }
 
     @Override
@@ -126,17 +191,23 @@ public class PlotApplicationServiceImpl implements PlotApplicationService {
     public void deletePlot(UUID plotIdentifier, UUID tenantId) {
         Plot plot = plotRepository.findByPlotIdentifierAndTenantId(plotIdentifier, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Plot", plotIdentifier.toString()));
-        plotRepository.deleteById(plot.getPlotIdentifier());
+        Envelope previousExtent = extentOf(plot.getPlotGeometry());
+        plotRepository.delete(plot); // By the loaded entity, so the DELETE carries the partition key
+        eventPublisher.publishEvent(new PlotChangedEvent(tenantId, plotIdentifier, previousExtent, null));
+        outboxEventWriter.append(DomainEventType.PLOT_DELETED, plotIdentifier, tenantId,
+                Map.of("plotIdentifier", plotIdentifier, "farmIdentifier", plot.getFarm().getFarmIdentifier(),
+                        "tenantId", tenantId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public LandTenureResponse getLandTenureForPlot(UUID plotIdentifier, UUID tenantId) {
         // First ensure plot exists and belongs to tenant
-        Plot plot = plotRepository.findByPlotIdentifierAndTenantId(plotIdentifier, tenantId)
+        Plot plot = findPlotCached(plotIdentifier, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Plot", plotIdentifier.toString()));
 
-        return landTenureRepository.findByPlot_PlotIdentifierAndTenantId(plot.getPlotIdentifier(), tenantId)
+        return entityReadCache.landTenuresByPlot().get(tenantId, plot.getPlotIdentifier(),
+                () -> landTenureRepository.findByPlot_PlotIdentifierAndTenantId(plot.getPlotIdentifier(), tenantId))
                 .map(landTenureMapper::landTenureToLandTenureResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("LandTenure for Plot", plotIdentifier.toString()));
     }
@@ -169,7 +240,10 @@ public class PlotApplicationServiceImpl implements PlotApplicationService {
         LandTenure savedLandTenure = landTenureRepository.save(landTenure);
         plot.setLandTenureType(savedLandTenure.getTenureType());
         plotRepository.save(plot);
-        return landTenureMapper.landTenureToLandTenureResponse(savedLandTenure);
+        LandTenureResponse response = landTenureMapper.landTenureToLandTenureResponse(savedLandTenure);
+        eventPublisher.publishEvent(new LandTenureChangedEvent(tenantId, plotIdentifier));
+        outboxEventWriter.append(DomainEventType.LAND_TENURE_UPDATED, plotIdentifier, tenantId, response);
+        return response;
     }
 
     @Override
@@ -187,6 +261,26 @@ public class PlotApplicationServiceImpl implements PlotApplicationService {
         // Clear the denormalized field on the plot and save it
         plot.setLandTenureType(null);
         plotRepository.save(plot);
+        eventPublisher.publishEvent(new LandTenureChangedEvent(tenantId, plotIdentifier));
+        outboxEventWriter.append(DomainEventType.LAND_TENURE_DELETED, plotIdentifier, tenantId,
+                Map.of("plotIdentifier", plotIdentifier, "tenantId", tenantId));
+    }
+
+    private Optional<Plot> findPlotCached(UUID plotIdentifier, UUID tenantId) {
+        return entityReadCache.plots().get(tenantId, plotIdentifier,
+                () -> plotRepository.findByPlotIdentifierAndTenantId(plotIdentifier, tenantId));
     }
 
+    private PlotResponse toResponse(Plot plot, SimplificationLevel simplification) {
+        PlotResponse response = plotMapper.plotToPlotResponse(plot);
+        if (!simplification.isNone()) {
+            response.setPlotGeometry(simplifiedGeometryCache.getSimplified(plot.getPlotIdentifier(),
+                    plot.getVersion(), plot.getPlotGeometry(), simplification));
+        }
+        return response;
+    }
+
+    private Envelope extentOf(Polygon geometry) {
+        return geometry != null ? new Envelope(geometry.getEnvelopeInternal()) : null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.application.export.PlotExportFormat;
+import com.agrienhance.farmplot.application.export.PlotGeoJsonWriter;
+import com.agrienhance.farmplot.application.service.PlotExportService;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+@AllArgsConstructor
+public class PlotExportServiceImpl implements PlotExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlotExportServiceImpl.class);
+
+    // Rows written between flushing the output and clearing the persistence context
+    static final int FLUSH_INTERVAL = 500;
+
+    private final PlotRepository plotRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlotGeoJsonWriter plotGeoJsonWriter;
+
+    // REPEATABLE READ gives the whole export one snapshot, even though rows are
+    // fetched from the cursor over a long time.
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportPlots(UUID tenantId, PlotExportFormat format, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (format == PlotExportFormat.NDJSON) {
+            // Features are separated by the newline alone, not by Jackson's default space between root values
+            generator.setRootValueSeparator(null);
+        }
+
+        if (format == PlotExportFormat.GEOJSON) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "FeatureCollection");
+            generator.writeArrayFieldStart("features");
+        }
+
+        long count = 0;
+        try (Stream<Plot> plots = plotRepository.streamAllByTenantId(tenantId)) {
+            Iterator<Plot> iterator = plots.iterator();
+            while (iterator.hasNext()) {
+                plotGeoJsonWriter.writeFeature(generator, iterator.next());
+                if (format == PlotExportFormat.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear(); // Written rows must not pile up in the persistence context
+                }
+            }
+        }
+
+        if (format == PlotExportFormat.GEOJSON) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.close();
+
+        logger.info("Exported {} plots for tenant {} as {}", count, tenantId, format);
+        return count;
+    }
+}
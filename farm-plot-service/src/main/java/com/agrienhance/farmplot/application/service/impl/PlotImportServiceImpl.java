@@ -0,0 +1,249 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.plot.CreatePlotRequest;
+import com.agrienhance.farmplot.api.dto.plot.PlotImportFeatureResult;
+import com.agrienhance.farmplot.api.dto.plot.PlotImportReport;
+import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import com.agrienhance.farmplot.application.mapper.PlotMapper;
+import com.agrienhance.farmplot.application.service.PlotImportService;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.event.DomainEventType;
+import com.agrienhance.farmplot.domain.event.PlotsCreatedEvent;
+import com.agrienhance.farmplot.domain.identifier.EntityUuidStrategy;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.infrastructure.outbox.OutboxEventWriter;
+import com.agrienhance.farmplot.infrastructure.persistence.PlotBatchWriter;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.locationtech.jts.geom.Envelope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class PlotImportServiceImpl implements PlotImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlotImportServiceImpl.class);
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlotMapper plotMapper;
+    private final FarmRepository farmRepository;
+    private final PlotBatchWriter plotBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventWriter outboxEventWriter;
+    private final EntityUuidStrategy entityUuidStrategy;
+    private final int batchSize;
+
+    public PlotImportServiceImpl(ObjectMapper objectMapper,
+            Validator validator,
+            PlotMapper plotMapper,
+            FarmRepository farmRepository,
+            PlotBatchWriter plotBatchWriter,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            OutboxEventWriter outboxEventWriter,
+            EntityUuidStrategy entityUuidStrategy,
+            @Value("${farmplot.import.batch-size:500}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.plotMapper = plotMapper;
+        this.farmRepository = farmRepository;
+        this.plotBatchWriter = plotBatchWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.outboxEventWriter = outboxEventWriter;
+        this.entityUuidStrategy = entityUuidStrategy;
+        this.batchSize = batchSize;
+    }
+
+    // Not @Transactional on purpose: every batch commits on its own so memory
+    // and lock footprint stay bounded however large the document is.
+    @Override
+    public PlotImportReport importPlots(InputStream featureCollection, UUID defaultFarmIdentifier, UUID tenantId) {
+        PlotImportReport report = new PlotImportReport();
+        Map<UUID, Optional<Farm>> farms = new HashMap<>();
+        List<PendingPlot> pending = new ArrayList<>(batchSize);
+        int featureIndex = 0;
+
+        try (JsonParser parser = objectMapper.createParser(featureCollection)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ValidationException("Import body must be a GeoJSON FeatureCollection.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("type".equals(field) && !"FeatureCollection".equals(parser.getValueAsString())) {
+                    throw new ValidationException("Import body must be a GeoJSON FeatureCollection.");
+                }
+                if (!"features".equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new ValidationException("FeatureCollection 'features' must be an array.");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonNode feature = parser.readValueAsTree();
+                    try {
+                        Plot plot = toPlot(feature, defaultFarmIdentifier, tenantId, farms);
+                        pending.add(new PendingPlot(featureIndex, plot));
+                    } catch (ValidationException e) {
+                        addFailure(report, featureIndex, e.getMessage());
+                    }
+                    featureIndex++;
+                    if (pending.size() >= batchSize) {
+                        flush(pending, report);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            flush(pending, report);
+            throw new ValidationException(String.format(
+                    "Malformed GeoJSON after feature %d (%d plots before it were imported): %s",
+                    featureIndex, report.getImportedCount(), e.getMessage()));
+        }
+        flush(pending, report);
+        report.setTotalFeatures(featureIndex);
+        report.getResults().sort(Comparator.comparingInt(PlotImportFeatureResult::getFeatureIndex));
+
+        logger.info("Imported {} of {} plot features for tenant {}", report.getImportedCount(), featureIndex, tenantId);
+        return report;
+    }
+
+    private Plot toPlot(JsonNode feature, UUID defaultFarmIdentifier, UUID tenantId, Map<UUID, Optional<Farm>> farms) {
+        if (!"Feature".equals(feature.path("type").asText())) {
+            throw new ValidationException("Element is not a GeoJSON Feature.");
+        }
+        JsonNode geometry = feature.path("geometry");
+        if (!"Polygon".equals(geometry.path("type").asText())) {
+            throw new ValidationException("Geometry must be a GeoJSON Polygon.");
+        }
+
+        // Feature properties carry the same fields as a single create request
+        ObjectNode fields = feature.path("properties").isObject()
+                ? ((ObjectNode) feature.get("properties")).deepCopy()
+                : objectMapper.createObjectNode();
+        fields.set("plotGeometry", geometry);
+        if (!fields.hasNonNull("farmIdentifier") && defaultFarmIdentifier != null) {
+            fields.put("farmIdentifier", defaultFarmIdentifier.toString());
+        }
+
+        CreatePlotRequest request;
+        try {
+            request = objectMapper.treeToValue(fields, CreatePlotRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Invalid feature properties: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<CreatePlotRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        Farm farm = farms.computeIfAbsent(request.getFarmIdentifier(),
+                id -> farmRepository.findByFarmIdentifierAndTenantId(id, tenantId))
+                .orElseThrow(() -> new ValidationException(
+                        "Farm " + request.getFarmIdentifier() + " not found for tenant " + tenantId + "."));
+
+        Plot plot;
+        try {
+            plot = plotMapper.createRequestToPlot(request);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            plot = null; // e.g. an unclosable ring or a position without latitude
+        }
+        if (plot == null || plot.getPlotGeometry() == null) {
+            throw new ValidationException("Polygon coordinates are malformed.");
+        }
+        plot.setPlotIdentifier(entityUuidStrategy.next()); // Batch inserts bypass @EntityUuid
+        plot.setFarm(farm);
+        plot.setTenantId(farm.getTenantId());
+        return plot;
+    }
+
+    // Writes the batch in one transaction. If the database rejects it, falls
+    // back to one transaction per plot so only the offending features fail.
+    private void flush(List<PendingPlot> pending, PlotImportReport report) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            insert(pending);
+            pending.forEach(p -> addSuccess(report, p));
+        } catch (DataAccessException batchFailure) {
+            logger.debug("Plot import batch of {} failed, retrying row by row", pending.size(), batchFailure);
+            for (PendingPlot p : pending) {
+                try {
+                    insert(List.of(p));
+                    addSuccess(report, p);
+                } catch (DataAccessException rowFailure) {
+                    addFailure(report, p.featureIndex(), rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    private void insert(List<PendingPlot> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Plot> plots = batch.stream().map(PendingPlot::plot).toList();
+            plotBatchWriter.insertAll(plots);
+            outboxEventWriter.appendAll(DomainEventType.PLOT_CREATED,
+                    plots.stream().map(plotMapper::plotToPlotResponse).toList(),
+                    PlotResponse::getPlotIdentifier, PlotResponse::getTenantId);
+            // One event per batch, delivered to listeners only once it commits
+            Envelope extent = new Envelope();
+            plots.forEach(plot -> extent.expandToInclude(plot.getPlotGeometry().getEnvelopeInternal()));
+            eventPublisher.publishEvent(new PlotsCreatedEvent(plots.get(0).getTenantId(),
+                    plots.stream().map(Plot::getPlotIdentifier).collect(Collectors.toSet()), extent));
+        });
+    }
+
+    private void addSuccess(PlotImportReport report, PendingPlot pendingPlot) {
+        report.getResults().add(PlotImportFeatureResult.builder()
+                .featureIndex(pendingPlot.featureIndex())
+                .status(PlotImportFeatureResult.Status.IMPORTED)
+                .plotIdentifier(pendingPlot.plot().getPlotIdentifier())
+                .build());
+        report.setImportedCount(report.getImportedCount() + 1);
+    }
+
+    private void addFailure(PlotImportReport report, int featureIndex, String error) {
+        report.getResults().add(PlotImportFeatureResult.builder()
+                .featureIndex(featureIndex)
+                .status(PlotImportFeatureResult.Status.FAILED)
+                .error(error)
+                .build());
+        report.setFailedCount(report.getFailedCount() + 1);
+    }
+
+    private record PendingPlot(int featureIndex, Plot plot) {
+    }
+}
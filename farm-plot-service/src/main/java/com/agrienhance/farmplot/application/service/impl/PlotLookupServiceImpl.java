@@ -0,0 +1,120 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotLookupResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import com.agrienhance.farmplot.application.service.PlotLookupService;
+import com.agrienhance.farmplot.application.spatial.IndexedPlot;
+import com.agrienhance.farmplot.application.spatial.TenantPlotIndex;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.infrastructure.cache.PlotSpatialIndex;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+public class PlotLookupServiceImpl implements PlotLookupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlotLookupServiceImpl.class);
+
+    static final int RELOAD_CHUNK_SIZE = 1000;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final PlotRepository plotRepository;
+    private final PlotSpatialIndex plotSpatialIndex;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PlotLookupServiceImpl(PlotRepository plotRepository,
+            PlotSpatialIndex plotSpatialIndex,
+            PlatformTransactionManager transactionManager) {
+        this.plotRepository = plotRepository;
+        this.plotSpatialIndex = plotSpatialIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // Deliberately not @Transactional: a warm lookup must not even borrow a connection
+    @Override
+    public List<PlotLookupResponse> findPlotsAtPoint(double longitude, double latitude, UUID tenantId) {
+        validatePosition(longitude, latitude);
+        return toResponses(indexFor(tenantId)
+                .findCovering(geometryFactory.createPoint(new Coordinate(longitude, latitude))));
+    }
+
+    @Override
+    public List<PlotLookupResponse> findPlotsInBoundingBox(double minLongitude, double minLatitude,
+            double maxLongitude, double maxLatitude, UUID tenantId) {
+        validatePosition(minLongitude, minLatitude);
+        validatePosition(maxLongitude, maxLatitude);
+        if (minLongitude > maxLongitude || minLatitude > maxLatitude) {
+            throw new ValidationException("Bounding box minimum must not exceed its maximum.");
+        }
+        Envelope box = new Envelope(minLongitude, maxLongitude, minLatitude, maxLatitude);
+        return toResponses(indexFor(tenantId).findIntersecting(geometryFactory.toGeometry(box)));
+    }
+
+    // Returns the tenant's index, loading it on first use or once it is too
+    // old, and reloading the plots changed since the previous lookup.
+    private TenantPlotIndex indexFor(UUID tenantId) {
+        TenantPlotIndex index = plotSpatialIndex.forTenant(tenantId);
+        if (index.loadIfStale(() -> readOnlyTransaction.execute(status -> loadTenant(tenantId)))) {
+            logger.debug("Loaded spatial index of {} plots for tenant {}", index.size(), tenantId);
+        }
+        index.applyChanges(changed -> readOnlyTransaction.execute(status -> reloadPlots(tenantId, changed)));
+        return index;
+    }
+
+    // Reloads in chunks: after a large import the changed set can exceed the
+    // bind parameters a single IN list may carry.
+    private List<IndexedPlot> reloadPlots(UUID tenantId, Set<UUID> plotIdentifiers) {
+        List<UUID> identifiers = new ArrayList<>(plotIdentifiers);
+        List<IndexedPlot> current = new ArrayList<>(identifiers.size());
+        for (int from = 0; from < identifiers.size(); from += RELOAD_CHUNK_SIZE) {
+            List<UUID> chunk = identifiers.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, identifiers.size()));
+            plotRepository.findAllByTenantIdAndPlotIdentifierIn(tenantId, chunk).stream()
+                    .map(this::toIndexedPlot)
+                    .forEach(current::add);
+        }
+        return current;
+    }
+
+    private List<IndexedPlot> loadTenant(UUID tenantId) {
+        try (Stream<Plot> plots = plotRepository.streamAllByTenantId(tenantId)) {
+            return plots.map(this::toIndexedPlot).toList();
+        }
+    }
+
+    private IndexedPlot toIndexedPlot(Plot plot) {
+        return new IndexedPlot(plot.getPlotIdentifier(), plot.getFarm().getFarmIdentifier(), plot.getPlotName(),
+                PreparedGeometryFactory.prepare(plot.getPlotGeometry()));
+    }
+
+    private List<PlotLookupResponse> toResponses(List<IndexedPlot> plots) {
+        return plots.stream()
+                .map(plot -> PlotLookupResponse.builder()
+                        .plotIdentifier(plot.plotIdentifier())
+                        .farmIdentifier(plot.farmIdentifier())
+                        .plotName(plot.plotName())
+                        .build())
+                .toList();
+    }
+
+    private void validatePosition(double longitude, double latitude) {
+        if (longitude < -180.0 || longitude > 180.0 || latitude < -90.0 || latitude > 90.0) {
+            throw new ValidationException("Coordinates must be a WGS84 longitude/latitude.");
+        }
+    }
+}
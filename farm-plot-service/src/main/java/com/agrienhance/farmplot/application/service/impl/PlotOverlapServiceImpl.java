@@ -0,0 +1,100 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotOverlapResponse;
+import com.agrienhance.farmplot.application.exception.PlotOverlapException;
+import com.agrienhance.farmplot.application.service.PlotOverlapService;
+import com.agrienhance.farmplot.application.spatial.GeodesicArea;
+import com.agrienhance.farmplot.application.spatial.PlotOverlapPolicy;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Finds overlapping plot boundaries within a farm in two steps: the GIST
+ * index returns the plots whose bounding box intersects the new boundary,
+ * then each candidate is tested exactly against the boundary prepared once,
+ * so a farm with thousands of plots costs an index probe and a handful of
+ * exact tests.
+ */
+@Service
+public class PlotOverlapServiceImpl implements PlotOverlapService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlotOverlapServiceImpl.class);
+
+    private final PlotRepository plotRepository;
+    private final PlotOverlapPolicy policy;
+    private final double minOverlapSquareMeters;
+
+    public PlotOverlapServiceImpl(PlotRepository plotRepository,
+            @Value("${farmplot.plots.overlap.policy:WARN}") PlotOverlapPolicy policy,
+            @Value("${farmplot.plots.overlap.min-area-square-meters:1.0}") double minOverlapSquareMeters) {
+        this.plotRepository = plotRepository;
+        this.policy = policy;
+        this.minOverlapSquareMeters = minOverlapSquareMeters;
+    }
+
+    @Override
+    public List<PlotOverlapResponse> findOverlaps(UUID farmIdentifier, UUID tenantId, Polygon geometry,
+            UUID excludedPlotIdentifier) {
+        if (geometry == null || geometry.isEmpty()) {
+            return List.of();
+        }
+        Envelope extent = geometry.getEnvelopeInternal();
+        List<Plot> candidates = plotRepository.findByFarmIntersectingEnvelope(farmIdentifier, tenantId,
+                extent.getMinX(), extent.getMinY(), extent.getMaxX(), extent.getMaxY());
+
+        PreparedGeometry prepared = PreparedGeometryFactory.prepare(geometry);
+        List<PlotOverlapResponse> overlaps = new ArrayList<>();
+        for (Plot candidate : candidates) {
+            Polygon candidateGeometry = candidate.getPlotGeometry();
+            if (candidate.getPlotIdentifier().equals(excludedPlotIdentifier) || candidateGeometry == null
+                    || !prepared.intersects(candidateGeometry)) {
+                continue;
+            }
+            // Neighbouring plots share edges; only a shared area counts, and
+            // slivers below the minimum are digitizing noise
+            Geometry shared = geometry.intersection(candidateGeometry);
+            double sharedSquareMeters = GeodesicArea.squareMeters(shared);
+            if (sharedSquareMeters >= minOverlapSquareMeters) {
+                overlaps.add(PlotOverlapResponse.builder()
+                        .plotIdentifier(candidate.getPlotIdentifier())
+                        .plotName(candidate.getPlotName())
+                        .overlapAreaHectares(GeodesicArea.toHectares(sharedSquareMeters))
+                        .build());
+            }
+        }
+        overlaps.sort(Comparator.comparing(PlotOverlapResponse::getOverlapAreaHectares).reversed());
+        return overlaps;
+    }
+
+    @Override
+    public List<PlotOverlapResponse> checkOverlaps(Plot plot) {
+        if (policy == PlotOverlapPolicy.OFF || plot.getFarm() == null) {
+            return List.of();
+        }
+        List<PlotOverlapResponse> overlaps = findOverlaps(plot.getFarm().getFarmIdentifier(), plot.getTenantId(),
+                plot.getPlotGeometry(), plot.getPlotIdentifier());
+        if (overlaps.isEmpty()) {
+            return overlaps;
+        }
+        if (policy == PlotOverlapPolicy.REJECT) {
+            throw new PlotOverlapException(overlaps);
+        }
+        logger.warn("Plot {} of farm {} overlaps {} other plot(s)", plot.getPlotIdentifier(),
+                plot.getFarm().getFarmIdentifier(), overlaps.size());
+        return overlaps;
+    }
+}
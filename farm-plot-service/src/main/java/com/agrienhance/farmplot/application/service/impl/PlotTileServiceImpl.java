@@ -0,0 +1,35 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.application.service.PlotTileService;
+import com.agrienhance.farmplot.application.spatial.TileCoordinate;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.infrastructure.cache.PlotTileCache;
+
+import lombok.AllArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class PlotTileServiceImpl implements PlotTileService {
+
+    private static final byte[] EMPTY_TILE = new byte[0];
+
+    private final PlotRepository plotRepository;
+    private final PlotTileCache plotTileCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getPlotTile(int z, int x, int y, UUID tenantId) {
+        TileCoordinate tile = new TileCoordinate(z, x, y); // Validates the tile address
+
+        // Empty tiles are cached too, most of the map is empty for any tenant
+        return plotTileCache.get(tenantId, tile, () -> {
+            byte[] rendered = plotRepository.findVectorTile(tenantId, z, x, y, tile.simplificationTolerance());
+            return rendered == null ? EMPTY_TILE : rendered;
+        });
+    }
+}
@@ -1,38 +1,78 @@
 package com.agrienhance.farmplot.application.service.impl;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.poi.CreatePointOfInterestRequest;
+import com.agrienhance.farmplot.api.dto.poi.NearbyPointOfInterestResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchItemResult;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchReport;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestPlotAssignmentReport;
 import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
 import com.agrienhance.farmplot.api.dto.poi.UpdatePointOfInterestRequest;
 import com.agrienhance.farmplot.application.exception.ResourceNotFoundException;
 import com.agrienhance.farmplot.application.exception.ValidationException; // A new custom exception
 import com.agrienhance.farmplot.application.mapper.PointOfInterestMapper;
+import com.agrienhance.farmplot.application.pagination.KeysetCursor;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.application.service.PointOfInterestApplicationService;
+import com.agrienhance.farmplot.domain.entity.Plot;
 import com.agrienhance.farmplot.domain.entity.PointOfInterest;
+import com.agrienhance.farmplot.domain.enums.POIType;
 import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.event.PointOfInterestChangedEvent;
+import com.agrienhance.farmplot.domain.identifier.EntityUuidStrategy;
 import com.agrienhance.farmplot.domain.repository.FarmRepository;
 import com.agrienhance.farmplot.domain.repository.PlotRepository;
 import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestDistance;
+import com.agrienhance.farmplot.infrastructure.cache.ParentExistenceCache;
+import com.agrienhance.farmplot.infrastructure.persistence.PointOfInterestBatchWriter;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
 
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.io.WKTWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class PointOfInterestApplicationServiceImpl implements PointOfInterestApplicationService {
 
+    // PointOfInterestResponse property that needs the coordinates column
+    private static final String GEOMETRY_FIELD = "coordinates";
+
+    // Upper bound on POIs per batch request; larger uploads are split by the client
+    static final int MAX_BATCH_ITEMS = 1000;
+
+    // Upper bound on the k of a nearest POI search
+    static final int MAX_NEAREST_POIS = 100;
+
+    // Half the equator; every point on Earth is within this distance
+    private static final double UNBOUNDED_DISTANCE_METERS = 20_037_509;
+
     private final PointOfInterestRepository poiRepository;
     private final FarmRepository farmRepository;
     private final PlotRepository plotRepository;
     private final PointOfInterestMapper poiMapper;
+    private final ParentExistenceCache parentExistenceCache;
+    private final PointOfInterestBatchWriter poiBatchWriter;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityUuidStrategy entityUuidStrategy;
 
     @Override
     @Transactional
@@ -49,9 +89,80 @@ public class PointOfInterestApplicationServiceImpl implements PointOfInterestApp
         poi.setTenantId(tenantId);
 
         PointOfInterest savedPoi = poiRepository.save(poi);
+        eventPublisher.publishEvent(new PointOfInterestChangedEvent(tenantId, null, extentOf(savedPoi)));
         return poiMapper.poiToPoiResponse(savedPoi);
     }
 
+    @Override
+    @Transactional
+    public PointOfInterestBatchReport createPois(UUID parentEntityIdentifier,
+            ParentEntityType parentEntityType,
+            UUID tenantId,
+            List<CreatePointOfInterestRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("A POI batch must contain at least one POI.");
+        }
+        if (requests.size() > MAX_BATCH_ITEMS) {
+            throw new ValidationException("A POI batch can contain at most " + MAX_BATCH_ITEMS + " POIs.");
+        }
+        // One parent check for the whole batch
+        validateParentEntity(parentEntityIdentifier, parentEntityType, tenantId);
+
+        PointOfInterestBatchReport report = new PointOfInterestBatchReport();
+        report.setTotalItems(requests.size());
+        List<PointOfInterest> pois = new ArrayList<>(requests.size());
+        for (int itemIndex = 0; itemIndex < requests.size(); itemIndex++) {
+            CreatePointOfInterestRequest request = requests.get(itemIndex);
+            String error = validateBatchItem(request);
+            PointOfInterest poi = error == null ? poiMapper.createRequestToPoi(request) : null;
+            if (error == null && poi.getCoordinates() == null) {
+                error = "Point coordinates are malformed.";
+            }
+            if (error != null) {
+                report.getResults().add(PointOfInterestBatchItemResult.builder()
+                        .itemIndex(itemIndex)
+                        .status(PointOfInterestBatchItemResult.Status.FAILED)
+                        .error(error)
+                        .build());
+                report.setFailedCount(report.getFailedCount() + 1);
+                continue;
+            }
+            poi.setPoiIdentifier(entityUuidStrategy.next()); // Batch inserts bypass @EntityUuid
+            poi.setParentEntityIdentifier(parentEntityIdentifier);
+            poi.setParentEntityType(parentEntityType);
+            poi.setTenantId(tenantId);
+            pois.add(poi);
+            report.getResults().add(PointOfInterestBatchItemResult.builder()
+                    .itemIndex(itemIndex)
+                    .status(PointOfInterestBatchItemResult.Status.CREATED)
+                    .poiIdentifier(poi.getPoiIdentifier())
+                    .build());
+            report.setCreatedCount(report.getCreatedCount() + 1);
+        }
+        if (!pois.isEmpty()) {
+            poiBatchWriter.insertAll(pois);
+            Envelope extent = new Envelope();
+            pois.forEach(poi -> extent.expandToInclude(poi.getCoordinates().getCoordinate()));
+            eventPublisher.publishEvent(new PointOfInterestChangedEvent(tenantId, null, extent));
+        }
+        return report;
+    }
+
+    @Override
+    @Transactional
+    public PointOfInterestPlotAssignmentReport assignFarmPoisToPlots(UUID farmIdentifier, UUID tenantId) {
+        validateParentEntity(farmIdentifier, ParentEntityType.FARM, tenantId);
+
+        int assigned = poiRepository.assignFarmPoisToContainingPlots(tenantId, farmIdentifier);
+        long remaining = poiRepository.countByParentEntityIdentifierAndParentEntityTypeAndTenantId(farmIdentifier,
+                ParentEntityType.FARM, tenantId);
+        return PointOfInterestPlotAssignmentReport.builder()
+                .farmIdentifier(farmIdentifier)
+                .assignedCount(assigned)
+                .remainingFarmLevelCount(remaining)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PointOfInterestResponse getPoiById(UUID poiIdentifier, UUID tenantId) {
@@ -63,11 +174,17 @@ public class PointOfInterestApplicationServiceImpl implements PointOfInterestApp
     @Override
     @Transactional(readOnly = true)
     public List<PointOfInterestResponse> listPoisByParent(UUID parentEntityIdentifier,
-            ParentEntityType parentEntityType, UUID tenantId) {
+            ParentEntityType parentEntityType, UUID tenantId, FieldSelection fields) {
         // Validate parent entity exists and belongs to the tenant before listing its
         // POIs
         validateParentEntity(parentEntityIdentifier, parentEntityType, tenantId);
 
+        if (!fields.includes(GEOMETRY_FIELD)) {
+            return poiRepository.findSummariesByParentEntityIdentifierAndParentEntityTypeAndTenantId(
+                    parentEntityIdentifier, parentEntityType, tenantId).stream()
+                    .map(poiMapper::poiSummaryToPoiResponse)
+                    .collect(Collectors.toList());
+        }
         List<PointOfInterest> pois = poiRepository.findAllByParentEntityIdentifierAndParentEntityTypeAndTenantId(
                 parentEntityIdentifier, parentEntityType, tenantId);
         return pois.stream()
@@ -85,15 +202,78 @@ public class PointOfInterestApplicationServiceImpl implements PointOfInterestApp
         return poiPage.map(poiMapper::poiToPoiResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PointOfInterestResponse> scrollPoisByParent(UUID parentEntityIdentifier,
+            ParentEntityType parentEntityType, UUID tenantId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.checkPageSize(size);
+        validateParentEntity(parentEntityIdentifier, parentEntityType, tenantId);
+        List<PointOfInterest> pois = poiRepository.findKeysetPageByParent(tenantId, parentEntityIdentifier,
+                parentEntityType.name(), after.sortKey(), after.identifier(), pageSize + 1);
+        return KeysetCursor.toPage(pois, pageSize,
+                poi -> new KeysetCursor(poi.getPoiName(), poi.getPoiIdentifier()),
+                poiMapper::poiToPoiResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyPointOfInterestResponse> findNearestPois(double longitude, double latitude, POIType poiType,
+            int limit, Double maxDistanceMeters, UUID tenantId) {
+        if (longitude < -180 || longitude > 180 || latitude < -90 || latitude > 90) {
+            throw new ValidationException("Longitude must be within [-180, 180] and latitude within [-90, 90].");
+        }
+        return findNearest("POINT(" + longitude + " " + latitude + ")", poiType, limit, maxDistanceMeters, tenantId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyPointOfInterestResponse> findNearestPoisToPlot(UUID plotIdentifier, POIType poiType, int limit,
+            Double maxDistanceMeters, UUID tenantId) {
+        Plot plot = plotRepository.findByPlotIdentifierAndTenantId(plotIdentifier, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Plot", plotIdentifier.toString()));
+        return findNearest(new WKTWriter().write(plot.getPlotGeometry()), poiType, limit, maxDistanceMeters,
+                tenantId);
+    }
+
+    private List<NearbyPointOfInterestResponse> findNearest(String originWkt, POIType poiType, int limit,
+            Double maxDistanceMeters, UUID tenantId) {
+        if (poiType == null) {
+            throw new ValidationException("A POI type is required for a nearest POI search.");
+        }
+        if (limit < 1 || limit > MAX_NEAREST_POIS) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_NEAREST_POIS + ".");
+        }
+        if (maxDistanceMeters != null && !(maxDistanceMeters > 0)) {
+            throw new ValidationException("Maximum distance must be a positive number of meters.");
+        }
+        List<PointOfInterestDistance> nearest = poiRepository.findNearestByType(tenantId, poiType.name(), originWkt,
+                maxDistanceMeters != null ? maxDistanceMeters : UNBOUNDED_DISTANCE_METERS, limit);
+        if (nearest.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> poiIdentifiers = nearest.stream().map(PointOfInterestDistance::getPoiIdentifier).toList();
+        Map<UUID, PointOfInterest> pois = poiRepository.findAllByTenantIdAndPoiIdentifierIn(tenantId, poiIdentifiers)
+                .stream()
+                .collect(Collectors.toMap(PointOfInterest::getPoiIdentifier, Function.identity()));
+        return nearest.stream()
+                .filter(match -> pois.containsKey(match.getPoiIdentifier())) // deleted in between
+                .map(match -> new NearbyPointOfInterestResponse(match.getDistanceMeters(),
+                        poiMapper.poiToPoiResponse(pois.get(match.getPoiIdentifier()))))
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public PointOfInterestResponse updatePoi(UUID poiIdentifier, UpdatePointOfInterestRequest request, UUID tenantId) {
         PointOfInterest poi = poiRepository.findByPoiIdentifierAndTenantId(poiIdentifier, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("PointOfInterest", poiIdentifier.toString()));
+        Envelope previousExtent = extentOf(poi);
 
         poiMapper.updatePoiFromRequest(request, poi);
 
         PointOfInterest updatedPoi = poiRepository.save(poi);
+        eventPublisher.publishEvent(new PointOfInterestChangedEvent(tenantId, previousExtent, extentOf(updatedPoi)));
         return poiMapper.poiToPoiResponse(updatedPoi);
     }
 
@@ -102,7 +282,26 @@ public class PointOfInterestApplicationServiceImpl implements PointOfInterestApp
     public void deletePoi(UUID poiIdentifier, UUID tenantId) {
         PointOfInterest poi = poiRepository.findByPoiIdentifierAndTenantId(poiIdentifier, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("PointOfInterest", poiIdentifier.toString()));
-        poiRepository.deleteById(poi.getPoiIdentifier());
+        poiRepository.delete(poi); // By the loaded entity, so the DELETE carries the partition key
+        eventPublisher.publishEvent(new PointOfInterestChangedEvent(tenantId, extentOf(poi), null));
+    }
+
+    private static Envelope extentOf(PointOfInterest poi) {
+        return poi.getCoordinates() == null ? null : new Envelope(poi.getCoordinates().getCoordinate());
+    }
+
+    private String validateBatchItem(CreatePointOfInterestRequest request) {
+        if (request == null) {
+            return "POI must not be null.";
+        }
+        Set<ConstraintViolation<CreatePointOfInterestRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
     }
 
     // Helper method to validate parent entity
@@ -112,10 +311,13 @@ public class PointOfInterestApplicationServiceImpl implements PointOfInterestApp
 
         if (parentEntityType == ParentEntityType.FARM) {
             parentTypeString = "Farm";
-            parentExists = farmRepository.findByFarmIdentifierAndTenantId(parentEntityIdentifier, tenantId).isPresent();
+            parentExists = parentExistenceCache.exists(tenantId, parentEntityType, parentEntityIdentifier,
+                    () -> farmRepository.existsByFarmIdentifierAndTenantId(parentEntityIdentifier, tenantId));
         } else if (parentEntityType == ParentEntityType.PLOT) {
             parentTypeString = "Plot";
-            parentExists = plotRepository.findByPlotIdentifierAndTenantId(parentEntityIdentifier, tenantId).isPresent();
+            // Identifier-only query; the plot geometry is never loaded
+            parentExists = parentExistenceCache.exists(tenantId, parentEntityType, parentEntityIdentifier,
+                    () -> plotRepository.existsByPlotIdentifierAndTenantId(parentEntityIdentifier, tenantId));
         } else {
             throw new ValidationException("Invalid parent entity type specified.");
         }
@@ -0,0 +1,79 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestClusterResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestClusterTileResponse;
+import com.agrienhance.farmplot.application.service.PointOfInterestClusterService;
+import com.agrienhance.farmplot.application.spatial.TileCoordinate;
+import com.agrienhance.farmplot.domain.enums.POIType;
+import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestClusterCell;
+import com.agrienhance.farmplot.infrastructure.cache.PoiClusterCache;
+
+import lombok.AllArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class PointOfInterestClusterServiceImpl implements PointOfInterestClusterService {
+
+    // Cells per tile axis; 32px cells on a 256px tile
+    static final int GRID_CELLS = 8;
+
+    private final PointOfInterestRepository poiRepository;
+    private final PoiClusterCache poiClusterCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PointOfInterestClusterTileResponse getClusterTile(int z, int x, int y, UUID tenantId) {
+        TileCoordinate tile = new TileCoordinate(z, x, y); // Validates the tile address
+        // Empty tiles are cached too, most of the map is empty for any tenant
+        return poiClusterCache.get(tenantId, tile, () -> clusterTile(tile, tenantId));
+    }
+
+    private PointOfInterestClusterTileResponse clusterTile(TileCoordinate tile, UUID tenantId) {
+        List<PointOfInterestClusterCell> cells = poiRepository.findClusterCells(tenantId, tile.z(), tile.x(),
+                tile.y(), GRID_CELLS);
+
+        PointOfInterestClusterTileResponse response = PointOfInterestClusterTileResponse.builder()
+                .z(tile.z())
+                .x(tile.x())
+                .y(tile.y())
+                .build();
+        // Rows arrive ordered by cell, one row per POI type in the cell
+        int i = 0;
+        while (i < cells.size()) {
+            PointOfInterestClusterCell first = cells.get(i);
+            EnumMap<POIType, Long> countsByType = new EnumMap<>(POIType.class);
+            long poiCount = 0;
+            double sumLongitude = 0;
+            double sumLatitude = 0;
+            for (; i < cells.size() && sameCell(cells.get(i), first); i++) {
+                PointOfInterestClusterCell cell = cells.get(i);
+                countsByType.merge(POIType.fromString(cell.getPoiType()), cell.getPoiCount(), Long::sum);
+                poiCount += cell.getPoiCount();
+                sumLongitude += cell.getSumLongitude();
+                sumLatitude += cell.getSumLatitude();
+            }
+            response.getClusters().add(PointOfInterestClusterResponse.builder()
+                    .centroid(PointGeometryDto.builder()
+                            .coordinates(List.of(sumLongitude / poiCount, sumLatitude / poiCount))
+                            .build())
+                    .poiCount(poiCount)
+                    .countsByType(countsByType)
+                    .build());
+            response.setTotalCount(response.getTotalCount() + poiCount);
+        }
+        return response;
+    }
+
+    private static boolean sameCell(PointOfInterestClusterCell a, PointOfInterestClusterCell b) {
+        return a.getCellX() == b.getCellX() && a.getCellY() == b.getCellY();
+    }
+}
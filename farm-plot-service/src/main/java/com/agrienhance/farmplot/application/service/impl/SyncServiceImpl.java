@@ -0,0 +1,85 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.sync.SyncChangesResponse;
+import com.agrienhance.farmplot.api.dto.sync.SyncTombstoneResponse;
+import com.agrienhance.farmplot.application.mapper.FarmMapper;
+import com.agrienhance.farmplot.application.mapper.LandTenureMapper;
+import com.agrienhance.farmplot.application.mapper.PlotMapper;
+import com.agrienhance.farmplot.application.mapper.PointOfInterestMapper;
+import com.agrienhance.farmplot.application.pagination.KeysetCursor;
+import com.agrienhance.farmplot.application.pagination.SyncToken;
+import com.agrienhance.farmplot.application.service.SyncService;
+import com.agrienhance.farmplot.domain.enums.SyncEntityType;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.LandTenureRepository;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import com.agrienhance.farmplot.infrastructure.persistence.SyncChangeLog;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+@AllArgsConstructor
+public class SyncServiceImpl implements SyncService {
+
+    private final SyncChangeLog syncChangeLog;
+    private final FarmRepository farmRepository;
+    private final PlotRepository plotRepository;
+    private final PointOfInterestRepository poiRepository;
+    private final LandTenureRepository landTenureRepository;
+    private final FarmMapper farmMapper;
+    private final PlotMapper plotMapper;
+    private final PointOfInterestMapper poiMapper;
+    private final LandTenureMapper landTenureMapper;
+
+    // Repeatable read: the records loaded below are the versions the change log saw
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncChangesResponse getChangesSince(String syncToken, int limit, UUID tenantId) {
+        SyncToken since = SyncToken.decode(syncToken);
+        KeysetCursor.checkPageSize(limit);
+
+        List<SyncChangeLog.Change> changes = syncChangeLog.findChangesAfter(tenantId, since, limit + 1);
+        boolean hasMore = changes.size() > limit;
+        List<SyncChangeLog.Change> batch = hasMore ? changes.subList(0, limit) : changes;
+        // An empty batch keeps the client's watermark where it was
+        SyncToken next = batch.isEmpty() ? since : batch.get(batch.size() - 1).toToken();
+
+        return SyncChangesResponse.builder()
+                .farms(load(batch, SyncEntityType.FARM, farmRepository::findAllById, farmMapper::farmToFarmResponse))
+                .plots(load(batch, SyncEntityType.PLOT,
+                        ids -> plotRepository.findAllByTenantIdAndPlotIdentifierIn(tenantId, ids),
+                        plotMapper::plotToPlotResponse))
+                .pointsOfInterest(load(batch, SyncEntityType.POINT_OF_INTEREST,
+                        ids -> poiRepository.findAllByTenantIdAndPoiIdentifierIn(tenantId, ids),
+                        poiMapper::poiToPoiResponse))
+                .landTenures(load(batch, SyncEntityType.LAND_TENURE, landTenureRepository::findAllById,
+                        landTenureMapper::landTenureToLandTenureResponse))
+                .tombstones(batch.stream()
+                        .filter(SyncChangeLog.Change::deleted)
+                        .map(change -> new SyncTombstoneResponse(change.entityType(), change.identifier()))
+                        .toList())
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // One query per entity type for the whole batch
+    private static <E, R> List<R> load(List<SyncChangeLog.Change> batch, SyncEntityType type,
+            Function<List<UUID>, List<E>> findAllById, Function<E, R> mapper) {
+        List<UUID> ids = batch.stream()
+                .filter(change -> change.entityType() == type && !change.deleted())
+                .map(SyncChangeLog.Change::identifier)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return findAllById.apply(ids).stream().map(mapper).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import net.sf.geographiclib.Geodesic;
+import net.sf.geographiclib.PolygonArea;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Polygon;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Area of WGS84 (EPSG:4326) polygons on the ellipsoid, computed with
+ * GeographicLib. PostGIS uses the same algorithm for
+ * ST_Area(geography), so the result matches the generated
+ * calculated_area_hectares column without a round trip to the database.
+ */
+public final class GeodesicArea {
+
+    private static final double SQUARE_METERS_PER_HECTARE = 10_000.0;
+
+    // Same precision as the NUMERIC(10,4) calculated_area_hectares column
+    private static final int HECTARE_SCALE = 4;
+
+    private GeodesicArea() {
+    }
+
+    /**
+     * Exterior ring area minus the area of its holes. Ring orientation does
+     * not matter.
+     */
+    public static double squareMeters(Polygon polygon) {
+        if (polygon == null || polygon.isEmpty()) {
+            return 0.0;
+        }
+        double area = ringArea(polygon.getExteriorRing());
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            area -= ringArea(polygon.getInteriorRingN(i));
+        }
+        return area;
+    }
+
+    /**
+     * Total area of the polygons in any geometry, e.g. the result of an
+     * intersection. Lines and points have no area.
+     */
+    public static double squareMeters(Geometry geometry) {
+        if (geometry instanceof Polygon polygon) {
+            return squareMeters(polygon);
+        }
+        double area = 0.0;
+        if (geometry instanceof GeometryCollection collection) {
+            for (int i = 0; i < collection.getNumGeometries(); i++) {
+                area += squareMeters(collection.getGeometryN(i));
+            }
+        }
+        return area;
+    }
+
+    /**
+     * Area in hectares, rounded the way PostgreSQL stores it in
+     * calculated_area_hectares. Null for a null polygon, like the column.
+     */
+    public static BigDecimal hectares(Polygon polygon) {
+        if (polygon == null) {
+            return null;
+        }
+        return toHectares(squareMeters(polygon));
+    }
+
+    public static BigDecimal toHectares(double squareMeters) {
+        return BigDecimal.valueOf(squareMeters / SQUARE_METERS_PER_HECTARE)
+                .setScale(HECTARE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static double ringArea(LineString ring) {
+        PolygonArea polygonArea = new PolygonArea(Geodesic.WGS84, false);
+        Coordinate[] coordinates = ring.getCoordinates();
+        // The closing coordinate repeats the first one; PolygonArea closes the ring itself
+        for (int i = 0; i < coordinates.length - 1; i++) {
+            polygonArea.AddPoint(coordinates[i].getY(), coordinates[i].getX());
+        }
+        return Math.abs(polygonArea.Compute(false, true).area);
+    }
+}
@@ -0,0 +1,12 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+
+import java.util.UUID;
+
+/**
+ * A plot as held by {@link TenantPlotIndex}: just enough to answer lookups,
+ * with the boundary prepared for repeated predicate evaluation.
+ */
+public record IndexedPlot(UUID plotIdentifier, UUID farmIdentifier, String plotName, PreparedGeometry geometry) {
+}
@@ -0,0 +1,14 @@
+package com.agrienhance.farmplot.application.spatial;
+
+/**
+ * What createPlot/updatePlot do when the new boundary overlaps other plots of
+ * the same farm (farmplot.plots.overlap.policy).
+ */
+public enum PlotOverlapPolicy {
+    /** Fail with 409 Conflict, listing the overlapped plots. */
+    REJECT,
+    /** Save the plot and report the overlaps in the response. */
+    WARN,
+    /** Don't look for overlaps. */
+    OFF
+}
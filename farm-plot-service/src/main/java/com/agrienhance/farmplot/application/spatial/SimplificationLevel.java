@@ -0,0 +1,69 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+/**
+ * How far plot geometries are simplified on read, as a distance tolerance in
+ * degrees of the stored WGS84 (EPSG:4326) coordinates. Requested either
+ * directly through simplifyTolerance= or through the map zoom level the
+ * client is rendering at.
+ */
+public record SimplificationLevel(double toleranceDegrees) {
+
+    /** Geometries are returned exactly as stored. */
+    public static final SimplificationLevel NONE = new SimplificationLevel(0);
+
+    public SimplificationLevel {
+        if (!Double.isFinite(toleranceDegrees) || toleranceDegrees < 0) {
+            throw new ValidationException("Simplification tolerance must be a positive number of degrees.");
+        }
+    }
+
+    /**
+     * Resolves the simplifyTolerance= and zoom= query parameters, at most one
+     * of which may be given. Neither means {@link #NONE}.
+     */
+    public static SimplificationLevel of(Double simplifyTolerance, Integer zoom) {
+        if (simplifyTolerance != null && zoom != null) {
+            throw new ValidationException("Specify either simplifyTolerance or zoom, not both.");
+        }
+        if (zoom != null) {
+            return forZoom(zoom);
+        }
+        if (simplifyTolerance != null) {
+            if (simplifyTolerance <= 0) {
+                throw new ValidationException("Simplification tolerance must be a positive number of degrees.");
+            }
+            return new SimplificationLevel(simplifyTolerance);
+        }
+        return NONE;
+    }
+
+    /**
+     * Tolerance of roughly one screen pixel of a 256px tile at the given zoom
+     * level, i.e. the finest detail a map at that zoom can show.
+     */
+    public static SimplificationLevel forZoom(int zoom) {
+        if (zoom < 0 || zoom > TileCoordinate.MAX_ZOOM) {
+            throw new ValidationException("Zoom level must be between 0 and " + TileCoordinate.MAX_ZOOM + ".");
+        }
+        return new SimplificationLevel(360.0 / (256.0 * (1L << zoom)));
+    }
+
+    public boolean isNone() {
+        return toleranceDegrees == 0;
+    }
+
+    /**
+     * Simplifies the polygon without letting rings collapse, self-intersect or
+     * cross each other, so the result is still a valid plot boundary.
+     */
+    public Polygon apply(Polygon polygon) {
+        if (polygon == null || isNone()) {
+            return polygon;
+        }
+        return (Polygon) TopologyPreservingSimplifier.simplify(polygon, toleranceDegrees);
+    }
+}
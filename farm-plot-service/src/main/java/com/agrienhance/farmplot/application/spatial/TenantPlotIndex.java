@@ -0,0 +1,301 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-memory spatial index over the plots of one tenant.
+ *
+ * An STRtree can't be modified once built, so changes are kept next to it:
+ * changed plots go into a small pending list that is scanned linearly, and
+ * their old tree entries are masked. Once the changes outgrow a fraction of
+ * the index the tree is rebuilt from memory, without touching the database.
+ *
+ * Plots changed in the database are only marked dirty here; the caller
+ * reloads them and applies them with {@link #applyChanges}. Only changes
+ * committed through this instance are marked, so the whole index is reloaded
+ * once it is max-age old, which bounds how long a change made through another
+ * instance stays invisible.
+ */
+public class TenantPlotIndex {
+
+    // Rebuild once pending + masked entries exceed max(MIN_REBUILD_CHANGES, size / REBUILD_FRACTION)
+    static final int MIN_REBUILD_CHANGES = 64;
+    static final int REBUILD_FRACTION = 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock loadLock = new ReentrantLock();
+    private final Map<UUID, IndexedPlot> plots = new HashMap<>();
+    private final Map<UUID, IndexedPlot> pending = new HashMap<>();
+    private final Set<UUID> maskedInTree = new HashSet<>();
+    private Set<UUID> idsInTree = Set.of();
+    private STRtree tree = buildTree(List.of());
+
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    private volatile boolean loaded;
+
+    private final long maxAgeNanos;
+    private final LongSupplier nanoClock;
+    // nanoClock reading taken before the load read the plots
+    private volatile long loadedAt;
+
+    public TenantPlotIndex(Duration maxAge) {
+        this(maxAge, System::nanoTime);
+    }
+
+    TenantPlotIndex(Duration maxAge, LongSupplier nanoClock) {
+        this.maxAgeNanos = maxAge.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replaces the content of the index with the given plots.
+     */
+    public void load(Collection<IndexedPlot> tenantPlots) {
+        load(tenantPlots, nanoClock.getAsLong());
+    }
+
+    private void load(Collection<IndexedPlot> tenantPlots, long readAt) {
+        lock.writeLock().lock();
+        try {
+            plots.clear();
+            tenantPlots.forEach(plot -> plots.put(plot.plotIdentifier(), plot));
+            rebuild();
+            loadedAt = readAt;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the index from the supplier unless it is loaded and younger than
+     * max-age. Callers arriving during the first load wait for it instead of
+     * loading again; once loaded, only one caller reloads a stale index and
+     * the others keep answering from the current content meanwhile. The wait
+     * is on a lock rather than a monitor: the supplier reads from the database,
+     * and a virtual thread blocked inside {@code synchronized} would pin its
+     * carrier for the whole load.
+     *
+     * Plots marked dirty stay marked: a change committed while the supplier
+     * read may be missing from what it returned.
+     *
+     * @return whether this call loaded the index
+     */
+    public boolean loadIfStale(Supplier<? extends Collection<IndexedPlot>> tenantPlots) {
+        if (!isStale()) {
+            return false;
+        }
+        if (loaded) {
+            if (!loadLock.tryLock()) {
+                return false;
+            }
+        } else {
+            loadLock.lock();
+        }
+        try {
+            if (!isStale()) {
+                return false;
+            }
+            long readAt = nanoClock.getAsLong();
+            load(tenantPlots.get(), readAt);
+            return true;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private boolean isStale() {
+        return !loaded || nanoClock.getAsLong() - loadedAt >= maxAgeNanos;
+    }
+
+    public void markDirty(UUID plotIdentifier) {
+        dirty.add(plotIdentifier);
+    }
+
+    public void markDirty(Collection<UUID> plotIdentifiers) {
+        dirty.addAll(plotIdentifiers);
+    }
+
+    /**
+     * Reloads the plots marked dirty and applies their current state. Drain,
+     * reload and refresh run under the load lock, so two callers can't apply
+     * their reloads out of order and overwrite a newer state with an older
+     * one. If the reload fails the plots are marked dirty again, for the next
+     * caller to retry.
+     *
+     * @return whether any plots were reloaded
+     */
+    public boolean applyChanges(Function<Set<UUID>, ? extends Collection<IndexedPlot>> reload) {
+        if (dirty.isEmpty()) {
+            return false;
+        }
+        loadLock.lock();
+        try {
+            Set<UUID> changed = drainDirty();
+            if (changed.isEmpty()) {
+                return false;
+            }
+            Collection<IndexedPlot> current;
+            try {
+                current = reload.apply(changed);
+            } catch (RuntimeException e) {
+                changed.forEach(this::markDirty);
+                throw e;
+            }
+            refresh(changed, current);
+            return true;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Takes the identifiers of plots changed since the last call.
+     */
+    public Set<UUID> drainDirty() {
+        Set<UUID> drained = new HashSet<>();
+        for (UUID plotIdentifier : dirty) {
+            if (dirty.remove(plotIdentifier)) {
+                drained.add(plotIdentifier);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Applies the current state of the given plots: identifiers missing from
+     * {@code current} were deleted.
+     */
+    public void refresh(Set<UUID> plotIdentifiers, Collection<IndexedPlot> current) {
+        lock.writeLock().lock();
+        try {
+            plotIdentifiers.forEach(this::removeInternal);
+            current.forEach(this::upsertInternal);
+            rebuildIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeFarm(UUID farmIdentifier) {
+        lock.writeLock().lock();
+        try {
+            plots.values().stream()
+                    .filter(plot -> farmIdentifier.equals(plot.farmIdentifier()))
+                    .map(IndexedPlot::plotIdentifier)
+                    .toList()
+                    .forEach(this::removeInternal);
+            rebuildIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Plots whose boundary covers the point, i.e. including points exactly on
+     * the boundary.
+     */
+    public List<IndexedPlot> findCovering(Point point) {
+        return find(point.getEnvelopeInternal(), plot -> plot.geometry().covers(point));
+    }
+
+    public List<IndexedPlot> findIntersecting(Geometry area) {
+        return find(area.getEnvelopeInternal(), plot -> plot.geometry().intersects(area));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return plots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<IndexedPlot> find(Envelope searchEnvelope, Predicate<IndexedPlot> predicate) {
+        List<IndexedPlot> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Object candidate : tree.query(searchEnvelope)) {
+                IndexedPlot plot = (IndexedPlot) candidate;
+                if (!maskedInTree.contains(plot.plotIdentifier()) && predicate.test(plot)) {
+                    matches.add(plot);
+                }
+            }
+            for (IndexedPlot plot : pending.values()) {
+                if (plot.geometry().getGeometry().getEnvelopeInternal().intersects(searchEnvelope)
+                        && predicate.test(plot)) {
+                    matches.add(plot);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparing(IndexedPlot::plotIdentifier));
+        return matches;
+    }
+
+    private void upsertInternal(IndexedPlot plot) {
+        removeInternal(plot.plotIdentifier());
+        plots.put(plot.plotIdentifier(), plot);
+        pending.put(plot.plotIdentifier(), plot);
+    }
+
+    private void removeInternal(UUID plotIdentifier) {
+        plots.remove(plotIdentifier);
+        pending.remove(plotIdentifier);
+        if (idsInTree.contains(plotIdentifier)) {
+            maskedInTree.add(plotIdentifier);
+        }
+    }
+
+    private void rebuildIfNeeded() {
+        int changes = pending.size() + maskedInTree.size();
+        if (changes > Math.max(MIN_REBUILD_CHANGES, plots.size() / REBUILD_FRACTION)) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        tree = buildTree(plots.values());
+        idsInTree = new HashSet<>(plots.keySet());
+        maskedInTree.clear();
+        pending.clear();
+    }
+
+    private static STRtree buildTree(Collection<IndexedPlot> plots) {
+        STRtree strTree = new STRtree();
+        for (IndexedPlot plot : plots) {
+            strTree.insert(plot.geometry().getGeometry().getEnvelopeInternal(), plot);
+        }
+        strTree.build(); // Build eagerly; a built tree is safe for concurrent queries
+        return strTree;
+    }
+}
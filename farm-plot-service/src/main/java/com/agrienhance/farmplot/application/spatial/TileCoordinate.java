@@ -0,0 +1,65 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A slippy-map (XYZ) tile address in the Web Mercator (EPSG:3857) tiling
+ * scheme used by web map clients.
+ */
+public record TileCoordinate(int z, int x, int y) {
+
+    public static final int MAX_ZOOM = 24;
+
+    // Half the circumference of the earth in Web Mercator meters
+    private static final double WEB_MERCATOR_HALF_WORLD = 20037508.342789244;
+
+    public TileCoordinate {
+        if (z < 0 || z > MAX_ZOOM) {
+            throw new ValidationException("Tile zoom level must be between 0 and " + MAX_ZOOM + ".");
+        }
+        int tilesPerAxis = 1 << z;
+        if (x < 0 || x >= tilesPerAxis || y < 0 || y >= tilesPerAxis) {
+            throw new ValidationException(
+                    String.format("Tile %d/%d/%d is outside the tile grid for zoom %d.", z, x, y, z));
+        }
+    }
+
+    /**
+     * Bounds of this tile in WGS84 longitude/latitude (EPSG:4326), the SRID
+     * plot geometries are stored in.
+     */
+    public Envelope toEnvelope() {
+        double tilesPerAxis = 1 << z;
+        double minLon = x / tilesPerAxis * 360.0 - 180.0;
+        double maxLon = (x + 1) / tilesPerAxis * 360.0 - 180.0;
+        double maxLat = tileYToLatitude(y, tilesPerAxis);
+        double minLat = tileYToLatitude(y + 1, tilesPerAxis);
+        return new Envelope(minLon, maxLon, minLat, maxLat);
+    }
+
+    /**
+     * Same as {@link #toEnvelope()} but grown on every side by the given
+     * fraction of the tile size, e.g. to account for the MVT clip buffer.
+     */
+    public Envelope toEnvelope(double bufferFraction) {
+        Envelope envelope = toEnvelope();
+        envelope.expandBy(envelope.getWidth() * bufferFraction, envelope.getHeight() * bufferFraction);
+        return envelope;
+    }
+
+    /**
+     * Simplification tolerance in Web Mercator meters that roughly matches one
+     * screen pixel of a 256px tile at this zoom level. Anything finer than that
+     * is invisible on the map.
+     */
+    public double simplificationTolerance() {
+        double tileSpanMeters = (2 * WEB_MERCATOR_HALF_WORLD) / (1 << z);
+        return tileSpanMeters / 256.0;
+    }
+
+    private static double tileYToLatitude(int tileY, double tilesPerAxis) {
+        double n = Math.PI * (1 - 2 * tileY / tilesPerAxis);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
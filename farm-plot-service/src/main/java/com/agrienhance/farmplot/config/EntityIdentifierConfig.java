@@ -0,0 +1,17 @@
+package com.agrienhance.farmplot.config;
+
+import com.agrienhance.farmplot.domain.identifier.EntityUuidStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// The identifier strategy of @EntityUuid, for writers that assign identifiers themselves (bulk inserts)
+@Configuration
+public class EntityIdentifierConfig {
+
+    @Bean
+    public EntityUuidStrategy entityUuidStrategy(
+            @Value("${spring.jpa.properties.farmplot.entity-identifiers:random}") String setting) {
+        return EntityUuidStrategy.fromSetting(setting);
+    }
+}
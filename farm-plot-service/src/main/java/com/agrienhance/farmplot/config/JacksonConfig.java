@@ -0,0 +1,25 @@
+package com.agrienhance.farmplot.config;
+
+import com.agrienhance.farmplot.api.json.GeoJsonModule;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Response DTOs carry @JsonFilter for field selection; outside a filtered
+    // list response the filter is unknown and every property is written.
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterDefaults() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    // Registered on the Boot ObjectMapper; response DTOs carry JTS geometries
+    @Bean
+    public Module geoJsonModule() {
+        return new GeoJsonModule();
+    }
+}
@@ -0,0 +1,132 @@
+package com.agrienhance.farmplot.config;
+
+import com.agrienhance.farmplot.infrastructure.datasource.ReadYourWritesTracker;
+import com.agrienhance.farmplot.infrastructure.datasource.ReplicaLagMonitor;
+import com.agrienhance.farmplot.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.agrienhance.farmplot.infrastructure.datasource.TenantRoutingInterceptor;
+import com.agrienhance.farmplot.infrastructure.datasource.WriteTrackingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to a read replica when
+ * {@code farmplot.datasource.replica.url} is set; without it the service
+ * keeps Boot's single data source.
+ *
+ * The application's data source is a {@link LazyConnectionDataSourceProxy}
+ * over the primary: it fetches the physical connection on the first
+ * statement, once the transaction has marked it read-only, and takes
+ * read-only ones from {@link ReplicaRoutingDataSource}. Flyway, JPA and the
+ * JdbcTemplate all use it.
+ *
+ * Routing requires {@code spring.jpa.open-in-view=false}. With the session
+ * open for the whole request, Hibernate holds the connection the first
+ * transaction fetched, so a write after a read-only transaction in the same
+ * request would go to the replica.
+ *
+ * Read-your-writes is tracked per instance: behind a load balancer, a
+ * tenant's read served by another instance than its write may come from
+ * the replica and miss that write.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "farmplot.datasource.replica", name = "url")
+public class ReplicaRoutingConfig {
+
+    public ReplicaRoutingConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("Read replica routing requires spring.jpa.open-in-view=false: "
+                    + "an open session keeps the first transaction's connection, which may be the replica's");
+        }
+    }
+
+    // Primary pool, configured by the usual spring.datasource.* properties
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Credentials default to the primary's; pool settings under farmplot.datasource.replica.hikari.*
+    @Bean
+    @ConfigurationProperties("farmplot.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+            @Value("${farmplot.datasource.replica.url}") String url,
+            @Value("${farmplot.datasource.replica.username:}") String username,
+            @Value("${farmplot.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username.isEmpty() ? properties.determineUsername() : username)
+                .password(username.isEmpty() ? properties.determinePassword() : password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${farmplot.datasource.replica.max-lag:PT2S}") Duration maxLag,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primary, replica, maxLag, meterRegistry);
+    }
+
+    // The first lag check that sees a write's WAL position may run up to one interval after the
+    // commit, and the last reading under the maximum stays in force for another interval; a
+    // replica that hasn't replayed the write can be read until commit + max-lag + 2 intervals,
+    // so the window never ends before that, whatever is configured
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${farmplot.datasource.replica.read-your-writes-window:PT5S}") Duration window,
+            @Value("${farmplot.datasource.replica.max-lag:PT2S}") Duration maxLag,
+            @Value("${farmplot.datasource.replica.lag-check-interval:PT1S}") Duration lagCheckInterval) {
+        Duration minimumWindow = maxLag.plus(lagCheckInterval.multipliedBy(2));
+        return new ReadYourWritesTracker(window.compareTo(minimumWindow) < 0 ? minimumWindow : window);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource readOnlyDataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        return new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor, readYourWritesTracker,
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            ReplicaRoutingDataSource readOnlyDataSource, ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new WriteTrackingDataSource(primary, readYourWritesTracker));
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+
+    // Static and infrastructure so the existing auto-proxy creator applies it to the services
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor tenantRoutingAdvisor() {
+        return new DefaultPointcutAdvisor(TenantRoutingInterceptor.pointcut(), new TenantRoutingInterceptor());
+    }
+}
@@ -0,0 +1,10 @@
+package com.agrienhance.farmplot.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs are individually switched on by their own farmplot.* properties
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
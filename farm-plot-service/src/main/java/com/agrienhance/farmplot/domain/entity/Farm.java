@@ -4,9 +4,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*; // Import Lombok annotations
-import org.hibernate.annotations.UuidGenerator;
 import org.locationtech.jts.geom.Point;
 
+import com.agrienhance.farmplot.domain.identifier.EntityUuid;
+
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
@@ -23,7 +24,7 @@ public class Farm {
 
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @EntityUuid
     @Column(name = "farm_identifier", updatable = false, nullable = false)
     private UUID farmIdentifier;
 
@@ -74,7 +75,7 @@ public class Farm {
     @PrePersist
     protected void onCreate() {
         updatedAt = createdAt = OffsetDateTime.now();
-        // farmIdentifier is generated by @UuidGenerator on persist
+        // farmIdentifier is generated by @EntityUuid on persist
     }
 
     @PreUpdate
@@ -1,10 +1,10 @@
 package com.agrienhance.farmplot.domain.entity;
 
 import com.agrienhance.farmplot.domain.enums.LandTenureType;
+import com.agrienhance.farmplot.domain.identifier.EntityUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -29,7 +29,7 @@ public class LandTenure {
 
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @EntityUuid
     @Column(name = "land_tenure_identifier", updatable = false, nullable = false)
     private UUID landTenureIdentifier;
 
@@ -93,7 +93,7 @@ public class LandTenure {
     @PrePersist
     protected void onCreate() {
         updatedAt = createdAt = OffsetDateTime.now();
-        // landTenureIdentifier is generated by @UuidGenerator on persist
+        // landTenureIdentifier is generated by @EntityUuid on persist
         if (plot != null) { // Ensure tenantId consistency if not already set
             this.tenantId = plot.getTenantId();
         }
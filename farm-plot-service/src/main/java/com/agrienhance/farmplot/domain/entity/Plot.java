@@ -4,10 +4,11 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*; // Import Lombok annotations
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.PartitionKey;
 import org.locationtech.jts.geom.Polygon;
 
 import com.agrienhance.farmplot.domain.enums.LandTenureType;
+import com.agrienhance.farmplot.domain.identifier.EntityUuid;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -28,9 +29,13 @@ import java.util.UUID;
 })
 public class Plot {
 
+    // The database key is (plot_identifier, tenant_id), as the partitioned table requires,
+    // so it doesn't enforce plot_identifier alone to be unique. Mapped as the id
+    // nonetheless: generated UUIDs don't collide, and PlotBatchWriter rejects
+    // identifiers taken by any tenant.
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @EntityUuid
     @Column(name = "plot_identifier", updatable = false, nullable = false)
     private UUID plotIdentifier;
 
@@ -55,7 +60,10 @@ public class Plot {
     @Column(name = "calculated_area_hectares", insertable = false, updatable = false, precision = 10, scale = 4)
     private BigDecimal calculatedAreaHectares;
 
+    // The table is hash-partitioned on tenant_id; as the partition key it is added
+    // to Hibernate's UPDATE and DELETE statements, so they touch one partition
     @NotNull
+    @PartitionKey
     @Column(name = "tenant_id", nullable = false)
     private UUID tenantId;
 
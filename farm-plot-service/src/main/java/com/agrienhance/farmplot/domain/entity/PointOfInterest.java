@@ -2,12 +2,13 @@ package com.agrienhance.farmplot.domain.entity;
 
 import com.agrienhance.farmplot.domain.enums.POIType;
 import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.identifier.EntityUuid;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.PartitionKey;
 import org.locationtech.jts.geom.Point;
 
 import java.time.OffsetDateTime;
@@ -27,9 +28,13 @@ import java.util.UUID;
 })
 public class PointOfInterest {
 
+    // The database key is (poi_identifier, tenant_id), as the partitioned table requires,
+    // so it doesn't enforce poi_identifier alone to be unique. Mapped as the id
+    // nonetheless: generated UUIDs don't collide, and PointOfInterestBatchWriter rejects
+    // identifiers taken by any tenant.
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @EntityUuid
     @Column(name = "poi_identifier", updatable = false, nullable = false)
     private UUID poiIdentifier;
 
@@ -59,7 +64,10 @@ public class PointOfInterest {
     @Column(name = "notes")
     private String notes;
 
+    // The table is hash-partitioned on tenant_id; as the partition key it is added
+    // to Hibernate's UPDATE and DELETE statements, so they touch one partition
     @NotNull
+    @PartitionKey
     @Column(name = "tenant_id", nullable = false)
     private UUID tenantId;
 
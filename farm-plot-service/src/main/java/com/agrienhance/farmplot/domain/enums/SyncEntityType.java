@@ -0,0 +1,12 @@
+package com.agrienhance.farmplot.domain.enums;
+
+/**
+ * Entity kinds reported by the delta sync API. The names are also the values
+ * stored in sync_tombstones.entity_type.
+ */
+public enum SyncEntityType {
+    FARM,
+    LAND_TENURE,
+    PLOT,
+    POINT_OF_INTEREST
+}
@@ -0,0 +1,31 @@
+package com.agrienhance.farmplot.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Domain events recorded in the outbox for other services. Land tenure
+ * changes belong to the plot aggregate, so they are ordered with the plot's
+ * own events.
+ */
+@Getter
+@AllArgsConstructor
+public enum DomainEventType {
+
+    FARM_CREATED(AggregateType.FARM),
+    FARM_UPDATED(AggregateType.FARM),
+    FARM_DELETED(AggregateType.FARM),
+
+    PLOT_CREATED(AggregateType.PLOT),
+    PLOT_UPDATED(AggregateType.PLOT),
+    PLOT_DELETED(AggregateType.PLOT),
+    LAND_TENURE_UPDATED(AggregateType.PLOT),
+    LAND_TENURE_DELETED(AggregateType.PLOT);
+
+    private final AggregateType aggregateType;
+
+    public enum AggregateType {
+        FARM,
+        PLOT
+    }
+}
@@ -0,0 +1,10 @@
+package com.agrienhance.farmplot.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a farm is deleted. Its plots are removed by the database
+ * (ON DELETE CASCADE), so no per-plot events are published for them.
+ */
+public record FarmDeletedEvent(UUID tenantId, UUID farmIdentifier) {
+}
@@ -0,0 +1,9 @@
+package com.agrienhance.farmplot.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a farm's own attributes are updated.
+ */
+public record FarmUpdatedEvent(UUID tenantId, UUID farmIdentifier) {
+}
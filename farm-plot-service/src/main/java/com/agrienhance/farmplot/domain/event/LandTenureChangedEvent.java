@@ -0,0 +1,9 @@
+package com.agrienhance.farmplot.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published when the land tenure of a plot is created, updated or removed.
+ */
+public record LandTenureChangedEvent(UUID tenantId, UUID plotIdentifier) {
+}
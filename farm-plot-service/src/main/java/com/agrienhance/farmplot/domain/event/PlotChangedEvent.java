@@ -0,0 +1,18 @@
+package com.agrienhance.farmplot.domain.event;
+
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a plot is created, changed or removed. The extents let
+ * spatial caches invalidate only what the plot covered before and after;
+ * previousExtent is null for new plots, currentExtent is null for deleted
+ * plots.
+ */
+public record PlotChangedEvent(
+        UUID tenantId,
+        UUID plotIdentifier,
+        Envelope previousExtent,
+        Envelope currentExtent) {
+}
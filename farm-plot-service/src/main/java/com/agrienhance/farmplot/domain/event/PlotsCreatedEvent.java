@@ -0,0 +1,17 @@
+package com.agrienhance.farmplot.domain.event;
+
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published once per committed batch of new plots, e.g. by the bulk import,
+ * instead of one {@link PlotChangedEvent} per plot. The extent covers all of
+ * the batch's plots, so spatial caches invalidate it in one pass.
+ */
+public record PlotsCreatedEvent(
+        UUID tenantId,
+        Set<UUID> plotIdentifiers,
+        Envelope extent) {
+}
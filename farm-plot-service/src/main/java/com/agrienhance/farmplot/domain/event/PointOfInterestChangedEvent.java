@@ -0,0 +1,17 @@
+package com.agrienhance.farmplot.domain.event;
+
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.UUID;
+
+/**
+ * Published whenever POIs are created, moved or removed. The extents cover
+ * the affected POI locations before and after the change, so spatial caches
+ * can invalidate only that area; previousExtent is null for new POIs,
+ * currentExtent is null for deleted POIs.
+ */
+public record PointOfInterestChangedEvent(
+        UUID tenantId,
+        Envelope previousExtent,
+        Envelope currentExtent) {
+}
@@ -0,0 +1,19 @@
+package com.agrienhance.farmplot.domain.identifier;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a UUID identifier on persist, random or time-ordered depending
+ * on the {@value EntityUuidGenerator#STRATEGY_SETTING} Hibernate setting
+ * (see {@link EntityUuidStrategy}).
+ */
+@IdGeneratorType(EntityUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface EntityUuid {
+}
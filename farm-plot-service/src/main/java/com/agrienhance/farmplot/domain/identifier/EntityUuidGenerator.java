@@ -0,0 +1,47 @@
+package com.agrienhance.farmplot.domain.identifier;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * Generator behind {@link EntityUuid}. The strategy is read once, when the
+ * mapping is built, from the Hibernate settings; in Spring Boot these are
+ * the {@code spring.jpa.properties.*} entries.
+ */
+public class EntityUuidGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<EntityUuid> {
+
+    public static final String STRATEGY_SETTING = "farmplot.entity-identifiers";
+
+    private EntityUuidStrategy strategy = EntityUuidStrategy.RANDOM;
+
+    @Override
+    public void initialize(EntityUuid annotation, Member member, GeneratorCreationContext context) {
+        strategy = EntityUuidStrategy.fromSetting(context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(STRATEGY_SETTING));
+    }
+
+    public EntityUuidStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return strategy.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
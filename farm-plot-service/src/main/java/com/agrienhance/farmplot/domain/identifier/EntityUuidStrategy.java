@@ -0,0 +1,50 @@
+package com.agrienhance.farmplot.domain.identifier;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * How new entity identifiers are generated.
+ *
+ * Random version 4 UUIDs land anywhere in the primary key index, so every
+ * insert may touch (and split) a different leaf page. Time-ordered version 7
+ * UUIDs append at the right edge of the index instead, like a sequence
+ * would, while staying globally unique and generated in the application.
+ */
+public enum EntityUuidStrategy {
+
+    RANDOM(UUID::randomUUID),
+    TIME_ORDERED(UuidV7::next);
+
+    private final Supplier<UUID> generator;
+
+    EntityUuidStrategy(Supplier<UUID> generator) {
+        this.generator = generator;
+    }
+
+    public UUID next() {
+        return generator.get();
+    }
+
+    /**
+     * Parses a setting value such as {@code random} or {@code time-ordered};
+     * {@code null} means {@link #RANDOM}.
+     */
+    public static EntityUuidStrategy fromSetting(Object value) {
+        if (value == null) {
+            return RANDOM;
+        }
+        if (value instanceof EntityUuidStrategy strategy) {
+            return strategy;
+        }
+        String name = value.toString().trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        for (EntityUuidStrategy strategy : values()) {
+            if (strategy.name().equals(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown entity identifier strategy '" + value
+                + "', expected random or time-ordered");
+    }
+}
@@ -0,0 +1,55 @@
+package com.agrienhance.farmplot.domain.identifier;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered version 7 UUIDs (RFC 9562): the Unix time in milliseconds in
+ * the leading 48 bits, then a 12-bit sequence and 62 random bits.
+ *
+ * The sequence keeps identifiers generated by this JVM strictly increasing,
+ * also within one millisecond. Should it overflow, or the clock step back,
+ * the timestamp runs slightly ahead of the clock until it catches up.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int SEQUENCE_BITS = 12;
+
+    // Timestamp of the last identifier shifted left by SEQUENCE_BITS, plus its sequence
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long epochMillis) {
+        long timestampAndSequence = LAST_TIMESTAMP_AND_SEQUENCE
+                .updateAndGet(last -> Math.max(epochMillis << SEQUENCE_BITS, last + 1));
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+        long mostSignificantBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSignificantBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    // Forgets the last identifier, for tests that move the timestamp ahead of the clock
+    static void reset() {
+        LAST_TIMESTAMP_AND_SEQUENCE.set(0);
+    }
+
+    /**
+     * The millisecond timestamp a version 7 UUID was generated at.
+     */
+    public static long epochMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
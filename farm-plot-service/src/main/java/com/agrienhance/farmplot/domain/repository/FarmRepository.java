@@ -1,6 +1,8 @@
 package com.agrienhance.farmplot.domain.repository;
 
 import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.repository.projection.FarmReference;
+import com.agrienhance.farmplot.domain.repository.projection.FarmSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,12 +25,63 @@ public interface FarmRepository extends JpaRepository<Farm, UUID> {
 
     Page<Farm> findAllByTenantId(UUID tenantId, Pageable pageable);
 
+    // Closed projection: selects only the summary columns, not the location
+    Page<FarmSummary> findSummariesByTenantId(UUID tenantId, Pageable pageable);
+
+    // Keyset (seek) page: farms ordered by (name, identifier) that come after
+    // the given position. Served by idx_farms_tenant_name_keyset.
+    @Query(value = """
+            SELECT f.* FROM farms f
+            WHERE f.tenant_id = :tenantId
+              AND (COALESCE(f.farm_name, ''), f.farm_identifier) > (:afterName, :afterIdentifier)
+            ORDER BY COALESCE(f.farm_name, ''), f.farm_identifier
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Farm> findKeysetPageByTenantId(
+            @Param("tenantId") UUID tenantId,
+            @Param("afterName") String afterName,
+            @Param("afterIdentifier") UUID afterIdentifier,
+            @Param("limit") int limit);
+
     List<Farm> findAllByTenantIdAndOwnerReferenceId(UUID tenantId, UUID ownerReferenceId);
 
     List<Farm> findAllByTenantIdAndCountryCode(UUID tenantId, String countryCode, Pageable pageable);
 
     boolean existsByFarmIdentifierAndTenantId(UUID farmIdentifier, UUID tenantId);
 
+    // SHA-256 over the change stamps (V3 change_xid) of the farm and of its
+    // plots, land tenures and points of interest. Changes whenever any of them
+    // is created, updated or deleted, without reading their geometries.
+    @Query(value = """
+            SELECT encode(sha256(convert_to(COALESCE(string_agg(entry, ',' ORDER BY entry), ''), 'UTF8')), 'hex')
+            FROM (
+                SELECT 'F' || f.farm_identifier || ':' || f.change_xid AS entry
+                FROM farms f
+                WHERE f.farm_identifier = :farmIdentifier AND f.tenant_id = :tenantId
+                UNION ALL
+                SELECT 'P' || p.plot_identifier || ':' || p.change_xid
+                FROM plots p
+                WHERE p.farm_identifier = :farmIdentifier AND p.tenant_id = :tenantId
+                UNION ALL
+                SELECT 'T' || t.land_tenure_identifier || ':' || t.change_xid
+                FROM land_tenures t JOIN plots p ON p.plot_identifier = t.plot_identifier AND p.tenant_id = t.tenant_id
+                WHERE p.farm_identifier = :farmIdentifier AND t.tenant_id = :tenantId
+                UNION ALL
+                SELECT 'I' || i.poi_identifier || ':' || i.change_xid
+                FROM points_of_interest i
+                WHERE i.tenant_id = :tenantId
+                  AND ((i.parent_entity_type = 'FARM' AND i.parent_entity_identifier = :farmIdentifier)
+                    OR (i.parent_entity_type = 'PLOT' AND i.parent_entity_identifier IN
+                        (SELECT plot_identifier FROM plots
+                          WHERE farm_identifier = :farmIdentifier AND tenant_id = :tenantId)))
+            ) entries
+            """, nativeQuery = true)
+    String findContentFingerprint(@Param("farmIdentifier") UUID farmIdentifier, @Param("tenantId") UUID tenantId);
+
+    // Every farm of every tenant, for background jobs
+    @Query("SELECT f.farmIdentifier AS farmIdentifier, f.tenantId AS tenantId FROM Farm f")
+    List<FarmReference> findAllReferences();
+
     // Example of a more complex query using @Query if needed
     // This is just illustrative; for simple cases, method derivation is preferred.
     @Query("SELECT f FROM Farm f WHERE f.tenantId = :tenantId AND LOWER(f.farmName) LIKE LOWER(concat('%', :nameQuery, '%'))")
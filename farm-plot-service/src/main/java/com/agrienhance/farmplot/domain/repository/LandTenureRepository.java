@@ -4,6 +4,7 @@ import com.agrienhance.farmplot.domain.entity.LandTenure;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +21,9 @@ public interface LandTenureRepository extends JpaRepository<LandTenure, UUID> {
     // Method to check if a LandTenure record exists for a given plot and tenant
     boolean existsByPlot_PlotIdentifierAndTenantId(UUID plotIdentifier, UUID tenantId);
 
+    // All land tenures of the plots of a farm
+    List<LandTenure> findAllByPlot_Farm_FarmIdentifierAndTenantId(UUID farmIdentifier, UUID tenantId);
+
     // Delete by plot identifier and tenant ID might be useful if managing tenure as
     // a strict sub-resource
     void deleteByPlot_PlotIdentifierAndTenantId(UUID plotIdentifier, UUID tenantId);
@@ -1,18 +1,24 @@
 package com.agrienhance.farmplot.domain.repository;
 
 import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.projection.PlotSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.locationtech.jts.geom.Geometry; // For geospatial queries
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.locationtech.jts.geom.Polygon; // Assuming plotGeometry is Polygon
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PlotRepository extends JpaRepository<Plot, UUID> {
@@ -21,10 +27,87 @@ public interface PlotRepository extends JpaRepository<Plot, UUID> {
 
     Optional<Plot> findByPlotIdentifierAndTenantId(UUID plotIdentifier, UUID tenantId);
 
+    // Batch load by identifier; the tenant prunes the query to its plots partition
+    List<Plot> findAllByTenantIdAndPlotIdentifierIn(UUID tenantId, Collection<UUID> plotIdentifiers);
+
     Page<Plot> findAllByTenantId(UUID tenantId, Pageable pageable);
 
+    // Listings without geometry (fields= without plotGeometry): the polygon
+    // column is neither read nor decoded. farm.farmIdentifier is the foreign
+    // key column, so no join is needed.
+    @Query(value = """
+            SELECT p.plotIdentifier AS plotIdentifier, p.farm.farmIdentifier AS farmIdentifier,
+                   p.plotName AS plotName, p.cultivatorReferenceId AS cultivatorReferenceId,
+                   p.calculatedAreaHectares AS calculatedAreaHectares, p.landTenureType AS landTenureType,
+                   p.tenantId AS tenantId, p.createdAt AS createdAt, p.updatedAt AS updatedAt,
+                   p.version AS version
+            FROM Plot p
+            WHERE p.tenantId = :tenantId
+            """, countQuery = "SELECT COUNT(p) FROM Plot p WHERE p.tenantId = :tenantId")
+    Page<PlotSummary> findSummariesByTenantId(@Param("tenantId") UUID tenantId, Pageable pageable);
+
+    @Query(value = """
+            SELECT p.plotIdentifier AS plotIdentifier, p.farm.farmIdentifier AS farmIdentifier,
+                   p.plotName AS plotName, p.cultivatorReferenceId AS cultivatorReferenceId,
+                   p.calculatedAreaHectares AS calculatedAreaHectares, p.landTenureType AS landTenureType,
+                   p.tenantId AS tenantId, p.createdAt AS createdAt, p.updatedAt AS updatedAt,
+                   p.version AS version
+            FROM Plot p
+            WHERE p.farm.farmIdentifier = :farmIdentifier AND p.tenantId = :tenantId
+            """, countQuery = """
+            SELECT COUNT(p) FROM Plot p
+            WHERE p.farm.farmIdentifier = :farmIdentifier AND p.tenantId = :tenantId
+            """)
+    Page<PlotSummary> findSummariesByFarmIdentifierAndTenantId(@Param("farmIdentifier") UUID farmIdentifier,
+            @Param("tenantId") UUID tenantId, Pageable pageable);
+
+    // Keyset (seek) page: plots ordered by (name, identifier) that come after
+    // the given position. Served by idx_plots_tenant_name_keyset, no OFFSET and
+    // no count query. The COALESCE must stay in sync with that index.
+    @Query(value = """
+            SELECT p.* FROM plots p
+            WHERE p.tenant_id = :tenantId
+              AND (COALESCE(p.plot_name, ''), p.plot_identifier) > (:afterName, :afterIdentifier)
+            ORDER BY COALESCE(p.plot_name, ''), p.plot_identifier
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Plot> findKeysetPageByTenantId(
+            @Param("tenantId") UUID tenantId,
+            @Param("afterName") String afterName,
+            @Param("afterIdentifier") UUID afterIdentifier,
+            @Param("limit") int limit);
+
+    // Server-side cursor over all plots of a tenant, for exports. Must be
+    // consumed inside a transaction and closed; rows arrive fetch-size at a
+    // time and are read-only, so Hibernate keeps no snapshots for dirty checks.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Plot p WHERE p.tenantId = :tenantId")
+    Stream<Plot> streamAllByTenantId(@Param("tenantId") UUID tenantId);
+
     Page<Plot> findAllByFarm_FarmIdentifierAndTenantId(UUID farmIdentifier, UUID tenantId, Pageable pageable);
 
+    List<Plot> findAllByFarm_FarmIdentifierAndTenantId(UUID farmIdentifier, UUID tenantId);
+
+    // Overlap candidates: plots of the farm whose bounding box intersects the
+    // given one (&& on idx_plots_plot_geometry). Only a prefilter; callers
+    // test the geometries exactly.
+    @Query(value = """
+            SELECT p.* FROM plots p
+            WHERE p.farm_identifier = :farmIdentifier
+              AND p.tenant_id = :tenantId
+              AND p.plot_geometry && ST_MakeEnvelope(:minX, :minY, :maxX, :maxY, 4326)
+            """, nativeQuery = true)
+    List<Plot> findByFarmIntersectingEnvelope(
+            @Param("farmIdentifier") UUID farmIdentifier,
+            @Param("tenantId") UUID tenantId,
+            @Param("minX") double minX,
+            @Param("minY") double minY,
+            @Param("maxX") double maxX,
+            @Param("maxY") double maxY);
+
     List<Plot> findAllByCultivatorReferenceIdAndTenantId(UUID cultivatorReferenceId, UUID tenantId);
 
     boolean existsByPlotIdentifierAndTenantId(UUID plotIdentifier, UUID tenantId);
@@ -46,6 +129,39 @@ public interface PlotRepository extends JpaRepository<Plot, UUID> {
                                                              // bounding box)
     );
 
+    // Renders one Mapbox Vector Tile (layer "plots") for the tenant. The bbox
+    // filter (&&) runs against idx_plots_plot_geometry; the 0.015625 margin
+    // (64/4096) matches the clip buffer passed to ST_AsMVTGeom. Geometries are
+    // simplified in Web Mercator meters before they are quantized to the tile.
+    @Query(value = """
+            WITH bounds AS (
+                SELECT ST_TileEnvelope(:z, :x, :y) AS tile_3857,
+                       ST_Transform(ST_TileEnvelope(:z, :x, :y, margin => 0.015625), 4326) AS filter_4326
+            ),
+            features AS (
+                SELECT ST_AsMVTGeom(
+                           ST_SimplifyPreserveTopology(ST_Transform(p.plot_geometry, 3857), :tolerance),
+                           bounds.tile_3857, 4096, 64, true) AS geom,
+                       CAST(p.plot_identifier AS text) AS plot_identifier,
+                       CAST(p.farm_identifier AS text) AS farm_identifier,
+                       p.plot_name,
+                       p.land_tenure_type,
+                       CAST(p.calculated_area_hectares AS double precision) AS calculated_area_hectares
+                FROM plots p, bounds
+                WHERE p.tenant_id = :tenantId
+                  AND p.plot_geometry && bounds.filter_4326
+            )
+            SELECT ST_AsMVT(features.*, 'plots', 4096, 'geom')
+            FROM features
+            WHERE features.geom IS NOT NULL
+            """, nativeQuery = true)
+    byte[] findVectorTile(
+            @Param("tenantId") UUID tenantId,
+            @Param("z") int z,
+            @Param("x") int x,
+            @Param("y") int y,
+            @Param("tolerance") double tolerance);
+
     // Example: Find plots within a certain distance of a point (requires ST_DWithin
     // typically)
     // @Query("SELECT p FROM Plot p WHERE p.tenantId = :tenantId AND
@@ -63,7 +179,7 @@ public interface PlotRepository extends JpaRepository<Plot, UUID> {
     // Note: This is a native query. The exact syntax for casting geometry to
     // geography
     // and ensuring the geometry is valid for such a cast might need care.
-    @Query(value = "SELECT ST_Area(CAST(:plotGeometry AS geography)) FROM (SELECT CAST(:plotGeometryText AS geometry) AS plotGeometry) AS subquery", nativeQuery = true)
+    @Query(value = "SELECT ST_Area(CAST(ST_GeomFromText(:plotGeometryText, 4326) AS geography))", nativeQuery = true)
     Optional<Double> calculateAreaInSquareMeters(@Param("plotGeometryText") String plotGeometryText);
     // Passing geometry as WKT string to native query is often more straightforward
     // than binding JTS types directly in complex native spatial queries.
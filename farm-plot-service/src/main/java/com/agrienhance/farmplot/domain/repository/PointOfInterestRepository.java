@@ -2,13 +2,18 @@ package com.agrienhance.farmplot.domain.repository;
 
 import com.agrienhance.farmplot.domain.entity.PointOfInterest;
 import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestClusterCell;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestDistance;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,12 +24,27 @@ public interface PointOfInterestRepository extends JpaRepository<PointOfInterest
     // Find a specific POI by its ID and tenant ID
     Optional<PointOfInterest> findByPoiIdentifierAndTenantId(UUID poiIdentifier, UUID tenantId);
 
+    // Batch load by identifier; the tenant prunes the query to its points_of_interest partition
+    List<PointOfInterest> findAllByTenantIdAndPoiIdentifierIn(UUID tenantId, Collection<UUID> poiIdentifiers);
+
     // Find all POIs for a specific parent entity (Farm or Plot) under a tenant
     List<PointOfInterest> findAllByParentEntityIdentifierAndParentEntityTypeAndTenantId(
             UUID parentEntityIdentifier,
             ParentEntityType parentEntityType,
             UUID tenantId);
 
+    // All POIs of several parents of the same type, e.g. every plot of a farm
+    List<PointOfInterest> findAllByParentEntityIdentifierInAndParentEntityTypeAndTenantId(
+            Collection<UUID> parentEntityIdentifiers,
+            ParentEntityType parentEntityType,
+            UUID tenantId);
+
+    // Same listing as a closed projection that leaves out the coordinates
+    List<PointOfInterestSummary> findSummariesByParentEntityIdentifierAndParentEntityTypeAndTenantId(
+            UUID parentEntityIdentifier,
+            ParentEntityType parentEntityType,
+            UUID tenantId);
+
     // Paginated version of the above
     Page<PointOfInterest> findAllByParentEntityIdentifierAndParentEntityTypeAndTenantId(
             UUID parentEntityIdentifier,
@@ -32,6 +52,128 @@ public interface PointOfInterestRepository extends JpaRepository<PointOfInterest
             UUID tenantId,
             Pageable pageable);
 
+    // Keyset (seek) page of a parent's POIs ordered by (name, identifier).
+    // Served by idx_poi_parent_name_keyset. parentEntityType is the enum name.
+    @Query(value = """
+            SELECT poi.* FROM points_of_interest poi
+            WHERE poi.tenant_id = :tenantId
+              AND poi.parent_entity_identifier = :parentEntityIdentifier
+              AND poi.parent_entity_type = :parentEntityType
+              AND (COALESCE(poi.poi_name, ''), poi.poi_identifier) > (:afterName, :afterIdentifier)
+            ORDER BY COALESCE(poi.poi_name, ''), poi.poi_identifier
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<PointOfInterest> findKeysetPageByParent(
+            @Param("tenantId") UUID tenantId,
+            @Param("parentEntityIdentifier") UUID parentEntityIdentifier,
+            @Param("parentEntityType") String parentEntityType,
+            @Param("afterName") String afterName,
+            @Param("afterIdentifier") UUID afterIdentifier,
+            @Param("limit") int limit);
+
+    // Nearest POIs of one type to an origin geometry (WKT, EPSG:4326), closest
+    // first, with geodesic distances in meters. The inner query walks
+    // idx_poi_tenant_type_geography in <-> order and stops after :limit rows;
+    // ST_DWithin bounds the walk when fewer POIs lie within the radius. The
+    // outer ORDER BY re-sorts those rows by spheroid distance (<-> is spherical).
+    @Query(value = """
+            SELECT nearest.poi_identifier AS "poiIdentifier", nearest.distance_meters AS "distanceMeters"
+            FROM (
+                SELECT poi.poi_identifier,
+                       ST_Distance(CAST(poi.coordinates AS geography),
+                                   CAST(ST_GeomFromText(:originWkt, 4326) AS geography)) AS distance_meters
+                FROM points_of_interest poi
+                WHERE poi.tenant_id = :tenantId
+                  AND poi.poi_type = :poiType
+                  AND ST_DWithin(CAST(poi.coordinates AS geography),
+                                 CAST(ST_GeomFromText(:originWkt, 4326) AS geography), :maxDistanceMeters)
+                ORDER BY CAST(poi.coordinates AS geography) <-> CAST(ST_GeomFromText(:originWkt, 4326) AS geography)
+                LIMIT :limit
+            ) nearest
+            ORDER BY nearest.distance_meters, nearest.poi_identifier
+            """, nativeQuery = true)
+    List<PointOfInterestDistance> findNearestByType(
+            @Param("tenantId") UUID tenantId,
+            @Param("poiType") String poiType,
+            @Param("originWkt") String originWkt,
+            @Param("maxDistanceMeters") double maxDistanceMeters,
+            @Param("limit") int limit);
+
+    // Counts the tenant's POIs in an XYZ tile per cell of a :gridCells x
+    // :gridCells grid laid over the tile in Web Mercator, and per POI type.
+    // The bbox filter (&&) runs against idx_poi_coordinates. Cells are
+    // half-open (a POI on the bottom or right tile edge belongs to the
+    // neighbouring tile), so no POI is counted in two tiles.
+    @Query(value = """
+            WITH bounds AS (
+                SELECT ST_TileEnvelope(:z, :x, :y) AS tile_3857,
+                       ST_Transform(ST_TileEnvelope(:z, :x, :y), 4326) AS filter_4326
+            ),
+            cells AS (
+                SELECT poi.poi_type,
+                       poi.coordinates,
+                       CAST(floor((ST_X(ST_Transform(poi.coordinates, 3857)) - ST_XMin(bounds.tile_3857))
+                                  / (ST_XMax(bounds.tile_3857) - ST_XMin(bounds.tile_3857)) * :gridCells) AS integer) AS cell_x,
+                       CAST(floor((ST_YMax(bounds.tile_3857) - ST_Y(ST_Transform(poi.coordinates, 3857)))
+                                  / (ST_YMax(bounds.tile_3857) - ST_YMin(bounds.tile_3857)) * :gridCells) AS integer) AS cell_y
+                FROM points_of_interest poi, bounds
+                WHERE poi.tenant_id = :tenantId
+                  AND poi.coordinates && bounds.filter_4326
+            )
+            SELECT cell_x AS "cellX",
+                   cell_y AS "cellY",
+                   poi_type AS "poiType",
+                   count(*) AS "poiCount",
+                   sum(ST_X(coordinates)) AS "sumLongitude",
+                   sum(ST_Y(coordinates)) AS "sumLatitude"
+            FROM cells
+            WHERE cell_x BETWEEN 0 AND :gridCells - 1
+              AND cell_y BETWEEN 0 AND :gridCells - 1
+            GROUP BY cell_x, cell_y, poi_type
+            ORDER BY cell_y, cell_x, poi_type
+            """, nativeQuery = true)
+    List<PointOfInterestClusterCell> findClusterCells(
+            @Param("tenantId") UUID tenantId,
+            @Param("z") int z,
+            @Param("x") int x,
+            @Param("y") int y,
+            @Param("gridCells") int gridCells);
+
+    // Moves every farm-level POI of the farm to the plot of that farm which
+    // contains it, in one statement: the join probes idx_plots_plot_geometry
+    // once per POI instead of issuing a query per POI. Where overlapping plots
+    // both contain a POI, the smallest (most specific) plot wins. The version
+    // is bumped so that stale copies of the POIs fail optimistic locking.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE points_of_interest poi
+            SET parent_entity_identifier = containing.plot_identifier,
+                parent_entity_type = 'PLOT',
+                updated_at = NOW(),
+                version = poi.version + 1
+            FROM (
+                SELECT DISTINCT ON (farm_poi.poi_identifier) farm_poi.poi_identifier, p.plot_identifier
+                FROM points_of_interest farm_poi
+                JOIN plots p ON p.tenant_id = farm_poi.tenant_id
+                            AND p.farm_identifier = farm_poi.parent_entity_identifier
+                            AND ST_Contains(p.plot_geometry, farm_poi.coordinates)
+                WHERE farm_poi.tenant_id = :tenantId
+                  AND farm_poi.parent_entity_type = 'FARM'
+                  AND farm_poi.parent_entity_identifier = :farmIdentifier
+                ORDER BY farm_poi.poi_identifier, p.calculated_area_hectares, p.plot_identifier
+            ) containing
+            WHERE poi.tenant_id = :tenantId
+              AND poi.poi_identifier = containing.poi_identifier
+            """, nativeQuery = true)
+    int assignFarmPoisToContainingPlots(
+            @Param("tenantId") UUID tenantId,
+            @Param("farmIdentifier") UUID farmIdentifier);
+
+    long countByParentEntityIdentifierAndParentEntityTypeAndTenantId(
+            UUID parentEntityIdentifier,
+            ParentEntityType parentEntityType,
+            UUID tenantId);
+
     // Example: Find POIs of a specific type for a parent entity
     List<PointOfInterest> findAllByParentEntityIdentifierAndParentEntityTypeAndPoiTypeAndTenantId(
             UUID parentEntityIdentifier,
@@ -0,0 +1,13 @@
+package com.agrienhance.farmplot.domain.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Identifier and tenant of a farm, without any of its data.
+ */
+public interface FarmReference {
+
+    UUID getFarmIdentifier();
+
+    UUID getTenantId();
+}
@@ -0,0 +1,30 @@
+package com.agrienhance.farmplot.domain.repository.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Closed projection of a farm without its location point.
+ */
+public interface FarmSummary {
+
+    UUID getFarmIdentifier();
+
+    String getFarmName();
+
+    UUID getOwnerReferenceId();
+
+    String getCountryCode();
+
+    String getRegion();
+
+    String getNotes();
+
+    UUID getTenantId();
+
+    OffsetDateTime getCreatedAt();
+
+    OffsetDateTime getUpdatedAt();
+
+    Long getVersion();
+}
@@ -0,0 +1,34 @@
+package com.agrienhance.farmplot.domain.repository.projection;
+
+import com.agrienhance.farmplot.domain.enums.LandTenureType;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Closed projection of a plot without its geometry, for listings that do
+ * not draw the polygon.
+ */
+public interface PlotSummary {
+
+    UUID getPlotIdentifier();
+
+    UUID getFarmIdentifier();
+
+    String getPlotName();
+
+    UUID getCultivatorReferenceId();
+
+    BigDecimal getCalculatedAreaHectares();
+
+    LandTenureType getLandTenureType();
+
+    UUID getTenantId();
+
+    OffsetDateTime getCreatedAt();
+
+    OffsetDateTime getUpdatedAt();
+
+    Long getVersion();
+}
@@ -0,0 +1,21 @@
+package com.agrienhance.farmplot.domain.repository.projection;
+
+/**
+ * The POIs of one type that fall into one cell of a tile's clustering grid.
+ * Coordinates are summed rather than averaged so that cells can be merged
+ * across types without losing precision.
+ */
+public interface PointOfInterestClusterCell {
+
+    int getCellX();
+
+    int getCellY();
+
+    String getPoiType();
+
+    long getPoiCount();
+
+    double getSumLongitude();
+
+    double getSumLatitude();
+}
@@ -0,0 +1,14 @@
+package com.agrienhance.farmplot.domain.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A point of interest matched by a nearest-neighbour search and its geodesic
+ * distance from the search origin.
+ */
+public interface PointOfInterestDistance {
+
+    UUID getPoiIdentifier();
+
+    double getDistanceMeters();
+}
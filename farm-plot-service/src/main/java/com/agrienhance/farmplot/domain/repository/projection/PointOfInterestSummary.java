@@ -0,0 +1,33 @@
+package com.agrienhance.farmplot.domain.repository.projection;
+
+import com.agrienhance.farmplot.domain.enums.POIType;
+import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Closed projection of a point of interest without its coordinates.
+ */
+public interface PointOfInterestSummary {
+
+    UUID getPoiIdentifier();
+
+    UUID getParentEntityIdentifier();
+
+    ParentEntityType getParentEntityType();
+
+    String getPoiName();
+
+    POIType getPoiType();
+
+    String getNotes();
+
+    UUID getTenantId();
+
+    OffsetDateTime getCreatedAt();
+
+    OffsetDateTime getUpdatedAt();
+
+    Long getVersion();
+}
@@ -0,0 +1,84 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.LandTenure;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.FarmUpdatedEvent;
+import com.agrienhance.farmplot.domain.event.LandTenureChangedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * In-process cache of single farm, plot and land tenure reads, one region per
+ * entity type, each bounded by its own max-entries. Land tenures are keyed by
+ * their plot, which is how they are looked up.
+ *
+ * Entries are evicted once a change commits; expire-after-write bounds how
+ * long a change made outside this service (e.g. by hand in the database)
+ * can stay invisible.
+ */
+@Component
+public class EntityReadCache {
+
+    private final TenantEntityCache<Farm> farms;
+    private final TenantEntityCache<Plot> plots;
+    private final TenantEntityCache<LandTenure> landTenuresByPlot;
+
+    public EntityReadCache(
+            @Value("${farmplot.entity-cache.farms.max-entries:10000}") long maxFarms,
+            @Value("${farmplot.entity-cache.plots.max-entries:50000}") long maxPlots,
+            @Value("${farmplot.entity-cache.land-tenures.max-entries:50000}") long maxLandTenures,
+            @Value("${farmplot.entity-cache.expire-after-write:PT10M}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this.farms = new TenantEntityCache<>("farms", maxFarms, expireAfterWrite, meterRegistry);
+        this.plots = new TenantEntityCache<>("plots", maxPlots, expireAfterWrite, meterRegistry);
+        this.landTenuresByPlot = new TenantEntityCache<>("land-tenures", maxLandTenures, expireAfterWrite,
+                meterRegistry);
+    }
+
+    public TenantEntityCache<Farm> farms() {
+        return farms;
+    }
+
+    public TenantEntityCache<Plot> plots() {
+        return plots;
+    }
+
+    public TenantEntityCache<LandTenure> landTenuresByPlot() {
+        return landTenuresByPlot;
+    }
+
+    @TransactionalEventListener
+    public void onFarmUpdated(FarmUpdatedEvent event) {
+        farms.invalidate(event.tenantId(), event.farmIdentifier());
+    }
+
+    // The farm's plots and their land tenures are gone too (ON DELETE CASCADE)
+    @TransactionalEventListener
+    public void onFarmDeleted(FarmDeletedEvent event) {
+        farms.invalidate(event.tenantId(), event.farmIdentifier());
+        plots.invalidateIf(event.tenantId(),
+                plot -> plot.getFarm().getFarmIdentifier().equals(event.farmIdentifier()));
+        landTenuresByPlot.invalidateIf(event.tenantId(), landTenure -> true);
+    }
+
+    // A deleted plot takes its land tenure with it
+    @TransactionalEventListener
+    public void onPlotChanged(PlotChangedEvent event) {
+        plots.invalidate(event.tenantId(), event.plotIdentifier());
+        landTenuresByPlot.invalidate(event.tenantId(), event.plotIdentifier());
+    }
+
+    // The plot carries the tenure type as well
+    @TransactionalEventListener
+    public void onLandTenureChanged(LandTenureChangedEvent event) {
+        landTenuresByPlot.invalidate(event.tenantId(), event.plotIdentifier());
+        plots.invalidate(event.tenantId(), event.plotIdentifier());
+    }
+}
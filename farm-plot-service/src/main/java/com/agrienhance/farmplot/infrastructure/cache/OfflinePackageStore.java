@@ -0,0 +1,144 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Directory of built offline packages, one file per farm named after the
+ * farm and the hash of the content it was built from. A package whose hash
+ * still matches the farm's current content is reused as is; building a new
+ * one replaces the farm's older packages.
+ *
+ * A replaced package stays on disk for a grace period after the package that
+ * replaced it was built, since a download that found it just before may not
+ * have opened it yet. The age is taken from the files' modification times, so
+ * no state outside the directory is needed.
+ */
+@Component
+public class OfflinePackageStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OfflinePackageStore.class);
+
+    private static final String EXTENSION = ".gpkg";
+
+    private final Path directory;
+    private final Duration gracePeriod;
+
+    public OfflinePackageStore(
+            @Value("${farmplot.offline-packages.directory:${java.io.tmpdir}/farmplot-offline-packages}") Path directory,
+            @Value("${farmplot.offline-packages.grace-period:PT15M}") Duration gracePeriod) {
+        this.directory = directory;
+        this.gracePeriod = gracePeriod;
+    }
+
+    public Optional<Path> find(UUID farmIdentifier, String contentHash) {
+        Path file = fileFor(farmIdentifier, contentHash);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Builds a package into a temporary file and moves it into place once
+     * complete, so readers never see a partial file. Concurrent builds of the
+     * same content are harmless; the last move wins.
+     */
+    public Path store(UUID farmIdentifier, String contentHash, PackageBuilder builder) throws IOException {
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, farmIdentifier.toString(), ".tmp");
+        try {
+            builder.build(temporary);
+            Path file = fileFor(farmIdentifier, contentHash);
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            deleteReplacedPackages(farmIdentifier);
+            return file;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Deletes all of the farm's packages, without a grace period; for farms
+     * that no longer exist.
+     */
+    public void evict(UUID farmIdentifier) {
+        try {
+            for (Path file : packagesOf(farmIdentifier)) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            // A stale package left behind is only wasted disk space
+            logger.warn("Failed to remove offline packages of farm {}", farmIdentifier, e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onFarmDeleted(FarmDeletedEvent event) {
+        evict(event.farmIdentifier());
+    }
+
+    private Path fileFor(UUID farmIdentifier, String contentHash) {
+        return directory.resolve(farmIdentifier + "-" + contentHash + EXTENSION);
+    }
+
+    /**
+     * Deletes the packages that were replaced longer than the grace period
+     * ago. A package was replaced when the next newer one was moved into
+     * place, so the newest package and the one it replaced within the grace
+     * period are kept.
+     */
+    private void deleteReplacedPackages(UUID farmIdentifier) {
+        FileTime deadline = FileTime.from(Instant.now().minus(gracePeriod));
+        try {
+            List<BuiltPackage> packages = new ArrayList<>();
+            for (Path file : packagesOf(farmIdentifier)) {
+                packages.add(new BuiltPackage(file, Files.getLastModifiedTime(file)));
+            }
+            // Newest first, so each package was replaced by the one before it
+            packages.sort(Comparator.comparing(BuiltPackage::builtAt).reversed());
+            for (int i = 1; i < packages.size(); i++) {
+                if (packages.get(i - 1).builtAt().compareTo(deadline) < 0) {
+                    Files.deleteIfExists(packages.get(i).file());
+                }
+            }
+        } catch (IOException e) {
+            // A stale package left behind is only wasted disk space
+            logger.warn("Failed to remove old offline packages of farm {}", farmIdentifier, e);
+        }
+    }
+
+    private List<Path> packagesOf(UUID farmIdentifier) throws IOException {
+        List<Path> packages = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return packages;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, farmIdentifier + "-*" + EXTENSION)) {
+            files.forEach(packages::add);
+        }
+        return packages;
+    }
+
+    private record BuiltPackage(Path file, FileTime builtAt) {
+    }
+
+    @FunctionalInterface
+    public interface PackageBuilder {
+        void build(Path file) throws IOException;
+    }
+}
@@ -0,0 +1,85 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Short-lived cache of "this farm/plot exists under this tenant" answers for
+ * POI parent validation. Only positive answers are cached, so a parent
+ * created a moment ago is found straight away; a deleted parent is evicted
+ * once its deletion commits.
+ */
+@Component
+public class ParentExistenceCache {
+
+    private final Cache<Key, Boolean> existingParents;
+
+    // Bumped on every invalidation; a check that raced with one is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public ParentExistenceCache(
+            @Value("${farmplot.poi.parent-cache.max-entries:10000}") long maxEntries,
+            @Value("${farmplot.poi.parent-cache.ttl:PT30S}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.existingParents = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, existingParents, "poi-parents");
+    }
+
+    /**
+     * Returns whether the parent exists, asking the check only if it is not
+     * already known to exist.
+     */
+    public boolean exists(UUID tenantId, ParentEntityType parentType, UUID parentIdentifier, BooleanSupplier check) {
+        Key key = new Key(tenantId, parentType, parentIdentifier);
+        if (existingParents.getIfPresent(key) != null) {
+            return true;
+        }
+        long checkedAt = generation.get();
+        boolean exists = check.getAsBoolean();
+        if (exists && generation.get() == checkedAt) {
+            existingParents.put(key, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    public void invalidate(UUID tenantId, ParentEntityType parentType, UUID parentIdentifier) {
+        generation.incrementAndGet();
+        existingParents.invalidate(new Key(tenantId, parentType, parentIdentifier));
+    }
+
+    // The farm's plots are removed with it (ON DELETE CASCADE)
+    @TransactionalEventListener
+    public void onFarmDeleted(FarmDeletedEvent event) {
+        invalidate(event.tenantId(), ParentEntityType.FARM, event.farmIdentifier());
+        generation.incrementAndGet();
+        existingParents.asMap().keySet().removeIf(key -> key.tenantId().equals(event.tenantId())
+                && key.parentType() == ParentEntityType.PLOT);
+    }
+
+    @TransactionalEventListener
+    public void onPlotChanged(PlotChangedEvent event) {
+        if (event.currentExtent() == null) { // deleted
+            invalidate(event.tenantId(), ParentEntityType.PLOT, event.plotIdentifier());
+        }
+    }
+
+    private record Key(UUID tenantId, ParentEntityType parentType, UUID parentIdentifier) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.application.spatial.TenantPlotIndex;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import com.agrienhance.farmplot.domain.event.PlotsCreatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Holds a {@link TenantPlotIndex} for the most recently used tenants
+ * (max-tenants, LRU). Indexes are created empty; the lookup service loads
+ * them on first use and reloads them once they are max-index-age old.
+ *
+ * Committed plot changes only mark the plot dirty in its tenant's index, so
+ * event delivery never hits the database. Changes committed through other
+ * instances raise no event here and show up with the next reload.
+ */
+@Component
+public class PlotSpatialIndex {
+
+    private final Map<UUID, TenantPlotIndex> indexesByTenant;
+    private final Duration maxIndexAge;
+
+    public PlotSpatialIndex(@Value("${farmplot.lookup.max-tenants:256}") int maxTenants,
+            @Value("${farmplot.lookup.max-index-age:PT1M}") Duration maxIndexAge) {
+        this.maxIndexAge = maxIndexAge;
+        this.indexesByTenant = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, TenantPlotIndex> eldest) {
+                return size() > maxTenants;
+            }
+        };
+    }
+
+    public TenantPlotIndex forTenant(UUID tenantId) {
+        synchronized (indexesByTenant) {
+            return indexesByTenant.computeIfAbsent(tenantId, id -> new TenantPlotIndex(maxIndexAge));
+        }
+    }
+
+    public boolean contains(UUID tenantId) {
+        synchronized (indexesByTenant) {
+            return indexesByTenant.containsKey(tenantId);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPlotChanged(PlotChangedEvent event) {
+        TenantPlotIndex index = peek(event.tenantId());
+        if (index != null) {
+            index.markDirty(event.plotIdentifier());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPlotsCreated(PlotsCreatedEvent event) {
+        TenantPlotIndex index = peek(event.tenantId());
+        if (index != null) {
+            index.markDirty(event.plotIdentifiers());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onFarmDeleted(FarmDeletedEvent event) {
+        TenantPlotIndex index = peek(event.tenantId());
+        if (index != null) {
+            index.removeFarm(event.farmIdentifier());
+        }
+    }
+
+    // Tenants without an index are skipped; their index is loaded fresh on first use
+    private TenantPlotIndex peek(UUID tenantId) {
+        synchronized (indexesByTenant) {
+            return indexesByTenant.get(tenantId);
+        }
+    }
+}
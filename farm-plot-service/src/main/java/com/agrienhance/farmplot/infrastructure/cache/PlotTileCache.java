@@ -0,0 +1,180 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.application.spatial.TileCoordinate;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import com.agrienhance.farmplot.domain.event.PlotsCreatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import org.locationtech.jts.geom.Envelope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of rendered plot vector tiles, kept separately per tenant.
+ * Each tenant gets its own Caffeine cache bounded by max-tiles-per-tenant;
+ * hits and misses of all tenants are reported together as the "plot-tiles"
+ * cache.
+ *
+ * Tiles are evicted after a plot change commits, for every cached tile whose
+ * bounds (plus the MVT clip buffer) touch the old or new plot extent. Each
+ * eviction bumps the tenant's generation; a tile rendered while one happened
+ * may show the old geometry and is returned but not cached. Only this
+ * instance sees those events, so expire-after-write bounds how long a change
+ * made through another instance can stay visible here.
+ */
+@Component
+public class PlotTileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlotTileCache.class);
+
+    static final String CACHE_NAME = "plot-tiles";
+
+    // MVT geometries are clipped with a 64 unit buffer on a 4096 unit extent
+    static final double TILE_BUFFER_FRACTION = 64.0 / 4096.0;
+
+    private final long maxTilesPerTenant;
+    private final Duration expireAfterWrite;
+    private final Ticker ticker;
+    private final CaffeineStatsCounter statsCounter;
+
+    // Kept once created, even when emptied, so the generation survives evictTenant
+    private final Map<UUID, TenantTiles> tilesByTenant = new ConcurrentHashMap<>();
+
+    public PlotTileCache(
+            @Value("${farmplot.tiles.cache.max-tiles-per-tenant:4096}") long maxTilesPerTenant,
+            @Value("${farmplot.tiles.cache.expire-after-write:PT5M}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this(maxTilesPerTenant, expireAfterWrite, meterRegistry, Ticker.systemTicker());
+    }
+
+    PlotTileCache(long maxTilesPerTenant, Duration expireAfterWrite, MeterRegistry meterRegistry, Ticker ticker) {
+        this.maxTilesPerTenant = maxTilesPerTenant;
+        this.expireAfterWrite = expireAfterWrite;
+        this.ticker = ticker;
+        this.statsCounter = new CaffeineStatsCounter(meterRegistry, CACHE_NAME);
+        Gauge.builder("cache.size", this, PlotTileCache::size)
+                .tag("cache", CACHE_NAME)
+                .description("The number of cached plot tiles, over all tenants")
+                .register(meterRegistry);
+    }
+
+    public Optional<byte[]> get(UUID tenantId, TileCoordinate tile) {
+        TenantTiles tenantTiles = tilesByTenant.get(tenantId);
+        return tenantTiles == null ? Optional.empty() : Optional.ofNullable(tenantTiles.tiles().getIfPresent(tile));
+    }
+
+    /**
+     * Returns the cached tile, or renders it and caches the result unless
+     * the tenant's tiles were evicted while it rendered.
+     */
+    public byte[] get(UUID tenantId, TileCoordinate tile, Supplier<byte[]> renderer) {
+        TenantTiles tenantTiles = tenantTiles(tenantId);
+        byte[] cached = tenantTiles.tiles().getIfPresent(tile);
+        if (cached != null) {
+            return cached;
+        }
+        long renderedAt = tenantTiles.generation().get();
+        byte[] rendered = renderer.get();
+        if (tenantTiles.generation().get() == renderedAt) {
+            tenantTiles.tiles().put(tile, rendered);
+            // An eviction that bumped the generation before the put may have
+            // scanned the tiles before it too
+            if (tenantTiles.generation().get() != renderedAt) {
+                tenantTiles.tiles().invalidate(tile);
+            }
+        }
+        return rendered;
+    }
+
+    public void put(UUID tenantId, TileCoordinate tile, byte[] data) {
+        tenantTiles(tenantId).tiles().put(tile, data);
+    }
+
+    /**
+     * Drops every cached tile of the tenant that overlaps the given extent.
+     */
+    public void evictIntersecting(UUID tenantId, Envelope extent) {
+        TenantTiles tenantTiles = tilesByTenant.get(tenantId);
+        if (tenantTiles == null || extent == null) {
+            return;
+        }
+        tenantTiles.generation().incrementAndGet();
+        int sizeBefore = tenantTiles.tiles().asMap().size();
+        tenantTiles.tiles().asMap().keySet()
+                .removeIf(tile -> tile.toEnvelope(TILE_BUFFER_FRACTION).intersects(extent));
+        int evicted = sizeBefore - tenantTiles.tiles().asMap().size();
+        if (evicted > 0) {
+            logger.debug("Evicted {} plot tiles for tenant {}", evicted, tenantId);
+        }
+    }
+
+    public void evictTenant(UUID tenantId) {
+        TenantTiles tenantTiles = tilesByTenant.get(tenantId);
+        if (tenantTiles == null) {
+            return;
+        }
+        tenantTiles.generation().incrementAndGet();
+        tenantTiles.tiles().invalidateAll();
+    }
+
+    public long size(UUID tenantId) {
+        TenantTiles tenantTiles = tilesByTenant.get(tenantId);
+        if (tenantTiles == null) {
+            return 0;
+        }
+        tenantTiles.tiles().cleanUp();
+        return tenantTiles.tiles().estimatedSize();
+    }
+
+    public long size() {
+        return tilesByTenant.keySet().stream().mapToLong(this::size).sum();
+    }
+
+    // Runs only once the plot change is committed. A tile request that read the
+    // old geometry before the commit finishes rendering after this eviction;
+    // the generation check in get keeps its tile out of the cache.
+    @TransactionalEventListener
+    public void onPlotChanged(PlotChangedEvent event) {
+        evictIntersecting(event.tenantId(), event.previousExtent());
+        evictIntersecting(event.tenantId(), event.currentExtent());
+    }
+
+    @TransactionalEventListener
+    public void onPlotsCreated(PlotsCreatedEvent event) {
+        evictIntersecting(event.tenantId(), event.extent());
+    }
+
+    // The extents of the cascaded plots are unknown, so drop all of the tenant's tiles
+    @TransactionalEventListener
+    public void onFarmDeleted(FarmDeletedEvent event) {
+        evictTenant(event.tenantId());
+    }
+
+    private TenantTiles tenantTiles(UUID tenantId) {
+        return tilesByTenant.computeIfAbsent(tenantId, id -> new TenantTiles(Caffeine.newBuilder()
+                .maximumSize(maxTilesPerTenant)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .recordStats(() -> statsCounter)
+                .build(), new AtomicLong()));
+    }
+
+    private record TenantTiles(Cache<TileCoordinate, byte[]> tiles, AtomicLong generation) {
+    }
+}
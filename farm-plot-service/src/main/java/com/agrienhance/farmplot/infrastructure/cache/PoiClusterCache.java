@@ -0,0 +1,97 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestClusterTileResponse;
+import com.agrienhance.farmplot.application.spatial.TileCoordinate;
+import com.agrienhance.farmplot.domain.event.PointOfInterestChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Clustered POI tiles, cached per (tenant, tile) so that panning and zooming
+ * only clusters the tiles that come into view for the first time.
+ *
+ * Tiles are evicted after a POI change commits, for every cached tile that
+ * contains the old or new location of a changed POI. Only this instance sees
+ * those events, so the ttl bounds how long a change made through another
+ * instance can stay visible here.
+ */
+@Component
+public class PoiClusterCache {
+
+    private final Cache<Key, PointOfInterestClusterTileResponse> tiles;
+
+    // Bumped on every eviction; a tile clustered while one happened is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public PoiClusterCache(
+            @Value("${farmplot.poi.clusters.cache.max-tiles:20000}") long maxTiles,
+            @Value("${farmplot.poi.clusters.cache.ttl:PT5M}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this(maxTiles, ttl, meterRegistry, Ticker.systemTicker());
+    }
+
+    PoiClusterCache(long maxTiles, Duration ttl, MeterRegistry meterRegistry, Ticker ticker) {
+        this.tiles = Caffeine.newBuilder()
+                .maximumSize(maxTiles)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tiles, "poi-clusters");
+    }
+
+    public PointOfInterestClusterTileResponse get(UUID tenantId, TileCoordinate tile,
+            Supplier<PointOfInterestClusterTileResponse> loader) {
+        Key key = new Key(tenantId, tile);
+        PointOfInterestClusterTileResponse cached = tiles.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        PointOfInterestClusterTileResponse loaded = loader.get();
+        if (generation.get() == loadedAt) {
+            tiles.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops every cached tile of the tenant that overlaps the given extent.
+     */
+    public void evictIntersecting(UUID tenantId, Envelope extent) {
+        if (extent == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        tiles.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId)
+                && key.tile().toEnvelope().intersects(extent));
+    }
+
+    public long size() {
+        tiles.cleanUp();
+        return tiles.estimatedSize();
+    }
+
+    // Runs only once the POI change is committed, so a concurrent tile request
+    // can't re-cache the old clusters between eviction and commit.
+    @TransactionalEventListener
+    public void onPointOfInterestChanged(PointOfInterestChangedEvent event) {
+        evictIntersecting(event.tenantId(), event.previousExtent());
+        evictIntersecting(event.tenantId(), event.currentExtent());
+    }
+
+    private record Key(UUID tenantId, TileCoordinate tile) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.application.spatial.SimplificationLevel;
+import org.locationtech.jts.geom.Polygon;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * LRU cache of simplified plot geometries per (plot, version, level), bounded
+ * by max-entries.
+ *
+ * The plot version is part of the key, so an edited plot simply misses and
+ * its stale entries age out; nothing has to be evicted on change.
+ */
+@Component
+public class SimplifiedGeometryCache {
+
+    private final Map<Key, Polygon> geometries;
+
+    public SimplifiedGeometryCache(
+            @Value("${farmplot.simplification.cache.max-entries:10000}") int maxEntries) {
+        this.geometries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Polygon> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the plot geometry simplified to the given level, simplifying and
+     * caching it on a miss.
+     */
+    public Polygon getSimplified(UUID plotIdentifier, Long version, Polygon geometry, SimplificationLevel level) {
+        if (geometry == null || level.isNone()) {
+            return geometry;
+        }
+        Key key = new Key(plotIdentifier, version, level.toleranceDegrees());
+        synchronized (geometries) {
+            Polygon cached = geometries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // Simplify outside the lock; two requests racing on a miss just do the work twice
+        Polygon simplified = level.apply(geometry);
+        synchronized (geometries) {
+            geometries.put(key, simplified);
+        }
+        return simplified;
+    }
+
+    public int size() {
+        synchronized (geometries) {
+            return geometries.size();
+        }
+    }
+
+    private record Key(UUID plotIdentifier, Long version, double toleranceDegrees) {
+    }
+}
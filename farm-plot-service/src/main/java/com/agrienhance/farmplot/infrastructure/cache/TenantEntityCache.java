@@ -0,0 +1,90 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * One bounded region of {@link EntityReadCache}: detached entities keyed by
+ * (tenantId, identifier). Hits and misses are reported as Micrometer cache
+ * metrics tagged with the region name.
+ *
+ * Only reads outside a read-write transaction use the cache, so a
+ * transaction never sees a cached copy of a row it has changed itself and
+ * never caches a row it may still roll back. Absent entities are not cached.
+ */
+public class TenantEntityCache<T> {
+
+    private final Cache<Key, T> entries;
+
+    // Bumped on every invalidation; a load that raced with one is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public TenantEntityCache(String name, long maxEntries, Duration expireAfterWrite, MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, name);
+    }
+
+    /**
+     * Returns the cached entity, or loads it and caches it if found.
+     */
+    public Optional<T> get(UUID tenantId, UUID identifier, Supplier<Optional<T>> loader) {
+        if (!isCacheableTransaction()) {
+            return loader.get();
+        }
+        Key key = new Key(tenantId, identifier);
+        T cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long loadedAt = generation.get();
+        Optional<T> loaded = loader.get();
+        // An invalidation during the load may have been for this very entity
+        // (read before the writer committed); skip caching rather than risk it.
+        if (loaded.isPresent() && generation.get() == loadedAt) {
+            entries.put(key, loaded.get());
+        }
+        return loaded;
+    }
+
+    public void invalidate(UUID tenantId, UUID identifier) {
+        generation.incrementAndGet();
+        entries.invalidate(new Key(tenantId, identifier));
+    }
+
+    /**
+     * Drops the tenant's entries matching the predicate, for changes that
+     * cascade to entities not known by identifier.
+     */
+    public void invalidateIf(UUID tenantId, Predicate<T> predicate) {
+        generation.incrementAndGet();
+        entries.asMap().entrySet().removeIf(entry -> entry.getKey().tenantId().equals(tenantId)
+                && predicate.test(entry.getValue()));
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private static boolean isCacheableTransaction() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record Key(UUID tenantId, UUID identifier) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Remembers which tenants wrote recently. Their reads stay on the primary
+ * for the window after each write, so a tenant always sees its own changes
+ * even though the replica may not have replayed them yet.
+ *
+ * The writers are kept in this instance's memory only, so the guarantee
+ * holds for reads served by the instance that handled the write.
+ */
+public class ReadYourWritesTracker {
+
+    private static final long MAX_TRACKED_TENANTS = 100_000;
+
+    private final Cache<UUID, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    ReadYourWritesTracker(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_TRACKED_TENANTS)
+                .ticker(ticker)
+                .build();
+    }
+
+    public void recordWrite(UUID tenantId) {
+        recentWriters.put(tenantId, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(UUID tenantId) {
+        return tenantId != null && recentWriters.getIfPresent(tenantId) != null;
+    }
+}
@@ -0,0 +1,118 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Measures how far the replica's replay is behind the primary, on a fixed
+ * delay. Reads may go to the replica only while the last measurement
+ * succeeded and was within the maximum lag; until the first one, they stay
+ * on the primary.
+ *
+ * Each measurement samples the primary's current WAL position, then the
+ * replica's replay position. The lag is the age of the oldest sample the
+ * replica hasn't replayed yet. It is measured against the primary rather
+ * than against what the replica received, so a replica whose streaming
+ * connection dropped falls behind as soon as the primary moves on. An idle
+ * primary writes no WAL, so a replica that has replayed everything counts
+ * as caught up however long ago the last write was.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Samples kept while the replica is stuck; beyond this the oldest ones are
+    // kept, since only they decide the lag
+    static final int MAX_SAMPLES = 4096;
+
+    static final String PRIMARY_LSN_SQL = "SELECT (pg_current_wal_lsn() - '0/0'::pg_lsn)::bigint";
+
+    // NULL when the "replica" is not a standby (e.g. the primary itself in development), -1 before its first replay
+    static final String REPLAY_LSN_SQL = """
+            SELECT CASE
+                WHEN pg_is_in_recovery() THEN COALESCE((pg_last_wal_replay_lsn() - '0/0'::pg_lsn)::bigint, -1)
+            END
+            """;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Ticker ticker;
+
+    // Primary positions not replayed yet, oldest first; only touched by measure()
+    private final Deque<Sample> unreplayed = new ArrayDeque<>();
+
+    // null until measured, and again while the lag can't be measured
+    private volatile Duration lag;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this(primary, replica, maxLag, meterRegistry, Ticker.systemTicker());
+    }
+
+    ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry,
+            Ticker ticker) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.ticker = ticker;
+        Gauge.builder("farmplot.datasource.replica.lag", this, monitor -> monitor.lag == null
+                        ? Double.NaN : monitor.lag.toMillis() / 1000.0)
+                .description("Replay lag of the read replica behind the primary; NaN while it can't be measured")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${farmplot.datasource.replica.lag-check-interval:PT1S}")
+    public synchronized void measure() {
+        try {
+            Duration measured = measureLag();
+            if (measured.compareTo(maxLag) > 0 && (lag == null || lag.compareTo(maxLag) <= 0)) {
+                logger.warn("Replica is {} ms behind the primary, reading from the primary until it catches up",
+                        measured.toMillis());
+            }
+            lag = measured;
+        } catch (DataAccessException e) {
+            if (lag != null) {
+                logger.warn("Replica lag can't be measured, reading from the primary", e);
+            }
+            lag = null;
+        }
+    }
+
+    public boolean acceptsReads() {
+        Duration current = lag;
+        return current != null && current.compareTo(maxLag) <= 0;
+    }
+
+    private Duration measureLag() {
+        long now = ticker.read();
+        Long primaryPosition = primary.queryForObject(PRIMARY_LSN_SQL, Long.class);
+        if (unreplayed.size() < MAX_SAMPLES && primaryPosition != null
+                && (unreplayed.isEmpty() || unreplayed.peekLast().position() < primaryPosition)) {
+            unreplayed.addLast(new Sample(now, primaryPosition));
+        }
+        Long replayed = replica.queryForObject(REPLAY_LSN_SQL, Long.class);
+        if (replayed == null) {
+            unreplayed.clear();
+            return Duration.ZERO;
+        }
+        while (!unreplayed.isEmpty() && unreplayed.peekFirst().position() <= replayed) {
+            unreplayed.removeFirst();
+        }
+        return unreplayed.isEmpty() ? Duration.ZERO : Duration.ofNanos(now - unreplayed.peekFirst().takenAt());
+    }
+
+    private record Sample(long takenAt, long position) {
+    }
+}
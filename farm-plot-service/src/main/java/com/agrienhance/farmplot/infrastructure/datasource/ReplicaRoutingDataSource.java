@@ -0,0 +1,68 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The data source of read-only transactions: the replica, unless it lags
+ * too far behind or the current tenant wrote recently, in which case the
+ * read goes to the primary.
+ *
+ * Reads are counted as {@code farmplot.datasource.reads}, tagged with the
+ * target and the reason it was chosen ({@code replica}, {@code lag} or
+ * {@code read-your-writes}).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker writesTracker;
+
+    private final Counter replicaReads;
+    private final Counter laggingReads;
+    private final Counter stickyReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            ReadYourWritesTracker writesTracker, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.writesTracker = writesTracker;
+        this.replicaReads = readCounter(meterRegistry, Target.REPLICA, "replica");
+        this.laggingReads = readCounter(meterRegistry, Target.PRIMARY, "lag");
+        this.stickyReads = readCounter(meterRegistry, Target.PRIMARY, "read-your-writes");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        initialize();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        UUID tenantId = TenantRoutingContext.currentTenant();
+        if (writesTracker.wroteRecently(tenantId)) {
+            stickyReads.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.acceptsReads()) {
+            laggingReads.increment();
+            return Target.PRIMARY;
+        }
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("farmplot.datasource.reads")
+                .description("Connections handed out for read-only transactions")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the {@code tenantId} argument of intercepted methods, for the
+ * interceptors that act on whose data a call touches. The position of the
+ * parameter is looked up once per method.
+ */
+public final class TenantArguments {
+
+    // No tenantId parameter
+    public static final int NONE = -1;
+
+    private static final Map<Method, Integer> INDEXES = new ConcurrentHashMap<>();
+
+    private TenantArguments() {
+    }
+
+    /**
+     * The position of the method's {@code UUID tenantId} parameter, or
+     * {@link #NONE}.
+     */
+    public static int indexOf(Method method) {
+        return INDEXES.computeIfAbsent(method, TenantArguments::findIndex);
+    }
+
+    /**
+     * The tenant passed to the call, or {@code null} if the method takes none.
+     */
+    public static UUID of(Method method, Object[] arguments) {
+        int index = indexOf(method);
+        return index == NONE ? null : (UUID) arguments[index];
+    }
+
+    // Relies on parameter names being compiled in (-parameters)
+    private static int findIndex(Method method) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getType() == UUID.class && parameters[i].getName().equals("tenantId")) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,38 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import java.util.UUID;
+
+/**
+ * The tenant the current thread is working for, as far as data source
+ * routing is concerned. Set around application service calls by
+ * {@link TenantRoutingInterceptor}; {@code null} outside of them.
+ */
+public final class TenantRoutingContext {
+
+    private static final ThreadLocal<UUID> CURRENT_TENANT = new ThreadLocal<>();
+
+    private TenantRoutingContext() {
+    }
+
+    public static UUID currentTenant() {
+        return CURRENT_TENANT.get();
+    }
+
+    /**
+     * Makes the tenant current and returns the previously current one, to be
+     * handed back to {@link #restore} when the call is done.
+     */
+    static UUID enter(UUID tenantId) {
+        UUID previous = CURRENT_TENANT.get();
+        CURRENT_TENANT.set(tenantId);
+        return previous;
+    }
+
+    static void restore(UUID previous) {
+        if (previous == null) {
+            CURRENT_TENANT.remove();
+        } else {
+            CURRENT_TENANT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+/**
+ * Makes the {@code tenantId} argument of application service methods the
+ * current tenant of {@link TenantRoutingContext} for the duration of the call,
+ * so the data sources below know whose reads and writes they serve.
+ */
+public class TenantRoutingInterceptor implements MethodInterceptor {
+
+    static final String SERVICE_PACKAGE = "com.agrienhance.farmplot.application.service";
+
+    /**
+     * Application service methods taking a {@code tenantId}.
+     */
+    public static Pointcut pointcut() {
+        return new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return targetClass.getPackageName().startsWith(SERVICE_PACKAGE)
+                        && TenantArguments.indexOf(method) != TenantArguments.NONE;
+            }
+        };
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        UUID tenantId = TenantArguments.of(invocation.getMethod(), invocation.getArguments());
+        if (tenantId == null) {
+            return invocation.proceed();
+        }
+        UUID previous = TenantRoutingContext.enter(tenantId);
+        try {
+            return invocation.proceed();
+        } finally {
+            TenantRoutingContext.restore(previous);
+        }
+    }
+}
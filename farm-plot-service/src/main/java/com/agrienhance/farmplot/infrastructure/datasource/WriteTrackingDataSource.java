@@ -0,0 +1,56 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * The primary as seen by read-write work. Handing out a connection for a
+ * tenant's read-write transaction records a write for that tenant once the
+ * transaction commits. Read-write transactions that only read count as well,
+ * which merely keeps the tenant on the primary a little longer. Statements
+ * outside of a transaction are not tracked: repository writes always run in
+ * one.
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+
+    public WriteTrackingDataSource(DataSource primary, ReadYourWritesTracker tracker) {
+        super(primary);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        trackWrite();
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        trackWrite();
+        return connection;
+    }
+
+    private void trackWrite() {
+        UUID tenantId = TenantRoutingContext.currentTenant();
+        if (tenantId == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.recordWrite(tenantId);
+            }
+        });
+    }
+}
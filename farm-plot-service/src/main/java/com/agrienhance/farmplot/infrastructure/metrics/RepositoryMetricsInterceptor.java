@@ -0,0 +1,177 @@
+package com.agrienhance.farmplot.infrastructure.metrics;
+
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.infrastructure.datasource.TenantArguments;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+
+/**
+ * Times every call on one Spring Data repository and records the vertex
+ * counts of the geometries it returns.
+ *
+ * Each call is recorded twice:
+ * <ul>
+ * <li>farmplot.repository.invocations, tagged with the repository and method
+ * only, carries the percentile histogram;</li>
+ * <li>farmplot.repository.calls, without a histogram, is also tagged with the
+ * tier of the tenant passed as tenantId (see {@link TenantTiers}), a
+ * bucketed result size and the exception thrown, if any.</li>
+ * </ul>
+ * Every combination of the breakdown tags makes its own time series, and
+ * with a histogram each would carry its own set of buckets. Tenants and
+ * exact sizes would make a time series per value, so neither is used as a
+ * tag. Methods returning a Stream are timed until the stream is returned,
+ * not until it is consumed.
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    static final String INVOCATIONS = "farmplot.repository.invocations";
+    static final String CALLS = "farmplot.repository.calls";
+    static final String GEOMETRY_VERTICES = "farmplot.repository.geometry.vertices";
+
+    static final String NOT_COUNTED = "n/a";
+
+    private final MeterRegistry meterRegistry;
+    private final TenantTiers tenantTiers;
+    private final String repository;
+
+    public RepositoryMetricsInterceptor(MeterRegistry meterRegistry, TenantTiers tenantTiers, String repository) {
+        this.meterRegistry = meterRegistry;
+        this.tenantTiers = tenantTiers;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result = null;
+        Throwable error = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            Tags tags = Tags.of("repository", repository, "method", method.getName());
+            long nanos = sample.stop(Timer.builder(INVOCATIONS)
+                    .description("Latency distribution of Spring Data repository calls")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry));
+            Timer.builder(CALLS)
+                    .description("Spring Data repository calls by tenant tier, result size and outcome")
+                    .tags(tags)
+                    .tag("tenant.tier", tenantTiers.tierOf(TenantArguments.of(method, invocation.getArguments())))
+                    .tag("result.size", error == null ? resultSize(result) : NOT_COUNTED)
+                    .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            if (error == null) {
+                recordVertexCounts(result, tags);
+            }
+        }
+    }
+
+    /**
+     * Buckets the number of rows or entities returned, e.g. "0", "2-10" or
+     * "1001+"; "n/a" for results that aren't rows (counts, flags, tiles, streams).
+     */
+    static String resultSize(Object result) {
+        if (result == null) {
+            return "0";
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? "1" : "0";
+        }
+        if (result instanceof Collection<?> collection) {
+            return sizeBucket(collection.size());
+        }
+        if (result instanceof Slice<?> slice) {
+            return sizeBucket(slice.getNumberOfElements());
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof byte[]
+                || result instanceof Iterable<?> || result instanceof BaseStream<?, ?>) {
+            return NOT_COUNTED;
+        }
+        return "1";
+    }
+
+    private static String sizeBucket(int size) {
+        if (size <= 1) {
+            return Integer.toString(size);
+        }
+        if (size <= 10) {
+            return "2-10";
+        }
+        if (size <= 100) {
+            return "11-100";
+        }
+        if (size <= 1000) {
+            return "101-1000";
+        }
+        return "1001+";
+    }
+
+    private void recordVertexCounts(Object result, Tags tags) {
+        if (result instanceof Optional<?> optional) {
+            result = optional.orElse(null);
+        }
+        if (result instanceof Iterable<?> elements && !(result instanceof Geometry)) {
+            DistributionSummary vertices = null;
+            for (Object element : elements) {
+                Geometry geometry = geometryOf(element);
+                if (geometry == null) {
+                    continue;
+                }
+                if (vertices == null) {
+                    vertices = vertexSummary(tags);
+                }
+                vertices.record(geometry.getNumPoints());
+            }
+            return;
+        }
+        Geometry geometry = geometryOf(result);
+        if (geometry != null) {
+            vertexSummary(tags).record(geometry.getNumPoints());
+        }
+    }
+
+    // Points carry a single vertex; only plot boundaries are worth a distribution
+    private static Geometry geometryOf(Object element) {
+        if (element instanceof Plot plot) {
+            return plot.getPlotGeometry();
+        }
+        if (element instanceof Geometry geometry && geometry.getDimension() > 0) {
+            return geometry;
+        }
+        return null;
+    }
+
+    private DistributionSummary vertexSummary(Tags tags) {
+        return DistributionSummary.builder(GEOMETRY_VERTICES)
+                .description("Vertex counts of the geometries returned by repository calls")
+                .baseUnit("vertices")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(4.0)
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry);
+    }
+}
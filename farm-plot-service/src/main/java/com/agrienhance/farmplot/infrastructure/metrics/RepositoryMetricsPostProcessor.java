@@ -0,0 +1,36 @@
+package com.agrienhance.farmplot.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds a {@link RepositoryMetricsInterceptor} to the proxy of every Spring
+ * Data repository as it is created. The registry and tiers are looked up
+ * lazily, so this post-processor doesn't force them to be created early.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<TenantTiers> tenantTiers;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<TenantTiers> tenantTiers) {
+        this.meterRegistry = meterRegistry;
+        this.tenantTiers = tenantTiers;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new RepositoryMetricsInterceptor(
+                            meterRegistry.getObject(), tenantTiers.getObject(),
+                            repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+}
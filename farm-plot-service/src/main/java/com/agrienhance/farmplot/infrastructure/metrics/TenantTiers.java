@@ -0,0 +1,44 @@
+package com.agrienhance.farmplot.infrastructure.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service tier of each tenant, used to tag metrics so that latency can be
+ * broken down by tier without a tag per tenant. Tenants are assigned with
+ * farmplot.metrics.tenant-tiers.&lt;tenant-uuid&gt;=&lt;tier&gt;; everyone else is
+ * in the default tier.
+ */
+@Component
+public class TenantTiers {
+
+    static final String NO_TENANT = "none";
+
+    private final Map<UUID, String> tiers;
+    private final String defaultTier;
+
+    public TenantTiers(Environment environment,
+            @Value("${farmplot.metrics.default-tenant-tier:standard}") String defaultTier) {
+        this(Binder.get(environment)
+                .bind("farmplot.metrics.tenant-tiers", Bindable.mapOf(UUID.class, String.class))
+                .orElse(Map.of()), defaultTier);
+    }
+
+    TenantTiers(Map<UUID, String> tiers, String defaultTier) {
+        this.tiers = Map.copyOf(tiers);
+        this.defaultTier = defaultTier;
+    }
+
+    public String tierOf(UUID tenantId) {
+        if (tenantId == null) {
+            return NO_TENANT;
+        }
+        return tiers.getOrDefault(tenantId, defaultTier);
+    }
+}
@@ -0,0 +1,83 @@
+package com.agrienhance.farmplot.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appends outbox messages to a newline-delimited JSON file, one message per
+ * line with the payload embedded as JSON. Each batch is forced to disk before
+ * the relay deletes it from the outbox. A stand-in for a broker in local
+ * setups and tests.
+ *
+ * Appends are serialized with a lock rather than {@code synchronized}, so a
+ * virtual thread waiting on the disk doesn't pin its carrier.
+ */
+@Component
+@ConditionalOnProperty(name = "farmplot.outbox.publisher", havingValue = "file")
+public class FileOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final Lock appendLock = new ReentrantLock();
+
+    public FileOutboxEventPublisher(ObjectMapper objectMapper,
+            @Value("${farmplot.outbox.file:${java.io.tmpdir}/farmplot-outbox.ndjson}") Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (OutboxMessage message : messages) {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(lines)) {
+                generator.writeStartObject();
+                generator.writeNumberField("sequence", message.sequence());
+                generator.writeStringField("aggregateType", message.aggregateType());
+                generator.writeStringField("aggregateIdentifier", message.aggregateIdentifier().toString());
+                generator.writeStringField("tenantId", message.tenantId().toString());
+                generator.writeStringField("eventType", message.eventType());
+                generator.writeStringField("occurredAt", message.occurredAt().toString());
+                generator.writeFieldName("payload");
+                generator.writeRawValue(message.payload());
+                generator.writeEndObject();
+            }
+            lines.write('\n');
+        }
+        appendLock.lock();
+        try {
+            append(lines.toByteArray());
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void append(byte[] lines) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.agrienhance.farmplot.infrastructure.outbox;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Re-publishes outbox messages as Spring application events within this
+ * service. The default until a broker publisher is configured; tests listen
+ * for {@link OutboxMessage} events.
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "farmplot.outbox.publisher", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
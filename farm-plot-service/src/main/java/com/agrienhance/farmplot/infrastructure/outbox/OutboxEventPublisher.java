@@ -0,0 +1,18 @@
+package com.agrienhance.farmplot.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the events drained from the outbox, e.g. a message broker.
+ * The relay picks the single bean of this type; which one is registered is
+ * chosen with farmplot.outbox.publisher.
+ */
+public interface OutboxEventPublisher {
+
+    /**
+     * Publishes the messages in the given order. Must only return once the
+     * destination has accepted all of them; throwing leaves the whole batch in
+     * the outbox to be published again, so delivery is at-least-once.
+     */
+    void publish(List<OutboxMessage> messages) throws Exception;
+}
@@ -0,0 +1,89 @@
+package com.agrienhance.farmplot.infrastructure.outbox;
+
+import com.agrienhance.farmplot.domain.event.DomainEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Records domain events in the outbox table. Always joins the caller's
+ * transaction, so an event exists exactly when the change it describes was
+ * committed.
+ *
+ * Recording an event takes a transaction-level lock on its aggregate, so a
+ * second transaction with events for the same farm or plot waits until the
+ * first one ends. Its events are only numbered after the first one's are
+ * visible, which keeps the outbox order per aggregate equal to commit order.
+ */
+@Component
+public class OutboxEventWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_identifier, tenant_id, event_type, payload)
+            SELECT ?, ?, ?, ?, ?::jsonb
+            FROM (SELECT pg_advisory_xact_lock(hashtextextended(?::text, 0))) AS aggregate_lock
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<DomainEventType, Counter> appendedCounters = new EnumMap<>(DomainEventType.class);
+
+    public OutboxEventWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        for (DomainEventType type : DomainEventType.values()) {
+            appendedCounters.put(type, Counter.builder("farmplot.outbox.events.appended")
+                    .description("Domain events recorded in the outbox")
+                    .tag("event_type", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Records one event.
+     *
+     * @param payload Serialized to JSON with the application's ObjectMapper.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEventType type, UUID aggregateIdentifier, UUID tenantId, Object payload) {
+        jdbcTemplate.update(INSERT_SQL, type.getAggregateType().name(), aggregateIdentifier, tenantId,
+                type.name(), toJson(payload), aggregateIdentifier);
+        appendedCounters.get(type).increment();
+    }
+
+    /**
+     * Records one event of the same type per aggregate as a single JDBC batch.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void appendAll(DomainEventType type, List<T> payloads,
+            Function<T, UUID> aggregateIdentifier, Function<T, UUID> tenantId) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, payloads, payloads.size(), (ps, payload) -> {
+            ps.setString(1, type.getAggregateType().name());
+            ps.setObject(2, aggregateIdentifier.apply(payload));
+            ps.setObject(3, tenantId.apply(payload));
+            ps.setString(4, type.name());
+            ps.setString(5, toJson(payload));
+            ps.setObject(6, aggregateIdentifier.apply(payload));
+        });
+        appendedCounters.get(type).increment(payloads.size());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Domain event payload is not serializable", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.agrienhance.farmplot.infrastructure.outbox;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * An outbox event as handed to an {@link OutboxEventPublisher}. The sequence
+ * increases with every event recorded, so consumers can drop redeliveries
+ * of a sequence they have already processed.
+ *
+ * @param payload The event body as JSON.
+ */
+public record OutboxMessage(
+        long sequence,
+        String aggregateType,
+        UUID aggregateIdentifier,
+        UUID tenantId,
+        String eventType,
+        String payload,
+        OffsetDateTime occurredAt) {
+}
@@ -0,0 +1,140 @@
+package com.agrienhance.farmplot.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Drains the outbox to the {@link OutboxEventPublisher} in batches, oldest
+ * event first, deleting each batch in the transaction that read it once the
+ * publisher has accepted it.
+ *
+ * Only one relay drains at a time across all instances (a transaction-level
+ * advisory lock), so events reach the publisher in outbox order and the
+ * events of each aggregate in the order they happened.
+ */
+@Component
+@ConditionalOnProperty(name = "farmplot.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    // Arbitrary application-wide key of the relay's advisory lock
+    private static final long RELAY_LOCK_KEY = 0x6661726D706C6F74L; // "farmplot"
+
+    private static final String SELECT_BATCH_SQL = """
+            SELECT id, aggregate_type, aggregate_identifier, tenant_id, event_type, payload::text AS payload, occurred_at
+            FROM outbox_events
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+            OutboxEventPublisher publisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${farmplot.outbox.relay.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.publishedCounter = Counter.builder("farmplot.outbox.events.published")
+                .description("Outbox events accepted by the publisher")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("farmplot.outbox.publish.failures")
+                .description("Outbox batches the publisher failed to accept")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("farmplot.outbox.relay.batch")
+                .description("Time to read, publish and delete one outbox batch")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("farmplot.outbox.relay.batch.size")
+                .description("Events per relayed outbox batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${farmplot.outbox.relay.interval:PT1S}")
+    public void relayPending() {
+        try {
+            // Keep going while batches come back full, so a backlog drains without waiting for the next tick
+            while (relayBatch() == batchSize) {
+                // next batch
+            }
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            logger.warn("Outbox relay failed; the batch stays in the outbox and is retried", e);
+        }
+    }
+
+    /**
+     * Publishes and removes the oldest batch of events.
+     *
+     * @return The number of events relayed; 0 if the outbox is empty or
+     *         another relay holds the lock.
+     */
+    public int relayBatch() {
+        Integer relayed = batchTimer.record(() -> transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                    RELAY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return 0;
+            }
+            List<OutboxMessage> batch = jdbcTemplate.query(SELECT_BATCH_SQL, (rs, rowNum) -> new OutboxMessage(
+                    rs.getLong("id"),
+                    rs.getString("aggregate_type"),
+                    rs.getObject("aggregate_identifier", UUID.class),
+                    rs.getObject("tenant_id", UUID.class),
+                    rs.getString("event_type"),
+                    rs.getString("payload"),
+                    rs.getObject("occurred_at", OffsetDateTime.class)), batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                publisher.publish(batch);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox publisher failed", e);
+            }
+            // Exactly the published ids: a lower id may have committed since the batch was read
+            Long[] ids = batch.stream().map(OutboxMessage::sequence).toArray(Long[]::new);
+            jdbcTemplate.update(connection -> {
+                PreparedStatement delete = connection.prepareStatement("DELETE FROM outbox_events WHERE id = ANY(?)");
+                delete.setArray(1, connection.createArrayOf("bigint", ids));
+                return delete;
+            });
+            return batch.size();
+        }));
+        int count = relayed != null ? relayed : 0;
+        if (count > 0) {
+            publishedCounter.increment(count);
+            batchSizeSummary.record(count);
+        }
+        return count;
+    }
+}
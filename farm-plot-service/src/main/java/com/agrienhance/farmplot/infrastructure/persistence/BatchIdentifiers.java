@@ -0,0 +1,48 @@
+package com.agrienhance.farmplot.infrastructure.persistence;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Identifier check of the batch writers. Plots and POIs are partitioned by
+ * tenant, so their primary keys are (identifier, tenant_id) and the database
+ * only rejects an identifier already used within the same tenant. The
+ * entities still treat the identifier alone as their id, so the writers
+ * reject identifiers used by any tenant before inserting.
+ */
+final class BatchIdentifiers {
+
+    private BatchIdentifiers() {
+    }
+
+    /**
+     * Throws {@link DuplicateKeyException} if an identifier repeats within
+     * the batch or already exists in the table. The lookup is by identifier
+     * alone, one primary key index probe per partition.
+     */
+    static void requireUnused(JdbcTemplate jdbcTemplate, String table, String identifierColumn,
+            List<UUID> identifiers) {
+        Set<UUID> unique = new HashSet<>();
+        for (UUID identifier : identifiers) {
+            if (!unique.add(identifier)) {
+                throw new DuplicateKeyException("Identifier " + identifier + " appears twice in the "
+                        + table + " batch");
+            }
+        }
+        String sql = "SELECT " + identifierColumn + " FROM " + table + " WHERE " + identifierColumn + " = ANY (?)";
+        List<UUID> existing = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("uuid", unique.toArray()));
+            return statement;
+        }, (resultSet, rowNum) -> resultSet.getObject(1, UUID.class));
+        if (!existing.isEmpty()) {
+            throw new DuplicateKeyException("Identifier " + existing.get(0) + " already exists in " + table);
+        }
+    }
+}
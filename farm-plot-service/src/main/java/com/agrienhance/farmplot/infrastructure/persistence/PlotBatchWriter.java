@@ -0,0 +1,54 @@
+package com.agrienhance.farmplot.infrastructure.persistence;
+
+import com.agrienhance.farmplot.domain.entity.Plot;
+import lombok.AllArgsConstructor;
+import org.locationtech.jts.io.WKBWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Inserts plots with plain JDBC batches, bypassing the persistence context.
+ * Used for bulk imports where per-entity flush and refresh would dominate.
+ *
+ * The plots must already carry their identifier, farm and tenant. The
+ * calculated_area_hectares column is filled in by the database. Identifiers
+ * used by any tenant are rejected (see {@link BatchIdentifiers}).
+ */
+@Component
+@AllArgsConstructor
+public class PlotBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO plots (plot_identifier, farm_identifier, plot_name, cultivator_reference_id,
+                               plot_geometry, land_tenure_type, tenant_id, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ST_GeomFromWKB(?, 4326), ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all plots as one JDBC batch. Must run inside a transaction; a
+     * failing row fails the whole batch.
+     */
+    public void insertAll(List<Plot> plots) {
+        BatchIdentifiers.requireUnused(jdbcTemplate, "plots", "plot_identifier",
+                plots.stream().map(Plot::getPlotIdentifier).toList());
+        WKBWriter wkbWriter = new WKBWriter();
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, plots, plots.size(), (ps, plot) -> {
+            ps.setObject(1, plot.getPlotIdentifier());
+            ps.setObject(2, plot.getFarm().getFarmIdentifier());
+            ps.setString(3, plot.getPlotName());
+            ps.setObject(4, plot.getCultivatorReferenceId(), Types.OTHER);
+            ps.setBytes(5, wkbWriter.write(plot.getPlotGeometry()));
+            ps.setString(6, plot.getLandTenureType() != null ? plot.getLandTenureType().name() : null);
+            ps.setObject(7, plot.getTenantId());
+            ps.setObject(8, now);
+            ps.setObject(9, now);
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.agrienhance.farmplot.infrastructure.persistence;
+
+import com.agrienhance.farmplot.domain.entity.PointOfInterest;
+import lombok.AllArgsConstructor;
+import org.locationtech.jts.io.WKBWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Inserts points of interest with plain JDBC batches, bypassing the
+ * persistence context. Used for batch uploads where a flush per entity would
+ * dominate.
+ *
+ * The POIs must already carry their identifier, parent and tenant; their
+ * timestamps and version are set here. Identifiers used by any tenant are
+ * rejected (see {@link BatchIdentifiers}).
+ */
+@Component
+@AllArgsConstructor
+public class PointOfInterestBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO points_of_interest (poi_identifier, parent_entity_identifier, parent_entity_type, poi_name,
+                                            poi_type, coordinates, notes, tenant_id, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ST_GeomFromWKB(?, 4326), ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts all POIs as one JDBC batch. Must run inside a transaction; a
+     * failing row fails the whole batch.
+     */
+    public void insertAll(List<PointOfInterest> pois) {
+        BatchIdentifiers.requireUnused(jdbcTemplate, "points_of_interest", "poi_identifier",
+                pois.stream().map(PointOfInterest::getPoiIdentifier).toList());
+        WKBWriter wkbWriter = new WKBWriter();
+        OffsetDateTime now = OffsetDateTime.now();
+        for (PointOfInterest poi : pois) {
+            poi.setCreatedAt(now);
+            poi.setUpdatedAt(now);
+            poi.setVersion(0L);
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, pois, pois.size(), (ps, poi) -> {
+            ps.setObject(1, poi.getPoiIdentifier());
+            ps.setObject(2, poi.getParentEntityIdentifier());
+            ps.setString(3, poi.getParentEntityType().name());
+            ps.setString(4, poi.getPoiName());
+            ps.setString(5, poi.getPoiType().name());
+            ps.setBytes(6, wkbWriter.write(poi.getCoordinates()));
+            ps.setString(7, poi.getNotes());
+            ps.setObject(8, poi.getTenantId());
+            ps.setObject(9, now);
+            ps.setObject(10, now);
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package com.agrienhance.farmplot.infrastructure.persistence;
+
+import com.agrienhance.farmplot.application.pagination.SyncToken;
+import com.agrienhance.farmplot.domain.enums.SyncEntityType;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the change log kept by the V3 sync triggers: the change_xid stamp of
+ * every farm, plot, land tenure and point of interest, plus sync_tombstones
+ * for deleted ones. Changes are returned in (change_xid, entity type,
+ * identifier) order.
+ *
+ * Only changes below the oldest transaction still running are visible, so a
+ * transaction that commits after a page was read can never land behind the
+ * token that page returned.
+ */
+@Component
+@AllArgsConstructor
+public class SyncChangeLog {
+
+    // %1$s entity type, %2$s identifier column, %3$s table
+    private static final String LIVE_BRANCH = """
+            (SELECT '%1$s'::text AS entity_type, %2$s AS identifier, change_xid, FALSE AS deleted
+               FROM %3$s
+              WHERE tenant_id = :tenantId
+                AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint
+                AND (change_xid, '%1$s'::text, %2$s) > (:changeXid, :entityType, :identifier)
+              ORDER BY change_xid, %2$s
+              LIMIT :limit)
+            """;
+
+    private static final String CHANGES_SQL = String.join("UNION ALL\n",
+            LIVE_BRANCH.formatted(SyncEntityType.FARM, "farm_identifier", "farms"),
+            LIVE_BRANCH.formatted(SyncEntityType.LAND_TENURE, "land_tenure_identifier", "land_tenures"),
+            LIVE_BRANCH.formatted(SyncEntityType.PLOT, "plot_identifier", "plots"),
+            LIVE_BRANCH.formatted(SyncEntityType.POINT_OF_INTEREST, "poi_identifier", "points_of_interest"),
+            """
+            (SELECT entity_type::text, entity_identifier, change_xid, TRUE
+               FROM sync_tombstones
+              WHERE tenant_id = :tenantId
+                AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint
+                AND (change_xid, entity_type::text, entity_identifier) > (:changeXid, :entityType, :identifier)
+              ORDER BY change_xid, entity_type, entity_identifier
+              LIMIT :limit)
+            """)
+            + "ORDER BY change_xid, entity_type, identifier\nLIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns up to {@code limit} changes of the tenant made after the token.
+     */
+    public List<Change> findChangesAfter(UUID tenantId, SyncToken after, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("changeXid", after.changeXid())
+                .addValue("entityType", after.entityType())
+                .addValue("identifier", after.identifier())
+                .addValue("limit", limit);
+        return jdbcTemplate.query(CHANGES_SQL, parameters, (rs, rowNum) -> new Change(
+                SyncEntityType.valueOf(rs.getString("entity_type")),
+                rs.getObject("identifier", UUID.class),
+                rs.getLong("change_xid"),
+                rs.getBoolean("deleted")));
+    }
+
+    public record Change(SyncEntityType entityType, UUID identifier, long changeXid, boolean deleted) {
+
+        public SyncToken toToken() {
+            return new SyncToken(changeXid, entityType.name(), identifier);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.agrienhance.farmplot.infrastructure.scheduling;
+
+import com.agrienhance.farmplot.application.exception.ResourceNotFoundException;
+import com.agrienhance.farmplot.application.service.OfflinePackageService;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.projection.FarmReference;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Keeps every farm's offline package built ahead of the first download.
+ * Each pass only compares content hashes for unchanged farms; packages are
+ * rebuilt just for farms that changed since the previous pass.
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "farmplot.offline-packages.prebuild.enabled", havingValue = "true")
+public class OfflinePackageRefreshJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(OfflinePackageRefreshJob.class);
+
+    private final FarmRepository farmRepository;
+    private final OfflinePackageService offlinePackageService;
+
+    @Scheduled(fixedDelayString = "${farmplot.offline-packages.prebuild.interval:PT15M}")
+    public void refreshPackages() {
+        for (FarmReference farm : farmRepository.findAllReferences()) {
+            try {
+                offlinePackageService.getFarmPackage(farm.getFarmIdentifier(), farm.getTenantId());
+            } catch (ResourceNotFoundException e) {
+                // Deleted since the listing; its packages are evicted on delete
+            } catch (IOException | RuntimeException e) {
+                // One failing farm must not stop the others; the next pass retries it
+                logger.warn("Failed to build offline package of farm {}", farm.getFarmIdentifier(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.agrienhance.farmplot.infrastructure.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Watches for virtual threads pinned to their carrier while running in
+ * virtual-thread mode. A virtual thread that blocks inside
+ * {@code synchronized} (or a native frame) keeps its carrier busy, and with
+ * only one carrier per core a few slow pinned calls stall every request.
+ *
+ * Pins longer than the threshold are read from the JDK's own
+ * {@code jdk.VirtualThreadPinned} flight recorder event, timed as
+ * {@code farmplot.virtual-threads.pinned} and logged with the frame that
+ * pinned, so the offending lock can be found and replaced.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String APPLICATION_PACKAGE = "com.agrienhance.";
+
+    private final Timer pinned;
+    private final Duration threshold;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${farmplot.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.pinned = Timer.builder("farmplot.virtual-threads.pinned")
+                .description("Virtual threads pinned to their carrier for longer than the threshold")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> record(event.getDuration(), pinnedAt(event)));
+        stream.startAsync();
+        logger.info("Monitoring virtual threads pinned for longer than {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void record(Duration duration, String site) {
+        pinned.record(duration);
+        logger.warn("Virtual thread pinned to its carrier for {} ms at {}", duration.toMillis(), site);
+    }
+
+    // The innermost application frame says which of our locks pinned; library frames above it rarely help
+    static String pinnedAt(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("unknown frame");
+    }
+}
@@ -0,0 +1,13 @@
+-- Indexes backing the keyset (seek) listings. The leading equality columns
+-- are followed by the exact sort expression of the queries, so a page is one
+-- index range scan regardless of how deep into the listing it is.
+-- The COALESCE(name, '') expressions must match the repository queries.
+
+CREATE INDEX idx_farms_tenant_name_keyset
+    ON farms (tenant_id, (COALESCE(farm_name, '')), farm_identifier);
+
+CREATE INDEX idx_plots_tenant_name_keyset
+    ON plots (tenant_id, (COALESCE(plot_name, '')), plot_identifier);
+
+CREATE INDEX idx_poi_parent_name_keyset
+    ON points_of_interest (tenant_id, parent_entity_identifier, parent_entity_type, (COALESCE(poi_name, '')), poi_identifier);
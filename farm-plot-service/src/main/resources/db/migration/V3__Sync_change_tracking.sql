@@ -0,0 +1,69 @@
+-- Change tracking for the delta sync API (/v1/sync/changes).
+--
+-- Every insert or update stamps the row with the id of the writing
+-- transaction, and every delete (including ON DELETE CASCADE) leaves a
+-- tombstone stamped the same way. Clients page through changes ordered by
+-- that id; the sync query only returns ids below the oldest transaction still
+-- in flight, so a change committed late can never fall behind a watermark a
+-- client already holds (which a plain updated_at watermark cannot guarantee).
+
+CREATE FUNCTION sync_stamp_change() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- TG_ARGV[0]: entity type recorded in the tombstone, TG_ARGV[1]: primary key column
+CREATE FUNCTION sync_record_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (entity_type, entity_identifier, tenant_id)
+    VALUES (TG_ARGV[0], (to_jsonb(OLD) ->> TG_ARGV[1])::uuid, OLD.tenant_id)
+    ON CONFLICT (entity_type, entity_identifier) DO UPDATE
+        SET tenant_id = EXCLUDED.tenant_id, change_xid = EXCLUDED.change_xid, deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TABLE sync_tombstones (
+    entity_type VARCHAR(32) NOT NULL,
+    entity_identifier UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (entity_type, entity_identifier)
+);
+
+CREATE INDEX idx_sync_tombstones_tenant_change ON sync_tombstones (tenant_id, change_xid);
+
+-- Farms
+ALTER TABLE farms ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+CREATE INDEX idx_farms_tenant_change ON farms (tenant_id, change_xid);
+CREATE TRIGGER trg_farms_sync_stamp BEFORE INSERT OR UPDATE ON farms
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change();
+CREATE TRIGGER trg_farms_sync_tombstone AFTER DELETE ON farms
+    FOR EACH ROW EXECUTE FUNCTION sync_record_tombstone('FARM', 'farm_identifier');
+
+-- Plots
+ALTER TABLE plots ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+CREATE INDEX idx_plots_tenant_change ON plots (tenant_id, change_xid);
+CREATE TRIGGER trg_plots_sync_stamp BEFORE INSERT OR UPDATE ON plots
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change();
+CREATE TRIGGER trg_plots_sync_tombstone AFTER DELETE ON plots
+    FOR EACH ROW EXECUTE FUNCTION sync_record_tombstone('PLOT', 'plot_identifier');
+
+-- Land tenures
+ALTER TABLE land_tenures ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+CREATE INDEX idx_landtenures_tenant_change ON land_tenures (tenant_id, change_xid);
+CREATE TRIGGER trg_landtenures_sync_stamp BEFORE INSERT OR UPDATE ON land_tenures
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change();
+CREATE TRIGGER trg_landtenures_sync_tombstone AFTER DELETE ON land_tenures
+    FOR EACH ROW EXECUTE FUNCTION sync_record_tombstone('LAND_TENURE', 'land_tenure_identifier');
+
+-- Points of interest
+ALTER TABLE points_of_interest ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+CREATE INDEX idx_poi_tenant_change ON points_of_interest (tenant_id, change_xid);
+CREATE TRIGGER trg_poi_sync_stamp BEFORE INSERT OR UPDATE ON points_of_interest
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change();
+CREATE TRIGGER trg_poi_sync_tombstone AFTER DELETE ON points_of_interest
+    FOR EACH ROW EXECUTE FUNCTION sync_record_tombstone('POINT_OF_INTEREST', 'poi_identifier');
@@ -0,0 +1,13 @@
+-- Transactional outbox: domain events are inserted in the same transaction as
+-- the change they describe and drained in id order by the outbox relay, which
+-- deletes them once the publisher has accepted them.
+
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_identifier UUID NOT NULL,
+    tenant_id UUID NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload JSONB NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,11 @@
+-- Index behind the nearest-POI search (k-nearest-neighbour by distance).
+-- GiST over (tenant, type, geography of the point): the equality columns
+-- (btree_gist) narrow the scan to one tenant's POIs of one type, and the
+-- geography column serves both the <-> distance ordering and the ST_DWithin
+-- radius, so a query reads about k index entries instead of every POI.
+-- CAST(coordinates AS geography) must match the repository query.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE INDEX idx_poi_tenant_type_geography
+    ON points_of_interest USING GIST (tenant_id, poi_type, (CAST(coordinates AS geography)));
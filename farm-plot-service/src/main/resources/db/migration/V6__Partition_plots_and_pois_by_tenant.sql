@@ -0,0 +1,125 @@
+-- Hash partitioning of plots and points_of_interest by tenant_id.
+--
+-- Each table becomes 16 partitions of the same shape; a tenant's rows all
+-- live in one of them, so vacuum and index maintenance work per partition and
+-- tenant-scoped queries (tenant_id = ...) are pruned to a single partition.
+-- Indexes created on the partitioned table, the GiST ones included, exist
+-- once per partition.
+--
+-- A primary key of a partitioned table must contain the partition key, so
+-- the keys become (identifier, tenant_id). Identifiers are still unique UUIDs;
+-- land_tenures now references plots through both columns.
+--
+-- The existing rows are copied in this migration, which holds an exclusive
+-- lock on both tables until it commits. change_xid values are copied as they
+-- are, so sync clients don't see the copy as a change.
+
+-- Plots
+
+ALTER TABLE land_tenures DROP CONSTRAINT land_tenures_plot_identifier_fkey;
+
+ALTER TABLE plots RENAME TO plots_unpartitioned;
+ALTER TABLE plots_unpartitioned RENAME CONSTRAINT plots_pkey TO plots_unpartitioned_pkey;
+
+CREATE TABLE plots (
+    plot_identifier UUID NOT NULL,
+    farm_identifier UUID NOT NULL REFERENCES farms(farm_identifier) ON DELETE CASCADE,
+    plot_name VARCHAR(255),
+    cultivator_reference_id UUID,
+    plot_geometry GEOMETRY(Polygon, 4326) NOT NULL,
+    land_tenure_type VARCHAR(50),
+    calculated_area_hectares NUMERIC(10,4) GENERATED ALWAYS AS (ST_Area(plot_geometry::geography) / 10000.0) STORED,
+    tenant_id UUID NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    version BIGINT NOT NULL DEFAULT 0,
+    change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint,
+    PRIMARY KEY (plot_identifier, tenant_id)
+) PARTITION BY HASH (tenant_id);
+
+DO $$
+BEGIN
+    FOR remainder IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE plots_p%s PARTITION OF plots FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+                       lpad(remainder::text, 2, '0'), remainder);
+    END LOOP;
+END
+$$;
+
+INSERT INTO plots (plot_identifier, farm_identifier, plot_name, cultivator_reference_id, plot_geometry,
+                   land_tenure_type, tenant_id, created_at, updated_at, version, change_xid)
+SELECT plot_identifier, farm_identifier, plot_name, cultivator_reference_id, plot_geometry,
+       land_tenure_type, tenant_id, created_at, updated_at, version, change_xid
+FROM plots_unpartitioned;
+
+DROP TABLE plots_unpartitioned;
+
+CREATE INDEX idx_plots_plot_geometry ON plots USING GIST (plot_geometry);
+CREATE INDEX idx_plots_farm_identifier ON plots (farm_identifier);
+CREATE INDEX idx_plots_tenant_id ON plots (tenant_id);
+CREATE INDEX idx_plots_cultivator_reference_id ON plots (cultivator_reference_id);
+CREATE INDEX idx_plots_tenant_name_keyset ON plots (tenant_id, (COALESCE(plot_name, '')), plot_identifier);
+CREATE INDEX idx_plots_tenant_change ON plots (tenant_id, change_xid);
+
+CREATE TRIGGER trg_plots_sync_stamp BEFORE INSERT OR UPDATE ON plots
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change();
+CREATE TRIGGER trg_plots_sync_tombstone AFTER DELETE ON plots
+    FOR EACH ROW EXECUTE FUNCTION sync_record_tombstone('PLOT', 'plot_identifier');
+
+ALTER TABLE land_tenures ADD CONSTRAINT land_tenures_plot_fkey
+    FOREIGN KEY (plot_identifier, tenant_id) REFERENCES plots (plot_identifier, tenant_id) ON DELETE CASCADE;
+
+-- Points of interest
+
+ALTER TABLE points_of_interest RENAME TO points_of_interest_unpartitioned;
+ALTER TABLE points_of_interest_unpartitioned RENAME CONSTRAINT points_of_interest_pkey
+    TO points_of_interest_unpartitioned_pkey;
+
+CREATE TABLE points_of_interest (
+    poi_identifier UUID NOT NULL,
+    parent_entity_identifier UUID NOT NULL,
+    parent_entity_type VARCHAR(10) NOT NULL,
+    poi_name VARCHAR(255),
+    poi_type VARCHAR(50) NOT NULL,
+    coordinates GEOMETRY(Point, 4326) NOT NULL,
+    notes TEXT,
+    tenant_id UUID NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    version BIGINT NOT NULL DEFAULT 0,
+    change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint,
+    PRIMARY KEY (poi_identifier, tenant_id)
+) PARTITION BY HASH (tenant_id);
+
+DO $$
+BEGIN
+    FOR remainder IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE points_of_interest_p%s PARTITION OF points_of_interest '
+                       'FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+                       lpad(remainder::text, 2, '0'), remainder);
+    END LOOP;
+END
+$$;
+
+INSERT INTO points_of_interest (poi_identifier, parent_entity_identifier, parent_entity_type, poi_name, poi_type,
+                                coordinates, notes, tenant_id, created_at, updated_at, version, change_xid)
+SELECT poi_identifier, parent_entity_identifier, parent_entity_type, poi_name, poi_type,
+       coordinates, notes, tenant_id, created_at, updated_at, version, change_xid
+FROM points_of_interest_unpartitioned;
+
+DROP TABLE points_of_interest_unpartitioned;
+
+CREATE INDEX idx_poi_coordinates ON points_of_interest USING GIST (coordinates);
+CREATE INDEX idx_poi_parent_entity ON points_of_interest (parent_entity_identifier, parent_entity_type);
+CREATE INDEX idx_poi_tenant_id ON points_of_interest (tenant_id);
+CREATE INDEX idx_poi_type ON points_of_interest (poi_type);
+CREATE INDEX idx_poi_parent_name_keyset
+    ON points_of_interest (tenant_id, parent_entity_identifier, parent_entity_type, (COALESCE(poi_name, '')), poi_identifier);
+CREATE INDEX idx_poi_tenant_change ON points_of_interest (tenant_id, change_xid);
+CREATE INDEX idx_poi_tenant_type_geography
+    ON points_of_interest USING GIST (tenant_id, poi_type, (CAST(coordinates AS geography)));
+
+CREATE TRIGGER trg_poi_sync_stamp BEFORE INSERT OR UPDATE ON points_of_interest
+    FOR EACH ROW EXECUTE FUNCTION sync_stamp_change();
+CREATE TRIGGER trg_poi_sync_tombstone AFTER DELETE ON points_of_interest
+    FOR EACH ROW EXECUTE FUNCTION sync_record_tombstone('POINT_OF_INTEREST', 'poi_identifier');
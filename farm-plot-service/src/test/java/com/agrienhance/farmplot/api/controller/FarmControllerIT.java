@@ -13,6 +13,7 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
@@ -29,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 @Transactional
 public class FarmControllerIT extends AbstractIntegrationTest {
 
@@ -103,6 +105,22 @@ public class FarmControllerIT extends AbstractIntegrationTest {
                                                 containsString("Farm name cannot be blank")));
         }
 
+        // --- GET /actuator/prometheus ---
+        @Test
+        void prometheusScrape_shouldExposeRequestPoolAndRepositoryMeters() throws Exception {
+                mockMvc.perform(get("/v1/farms/{farmIdentifier}", testFarm.getFarmIdentifier()))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/actuator/prometheus"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Type", startsWith("text/plain")))
+                                .andExpect(content().string(containsString("http_server_requests_seconds_count")))
+                                .andExpect(content().string(containsString("hikaricp_connections_pending")))
+                                .andExpect(content().string(containsString("farmplot_repository_invocations_seconds_bucket")))
+                                .andExpect(content().string(containsString(
+                                                "method=\"findByFarmIdentifierAndTenantId\",repository=\"FarmRepository\",result_size=\"1\",tenant_tier=\"standard\"")));
+        }
+
         // --- GET /v1/farms/{farmIdentifier} ---
         @Test
         void getFarmById_whenFarmExists_shouldReturn200OKAndFarmResponse() throws Exception {
@@ -149,6 +167,47 @@ public class FarmControllerIT extends AbstractIntegrationTest {
                                 .andExpect(jsonPath("$.content[0].farmName", is("Existing Test Farm")));
         }
 
+        // --- GET /v1/farms/scroll ---
+        @Test
+        void scrollFarms_shouldReturnSlicesLinkedByCursor() throws Exception {
+                // Given: testFarm ("Existing Test Farm") plus a farm sorting before it
+                farmRepository.saveAndFlush(Farm.builder()
+                                .farmName("Another Test Farm")
+                                .ownerReferenceId(ownerId)
+                                .countryCode("XT")
+                                .tenantId(tenantId)
+                                .build());
+
+                // When & Then
+                String firstSlice = mockMvc.perform(get("/v1/farms/scroll")
+                                .param("size", "1")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(1)))
+                                .andExpect(jsonPath("$.content[0].farmName", is("Another Test Farm")))
+                                .andExpect(jsonPath("$.hasNext", is(true)))
+                                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                                .andReturn().getResponse().getContentAsString();
+                String cursor = objectMapper.readTree(firstSlice).get("nextCursor").asText();
+
+                mockMvc.perform(get("/v1/farms/scroll")
+                                .param("size", "1")
+                                .param("cursor", cursor)
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].farmName", is("Existing Test Farm")))
+                                .andExpect(jsonPath("$.hasNext", is(false)))
+                                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+        }
+
+        @Test
+        void scrollFarms_withInvalidCursor_shouldReturn400BadRequest() throws Exception {
+                mockMvc.perform(get("/v1/farms/scroll")
+                                .param("cursor", "garbage")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isBadRequest());
+        }
+
         // --- PUT /v1/farms/{farmIdentifier} ---
         @Test
         void updateFarm_withValidRequest_shouldReturn200OKAndUpdatedFarmResponse() throws Exception {
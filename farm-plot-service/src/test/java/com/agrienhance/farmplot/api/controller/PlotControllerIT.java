@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -186,6 +187,56 @@ public class PlotControllerIT extends AbstractIntegrationTest {
                                                 is(testPlot.getPlotIdentifier().toString())));
         }
 
+        @Test
+        void listPlots_withFields_shouldReturnOnlySelectedFields() throws Exception {
+                mockMvc.perform(get("/v1/plots")
+                                .param("fields", "plotIdentifier,plotName")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.totalElements", is(1)))
+                                .andExpect(jsonPath("$.content[0].plotName", is("Existing Test Plot")))
+                                .andExpect(jsonPath("$.content[0].plotIdentifier",
+                                                is(testPlot.getPlotIdentifier().toString())))
+                                .andExpect(jsonPath("$.content[0].plotGeometry").doesNotExist())
+                                .andExpect(jsonPath("$.content[0].tenantId").doesNotExist());
+        }
+
+        @Test
+        void listPlots_withUnknownField_shouldReturn400BadRequest() throws Exception {
+                mockMvc.perform(get("/v1/plots")
+                                .param("fields", "plotName,soilType")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getPlotById_withZoom_shouldReturnClosedPolygon() throws Exception {
+                mockMvc.perform(get("/v1/plots/{plotIdentifier}", testPlot.getPlotIdentifier())
+                                .param("zoom", "8")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.plotGeometry.type", is("Polygon")))
+                                .andExpect(jsonPath("$.plotGeometry.coordinates[0].length()", greaterThanOrEqualTo(4)));
+        }
+
+        @Test
+        void listPlots_withToleranceAndZoom_shouldReturn400BadRequest() throws Exception {
+                mockMvc.perform(get("/v1/plots")
+                                .param("simplifyTolerance", "0.001")
+                                .param("zoom", "10")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getPlotById_shouldIgnoreFieldsParameter() throws Exception {
+                mockMvc.perform(get("/v1/plots/{plotIdentifier}", testPlot.getPlotIdentifier())
+                                .param("fields", "plotName")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.plotGeometry").exists());
+        }
+
         // --- PUT /v1/plots/{plotIdentifier} ---
         @Test
         void updatePlot_withValidRequest_shouldReturn200OK() throws Exception {
@@ -242,4 +293,45 @@ public class PlotControllerIT extends AbstractIntegrationTest {
                 mockMvc.perform(delete("/v1/plots/{plotIdentifier}", nonExistentPlotId))
                                 .andExpect(status().isNotFound());
         }
+
+        // --- POST /v1/plots/import ---
+        @Test
+        void importPlots_shouldCreateValidFeaturesAndReportRejectedOnes() throws Exception {
+                // Given
+                String featureCollection = """
+                                {"type": "FeatureCollection", "features": [
+                                  {"type": "Feature", "properties": {"plotName": "Imported A", "landTenureType": "OWNED"},
+                                   "geometry": {"type": "Polygon", "coordinates": [[[20,20],[20.01,20],[20.01,20.01],[20,20.01],[20,20]]]}},
+                                  {"type": "Feature", "properties": {"plotName": "Not a polygon"},
+                                   "geometry": {"type": "Point", "coordinates": [20,20]}},
+                                  {"type": "Feature", "properties": {"plotName": "Imported B"},
+                                   "geometry": {"type": "Polygon", "coordinates": [[[21,21],[21.01,21],[21.01,21.01],[21,21.01],[21,21]]]}}
+                                ]}
+                                """;
+
+                // When & Then
+                mockMvc.perform(post("/v1/plots/import")
+                                .param("farmIdentifier", testFarm.getFarmIdentifier().toString())
+                                .contentType("application/geo+json")
+                                .content(featureCollection))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.totalFeatures", is(3)))
+                                .andExpect(jsonPath("$.importedCount", is(2)))
+                                .andExpect(jsonPath("$.failedCount", is(1)))
+                                .andExpect(jsonPath("$.results[1].status", is("FAILED")))
+                                .andExpect(jsonPath("$.results[2].plotIdentifier", notNullValue()));
+
+                assertThat(plotRepository.count()).isEqualTo(3); // Existing + two imported
+                assertThat(plotRepository.findAllByTenantId(tenantId, Pageable.unpaged())
+                                .map(Plot::getCalculatedAreaHectares))
+                                .doesNotContainNull();
+        }
+
+        @Test
+        void importPlots_withNonFeatureCollectionBody_shouldReturn400BadRequest() throws Exception {
+                mockMvc.perform(post("/v1/plots/import")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[1, 2, 3]"))
+                                .andExpect(status().isBadRequest());
+        }
 }
\ No newline at end of file
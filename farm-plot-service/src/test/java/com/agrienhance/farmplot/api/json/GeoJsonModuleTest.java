@@ -0,0 +1,94 @@
+package com.agrienhance.farmplot.api.json;
+
+import com.agrienhance.farmplot.application.mapper.GeometryMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeoJsonModuleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new GeoJsonModule());
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final GeometryMapper geometryMapper = new GeometryMapper();
+
+    @Test
+    void serialize_shouldWriteTheSameJsonAsThePolygonGeometryDto() throws Exception {
+        Polygon polygon = geometryFactory.createPolygon(
+                geometryFactory.createLinearRing(square(0, 0, 10)),
+                new LinearRing[] { geometryFactory.createLinearRing(square(2, 2, 2)) });
+
+        String streamed = objectMapper.writeValueAsString(polygon);
+
+        assertThat(streamed).isEqualTo(objectMapper.writeValueAsString(geometryMapper.toPolygonGeometryDto(polygon)));
+        assertThat(streamed).startsWith("{\"type\":\"Polygon\",\"coordinates\":[[[0.0,0.0],[10.0,0.0]");
+    }
+
+    @Test
+    void serialize_shouldWriteTheSameJsonAsThePointGeometryDto() throws Exception {
+        Point point = geometryFactory.createPoint(new Coordinate(36.8219, -1.2921));
+
+        String streamed = objectMapper.writeValueAsString(point);
+
+        assertThat(streamed).isEqualTo(objectMapper.writeValueAsString(geometryMapper.toPointGeometryDto(point)));
+    }
+
+    @Test
+    void deserialize_shouldRoundTripAPolygonWithHoles() throws Exception {
+        Polygon polygon = geometryFactory.createPolygon(
+                geometryFactory.createLinearRing(square(0, 0, 10)),
+                new LinearRing[] { geometryFactory.createLinearRing(square(2, 2, 2)) });
+
+        Polygon read = objectMapper.readValue(objectMapper.writeValueAsString(polygon), Polygon.class);
+
+        assertThat(read.equalsExact(polygon)).isTrue();
+        assertThat(read.getSRID()).isEqualTo(4326);
+    }
+
+    @Test
+    void deserialize_shouldCloseOpenRingsAndIgnoreAltitudeAndOtherMembers() throws Exception {
+        String json = "{\"bbox\":[0,0,1,1],\"coordinates\":[[[0,0,5],[1,0,5],[1,1,5],[0,1,5]]],\"type\":\"Polygon\"}";
+
+        Polygon read = objectMapper.readValue(json, Polygon.class);
+
+        assertThat(read.getExteriorRing().getNumPoints()).isEqualTo(5);
+        assertThat(read.getExteriorRing().isClosed()).isTrue();
+        assertThat(read.getArea()).isEqualTo(1.0);
+    }
+
+    @Test
+    void deserialize_shouldReadAPoint() throws Exception {
+        Point read = objectMapper.readValue("{\"type\":\"Point\",\"coordinates\":[10.5,20.5]}", Point.class);
+
+        assertThat(read.getX()).isEqualTo(10.5);
+        assertThat(read.getY()).isEqualTo(20.5);
+        assertThat(read.getSRID()).isEqualTo(4326);
+    }
+
+    @Test
+    void deserialize_shouldRejectMalformedGeometries() {
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(
+                "{\"type\":\"Point\",\"coordinates\":[[[0,0],[1,0],[1,1],[0,0]]]}", Polygon.class));
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(
+                "{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[1,0],[0,0]]]}", Polygon.class));
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(
+                "{\"type\":\"Polygon\",\"coordinates\":[]}", Polygon.class));
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(
+                "{\"type\":\"Point\",\"coordinates\":[\"east\",\"north\"]}", Point.class));
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(
+                "{\"type\":\"Point\"}", Point.class));
+    }
+
+    private Coordinate[] square(double x, double y, double side) {
+        return new Coordinate[] { new Coordinate(x, y), new Coordinate(x + side, y),
+                new Coordinate(x + side, y + side), new Coordinate(x, y + side), new Coordinate(x, y) };
+    }
+}
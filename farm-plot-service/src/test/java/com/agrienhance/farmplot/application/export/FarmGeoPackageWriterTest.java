@@ -0,0 +1,124 @@
+package com.agrienhance.farmplot.application.export;
+
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.LandTenure;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.entity.PointOfInterest;
+import com.agrienhance.farmplot.domain.enums.LandTenureType;
+import com.agrienhance.farmplot.domain.enums.POIType;
+import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.WKBReader;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FarmGeoPackageWriterTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final FarmGeoPackageWriter writer = new FarmGeoPackageWriter();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void write_shouldProduceGeoPackageWithFarmPlotsTenuresAndPois() throws Exception {
+        Farm farm = Farm.builder()
+                .farmIdentifier(UUID.randomUUID())
+                .farmName("Offline Farm")
+                .countryCode("KE")
+                .generalLocationCoordinates(geometryFactory.createPoint(new Coordinate(36.0, -1.0)))
+                .build();
+        Polygon square = geometryFactory.createPolygon(new Coordinate[] {
+                new Coordinate(36.0, -1.0), new Coordinate(36.01, -1.0), new Coordinate(36.01, -0.99),
+                new Coordinate(36.0, -0.99), new Coordinate(36.0, -1.0) });
+        Plot plot = Plot.builder()
+                .plotIdentifier(UUID.randomUUID())
+                .farm(farm)
+                .plotName("North")
+                .plotGeometry(square)
+                .calculatedAreaHectares(new BigDecimal("123.4567"))
+                .build();
+        LandTenure landTenure = LandTenure.builder()
+                .landTenureIdentifier(UUID.randomUUID())
+                .plot(plot)
+                .tenureType(LandTenureType.LEASED)
+                .leaseStartDate(LocalDate.of(2024, 1, 1))
+                .build();
+        PointOfInterest well = PointOfInterest.builder()
+                .poiIdentifier(UUID.randomUUID())
+                .parentEntityIdentifier(plot.getPlotIdentifier())
+                .parentEntityType(ParentEntityType.PLOT)
+                .poiName("Well")
+                .poiType(POIType.WATER_SOURCE)
+                .coordinates(geometryFactory.createPoint(new Coordinate(36.005, -0.995)))
+                .build();
+        Path file = directory.resolve("farm.gpkg");
+
+        writer.write(file, farm, List.of(plot), List.of(landTenure), List.of(well));
+
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file);
+                Statement statement = connection.createStatement()) {
+            assertThat(queryInt(statement, "PRAGMA application_id")).isEqualTo(0x47504B47);
+            assertThat(queryInt(statement, "SELECT COUNT(*) FROM gpkg_geometry_columns WHERE srs_id = 4326")).isEqualTo(3);
+            assertThat(queryInt(statement, "SELECT COUNT(*) FROM gpkg_contents")).isEqualTo(4);
+
+            try (ResultSet rs = statement.executeQuery("SELECT plot_identifier, area_hectares, geom FROM plots")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString(1)).isEqualTo(plot.getPlotIdentifier().toString());
+                assertThat(rs.getDouble(2)).isEqualTo(123.4567);
+                assertThat(decode(rs.getBytes(3), 40).equalsExact(square)).isTrue();
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT poi_type, geom FROM points_of_interest")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString(1)).isEqualTo("WATER_SOURCE");
+                // Points are written without an envelope
+                assertThat(decode(rs.getBytes(2), 8).equalsExact(well.getCoordinates())).isTrue();
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT plot_identifier, tenure_type, lease_start_date FROM land_tenures")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString(1)).isEqualTo(plot.getPlotIdentifier().toString());
+                assertThat(rs.getString(2)).isEqualTo("LEASED");
+                assertThat(rs.getString(3)).isEqualTo("2024-01-01");
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT min_x, max_y FROM gpkg_contents WHERE table_name = 'plots'")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getDouble(1)).isEqualTo(36.0);
+                assertThat(rs.getDouble(2)).isEqualTo(-0.99);
+            }
+        }
+    }
+
+    private static int queryInt(Statement statement, String sql) throws Exception {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    // Checks the GeoPackage binary header and parses the WKB after it
+    private static Geometry decode(byte[] blob, int headerLength) throws Exception {
+        assertThat(blob[0]).isEqualTo((byte) 'G');
+        assertThat(blob[1]).isEqualTo((byte) 'P');
+        assertThat(ByteBuffer.wrap(blob, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt()).isEqualTo(4326);
+        return new WKBReader().read(Arrays.copyOfRange(blob, headerLength, blob.length));
+    }
+}
@@ -0,0 +1,74 @@
+package com.agrienhance.farmplot.application.export;
+
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.enums.LandTenureType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlotGeoJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final PlotGeoJsonWriter writer = new PlotGeoJsonWriter();
+
+    @Test
+    void writeFeature_shouldWriteGeoJsonFeatureWithPolygonAndProperties() throws Exception {
+        LinearRing shell = geometryFactory.createLinearRing(new Coordinate[] {
+                new Coordinate(0, 0), new Coordinate(4, 0), new Coordinate(4, 4), new Coordinate(0, 4),
+                new Coordinate(0, 0) });
+        LinearRing hole = geometryFactory.createLinearRing(new Coordinate[] {
+                new Coordinate(1, 1), new Coordinate(2, 1), new Coordinate(2, 2), new Coordinate(1, 1) });
+        Polygon polygon = geometryFactory.createPolygon(shell, new LinearRing[] { hole });
+        Plot plot = Plot.builder()
+                .plotIdentifier(UUID.randomUUID())
+                .farm(Farm.builder().farmIdentifier(UUID.randomUUID()).build())
+                .tenantId(UUID.randomUUID())
+                .plotName("North Field")
+                .plotGeometry(polygon)
+                .landTenureType(LandTenureType.LEASED)
+                .calculatedAreaHectares(new BigDecimal("1.2500"))
+                .createdAt(OffsetDateTime.of(2025, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC))
+                .version(3L)
+                .build();
+
+        JsonNode feature = objectMapper.readTree(write(plot));
+
+        assertThat(feature.get("type").asText()).isEqualTo("Feature");
+        assertThat(feature.get("id").asText()).isEqualTo(plot.getPlotIdentifier().toString());
+        assertThat(feature.at("/geometry/type").asText()).isEqualTo("Polygon");
+        assertThat(feature.at("/geometry/coordinates")).hasSize(2);
+        assertThat(feature.at("/geometry/coordinates/0/2/0").asDouble()).isEqualTo(4.0);
+        assertThat(feature.at("/properties/farmIdentifier").asText())
+                .isEqualTo(plot.getFarm().getFarmIdentifier().toString());
+        assertThat(feature.at("/properties/plotName").asText()).isEqualTo("North Field");
+        assertThat(feature.at("/properties/landTenureType").asText()).isEqualTo("LEASED");
+        assertThat(feature.at("/properties/calculatedAreaHectares").decimalValue()).isEqualByComparingTo("1.25");
+        assertThat(feature.at("/properties/createdAt").asText()).isEqualTo("2025-01-02T03:04:05Z");
+        assertThat(feature.at("/properties/cultivatorReferenceId").isNull()).isTrue();
+        assertThat(feature.at("/properties/version").asLong()).isEqualTo(3L);
+    }
+
+    private String write(Plot plot) throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            writer.writeFeature(generator, plot);
+        }
+        return out.toString();
+    }
+}
@@ -101,8 +101,8 @@ class FarmMapperTest {
                 assertThat(response.getCountryCode()).isEqualTo(farm.getCountryCode());
                 // ... assert other fields ...
                 assertThat(response.getGeneralLocationCoordinates()).isNotNull();
-                assertThat(response.getGeneralLocationCoordinates().getCoordinates().get(0)).isEqualTo(15.0);
-                assertThat(response.getGeneralLocationCoordinates().getCoordinates().get(1)).isEqualTo(25.0);
+                assertThat(response.getGeneralLocationCoordinates().getX()).isEqualTo(15.0);
+                assertThat(response.getGeneralLocationCoordinates().getY()).isEqualTo(25.0);
                 assertThat(response.getCreatedAt()).isEqualTo(now);
                 assertThat(response.getUpdatedAt()).isEqualTo(now);
                 assertThat(response.getVersion()).isEqualTo(1L);
@@ -115,7 +115,7 @@ class PlotMapperTest {
                 assertThat(response.getFarmIdentifier()).isEqualTo(testFarm.getFarmIdentifier()); // Check farm ID
                                                                                                   // mapping
                 assertThat(response.getPlotName()).isEqualTo("Plot Bravo");
-                assertThat(response.getPlotGeometry().getCoordinates().get(0).get(0)).containsExactly(0.0, 0.0);
+                assertThat(response.getPlotGeometry().getExteriorRing().getCoordinateN(0)).isEqualTo(new Coordinate(0.0, 0.0));
                 assertThat(response.getCalculatedAreaHectares()).isEqualTo(calculatedArea);
                 assertThat(response.getLandTenureType()).isEqualTo(LandTenureType.LEASED);
         }
@@ -101,7 +101,8 @@ class PointOfInterestMapperTest {
         assertThat(response.getParentEntityIdentifier()).isEqualTo(parentId);
         assertThat(response.getParentEntityType()).isEqualTo(ParentEntityType.FARM);
         assertThat(response.getPoiName()).isEqualTo("Main Gate");
-        assertThat(response.getCoordinates().getCoordinates()).containsExactly(5.0, 15.0);
+        assertThat(response.getCoordinates().getX()).isEqualTo(5.0);
+        assertThat(response.getCoordinates().getY()).isEqualTo(15.0);
     }
 
     @Test
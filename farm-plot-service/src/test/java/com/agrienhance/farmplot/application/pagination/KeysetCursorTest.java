@@ -0,0 +1,72 @@
+package com.agrienhance.farmplot.application.pagination;
+
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeAndDecode_shouldRoundTripSortKeyAndIdentifier() {
+        KeysetCursor cursor = new KeysetCursor("North | Field ü", UUID.randomUUID());
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void constructor_shouldTreatNullSortKeyAsEmpty() {
+        assertThat(new KeysetCursor(null, UUID.randomUUID()).sortKey()).isEmpty();
+    }
+
+    @Test
+    void decode_withoutToken_shouldStartFromTheBeginning() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+        assertThat(KeysetCursor.decode(" ")).isEqualTo(KeysetCursor.FIRST);
+    }
+
+    @Test
+    void decode_withTamperedToken_shouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("not base64!"));
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("bm8tc2VwYXJhdG9y")); // "no-separator"
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("bm90LWEtdXVpZHxuYW1l")); // "not-a-uuid|name"
+    }
+
+    @Test
+    void checkPageSize_shouldRejectOutOfRangeSizes() {
+        assertThat(KeysetCursor.checkPageSize(1)).isEqualTo(1);
+        assertThrows(ValidationException.class, () -> KeysetCursor.checkPageSize(0));
+        assertThrows(ValidationException.class, () -> KeysetCursor.checkPageSize(KeysetCursor.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void toPage_withExtraRow_shouldTrimItAndPointCursorAtLastReturnedRow() {
+        UUID second = UUID.randomUUID();
+        List<String> rows = List.of("a", "b", "c");
+
+        CursorPageResponse<String> page = KeysetCursor.toPage(rows, 2,
+                row -> new KeysetCursor(row, row.equals("b") ? second : UUID.randomUUID()),
+                String::toUpperCase);
+
+        assertThat(page.getContent()).containsExactly("A", "B");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(new KeysetCursor("b", second));
+    }
+
+    @Test
+    void toPage_withoutExtraRow_shouldBeTheLastSlice() {
+        CursorPageResponse<String> page = KeysetCursor.toPage(List.of("a"), 2,
+                row -> new KeysetCursor(row, UUID.randomUUID()), row -> row);
+
+        assertThat(page.getContent()).containsExactly("a");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,32 @@
+package com.agrienhance.farmplot.application.pagination;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SyncTokenTest {
+
+    @Test
+    void encodeAndDecode_shouldRoundTripAllParts() {
+        SyncToken token = new SyncToken(4_294_967_301L, "POINT_OF_INTEREST", UUID.randomUUID());
+
+        assertThat(SyncToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void decode_withoutToken_shouldStartAFullSync() {
+        assertThat(SyncToken.decode(null)).isEqualTo(SyncToken.FIRST);
+        assertThat(SyncToken.decode("")).isEqualTo(SyncToken.FIRST);
+    }
+
+    @Test
+    void decode_withTamperedToken_shouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> SyncToken.decode("not base64!"));
+        assertThrows(ValidationException.class, () -> SyncToken.decode("MTJ8UExPVA")); // "12|PLOT"
+        assertThrows(ValidationException.class, () -> SyncToken.decode("eHxQTE9UfG5vdC1hLXV1aWQ")); // "x|PLOT|not-a-uuid"
+    }
+}
@@ -0,0 +1,37 @@
+package com.agrienhance.farmplot.application.projection;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldSelectionTest {
+
+    @Test
+    void parse_withNullOrBlankFields_shouldSelectEverything() {
+        assertThat(FieldSelection.parse(null, PlotResponse.class)).isEqualTo(FieldSelection.ALL);
+        assertThat(FieldSelection.parse("  ", PlotResponse.class)).isEqualTo(FieldSelection.ALL);
+        assertThat(FieldSelection.parse(" , ,", PlotResponse.class).isAll()).isTrue();
+        assertThat(FieldSelection.ALL.includes("plotGeometry")).isTrue();
+    }
+
+    @Test
+    void parse_shouldTrimNamesAndSelectOnlyThose() {
+        FieldSelection selection = FieldSelection.parse(" plotIdentifier , plotName,", PlotResponse.class);
+
+        assertThat(selection.isAll()).isFalse();
+        assertThat(selection.names()).containsExactlyInAnyOrder("plotIdentifier", "plotName");
+        assertThat(selection.includes("plotName")).isTrue();
+        assertThat(selection.includes("plotGeometry")).isFalse();
+    }
+
+    @Test
+    void parse_withUnknownField_shouldThrowValidationExceptionListingKnownFields() {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> FieldSelection.parse("plotName,soilType", PlotResponse.class));
+
+        assertThat(exception.getMessage()).contains("soilType").contains("plotGeometry");
+    }
+}
@@ -3,6 +3,7 @@ package com.agrienhance.farmplot.application.service;
 import com.agrienhance.farmplot.api.dto.farm.CreateFarmRequest;
 import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
 import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.config.AbstractIntegrationTest; // Our Testcontainers base class
 import com.agrienhance.farmplot.domain.entity.Farm;
 import com.agrienhance.farmplot.domain.repository.FarmRepository;
@@ -82,7 +83,7 @@ public class FarmApplicationServiceIT extends AbstractIntegrationTest {
         assertThat(createdFarmResponse.getOwnerReferenceId()).isEqualTo(ownerId);
         assertThat(createdFarmResponse.getTenantId()).isEqualTo(tenantId);
         assertThat(createdFarmResponse.getGeneralLocationCoordinates()).isNotNull();
-        assertThat(createdFarmResponse.getGeneralLocationCoordinates().getCoordinates().get(0)).isEqualTo(34.0);
+        assertThat(createdFarmResponse.getGeneralLocationCoordinates().getX()).isEqualTo(34.0);
 
         // Verify directly from database
         entityManager.flush(); // Ensure data is flushed to DB if not already by service's @Transactional
@@ -204,7 +205,8 @@ public class FarmApplicationServiceIT extends AbstractIntegrationTest {
         assertThat(updatedFarmResponse.getRegion()).isEqualTo("Updated Region");
         assertThat(updatedFarmResponse.getCountryCode()).isEqualTo("OG"); // Should not have changed
         assertThat(updatedFarmResponse.getNotes()).isNull(); // Was set to null
-        assertThat(updatedFarmResponse.getGeneralLocationCoordinates().getCoordinates()).containsExactly(2.0, 2.0);
+        assertThat(updatedFarmResponse.getGeneralLocationCoordinates().getX()).isEqualTo(2.0);
+        assertThat(updatedFarmResponse.getGeneralLocationCoordinates().getY()).isEqualTo(2.0);
         assertThat(updatedFarmResponse.getOwnerReferenceId()).isEqualTo(ownerId); // Should not change
         assertThat(updatedFarmResponse.getTenantId()).isEqualTo(tenantId); // Should not change
 
@@ -331,7 +333,7 @@ public class FarmApplicationServiceIT extends AbstractIntegrationTest {
 
         // When: Get first page, size 2
         Pageable pageable = PageRequest.of(0, 2, Sort.by("farmName").ascending());
-        Page<FarmResponse> farmPage = farmApplicationService.listFarmsByTenant(tenantId, pageable);
+        Page<FarmResponse> farmPage = farmApplicationService.listFarmsByTenant(tenantId, pageable, FieldSelection.ALL);
 
         // Then
         assertThat(farmPage).isNotNull();
@@ -344,7 +346,7 @@ public class FarmApplicationServiceIT extends AbstractIntegrationTest {
 
         // When: Get second page
         pageable = PageRequest.of(1, 2, Sort.by("farmName").ascending());
-        farmPage = farmApplicationService.listFarmsByTenant(tenantId, pageable);
+        farmPage = farmApplicationService.listFarmsByTenant(tenantId, pageable, FieldSelection.ALL);
 
         // Then
         assertThat(farmPage.getNumberOfElements()).isEqualTo(1); // Current page has 1 item
@@ -353,6 +355,26 @@ public class FarmApplicationServiceIT extends AbstractIntegrationTest {
                 .containsExactly("Farm C (Tenant 1)");
     }
 
+    @Test
+    void listFarmsByTenant_withoutLocationField_shouldReturnFarmsWithoutLocation() {
+        // Given
+        farmApplicationService.createFarm(CreateFarmRequest.builder().farmName("Located Farm")
+                .ownerReferenceId(UUID.randomUUID()).countryCode("KE")
+                .generalLocationCoordinates(createTestPointDto(36.8, -1.3)).build(), tenantId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Page<FarmResponse> farmPage = farmApplicationService.listFarmsByTenant(tenantId, PageRequest.of(0, 10),
+                FieldSelection.parse("farmIdentifier,farmName"));
+
+        // Then
+        assertThat(farmPage.getContent()).hasSize(1);
+        assertThat(farmPage.getContent().get(0).getFarmName()).isEqualTo("Located Farm");
+        assertThat(farmPage.getContent().get(0).getCountryCode()).isEqualTo("KE");
+        assertThat(farmPage.getContent().get(0).getGeneralLocationCoordinates()).isNull();
+    }
+
     @Test
     void listFarmsByTenant_whenNoFarmsForTenant_shouldReturnEmptyPage() {
         // Given
@@ -360,7 +382,7 @@ public class FarmApplicationServiceIT extends AbstractIntegrationTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // When
-        Page<FarmResponse> farmPage = farmApplicationService.listFarmsByTenant(nonExistentTenantId, pageable);
+        Page<FarmResponse> farmPage = farmApplicationService.listFarmsByTenant(nonExistentTenantId, pageable, FieldSelection.ALL);
 
         // Then
         assertThat(farmPage).isNotNull();
@@ -0,0 +1,81 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.application.export.OfflinePackage;
+import com.agrienhance.farmplot.config.AbstractIntegrationTest;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not @Transactional: the content hash is built from per-transaction change
+// stamps, so each change has to commit on its own to be seen as one.
+public class OfflinePackageServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private OfflinePackageService offlinePackageService;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private PlotRepository plotRepository;
+
+    private UUID tenantId;
+    private Farm farm;
+    private Plot plot;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        farm = farmRepository.save(Farm.builder()
+                .farmName("Offline Farm")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("KE")
+                .tenantId(tenantId)
+                .build());
+        plot = plotRepository.save(Plot.builder()
+                .plotName("Offline Plot")
+                .farm(farm)
+                .tenantId(tenantId)
+                .plotGeometry(createSimpleSquarePolygon(0.01, 36.0, -1.0))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        farmRepository.findById(farm.getFarmIdentifier()).ifPresent(farmRepository::delete);
+    }
+
+    @Test
+    void getFarmPackage_shouldReuseUntilAPlotChanges() throws Exception {
+        OfflinePackage first = offlinePackageService.getFarmPackage(farm.getFarmIdentifier(), tenantId);
+        OfflinePackage unchanged = offlinePackageService.getFarmPackage(farm.getFarmIdentifier(), tenantId);
+
+        assertThat(unchanged).isEqualTo(first);
+        assertThat(Files.getLastModifiedTime(unchanged.file())).isEqualTo(Files.getLastModifiedTime(first.file()));
+
+        plot.setPlotName("Renamed Plot");
+        plotRepository.save(plot);
+        OfflinePackage rebuilt = offlinePackageService.getFarmPackage(farm.getFarmIdentifier(), tenantId);
+
+        assertThat(rebuilt.contentHash()).isNotEqualTo(first.contentHash());
+        assertThat(Files.exists(first.file())).isFalse();
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + rebuilt.file());
+                ResultSet rs = connection.createStatement().executeQuery("SELECT plot_name FROM plots")) {
+            assertThat(rs.next()).isTrue();
+            assertThat(rs.getString(1)).isEqualTo("Renamed Plot");
+        }
+    }
+}
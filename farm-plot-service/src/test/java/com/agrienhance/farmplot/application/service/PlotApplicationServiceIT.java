@@ -6,6 +6,8 @@ import com.agrienhance.farmplot.api.dto.landtenure.LandTenureResponse;
 import com.agrienhance.farmplot.api.dto.plot.CreatePlotRequest;
 import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
 import com.agrienhance.farmplot.api.dto.plot.UpdatePlotRequest;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
+import com.agrienhance.farmplot.application.spatial.SimplificationLevel;
 import com.agrienhance.farmplot.config.AbstractIntegrationTest;
 import com.agrienhance.farmplot.domain.entity.Farm;
 import com.agrienhance.farmplot.domain.entity.LandTenure;
@@ -103,8 +105,8 @@ public class PlotApplicationServiceIT extends AbstractIntegrationTest {
                 assertThat(createdPlotResponse.getTenantId()).isEqualTo(tenantId);
                 assertThat(createdPlotResponse.getLandTenureType()).isEqualTo(LandTenureType.OWNED); // Check this
                 assertThat(createdPlotResponse.getPlotGeometry()).isNotNull();
-                assertThat(createdPlotResponse.getPlotGeometry().getCoordinates().get(0).get(0))
-                                .containsExactly(10.0, 20.0);
+                assertThat(createdPlotResponse.getPlotGeometry().getExteriorRing().getCoordinateN(0))
+                                .isEqualTo(new Coordinate(10.0, 20.0));
 
                 // Verify calculated area from DB
                 entityManager.flush();
@@ -112,9 +114,41 @@ public class PlotApplicationServiceIT extends AbstractIntegrationTest {
                 Plot persistedPlot = plotRepository.findById(createdPlotResponse.getPlotIdentifier()).orElseThrow();
                 assertThat(persistedPlot.getCalculatedAreaHectares()).isNotNull();
                 assertThat(persistedPlot.getCalculatedAreaHectares().doubleValue()).isGreaterThan(0.0);
+                assertThat(createdPlotResponse.getCalculatedAreaHectares())
+                                .isEqualByComparingTo(persistedPlot.getCalculatedAreaHectares());
                 assertThat(persistedPlot.getLandTenureType()).isEqualTo(LandTenureType.OWNED); // Verify on entity too
         }
 
+        @Test
+        void createPlot_overlappingAnotherPlotOfTheFarm_shouldReportTheOverlap() {
+                // Given
+                PlotResponse existing = plotApplicationService.createPlot(CreatePlotRequest.builder()
+                                .farmIdentifier(testFarm.getFarmIdentifier())
+                                .plotName("Existing Plot").plotGeometry(createTestPolygonDto(0.01, 10.0, 10.0))
+                                .build(), tenantId);
+                entityManager.flush();
+
+                // When (WARN is the default overlap policy)
+                PlotResponse overlapping = plotApplicationService.createPlot(CreatePlotRequest.builder()
+                                .farmIdentifier(testFarm.getFarmIdentifier())
+                                .plotName("Overlapping Plot").plotGeometry(createTestPolygonDto(0.01, 10.005, 10.0))
+                                .build(), tenantId);
+                PlotResponse neighbour = plotApplicationService.createPlot(CreatePlotRequest.builder()
+                                .farmIdentifier(testFarm.getFarmIdentifier())
+                                .plotName("Neighbour Plot").plotGeometry(createTestPolygonDto(0.01, 10.0, 9.99))
+                                .build(), tenantId);
+
+                // Then
+                assertThat(overlapping.getOverlaps()).hasSize(1);
+                assertThat(overlapping.getOverlaps().get(0).getPlotIdentifier())
+                                .isEqualTo(existing.getPlotIdentifier());
+                assertThat(overlapping.getOverlaps().get(0).getOverlapAreaHectares())
+                                .isGreaterThan(BigDecimal.ZERO)
+                                .isLessThan(existing.getCalculatedAreaHectares());
+                // Sharing an edge is not an overlap
+                assertThat(neighbour.getOverlaps()).isEmpty();
+        }
+
         @Test
         void createPlot_whenFarmNotFound_shouldThrowResourceNotFoundException() {
                 // Given
@@ -340,7 +374,7 @@ public class PlotApplicationServiceIT extends AbstractIntegrationTest {
                 Pageable pageable = PageRequest.of(0, 2, Sort.by("plotName").ascending());
                 Page<PlotResponse> plotPage = plotApplicationService.listPlotsByFarm(testFarm.getFarmIdentifier(),
                                 tenantId,
-                                pageable);
+                                pageable, FieldSelection.ALL, SimplificationLevel.NONE);
 
                 // Then
                 assertThat(plotPage).isNotNull();
@@ -352,12 +386,73 @@ public class PlotApplicationServiceIT extends AbstractIntegrationTest {
 
                 // When: Get second page
                 pageable = PageRequest.of(1, 2, Sort.by("plotName").ascending());
-                plotPage = plotApplicationService.listPlotsByFarm(testFarm.getFarmIdentifier(), tenantId, pageable);
+                plotPage = plotApplicationService.listPlotsByFarm(testFarm.getFarmIdentifier(), tenantId, pageable, FieldSelection.ALL, SimplificationLevel.NONE);
                 assertThat(plotPage.getContent()).hasSize(1)
                                 .extracting(PlotResponse::getPlotName)
                                 .containsExactly("Plot Charlie (Farm1)");
         }
 
+        @Test
+        void listPlotsByFarm_withoutGeometryField_shouldReturnPlotsWithoutGeometry() {
+                // Given
+                plotApplicationService.createPlot(CreatePlotRequest.builder()
+                                .farmIdentifier(testFarm.getFarmIdentifier())
+                                .plotName("Summary Plot").plotGeometry(createTestPolygonDto(0.001, 1, 1))
+                                .landTenureType(LandTenureType.OWNED).build(), tenantId);
+                entityManager.flush();
+                entityManager.clear();
+
+                // When
+                Page<PlotResponse> plotPage = plotApplicationService.listPlotsByFarm(testFarm.getFarmIdentifier(),
+                                tenantId, PageRequest.of(0, 10, Sort.by("plotName")),
+                                FieldSelection.parse("plotIdentifier,plotName,calculatedAreaHectares"),
+                                SimplificationLevel.NONE);
+
+                // Then
+                assertThat(plotPage.getTotalElements()).isEqualTo(1);
+                PlotResponse summary = plotPage.getContent().get(0);
+                assertThat(summary.getPlotName()).isEqualTo("Summary Plot");
+                assertThat(summary.getFarmIdentifier()).isEqualTo(testFarm.getFarmIdentifier());
+                assertThat(summary.getCalculatedAreaHectares()).isNotNull();
+                assertThat(summary.getLandTenureType()).isEqualTo(LandTenureType.OWNED);
+                assertThat(summary.getPlotGeometry()).isNull();
+        }
+
+        @Test
+        void getPlotById_withZoom_shouldReturnSimplifiedGeometry() {
+                // Given a near-circular plot with 200 boundary vertices (~2 km across)
+                List<List<Double>> ring = new java.util.ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                        double angle = 2 * Math.PI * i / 200;
+                        ring.add(List.of(10 + 0.01 * Math.cos(angle), 10 + 0.01 * Math.sin(angle)));
+                }
+                ring.add(ring.get(0));
+                PlotResponse created = plotApplicationService.createPlot(CreatePlotRequest.builder()
+                                .farmIdentifier(testFarm.getFarmIdentifier())
+                                .plotName("Round Plot")
+                                .plotGeometry(PolygonGeometryDto.builder().type("Polygon").coordinates(List.of(ring))
+                                                .build())
+                                .build(), tenantId);
+                entityManager.flush();
+                entityManager.clear();
+
+                // When
+                PlotResponse full = plotApplicationService.getPlotById(created.getPlotIdentifier(), tenantId,
+                                SimplificationLevel.NONE);
+                PlotResponse overview = plotApplicationService.getPlotById(created.getPlotIdentifier(), tenantId,
+                                SimplificationLevel.forZoom(12));
+                PlotResponse cachedOverview = plotApplicationService.getPlotById(created.getPlotIdentifier(),
+                                tenantId, SimplificationLevel.forZoom(12));
+
+                // Then
+                assertThat(full.getPlotGeometry().getNumPoints()).isEqualTo(201);
+                assertThat(overview.getPlotGeometry().getNumPoints()).isBetween(4, 200);
+                assertThat(overview.getPlotGeometry().isValid()).isTrue();
+                assertThat(cachedOverview.getPlotGeometry()).isEqualTo(overview.getPlotGeometry());
+                // Simplification only affects the returned geometry, never the stored area
+                assertThat(overview.getCalculatedAreaHectares()).isEqualByComparingTo(full.getCalculatedAreaHectares());
+        }
+
         @Test
         void listPlotsByFarm_whenFarmNotFoundOrTenantMismatch_shouldThrowResourceNotFound() {
                 // Given
@@ -367,7 +462,7 @@ public class PlotApplicationServiceIT extends AbstractIntegrationTest {
 
                 // When & Then: Farm not found
                 assertThrows(ResourceNotFoundException.class, () -> {
-                        plotApplicationService.listPlotsByFarm(nonExistentFarmId, tenantId, pageable);
+                        plotApplicationService.listPlotsByFarm(nonExistentFarmId, tenantId, pageable, FieldSelection.ALL, SimplificationLevel.NONE);
                 });
 
                 // When & Then: Tenant mismatch for an existing farm
@@ -375,7 +470,7 @@ public class PlotApplicationServiceIT extends AbstractIntegrationTest {
                 // exists under the given tenant)
                 assertThrows(ResourceNotFoundException.class, () -> {
                         plotApplicationService.listPlotsByFarm(testFarm.getFarmIdentifier(), differentTenantId,
-                                        pageable);
+                                        pageable, FieldSelection.ALL, SimplificationLevel.NONE);
                 });
         }
 
@@ -463,8 +558,8 @@ public class PlotApplicationServiceIT extends AbstractIntegrationTest {
                 assertThat(updatedPlotResponse.getPlotIdentifier()).isEqualTo(initialPlot.getPlotIdentifier());
                 assertThat(updatedPlotResponse.getPlotName()).isEqualTo("Updated Plot Name");
                 assertThat(updatedPlotResponse.getLandTenureType()).isEqualTo(LandTenureType.COMMUNAL_ACCESS);
-                assertThat(updatedPlotResponse.getPlotGeometry().getCoordinates().get(0).get(0)).containsExactly(6.0,
-                                6.0); // Check
+                assertThat(updatedPlotResponse.getPlotGeometry().getExteriorRing().getCoordinateN(0))
+                                .isEqualTo(new Coordinate(6.0, 6.0)); // Check
                                       // new
                                       // geometry
                                       // origin
@@ -474,6 +569,8 @@ public class PlotApplicationServiceIT extends AbstractIntegrationTest {
                 assertThat(dbPlot.getCalculatedAreaHectares()).isNotNull();
                 System.out.println("Updated calculated area: " + dbPlot.getCalculatedAreaHectares());
                 assertThat(dbPlot.getCalculatedAreaHectares()).isNotEqualTo(initialArea); // Should have changed
+                assertThat(updatedPlotResponse.getCalculatedAreaHectares())
+                                .isEqualByComparingTo(dbPlot.getCalculatedAreaHectares());
                 assertThat(dbPlot.getCalculatedAreaHectares().doubleValue())
                                 .isGreaterThan(initialArea != null ? initialArea.doubleValue() : 0.0); // Assuming
                                                                                                        // larger
@@ -0,0 +1,107 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.application.export.PlotExportFormat;
+import com.agrienhance.farmplot.config.AbstractIntegrationTest;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+public class PlotExportServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private PlotExportService plotExportService;
+
+    @Autowired
+    private PlotRepository plotRepository;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        plotRepository.deleteAllInBatch();
+        farmRepository.deleteAllInBatch();
+        tenantId = UUID.randomUUID();
+
+        Farm farm = farmRepository.save(Farm.builder()
+                .farmName("Export Farm")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("KE")
+                .tenantId(tenantId)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            plotRepository.save(Plot.builder()
+                    .plotName("Export Plot " + i)
+                    .farm(farm)
+                    .tenantId(tenantId)
+                    .plotGeometry(createSimpleSquarePolygon(0.01, 30.0 + i, 0.0))
+                    .build());
+        }
+        Farm otherFarm = farmRepository.save(Farm.builder()
+                .farmName("Other Tenant Farm")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("KE")
+                .tenantId(UUID.randomUUID())
+                .build());
+        plotRepository.save(Plot.builder()
+                .plotName("Other Tenant Plot")
+                .farm(otherFarm)
+                .tenantId(otherFarm.getTenantId())
+                .plotGeometry(createSimpleSquarePolygon(0.01, 40.0, 0.0))
+                .build());
+        entityManager.flush();
+        entityManager.clear(); // Export must read the generated area from the database
+    }
+
+    @Test
+    void exportPlots_asNdjson_shouldStreamOnlyTheTenantsPlots() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = plotExportService.exportPlots(tenantId, PlotExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        for (String line : lines) {
+            JsonNode feature = objectMapper.readTree(line);
+            assertThat(feature.at("/properties/tenantId").asText()).isEqualTo(tenantId.toString());
+            assertThat(feature.at("/properties/plotName").asText()).startsWith("Export Plot");
+            assertThat(feature.at("/properties/calculatedAreaHectares").isNumber()).isTrue();
+        }
+    }
+
+    @Test
+    void exportPlots_asGeoJson_shouldProduceFeatureCollection() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        plotExportService.exportPlots(tenantId, PlotExportFormat.GEOJSON, out);
+
+        JsonNode collection = objectMapper.readTree(out.toByteArray());
+        assertThat(collection.get("type").asText()).isEqualTo("FeatureCollection");
+        assertThat(collection.get("features")).hasSize(3);
+    }
+}
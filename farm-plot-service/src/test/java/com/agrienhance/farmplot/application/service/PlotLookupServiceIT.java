@@ -0,0 +1,87 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotLookupResponse;
+import com.agrienhance.farmplot.config.AbstractIntegrationTest;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each test uses a fresh tenant: rolled-back plots never publish change events,
+// so a shared tenant would keep stale entries in the in-memory index.
+@Transactional
+public class PlotLookupServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private PlotLookupService plotLookupService;
+
+    @Autowired
+    private PlotRepository plotRepository;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private UUID tenantId;
+    private Plot westPlot;
+    private Plot eastPlot;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        Farm farm = farmRepository.save(Farm.builder()
+                .farmName("Lookup Farm")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("KE")
+                .tenantId(tenantId)
+                .build());
+        westPlot = plotRepository.save(Plot.builder()
+                .plotName("West")
+                .farm(farm)
+                .tenantId(tenantId)
+                .plotGeometry(createSimpleSquarePolygon(0.01, 36.0, -1.0))
+                .build());
+        eastPlot = plotRepository.save(Plot.builder()
+                .plotName("East")
+                .farm(farm)
+                .tenantId(tenantId)
+                .plotGeometry(createSimpleSquarePolygon(0.01, 36.05, -1.0))
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void findPlotsAtPoint_shouldReturnOnlyCoveringPlot() {
+        List<PlotLookupResponse> found = plotLookupService.findPlotsAtPoint(36.005, -0.995, tenantId);
+
+        assertThat(found).extracting(PlotLookupResponse::getPlotIdentifier)
+                .containsExactly(westPlot.getPlotIdentifier());
+        assertThat(plotLookupService.findPlotsAtPoint(36.03, -0.995, tenantId)).isEmpty();
+    }
+
+    @Test
+    void findPlotsInBoundingBox_shouldReturnIntersectingPlots() {
+        List<PlotLookupResponse> found = plotLookupService.findPlotsInBoundingBox(35.9, -1.1, 36.1, -0.9, tenantId);
+
+        assertThat(found).extracting(PlotLookupResponse::getPlotIdentifier)
+                .containsExactlyInAnyOrder(westPlot.getPlotIdentifier(), eastPlot.getPlotIdentifier());
+    }
+
+    @Test
+    void findPlotsAtPoint_shouldNotSeeOtherTenantsPlots() {
+        assertThat(plotLookupService.findPlotsAtPoint(36.005, -0.995, UUID.randomUUID())).isEmpty();
+    }
+}
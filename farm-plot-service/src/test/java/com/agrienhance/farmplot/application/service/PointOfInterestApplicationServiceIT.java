@@ -2,8 +2,11 @@ package com.agrienhance.farmplot.application.service;
 
 import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
 import com.agrienhance.farmplot.api.dto.poi.CreatePointOfInterestRequest;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchItemResult;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchReport;
 import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
 import com.agrienhance.farmplot.api.dto.poi.UpdatePointOfInterestRequest;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.config.AbstractIntegrationTest;
 import com.agrienhance.farmplot.domain.entity.Farm;
 import com.agrienhance.farmplot.domain.entity.Plot;
@@ -133,6 +136,57 @@ public class PointOfInterestApplicationServiceIT extends AbstractIntegrationTest
         assertThat(response.getTenantId()).isEqualTo(tenantId);
     }
 
+    @Test
+    void createPois_shouldInsertValidItemsAndReportRejectedOnes() {
+        // Given
+        List<CreatePointOfInterestRequest> requests = List.of(
+                CreatePointOfInterestRequest.builder()
+                        .poiName("Sensor A")
+                        .poiType(POIType.SOIL_SENSOR)
+                        .coordinates(createTestPointDto(0.0002, 0.0002))
+                        .build(),
+                CreatePointOfInterestRequest.builder()
+                        .poiName("Missing coordinates")
+                        .poiType(POIType.HAZARD)
+                        .build(),
+                CreatePointOfInterestRequest.builder()
+                        .poiName("Sensor B")
+                        .poiType(POIType.SOIL_SENSOR)
+                        .coordinates(createTestPointDto(0.0008, 0.0008))
+                        .notes("Near the fence")
+                        .build());
+
+        // When
+        PointOfInterestBatchReport report = poiApplicationService.createPois(testPlot.getPlotIdentifier(),
+                ParentEntityType.PLOT, tenantId, requests);
+
+        // Then
+        assertThat(report.getCreatedCount()).isEqualTo(2);
+        assertThat(report.getFailedCount()).isEqualTo(1);
+        assertThat(report.getResults().get(1).getStatus()).isEqualTo(PointOfInterestBatchItemResult.Status.FAILED);
+
+        List<PointOfInterestResponse> pois = poiApplicationService.listPoisByParent(testPlot.getPlotIdentifier(),
+                ParentEntityType.PLOT, tenantId, FieldSelection.ALL);
+        assertThat(pois).extracting(PointOfInterestResponse::getPoiName)
+                .containsExactlyInAnyOrder("Sensor A", "Sensor B");
+        PointOfInterestResponse sensorB = poiApplicationService.getPoiById(
+                report.getResults().get(2).getPoiIdentifier(), tenantId);
+        assertThat(sensorB.getNotes()).isEqualTo("Near the fence");
+        assertThat(sensorB.getCoordinates().getX()).isEqualTo(0.0008);
+        assertThat(sensorB.getVersion()).isZero();
+    }
+
+    @Test
+    void createPois_whenParentNotFound_shouldThrowResourceNotFoundException() {
+        List<CreatePointOfInterestRequest> requests = List.of(CreatePointOfInterestRequest.builder()
+                .poiType(POIType.HAZARD)
+                .coordinates(createTestPointDto(0.0, 0.0))
+                .build());
+
+        assertThrows(ResourceNotFoundException.class, () -> poiApplicationService.createPois(UUID.randomUUID(),
+                ParentEntityType.PLOT, tenantId, requests));
+    }
+
     @Test
     void createPoi_forNonExistentParent_shouldThrowResourceNotFoundException() {
         // Given
@@ -185,7 +239,7 @@ public class PointOfInterestApplicationServiceIT extends AbstractIntegrationTest
 
         // When
         List<PointOfInterestResponse> pois = poiApplicationService.listPoisByParent(
-                testPlot.getPlotIdentifier(), ParentEntityType.PLOT, tenantId);
+                testPlot.getPlotIdentifier(), ParentEntityType.PLOT, tenantId, FieldSelection.ALL);
 
         // Then
         assertThat(pois).hasSize(2)
@@ -193,6 +247,26 @@ public class PointOfInterestApplicationServiceIT extends AbstractIntegrationTest
                 .containsExactlyInAnyOrder("POI 1 for Plot", "POI 2 for Plot");
     }
 
+    @Test
+    void listPoisByParent_withoutCoordinatesField_shouldReturnPoisWithoutCoordinates() {
+        // Given
+        poiApplicationService.createPoi(testPlot.getPlotIdentifier(), ParentEntityType.PLOT, tenantId,
+                CreatePointOfInterestRequest.builder().poiName("Well").poiType(POIType.WATER_SOURCE)
+                        .coordinates(createTestPointDto(0.0002, 0.0002)).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<PointOfInterestResponse> pois = poiApplicationService.listPoisByParent(
+                testPlot.getPlotIdentifier(), ParentEntityType.PLOT, tenantId, FieldSelection.parse("poiName"));
+
+        // Then
+        assertThat(pois).hasSize(1);
+        assertThat(pois.get(0).getPoiName()).isEqualTo("Well");
+        assertThat(pois.get(0).getPoiType()).isEqualTo(POIType.WATER_SOURCE);
+        assertThat(pois.get(0).getCoordinates()).isNull();
+    }
+
     @Test
     void updatePoi_shouldChangeDetails() {
         // Given
@@ -218,7 +292,8 @@ public class PointOfInterestApplicationServiceIT extends AbstractIntegrationTest
         assertThat(updatedResponse.getPoiName()).isEqualTo("Updated Name");
         assertThat(updatedResponse.getPoiType()).isEqualTo(POIType.INFRASTRUCTURE);
         assertThat(updatedResponse.getNotes()).isEqualTo("Updated notes.");
-        assertThat(updatedResponse.getCoordinates().getCoordinates()).containsExactly(1.1, 1.1);
+        assertThat(updatedResponse.getCoordinates().getX()).isEqualTo(1.1);
+        assertThat(updatedResponse.getCoordinates().getY()).isEqualTo(1.1);
     }
 
     @Test
@@ -284,7 +359,7 @@ public class PointOfInterestApplicationServiceIT extends AbstractIntegrationTest
 
         // When
         List<PointOfInterestResponse> pois = poiApplicationService.listPoisByParent(
-                testPlot.getPlotIdentifier(), ParentEntityType.PLOT, tenantId);
+                testPlot.getPlotIdentifier(), ParentEntityType.PLOT, tenantId, FieldSelection.ALL);
 
         // Then
         assertThat(pois).isNotNull().isEmpty();
@@ -0,0 +1,154 @@
+package com.agrienhance.farmplot.application.service;
+
+import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
+import com.agrienhance.farmplot.api.dto.landtenure.LandTenureResponse;
+import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
+import com.agrienhance.farmplot.api.dto.sync.SyncChangesResponse;
+import com.agrienhance.farmplot.api.dto.sync.SyncTombstoneResponse;
+import com.agrienhance.farmplot.config.AbstractIntegrationTest;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.LandTenure;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.entity.PointOfInterest;
+import com.agrienhance.farmplot.domain.enums.LandTenureType;
+import com.agrienhance.farmplot.domain.enums.POIType;
+import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.enums.SyncEntityType;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.LandTenureRepository;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not @Transactional: the change log only shows committed changes, so every
+// save here commits on its own. Each test uses a fresh tenant.
+public class SyncServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private FarmRepository farmRepository;
+
+    @Autowired
+    private PlotRepository plotRepository;
+
+    @Autowired
+    private LandTenureRepository landTenureRepository;
+
+    @Autowired
+    private PointOfInterestRepository poiRepository;
+
+    private UUID tenantId;
+    private Farm farm;
+    private Plot plot;
+    private LandTenure landTenure;
+    private PointOfInterest poi;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        farm = farmRepository.save(Farm.builder()
+                .farmName("Sync Farm")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("KE")
+                .tenantId(tenantId)
+                .build());
+        plot = plotRepository.save(Plot.builder()
+                .plotName("Sync Plot")
+                .farm(farm)
+                .tenantId(tenantId)
+                .plotGeometry(createSimpleSquarePolygon(0.01, 36.0, -1.0))
+                .build());
+        landTenure = landTenureRepository.save(LandTenure.builder()
+                .plot(plot)
+                .tenureType(LandTenureType.OWNED)
+                .tenantId(tenantId)
+                .build());
+        poi = poiRepository.save(PointOfInterest.builder()
+                .parentEntityIdentifier(plot.getPlotIdentifier())
+                .parentEntityType(ParentEntityType.PLOT)
+                .poiName("Well")
+                .poiType(POIType.WATER_SOURCE)
+                .coordinates(createJtsPoint(36.005, -0.995))
+                .tenantId(tenantId)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        poiRepository.findById(poi.getPoiIdentifier()).ifPresent(poiRepository::delete);
+        farmRepository.findById(farm.getFarmIdentifier()).ifPresent(farmRepository::delete);
+    }
+
+    @Test
+    void getChangesSince_withoutToken_shouldReturnEveryRecordOfTheTenant() {
+        SyncChangesResponse response = syncService.getChangesSince(null, 100, tenantId);
+
+        assertThat(response.getFarms()).extracting(FarmResponse::getFarmIdentifier)
+                .containsExactly(farm.getFarmIdentifier());
+        assertThat(response.getPlots()).extracting(PlotResponse::getPlotIdentifier)
+                .containsExactly(plot.getPlotIdentifier());
+        assertThat(response.getLandTenures()).extracting(LandTenureResponse::getLandTenureIdentifier)
+                .containsExactly(landTenure.getLandTenureIdentifier());
+        assertThat(response.getPointsOfInterest()).extracting(PointOfInterestResponse::getPoiIdentifier)
+                .containsExactly(poi.getPoiIdentifier());
+        assertThat(response.getTombstones()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void getChangesSince_withToken_shouldReturnOnlyLaterChanges() {
+        String token = syncService.getChangesSince(null, 100, tenantId).getNextToken();
+
+        plot.setPlotName("Renamed Plot");
+        plotRepository.save(plot);
+
+        SyncChangesResponse response = syncService.getChangesSince(token, 100, tenantId);
+
+        assertThat(response.getPlots()).extracting(PlotResponse::getPlotName).containsExactly("Renamed Plot");
+        assertThat(response.getFarms()).isEmpty();
+        assertThat(response.getLandTenures()).isEmpty();
+        assertThat(response.getPointsOfInterest()).isEmpty();
+        assertThat(syncService.getChangesSince(response.getNextToken(), 100, tenantId).getPlots()).isEmpty();
+    }
+
+    @Test
+    void getChangesSince_afterDelete_shouldReturnTombstonesIncludingCascadedRecords() {
+        String token = syncService.getChangesSince(null, 100, tenantId).getNextToken();
+
+        farmRepository.delete(farm);
+
+        SyncChangesResponse response = syncService.getChangesSince(token, 100, tenantId);
+
+        assertThat(response.getTombstones()).containsExactlyInAnyOrder(
+                new SyncTombstoneResponse(SyncEntityType.FARM, farm.getFarmIdentifier()),
+                new SyncTombstoneResponse(SyncEntityType.PLOT, plot.getPlotIdentifier()),
+                new SyncTombstoneResponse(SyncEntityType.LAND_TENURE, landTenure.getLandTenureIdentifier()));
+        assertThat(response.getFarms()).isEmpty();
+        assertThat(response.getPlots()).isEmpty();
+    }
+
+    @Test
+    void getChangesSince_withSmallLimit_shouldPageThroughAllChanges() {
+        SyncChangesResponse first = syncService.getChangesSince(null, 3, tenantId);
+        SyncChangesResponse second = syncService.getChangesSince(first.getNextToken(), 3, tenantId);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.isHasMore()).isFalse();
+        int firstCount = first.getFarms().size() + first.getPlots().size()
+                + first.getLandTenures().size() + first.getPointsOfInterest().size();
+        int secondCount = second.getFarms().size() + second.getPlots().size()
+                + second.getLandTenures().size() + second.getPointsOfInterest().size();
+        assertThat(firstCount).isEqualTo(3);
+        assertThat(secondCount).isEqualTo(1);
+    }
+}
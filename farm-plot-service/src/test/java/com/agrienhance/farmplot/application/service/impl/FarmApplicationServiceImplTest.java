@@ -1,22 +1,38 @@
 package com.agrienhance.farmplot.application.service.impl;
 
+import com.agrienhance.farmplot.api.dto.common.CursorPageResponse;
 import com.agrienhance.farmplot.api.dto.farm.CreateFarmRequest;
 import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
 import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
 import com.agrienhance.farmplot.application.mapper.FarmMapper;
+import com.agrienhance.farmplot.application.pagination.KeysetCursor;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.event.DomainEventType;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
 import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.projection.FarmSummary;
+import com.agrienhance.farmplot.infrastructure.cache.EntityReadCache;
+import com.agrienhance.farmplot.infrastructure.outbox.OutboxEventWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +51,16 @@ class FarmApplicationServiceImplTest {
     @Mock // Mockito will create a mock instance of FarmMapper
     private FarmMapper farmMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
+    @Spy
+    private EntityReadCache entityReadCache = new EntityReadCache(100, 100, 100, Duration.ofMinutes(10),
+            new SimpleMeterRegistry());
+
     @InjectMocks // Mockito will inject the mocks above into this instance
     private FarmApplicationServiceImpl farmApplicationService;
 
@@ -90,7 +116,7 @@ class FarmApplicationServiceImplTest {
                 .ownerReferenceId(savedFarmEntity.getOwnerReferenceId())
                 .countryCode(savedFarmEntity.getCountryCode())
                 .tenantId(savedFarmEntity.getTenantId())
-                .generalLocationCoordinates(pointDto) // Mapper would convert Point back to PointGeometryDto
+                .generalLocationCoordinates(savedFarmEntity.getGeneralLocationCoordinates()) // Mapper passes the Point through
                 .createdAt(savedFarmEntity.getCreatedAt())
                 .updatedAt(savedFarmEntity.getUpdatedAt())
                 .version(savedFarmEntity.getVersion())
@@ -123,6 +149,8 @@ class FarmApplicationServiceImplTest {
         // Or use an ArgumentCaptor if we need to inspect the saved object precisely.
         verify(farmRepository).save(farmEntityFromMapper);
         verify(farmMapper).farmToFarmResponse(savedFarmEntity);
+        verify(outboxEventWriter).append(DomainEventType.FARM_CREATED, savedFarmEntity.getFarmIdentifier(), tenantId,
+                farmResponseFromMapper);
 
         verifyNoMoreInteractions(farmMapper, farmRepository); // Ensure no other unexpected calls
     }
@@ -148,6 +176,91 @@ class FarmApplicationServiceImplTest {
         verifyNoMoreInteractions(farmRepository, farmMapper);
     }
 
+    @Test
+    void getFarmById_whenCalledTwice_shouldLoadFarmOnce() {
+        UUID farmId = savedFarmEntity.getFarmIdentifier();
+        UUID tenantId = savedFarmEntity.getTenantId();
+        when(farmRepository.findByFarmIdentifierAndTenantId(farmId, tenantId)).thenReturn(Optional.of(savedFarmEntity));
+        when(farmMapper.farmToFarmResponse(savedFarmEntity)).thenReturn(farmResponseFromMapper);
+
+        farmApplicationService.getFarmById(farmId, tenantId);
+        farmApplicationService.getFarmById(farmId, tenantId);
+
+        verify(farmRepository, times(1)).findByFarmIdentifierAndTenantId(farmId, tenantId);
+        verify(farmMapper, times(2)).farmToFarmResponse(savedFarmEntity);
+    }
+
+    @Test
+    void scrollFarmsByTenant_shouldFetchOneExtraRowAndReturnCursorOfLastFarm() {
+        // Given
+        Farm secondFarm = new Farm();
+        secondFarm.setFarmIdentifier(UUID.randomUUID());
+        secondFarm.setFarmName(null); // Unnamed farms sort as ''
+        when(farmRepository.findKeysetPageByTenantId(tenantId, "", KeysetCursor.FIRST.identifier(), 2))
+                .thenReturn(List.of(savedFarmEntity, secondFarm));
+        when(farmMapper.farmToFarmResponse(savedFarmEntity)).thenReturn(farmResponseFromMapper);
+
+        // When
+        CursorPageResponse<FarmResponse> page = farmApplicationService.scrollFarmsByTenant(tenantId, null, 1);
+
+        // Then
+        assertThat(page.getContent()).containsExactly(farmResponseFromMapper);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor()))
+                .isEqualTo(new KeysetCursor(savedFarmEntity.getFarmName(), savedFarmEntity.getFarmIdentifier()));
+        verifyNoMoreInteractions(farmRepository, farmMapper);
+    }
+
+    @Test
+    void listFarmsByTenant_withoutLocationField_shouldUseSummaryProjection() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        FarmSummary summary = mock(FarmSummary.class);
+        when(farmRepository.findSummariesByTenantId(tenantId, pageable))
+                .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+        when(farmMapper.farmSummaryToFarmResponse(summary)).thenReturn(farmResponseFromMapper);
+
+        // When
+        Page<FarmResponse> page = farmApplicationService.listFarmsByTenant(tenantId, pageable,
+                FieldSelection.parse("farmIdentifier,farmName"));
+
+        // Then
+        assertThat(page.getContent()).containsExactly(farmResponseFromMapper);
+        verify(farmRepository, never()).findAllByTenantId(any(), any());
+    }
+
+    @Test
+    void listFarmsByTenant_withLocationField_shouldLoadFarmEntities() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(farmRepository.findAllByTenantId(tenantId, pageable))
+                .thenReturn(new PageImpl<>(List.of(savedFarmEntity), pageable, 1));
+        when(farmMapper.farmToFarmResponse(savedFarmEntity)).thenReturn(farmResponseFromMapper);
+
+        // When
+        Page<FarmResponse> page = farmApplicationService.listFarmsByTenant(tenantId, pageable, FieldSelection.ALL);
+
+        // Then
+        assertThat(page.getContent()).containsExactly(farmResponseFromMapper);
+        verify(farmRepository, never()).findSummariesByTenantId(any(), any());
+    }
+
+    @Test
+    void deleteFarm_shouldDeleteAndPublishFarmDeletedEvent() {
+        // Given
+        when(farmRepository.findByFarmIdentifierAndTenantId(savedFarmEntity.getFarmIdentifier(), tenantId))
+                .thenReturn(Optional.of(savedFarmEntity));
+
+        // When
+        farmApplicationService.deleteFarm(savedFarmEntity.getFarmIdentifier(), tenantId);
+
+        // Then
+        verify(farmRepository).deleteById(savedFarmEntity.getFarmIdentifier());
+        verify(eventPublisher).publishEvent(new FarmDeletedEvent(tenantId, savedFarmEntity.getFarmIdentifier()));
+        verify(outboxEventWriter).append(eq(DomainEventType.FARM_DELETED), eq(savedFarmEntity.getFarmIdentifier()),
+                eq(tenantId), any());
+    }
+
     // We would also add a test for getFarmById when farm does NOT exist to check
     // ResourceNotFoundException
     // e.g., using assertThrows(ResourceNotFoundException.class, () ->
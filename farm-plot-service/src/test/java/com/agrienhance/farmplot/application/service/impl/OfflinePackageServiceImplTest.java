@@ -0,0 +1,109 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.application.exception.ResourceNotFoundException;
+import com.agrienhance.farmplot.application.export.FarmGeoPackageWriter;
+import com.agrienhance.farmplot.application.export.OfflinePackage;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.LandTenureRepository;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import com.agrienhance.farmplot.infrastructure.cache.OfflinePackageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OfflinePackageServiceImplTest {
+
+    @Mock
+    private FarmRepository farmRepository;
+    @Mock
+    private PlotRepository plotRepository;
+    @Mock
+    private LandTenureRepository landTenureRepository;
+    @Mock
+    private PointOfInterestRepository poiRepository;
+    @Mock
+    private FarmGeoPackageWriter geoPackageWriter;
+
+    @TempDir
+    private Path directory;
+
+    private OfflinePackageServiceImpl service;
+    private UUID tenantId;
+    private Farm farm;
+
+    @BeforeEach
+    void setUp() {
+        service = new OfflinePackageServiceImpl(farmRepository, plotRepository, landTenureRepository, poiRepository,
+                geoPackageWriter, new OfflinePackageStore(directory, Duration.ofMinutes(15)));
+        tenantId = UUID.randomUUID();
+        farm = Farm.builder().farmIdentifier(UUID.randomUUID()).tenantId(tenantId).build();
+        lenient().when(farmRepository.findByFarmIdentifierAndTenantId(farm.getFarmIdentifier(), tenantId))
+                .thenReturn(Optional.of(farm));
+    }
+
+    @Test
+    void getFarmPackage_shouldBuildOnceAndReuseWhileContentHashIsUnchanged() throws Exception {
+        Plot plot = Plot.builder().plotIdentifier(UUID.randomUUID()).farm(farm).build();
+        when(farmRepository.findContentFingerprint(farm.getFarmIdentifier(), tenantId)).thenReturn("abc");
+        when(plotRepository.findAllByFarm_FarmIdentifierAndTenantId(farm.getFarmIdentifier(), tenantId))
+                .thenReturn(List.of(plot));
+        doAnswer(invocation -> Files.writeString(invocation.getArgument(0), "gpkg"))
+                .when(geoPackageWriter).write(any(), any(), any(), any(), any());
+
+        OfflinePackage built = service.getFarmPackage(farm.getFarmIdentifier(), tenantId);
+        OfflinePackage reused = service.getFarmPackage(farm.getFarmIdentifier(), tenantId);
+
+        assertThat(built.contentHash()).isEqualTo("v" + FarmGeoPackageWriter.FORMAT_VERSION + "-abc");
+        assertThat(reused).isEqualTo(built);
+        assertThat(Files.readString(built.file())).isEqualTo("gpkg");
+        verify(geoPackageWriter, times(1)).write(any(), eq(farm), eq(List.of(plot)), any(), any());
+        verify(poiRepository).findAllByParentEntityIdentifierInAndParentEntityTypeAndTenantId(
+                List.of(plot.getPlotIdentifier()), ParentEntityType.PLOT, tenantId);
+    }
+
+    @Test
+    void getFarmPackage_whenContentChanged_shouldRebuild() throws Exception {
+        when(farmRepository.findContentFingerprint(farm.getFarmIdentifier(), tenantId)).thenReturn("abc", "def");
+        doAnswer(invocation -> Files.writeString(invocation.getArgument(0), "gpkg"))
+                .when(geoPackageWriter).write(any(), any(), any(), any(), any());
+
+        OfflinePackage first = service.getFarmPackage(farm.getFarmIdentifier(), tenantId);
+        OfflinePackage second = service.getFarmPackage(farm.getFarmIdentifier(), tenantId);
+
+        assertThat(second.contentHash()).isNotEqualTo(first.contentHash());
+        assertThat(second.file()).isNotEqualTo(first.file());
+        // Kept for the grace period, for downloads that already found it
+        assertThat(Files.exists(first.file())).isTrue();
+        verify(geoPackageWriter, times(2)).write(any(), any(), any(), any(), any());
+        // A farm without plots has no plot POIs to look up
+        verify(poiRepository, never()).findAllByParentEntityIdentifierInAndParentEntityTypeAndTenantId(any(), any(), any());
+    }
+
+    @Test
+    void getFarmPackage_forUnknownFarm_shouldThrowResourceNotFoundException() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getFarmPackage(unknown, tenantId));
+        verifyNoInteractions(geoPackageWriter);
+    }
+}
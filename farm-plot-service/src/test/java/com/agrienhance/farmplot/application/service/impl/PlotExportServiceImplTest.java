@@ -0,0 +1,112 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.application.export.PlotExportFormat;
+import com.agrienhance.farmplot.application.export.PlotGeoJsonWriter;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlotExportServiceImplTest {
+
+    @Mock
+    private PlotRepository plotRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private PlotExportServiceImpl plotExportService;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        plotExportService = new PlotExportServiceImpl(plotRepository, entityManager, objectMapper,
+                new PlotGeoJsonWriter());
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    void exportPlots_asNdjson_shouldWriteOneFeaturePerLineAndCloseTheCursor() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(plotRepository.streamAllByTenantId(tenantId))
+                .thenReturn(Stream.of(plot("A"), plot("B")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = plotExportService.exportPlots(tenantId, PlotExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2).allSatisfy(line -> assertThat(line).startsWith("{"));
+        assertThat(objectMapper.readTree(lines[1]).at("/properties/plotName").asText()).isEqualTo("B");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void exportPlots_asGeoJson_shouldWrapFeaturesInFeatureCollection() throws Exception {
+        when(plotRepository.streamAllByTenantId(tenantId)).thenReturn(Stream.of(plot("A")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        plotExportService.exportPlots(tenantId, PlotExportFormat.GEOJSON, out);
+
+        JsonNode collection = objectMapper.readTree(out.toByteArray());
+        assertThat(collection.get("type").asText()).isEqualTo("FeatureCollection");
+        assertThat(collection.get("features")).hasSize(1);
+    }
+
+    @Test
+    void exportPlots_withoutPlots_shouldWriteEmptyFeatureCollection() throws Exception {
+        when(plotRepository.streamAllByTenantId(tenantId)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = plotExportService.exportPlots(tenantId, PlotExportFormat.GEOJSON, out);
+
+        assertThat(count).isZero();
+        assertThat(objectMapper.readTree(out.toByteArray()).get("features")).isEmpty();
+    }
+
+    @Test
+    void exportPlots_shouldClearPersistenceContextPeriodically() throws Exception {
+        int rows = PlotExportServiceImpl.FLUSH_INTERVAL * 2 + 1;
+        when(plotRepository.streamAllByTenantId(tenantId))
+                .thenReturn(IntStream.range(0, rows).mapToObj(i -> plot("P" + i)));
+
+        long count = plotExportService.exportPlots(tenantId, PlotExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertThat(count).isEqualTo(rows);
+        verify(entityManager, times(2)).clear();
+    }
+
+    private Plot plot(String name) {
+        return Plot.builder()
+                .plotIdentifier(UUID.randomUUID())
+                .farm(Farm.builder().farmIdentifier(UUID.randomUUID()).build())
+                .tenantId(tenantId)
+                .plotName(name)
+                .plotGeometry(geometryFactory.createPolygon(new Coordinate[] {
+                        new Coordinate(0, 0), new Coordinate(1, 0), new Coordinate(1, 1), new Coordinate(0, 0) }))
+                .build();
+    }
+}
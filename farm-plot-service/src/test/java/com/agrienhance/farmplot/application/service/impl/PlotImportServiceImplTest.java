@@ -0,0 +1,219 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotImportFeatureResult;
+import com.agrienhance.farmplot.api.dto.plot.PlotImportReport;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import com.agrienhance.farmplot.application.mapper.GeometryMapper;
+import com.agrienhance.farmplot.application.mapper.PlotMapperImpl;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.event.DomainEventType;
+import com.agrienhance.farmplot.domain.event.PlotsCreatedEvent;
+import com.agrienhance.farmplot.domain.identifier.EntityUuidStrategy;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.infrastructure.outbox.OutboxEventWriter;
+import com.agrienhance.farmplot.infrastructure.persistence.PlotBatchWriter;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Envelope;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlotImportServiceImplTest {
+
+    private static final String SQUARE = "{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[1,0],[1,1],[0,1],[0,0]]]}";
+
+    @Mock
+    private FarmRepository farmRepository;
+
+    @Mock
+    private PlotBatchWriter plotBatchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxEventWriter outboxEventWriter;
+
+    private PlotImportServiceImpl plotImportService;
+    private UUID tenantId;
+    private Farm farm;
+
+    @BeforeEach
+    void setUp() {
+        plotImportService = importService(EntityUuidStrategy.RANDOM);
+        tenantId = UUID.randomUUID();
+        farm = Farm.builder().farmIdentifier(UUID.randomUUID()).tenantId(tenantId).build();
+    }
+
+    private PlotImportServiceImpl importService(EntityUuidStrategy entityUuidStrategy) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // As configured by Spring Boot
+        PlotMapperImpl plotMapper = new PlotMapperImpl();
+        ReflectionTestUtils.setField(plotMapper, "geometryMapper", new GeometryMapper());
+
+        return new PlotImportServiceImpl(objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                plotMapper,
+                farmRepository,
+                plotBatchWriter,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                eventPublisher,
+                outboxEventWriter,
+                entityUuidStrategy,
+                2);
+    }
+
+    @Test
+    void importPlots_shouldWriteInBatchesAndLookUpEachFarmOnce() {
+        when(farmRepository.findByFarmIdentifierAndTenantId(farm.getFarmIdentifier(), tenantId))
+                .thenReturn(Optional.of(farm));
+
+        PlotImportReport report = plotImportService.importPlots(
+                collection(feature("A1"), feature("A2"), feature("A3")), farm.getFarmIdentifier(), tenantId);
+
+        assertThat(report.getTotalFeatures()).isEqualTo(3);
+        assertThat(report.getImportedCount()).isEqualTo(3);
+        assertThat(report.getFailedCount()).isZero();
+        assertThat(report.getResults()).extracting(PlotImportFeatureResult::getPlotIdentifier).doesNotContainNull();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Plot>> batches = ArgumentCaptor.forClass(List.class);
+        verify(plotBatchWriter, times(2)).insertAll(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(batches.getAllValues().get(0).get(0).getPlotName()).isEqualTo("A1");
+        assertThat(batches.getAllValues().get(0).get(0).getTenantId()).isEqualTo(tenantId);
+        verify(farmRepository, times(1)).findByFarmIdentifierAndTenantId(farm.getFarmIdentifier(), tenantId);
+        // One change event per committed batch, covering all of its plots
+        ArgumentCaptor<PlotsCreatedEvent> events = ArgumentCaptor.forClass(PlotsCreatedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(event -> event.plotIdentifiers().size()).containsExactly(2, 1);
+        assertThat(events.getAllValues().get(0).extent()).isEqualTo(new Envelope(
+                batches.getAllValues().get(0).get(0).getPlotGeometry().getEnvelopeInternal()));
+        // One outbox batch per committed plot batch
+        verify(outboxEventWriter, times(2)).appendAll(eq(DomainEventType.PLOT_CREATED), anyList(), any(), any());
+    }
+
+    @Test
+    void importPlots_withTimeOrderedIdentifiers_shouldAssignIncreasingVersion7Identifiers() {
+        when(farmRepository.findByFarmIdentifierAndTenantId(farm.getFarmIdentifier(), tenantId))
+                .thenReturn(Optional.of(farm));
+
+        PlotImportReport report = importService(EntityUuidStrategy.TIME_ORDERED).importPlots(
+                collection(feature("A1"), feature("A2"), feature("A3")), farm.getFarmIdentifier(), tenantId);
+
+        assertThat(report.getResults()).extracting(PlotImportFeatureResult::getPlotIdentifier)
+                .allSatisfy(plotIdentifier -> assertThat(plotIdentifier.version()).isEqualTo(7))
+                .isSorted();
+    }
+
+    @Test
+    void importPlots_shouldReportInvalidFeaturesWithoutStoppingTheImport() {
+        when(farmRepository.findByFarmIdentifierAndTenantId(farm.getFarmIdentifier(), tenantId))
+                .thenReturn(Optional.of(farm));
+        String point = "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[0,0]},\"properties\":{}}";
+        String badTenure = "{\"type\":\"Feature\",\"geometry\":" + SQUARE
+                + ",\"properties\":{\"landTenureType\":\"STOLEN\"}}";
+
+        PlotImportReport report = plotImportService.importPlots(
+                collection(point, feature("Good"), badTenure), farm.getFarmIdentifier(), tenantId);
+
+        assertThat(report.getImportedCount()).isEqualTo(1);
+        assertThat(report.getFailedCount()).isEqualTo(2);
+        assertThat(report.getResults()).extracting(PlotImportFeatureResult::getFeatureIndex).containsExactly(0, 1, 2);
+        assertThat(report.getResults()).extracting(PlotImportFeatureResult::getStatus).containsExactly(
+                PlotImportFeatureResult.Status.FAILED,
+                PlotImportFeatureResult.Status.IMPORTED,
+                PlotImportFeatureResult.Status.FAILED);
+        assertThat(report.getResults().get(0).getError()).contains("Polygon");
+        assertThat(report.getResults().get(2).getError()).contains("Invalid feature properties");
+    }
+
+    @Test
+    void importPlots_withoutAnyFarm_shouldFailFeatureOnValidation() {
+        PlotImportReport report = plotImportService.importPlots(collection(feature("Orphan")), null, tenantId);
+
+        assertThat(report.getFailedCount()).isEqualTo(1);
+        assertThat(report.getResults().get(0).getError()).contains("farmIdentifier");
+        verifyNoInteractions(farmRepository, plotBatchWriter);
+    }
+
+    @Test
+    void importPlots_whenBatchIsRejected_shouldRetryRowByRowAndFailOnlyOffendingFeature() {
+        when(farmRepository.findByFarmIdentifierAndTenantId(farm.getFarmIdentifier(), tenantId))
+                .thenReturn(Optional.of(farm));
+        doAnswer(invocation -> {
+            List<Plot> plots = invocation.getArgument(0);
+            if (plots.stream().anyMatch(p -> "Bad".equals(p.getPlotName()))) {
+                throw new DataIntegrityViolationException("rejected");
+            }
+            return null;
+        }).when(plotBatchWriter).insertAll(anyList());
+
+        PlotImportReport report = plotImportService.importPlots(
+                collection(feature("Good"), feature("Bad")), farm.getFarmIdentifier(), tenantId);
+
+        assertThat(report.getImportedCount()).isEqualTo(1);
+        assertThat(report.getResults()).extracting(PlotImportFeatureResult::getStatus).containsExactly(
+                PlotImportFeatureResult.Status.IMPORTED,
+                PlotImportFeatureResult.Status.FAILED);
+        assertThat(report.getResults().get(1).getError()).isEqualTo("rejected");
+        verify(plotBatchWriter, times(3)).insertAll(anyList());
+    }
+
+    @Test
+    void importPlots_withNonFeatureCollection_shouldThrowValidationException() {
+        InputStream body = stream("{\"type\":\"Feature\",\"geometry\":" + SQUARE + "}");
+
+        assertThrows(ValidationException.class, () -> plotImportService.importPlots(body, null, tenantId));
+    }
+
+    @Test
+    void importPlots_withTruncatedDocument_shouldImportWhatWasReadAndThrow() {
+        when(farmRepository.findByFarmIdentifierAndTenantId(farm.getFarmIdentifier(), tenantId))
+                .thenReturn(Optional.of(farm));
+        InputStream body = stream("{\"type\":\"FeatureCollection\",\"features\":[" + feature("A1") + ",{\"type\":");
+
+        ValidationException e = assertThrows(ValidationException.class,
+                () -> plotImportService.importPlots(body, farm.getFarmIdentifier(), tenantId));
+
+        assertThat(e.getMessage()).contains("1 plots before it were imported");
+        verify(plotBatchWriter).insertAll(anyList());
+    }
+
+    private static String feature(String name) {
+        return "{\"type\":\"Feature\",\"geometry\":" + SQUARE + ",\"properties\":{\"plotName\":\"" + name + "\"}}";
+    }
+
+    private static InputStream collection(String... features) {
+        return stream("{\"type\":\"FeatureCollection\",\"features\":[" + String.join(",", features) + "]}");
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
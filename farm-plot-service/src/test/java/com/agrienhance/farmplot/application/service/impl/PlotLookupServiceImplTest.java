@@ -0,0 +1,161 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotLookupResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.infrastructure.cache.PlotSpatialIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlotLookupServiceImplTest {
+
+    @Mock
+    private PlotRepository plotRepository;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private PlotSpatialIndex plotSpatialIndex;
+    private PlotLookupServiceImpl plotLookupService;
+    private UUID tenantId;
+    private Farm farm;
+
+    @BeforeEach
+    void setUp() {
+        plotSpatialIndex = new PlotSpatialIndex(10, Duration.ofMinutes(1));
+        plotLookupService = new PlotLookupServiceImpl(plotRepository, plotSpatialIndex,
+                mock(PlatformTransactionManager.class));
+        tenantId = UUID.randomUUID();
+        farm = Farm.builder().farmIdentifier(UUID.randomUUID()).tenantId(tenantId).build();
+    }
+
+    @Test
+    void findPlotsAtPoint_shouldLoadTenantOnceAndAnswerFromMemory() {
+        Plot plot = plot("North Field", 10, 10);
+        when(plotRepository.streamAllByTenantId(tenantId)).thenReturn(Stream.of(plot));
+
+        List<PlotLookupResponse> inside = plotLookupService.findPlotsAtPoint(10.5, 10.5, tenantId);
+        List<PlotLookupResponse> outside = plotLookupService.findPlotsAtPoint(20.0, 20.0, tenantId);
+
+        assertThat(inside).extracting(PlotLookupResponse::getPlotIdentifier).containsExactly(plot.getPlotIdentifier());
+        assertThat(inside.get(0).getFarmIdentifier()).isEqualTo(farm.getFarmIdentifier());
+        assertThat(outside).isEmpty();
+        verify(plotRepository, times(1)).streamAllByTenantId(tenantId);
+        verifyNoMoreInteractions(plotRepository);
+    }
+
+    @Test
+    void findPlotsAtPoint_afterPlotChange_shouldReloadOnlyTheChangedPlot() {
+        Plot plot = plot("North Field", 10, 10);
+        when(plotRepository.streamAllByTenantId(tenantId)).thenReturn(Stream.of(plot));
+        plotLookupService.findPlotsAtPoint(10.5, 10.5, tenantId);
+
+        Plot moved = plot("North Field", 30, 30);
+        moved.setPlotIdentifier(plot.getPlotIdentifier());
+        when(plotRepository.findAllByTenantIdAndPlotIdentifierIn(tenantId, List.of(plot.getPlotIdentifier())))
+                .thenReturn(List.of(moved));
+        plotSpatialIndex.onPlotChanged(new PlotChangedEvent(tenantId, plot.getPlotIdentifier(), null, null));
+
+        assertThat(plotLookupService.findPlotsAtPoint(10.5, 10.5, tenantId)).isEmpty();
+        assertThat(plotLookupService.findPlotsAtPoint(30.5, 30.5, tenantId)).hasSize(1);
+        verify(plotRepository, times(1))
+                .findAllByTenantIdAndPlotIdentifierIn(tenantId, List.of(plot.getPlotIdentifier()));
+    }
+
+    @Test
+    void findPlotsAtPoint_whenReloadFails_shouldKeepPlotDirtyAndRecoverOnNextLookup() {
+        Plot plot = plot("North Field", 10, 10);
+        when(plotRepository.streamAllByTenantId(tenantId)).thenReturn(Stream.of(plot));
+        plotLookupService.findPlotsAtPoint(10.5, 10.5, tenantId);
+
+        Plot moved = plot("North Field", 30, 30);
+        moved.setPlotIdentifier(plot.getPlotIdentifier());
+        when(plotRepository.findAllByTenantIdAndPlotIdentifierIn(tenantId, List.of(plot.getPlotIdentifier())))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(List.of(moved));
+        plotSpatialIndex.onPlotChanged(new PlotChangedEvent(tenantId, plot.getPlotIdentifier(), null, null));
+
+        assertThrows(IllegalStateException.class, () -> plotLookupService.findPlotsAtPoint(10.5, 10.5, tenantId));
+
+        assertThat(plotLookupService.findPlotsAtPoint(10.5, 10.5, tenantId)).isEmpty();
+        assertThat(plotLookupService.findPlotsAtPoint(30.5, 30.5, tenantId)).hasSize(1);
+        verify(plotRepository, times(2))
+                .findAllByTenantIdAndPlotIdentifierIn(tenantId, List.of(plot.getPlotIdentifier()));
+    }
+
+    @Test
+    void findPlotsAtPoint_afterManyChanges_shouldReloadInChunks() {
+        when(plotRepository.streamAllByTenantId(tenantId)).thenReturn(Stream.empty());
+        plotLookupService.findPlotsAtPoint(0, 0, tenantId);
+        when(plotRepository.findAllByTenantIdAndPlotIdentifierIn(eq(tenantId), anyCollection())).thenReturn(List.of());
+        for (int i = 0; i < PlotLookupServiceImpl.RELOAD_CHUNK_SIZE * 2 + 1; i++) {
+            plotSpatialIndex.onPlotChanged(new PlotChangedEvent(tenantId, UUID.randomUUID(), null, null));
+        }
+
+        plotLookupService.findPlotsAtPoint(0, 0, tenantId);
+
+        verify(plotRepository, times(3)).findAllByTenantIdAndPlotIdentifierIn(eq(tenantId), anyCollection());
+    }
+
+    @Test
+    void findPlotsAtPoint_onceTheIndexIsTooOld_shouldReloadTheTenant() {
+        plotLookupService = new PlotLookupServiceImpl(plotRepository, new PlotSpatialIndex(10, Duration.ZERO),
+                mock(PlatformTransactionManager.class));
+        Plot plot = plot("North Field", 10, 10);
+        // The plot was deleted through another instance; no event reaches this one
+        when(plotRepository.streamAllByTenantId(tenantId)).thenReturn(Stream.of(plot), Stream.empty());
+
+        assertThat(plotLookupService.findPlotsAtPoint(10.5, 10.5, tenantId)).hasSize(1);
+        assertThat(plotLookupService.findPlotsAtPoint(10.5, 10.5, tenantId)).isEmpty();
+        verify(plotRepository, times(2)).streamAllByTenantId(tenantId);
+    }
+
+    @Test
+    void findPlotsInBoundingBox_shouldReturnIntersectingPlots() {
+        Plot a = plot("A", 0, 0);
+        Plot b = plot("B", 5, 5);
+        when(plotRepository.streamAllByTenantId(tenantId)).thenReturn(Stream.of(a, b));
+
+        List<PlotLookupResponse> found = plotLookupService.findPlotsInBoundingBox(-1, -1, 2, 2, tenantId);
+
+        assertThat(found).extracting(PlotLookupResponse::getPlotName).containsExactly("A");
+    }
+
+    @Test
+    void lookups_withInvalidCoordinates_shouldThrowValidationExceptionWithoutLoading() {
+        assertThrows(ValidationException.class, () -> plotLookupService.findPlotsAtPoint(181, 0, tenantId));
+        assertThrows(ValidationException.class, () -> plotLookupService.findPlotsAtPoint(0, -91, tenantId));
+        assertThrows(ValidationException.class,
+                () -> plotLookupService.findPlotsInBoundingBox(5, 0, 1, 1, tenantId));
+        verifyNoInteractions(plotRepository);
+    }
+
+    private Plot plot(String name, double x, double y) {
+        return Plot.builder()
+                .plotIdentifier(UUID.randomUUID())
+                .farm(farm)
+                .tenantId(tenantId)
+                .plotName(name)
+                .plotGeometry((Polygon) geometryFactory.toGeometry(new Envelope(x, x + 1, y, y + 1)))
+                .build();
+    }
+}
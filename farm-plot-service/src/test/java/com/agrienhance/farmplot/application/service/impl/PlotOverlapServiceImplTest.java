@@ -0,0 +1,136 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotOverlapResponse;
+import com.agrienhance.farmplot.application.exception.PlotOverlapException;
+import com.agrienhance.farmplot.application.spatial.PlotOverlapPolicy;
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlotOverlapServiceImplTest {
+
+    @Mock
+    private PlotRepository plotRepository;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private UUID tenantId;
+    private Farm farm;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        farm = Farm.builder().farmIdentifier(UUID.randomUUID()).tenantId(tenantId).build();
+    }
+
+    @Test
+    void findOverlaps_shouldReportSharedAreaButNotSharedEdges() {
+        Plot overlapped = plot("Overlapped", square(10.0, 10.0, 0.01));
+        Plot neighbour = plot("Neighbour", square(10.01, 10.0, 0.01)); // Shares the east edge
+        Plot boxOnly = plot("Box Only", triangleAwayFromCorner()); // Bounding boxes meet, shapes don't
+        givenCandidates(overlapped, neighbour, boxOnly);
+
+        Polygon boundary = square(10.005, 10.0, 0.005);
+
+        List<PlotOverlapResponse> overlaps = service(PlotOverlapPolicy.WARN)
+                .findOverlaps(farm.getFarmIdentifier(), tenantId, boundary, null);
+
+        assertThat(overlaps).extracting(PlotOverlapResponse::getPlotIdentifier)
+                .containsExactly(overlapped.getPlotIdentifier());
+        // Half of a ~1.1 km x 1.1 km square near the equator
+        assertThat(overlaps.get(0).getOverlapAreaHectares().doubleValue()).isCloseTo(30.6, within(0.5));
+        Envelope extent = boundary.getEnvelopeInternal();
+        verify(plotRepository).findByFarmIntersectingEnvelope(farm.getFarmIdentifier(), tenantId,
+                extent.getMinX(), extent.getMinY(), extent.getMaxX(), extent.getMaxY());
+    }
+
+    @Test
+    void findOverlaps_shouldSkipTheExcludedPlotAndSlivers() {
+        Plot self = plot("Self", square(10.0, 10.0, 0.01));
+        Plot sliver = plot("Sliver", square(10.009999999, 10.0, 0.01)); // ~0.1 mm wide strip
+        givenCandidates(self, sliver);
+
+        List<PlotOverlapResponse> overlaps = service(PlotOverlapPolicy.WARN)
+                .findOverlaps(farm.getFarmIdentifier(), tenantId, square(10.0, 10.0, 0.01), self.getPlotIdentifier());
+
+        assertThat(overlaps).isEmpty();
+    }
+
+    @Test
+    void checkOverlaps_underReject_shouldThrowWithTheOverlappedPlots() {
+        Plot existing = plot("Existing", square(10.0, 10.0, 0.01));
+        givenCandidates(existing);
+        Plot newPlot = plot("New", square(10.005, 10.005, 0.01));
+        newPlot.setPlotIdentifier(null);
+
+        PlotOverlapException exception = assertThrows(PlotOverlapException.class,
+                () -> service(PlotOverlapPolicy.REJECT).checkOverlaps(newPlot));
+
+        assertThat(exception.getOverlaps()).extracting(PlotOverlapResponse::getPlotName).containsExactly("Existing");
+    }
+
+    @Test
+    void checkOverlaps_underWarn_shouldReturnTheOverlappedPlots() {
+        givenCandidates(plot("Existing", square(10.0, 10.0, 0.01)));
+
+        assertThat(service(PlotOverlapPolicy.WARN).checkOverlaps(plot("New", square(10.005, 10.005, 0.01))))
+                .hasSize(1);
+    }
+
+    @Test
+    void checkOverlaps_whenOff_shouldNotQuery() {
+        assertThat(service(PlotOverlapPolicy.OFF).checkOverlaps(plot("New", square(10.0, 10.0, 0.01)))).isEmpty();
+        verifyNoInteractions(plotRepository);
+    }
+
+    private PlotOverlapServiceImpl service(PlotOverlapPolicy policy) {
+        return new PlotOverlapServiceImpl(plotRepository, policy, 1.0);
+    }
+
+    private void givenCandidates(Plot... candidates) {
+        when(plotRepository.findByFarmIntersectingEnvelope(eq(farm.getFarmIdentifier()), eq(tenantId),
+                anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(candidates));
+    }
+
+    private Plot plot(String name, Polygon geometry) {
+        return Plot.builder()
+                .plotIdentifier(UUID.randomUUID())
+                .plotName(name)
+                .farm(farm)
+                .tenantId(tenantId)
+                .plotGeometry(geometry)
+                .build();
+    }
+
+    private Polygon square(double x, double y, double side) {
+        return (Polygon) geometryFactory.toGeometry(new Envelope(x, x + side, y, y + side));
+    }
+
+    // Its bounding box reaches over the north-east corner of the 10.005..10.01 square,
+    // but the hypotenuse passes well above that corner
+    private Polygon triangleAwayFromCorner() {
+        return geometryFactory.createPolygon(new Coordinate[] {
+                new Coordinate(10.008, 10.02), new Coordinate(10.02, 10.02),
+                new Coordinate(10.02, 10.003), new Coordinate(10.008, 10.02) });
+    }
+}
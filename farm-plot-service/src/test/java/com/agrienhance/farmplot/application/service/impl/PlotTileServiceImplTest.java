@@ -0,0 +1,68 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.infrastructure.cache.PlotTileCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlotTileServiceImplTest {
+
+    @Mock
+    private PlotRepository plotRepository;
+
+    private PlotTileServiceImpl plotTileService;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        plotTileService = new PlotTileServiceImpl(plotRepository, new PlotTileCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry()));
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    void getPlotTile_shouldRenderOnceAndServeRepeatedRequestsFromCache() {
+        byte[] rendered = new byte[] { 0x1a, 0x02 };
+        when(plotRepository.findVectorTile(eq(tenantId), eq(12), eq(2100), eq(1400), anyDouble()))
+                .thenReturn(rendered);
+
+        byte[] first = plotTileService.getPlotTile(12, 2100, 1400, tenantId);
+        byte[] second = plotTileService.getPlotTile(12, 2100, 1400, tenantId);
+
+        assertThat(first).isEqualTo(rendered);
+        assertThat(second).isEqualTo(rendered);
+        verify(plotRepository, times(1)).findVectorTile(eq(tenantId), eq(12), eq(2100), eq(1400), anyDouble());
+    }
+
+    @Test
+    void getPlotTile_shouldReturnAndCacheEmptyTileWhenNothingIsRendered() {
+        when(plotRepository.findVectorTile(eq(tenantId), anyInt(), anyInt(), anyInt(), anyDouble()))
+                .thenReturn(null);
+
+        assertThat(plotTileService.getPlotTile(3, 1, 1, tenantId)).isEmpty();
+        assertThat(plotTileService.getPlotTile(3, 1, 1, tenantId)).isEmpty();
+
+        verify(plotRepository, times(1)).findVectorTile(eq(tenantId), anyInt(), anyInt(), anyInt(), anyDouble());
+    }
+
+    @Test
+    void getPlotTile_withInvalidTile_shouldThrowValidationExceptionWithoutQuerying() {
+        assertThrows(ValidationException.class, () -> plotTileService.getPlotTile(1, 2, 0, tenantId));
+        verifyNoInteractions(plotRepository);
+    }
+}
@@ -2,30 +2,49 @@ package com.agrienhance.farmplot.application.service.impl;
 
 import com.agrienhance.farmplot.api.dto.geojson.PointGeometryDto;
 import com.agrienhance.farmplot.api.dto.poi.CreatePointOfInterestRequest;
+import com.agrienhance.farmplot.api.dto.poi.NearbyPointOfInterestResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchItemResult;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestBatchReport;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestPlotAssignmentReport;
 import com.agrienhance.farmplot.api.dto.poi.PointOfInterestResponse;
 import com.agrienhance.farmplot.application.exception.ResourceNotFoundException;
+import com.agrienhance.farmplot.application.exception.ValidationException;
 import com.agrienhance.farmplot.application.mapper.PointOfInterestMapper;
-import com.agrienhance.farmplot.domain.entity.Farm;
-import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.application.projection.FieldSelection;
 import com.agrienhance.farmplot.domain.entity.PointOfInterest;
 import com.agrienhance.farmplot.domain.enums.POIType;
 import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.event.PointOfInterestChangedEvent;
+import com.agrienhance.farmplot.domain.identifier.EntityUuidStrategy;
 import com.agrienhance.farmplot.domain.repository.FarmRepository;
 import com.agrienhance.farmplot.domain.repository.PlotRepository;
 import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestDistance;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestSummary;
+import com.agrienhance.farmplot.infrastructure.cache.ParentExistenceCache;
+import com.agrienhance.farmplot.infrastructure.persistence.PointOfInterestBatchWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,6 +65,15 @@ class PointOfInterestApplicationServiceImplTest {
     private PlotRepository plotRepository;
     @Mock
     private PointOfInterestMapper poiMapper;
+    @Mock
+    private PointOfInterestBatchWriter poiBatchWriter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    @Spy
+    private ParentExistenceCache parentExistenceCache = new ParentExistenceCache(100, Duration.ofSeconds(30),
+            new SimpleMeterRegistry());
 
     @InjectMocks
     private PointOfInterestApplicationServiceImpl poiApplicationService;
@@ -63,6 +91,8 @@ class PointOfInterestApplicationServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        // Not a mock, so @InjectMocks leaves it out of the constructor
+        ReflectionTestUtils.setField(poiApplicationService, "entityUuidStrategy", EntityUuidStrategy.RANDOM);
         geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
         tenantId = UUID.randomUUID();
         parentFarmId = UUID.randomUUID();
@@ -108,7 +138,7 @@ class PointOfInterestApplicationServiceImplTest {
                 .tenantId(savedPoi.getTenantId())
                 .poiName(savedPoi.getPoiName())
                 .poiType(savedPoi.getPoiType())
-                .coordinates(testPointDto)
+                .coordinates(savedPoi.getCoordinates())
                 .notes(savedPoi.getNotes())
                 .createdAt(savedPoi.getCreatedAt())
                 .updatedAt(savedPoi.getUpdatedAt())
@@ -123,8 +153,7 @@ class PointOfInterestApplicationServiceImplTest {
         when(poiMapper.createRequestToPoi(createPoiRequest)).thenReturn(poiFromMapper);
 
         // Mock parent validation (Farm exists)
-        when(farmRepository.findByFarmIdentifierAndTenantId(parentFarmId, tenantId))
-                .thenReturn(Optional.of(new Farm())); // Return dummy farm
+        when(farmRepository.existsByFarmIdentifierAndTenantId(parentFarmId, tenantId)).thenReturn(true);
 
         // Mock repository save: use ArgumentCaptor to capture the entity passed to save
         ArgumentCaptor<PointOfInterest> poiCaptor = ArgumentCaptor.forClass(PointOfInterest.class);
@@ -146,12 +175,14 @@ class PointOfInterestApplicationServiceImplTest {
         assertThat(actualResponse.getPoiName()).isEqualTo(createPoiRequest.getPoiName());
 
         // Verify interactions and captured argument
-        verify(farmRepository).findByFarmIdentifierAndTenantId(parentFarmId, tenantId);
-        verify(plotRepository, never()).findByPlotIdentifierAndTenantId(any(), any()); // Ensure plot repo not called
+        verify(farmRepository).existsByFarmIdentifierAndTenantId(parentFarmId, tenantId);
+        verify(plotRepository, never()).existsByPlotIdentifierAndTenantId(any(), any()); // Ensure plot repo not called
                                                                                        // for FARM parent
         verify(poiMapper).createRequestToPoi(createPoiRequest);
         verify(poiRepository).save(any(PointOfInterest.class)); // Or poiCaptor.capture() is enough
         verify(poiMapper).poiToPoiResponse(savedPoi);
+        verify(eventPublisher).publishEvent(new PointOfInterestChangedEvent(tenantId, null,
+                new Envelope(10.0, 10.0, 20.0, 20.0)));
 
         PointOfInterest capturedPoi = poiCaptor.getValue();
         assertThat(capturedPoi.getParentEntityIdentifier()).isEqualTo(parentFarmId);
@@ -170,8 +201,7 @@ class PointOfInterestApplicationServiceImplTest {
         poiResponseFromMapper.setParentEntityType(ParentEntityType.PLOT);
 
         when(poiMapper.createRequestToPoi(createPoiRequest)).thenReturn(poiFromMapper);
-        when(plotRepository.findByPlotIdentifierAndTenantId(parentPlotId, tenantId))
-                .thenReturn(Optional.of(new Plot())); // Mock Plot parent validation
+        when(plotRepository.existsByPlotIdentifierAndTenantId(parentPlotId, tenantId)).thenReturn(true);
         ArgumentCaptor<PointOfInterest> poiCaptor = ArgumentCaptor.forClass(PointOfInterest.class);
         when(poiRepository.save(poiCaptor.capture())).thenReturn(savedPoi);
         when(poiMapper.poiToPoiResponse(savedPoi)).thenReturn(poiResponseFromMapper);
@@ -185,8 +215,9 @@ class PointOfInterestApplicationServiceImplTest {
         assertThat(actualResponse.getParentEntityIdentifier()).isEqualTo(parentPlotId);
         assertThat(actualResponse.getParentEntityType()).isEqualTo(ParentEntityType.PLOT);
 
-        verify(plotRepository).findByPlotIdentifierAndTenantId(parentPlotId, tenantId);
-        verify(farmRepository, never()).findByFarmIdentifierAndTenantId(any(), any()); // Ensure farm repo not called
+        verify(plotRepository).existsByPlotIdentifierAndTenantId(parentPlotId, tenantId);
+        verify(plotRepository, never()).findByPlotIdentifierAndTenantId(any(), any()); // No plot geometry loaded
+        verify(farmRepository, never()).existsByFarmIdentifierAndTenantId(any(), any()); // Ensure farm repo not called
 
         PointOfInterest capturedPoi = poiCaptor.getValue();
         assertThat(capturedPoi.getParentEntityIdentifier()).isEqualTo(parentPlotId);
@@ -197,8 +228,8 @@ class PointOfInterestApplicationServiceImplTest {
     @Test
     void createPoi_whenParentFarmNotFound_shouldThrowResourceNotFoundException() {
         // Arrange
-        when(farmRepository.findByFarmIdentifierAndTenantId(parentFarmId, tenantId))
-                .thenReturn(Optional.empty()); // Parent farm does not exist
+        when(farmRepository.existsByFarmIdentifierAndTenantId(parentFarmId, tenantId))
+                .thenReturn(false); // Parent farm does not exist
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -209,5 +240,211 @@ class PointOfInterestApplicationServiceImplTest {
         verify(poiRepository, never()).save(any()); // Ensure save is not called
     }
 
+    @Test
+    void listPoisByParent_withoutCoordinatesField_shouldUseSummaryProjection() {
+        // Arrange
+        PointOfInterestSummary summary = mock(PointOfInterestSummary.class);
+        when(plotRepository.existsByPlotIdentifierAndTenantId(parentPlotId, tenantId)).thenReturn(true);
+        when(poiRepository.findSummariesByParentEntityIdentifierAndParentEntityTypeAndTenantId(
+                parentPlotId, ParentEntityType.PLOT, tenantId)).thenReturn(List.of(summary));
+        when(poiMapper.poiSummaryToPoiResponse(summary)).thenReturn(poiResponseFromMapper);
+
+        // Act
+        List<PointOfInterestResponse> pois = poiApplicationService.listPoisByParent(parentPlotId,
+                ParentEntityType.PLOT, tenantId, FieldSelection.parse("poiName"));
+
+        // Assert
+        assertThat(pois).containsExactly(poiResponseFromMapper);
+        verify(poiRepository, never()).findAllByParentEntityIdentifierAndParentEntityTypeAndTenantId(any(), any(),
+                any());
+    }
+
+    @Test
+    void listPoisByParent_calledTwice_shouldCheckParentExistenceOnce() {
+        when(plotRepository.existsByPlotIdentifierAndTenantId(parentPlotId, tenantId)).thenReturn(true);
+        when(poiRepository.findSummariesByParentEntityIdentifierAndParentEntityTypeAndTenantId(
+                parentPlotId, ParentEntityType.PLOT, tenantId)).thenReturn(List.of());
+
+        poiApplicationService.listPoisByParent(parentPlotId, ParentEntityType.PLOT, tenantId,
+                FieldSelection.parse("poiName"));
+        poiApplicationService.listPoisByParent(parentPlotId, ParentEntityType.PLOT, tenantId,
+                FieldSelection.parse("poiName"));
+
+        verify(plotRepository, times(1)).existsByPlotIdentifierAndTenantId(parentPlotId, tenantId);
+    }
+
+    @Test
+    void createPois_shouldCheckParentOnceAndInsertOnlyValidItems() {
+        when(plotRepository.existsByPlotIdentifierAndTenantId(parentPlotId, tenantId)).thenReturn(true);
+        when(poiMapper.createRequestToPoi(createPoiRequest))
+                .thenAnswer(invocation -> PointOfInterest.builder()
+                        .poiName("Test POI").poiType(POIType.WATER_SOURCE).coordinates(testJtsPoint).build());
+        CreatePointOfInterestRequest missingType = CreatePointOfInterestRequest.builder()
+                .poiName("No type")
+                .coordinates(testPointDto)
+                .build();
+
+        PointOfInterestBatchReport report = poiApplicationService.createPois(parentPlotId, ParentEntityType.PLOT,
+                tenantId, Arrays.asList(createPoiRequest, missingType, null, createPoiRequest));
+
+        assertThat(report.getTotalItems()).isEqualTo(4);
+        assertThat(report.getCreatedCount()).isEqualTo(2);
+        assertThat(report.getFailedCount()).isEqualTo(2);
+        assertThat(report.getResults()).extracting(PointOfInterestBatchItemResult::getStatus).containsExactly(
+                PointOfInterestBatchItemResult.Status.CREATED, PointOfInterestBatchItemResult.Status.FAILED,
+                PointOfInterestBatchItemResult.Status.FAILED, PointOfInterestBatchItemResult.Status.CREATED);
+        assertThat(report.getResults().get(1).getError()).contains("poiType");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PointOfInterest>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(poiBatchWriter).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).hasSize(2).allSatisfy(poi -> {
+            assertThat(poi.getParentEntityIdentifier()).isEqualTo(parentPlotId);
+            assertThat(poi.getParentEntityType()).isEqualTo(ParentEntityType.PLOT);
+            assertThat(poi.getTenantId()).isEqualTo(tenantId);
+        });
+        assertThat(inserted.getValue()).extracting(PointOfInterest::getPoiIdentifier)
+                .containsExactly(report.getResults().get(0).getPoiIdentifier(),
+                        report.getResults().get(3).getPoiIdentifier());
+        verify(plotRepository, times(1)).existsByPlotIdentifierAndTenantId(parentPlotId, tenantId);
+        verify(poiRepository, never()).save(any());
+        verify(eventPublisher, times(1)).publishEvent(any(PointOfInterestChangedEvent.class));
+    }
+
+    @Test
+    void createPois_withTimeOrderedIdentifiers_shouldAssignIncreasingVersion7Identifiers() {
+        ReflectionTestUtils.setField(poiApplicationService, "entityUuidStrategy", EntityUuidStrategy.TIME_ORDERED);
+        when(plotRepository.existsByPlotIdentifierAndTenantId(parentPlotId, tenantId)).thenReturn(true);
+        when(poiMapper.createRequestToPoi(createPoiRequest))
+                .thenAnswer(invocation -> PointOfInterest.builder()
+                        .poiName("Test POI").poiType(POIType.WATER_SOURCE).coordinates(testJtsPoint).build());
+
+        PointOfInterestBatchReport report = poiApplicationService.createPois(parentPlotId, ParentEntityType.PLOT,
+                tenantId, List.of(createPoiRequest, createPoiRequest, createPoiRequest));
+
+        assertThat(report.getResults()).extracting(PointOfInterestBatchItemResult::getPoiIdentifier)
+                .allSatisfy(poiIdentifier -> assertThat(poiIdentifier.version()).isEqualTo(7))
+                .isSorted();
+    }
+
+    @Test
+    void createPois_withEmptyBatch_shouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> poiApplicationService.createPois(parentPlotId,
+                ParentEntityType.PLOT, tenantId, List.of()));
+        verifyNoInteractions(poiBatchWriter, plotRepository);
+    }
+
+    @Test
+    void assignFarmPoisToPlots_shouldReportAssignedAndRemainingPois() {
+        when(farmRepository.existsByFarmIdentifierAndTenantId(parentFarmId, tenantId)).thenReturn(true);
+        when(poiRepository.assignFarmPoisToContainingPlots(tenantId, parentFarmId)).thenReturn(48);
+        when(poiRepository.countByParentEntityIdentifierAndParentEntityTypeAndTenantId(parentFarmId,
+                ParentEntityType.FARM, tenantId)).thenReturn(2L);
+
+        PointOfInterestPlotAssignmentReport report = poiApplicationService.assignFarmPoisToPlots(parentFarmId,
+                tenantId);
+
+        assertThat(report.getFarmIdentifier()).isEqualTo(parentFarmId);
+        assertThat(report.getAssignedCount()).isEqualTo(48);
+        assertThat(report.getRemainingFarmLevelCount()).isEqualTo(2);
+    }
+
+    @Test
+    void assignFarmPoisToPlots_whenFarmNotFound_shouldThrowResourceNotFoundException() {
+        when(farmRepository.existsByFarmIdentifierAndTenantId(parentFarmId, tenantId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> poiApplicationService.assignFarmPoisToPlots(parentFarmId, tenantId));
+        verifyNoInteractions(poiRepository);
+    }
+
+    @Test
+    void deletePoi_shouldPublishTheRemovedLocation() {
+        when(poiRepository.findByPoiIdentifierAndTenantId(savedPoi.getPoiIdentifier(), tenantId))
+                .thenReturn(Optional.of(savedPoi));
+
+        poiApplicationService.deletePoi(savedPoi.getPoiIdentifier(), tenantId);
+
+        verify(poiRepository).delete(savedPoi);
+        verify(eventPublisher).publishEvent(new PointOfInterestChangedEvent(tenantId,
+                new Envelope(10.0, 10.0, 20.0, 20.0), null));
+    }
+
+    @Test
+    void findNearestPois_shouldReturnPoisInRepositoryOrderWithDistances() {
+        PointOfInterest fartherPoi = new PointOfInterest();
+        fartherPoi.setPoiIdentifier(UUID.randomUUID());
+        PointOfInterestResponse fartherResponse = PointOfInterestResponse.builder()
+                .poiIdentifier(fartherPoi.getPoiIdentifier()).build();
+        List<PointOfInterestDistance> nearest = List.of(
+                poiDistance(savedPoi.getPoiIdentifier(), 12.5),
+                poiDistance(UUID.randomUUID(), 40.0), // deleted since the search ran
+                poiDistance(fartherPoi.getPoiIdentifier(), 80.0));
+        when(poiRepository.findNearestByType(tenantId, "WATER_SOURCE", "POINT(10.0 20.0)", 500.0, 3))
+                .thenReturn(nearest);
+        when(poiRepository.findAllByTenantIdAndPoiIdentifierIn(eq(tenantId), any()))
+                .thenReturn(List.of(fartherPoi, savedPoi));
+        when(poiMapper.poiToPoiResponse(savedPoi)).thenReturn(poiResponseFromMapper);
+        when(poiMapper.poiToPoiResponse(fartherPoi)).thenReturn(fartherResponse);
+
+        List<NearbyPointOfInterestResponse> result = poiApplicationService.findNearestPois(10.0, 20.0,
+                POIType.WATER_SOURCE, 3, 500.0, tenantId);
+
+        assertThat(result).extracting(NearbyPointOfInterestResponse::getPoi)
+                .containsExactly(poiResponseFromMapper, fartherResponse);
+        assertThat(result).extracting(NearbyPointOfInterestResponse::getDistanceMeters)
+                .containsExactly(12.5, 80.0);
+    }
+
+    @Test
+    void findNearestPois_withoutMaxDistance_shouldSearchTheWholeGlobe() {
+        when(poiRepository.findNearestByType(tenantId, "WATER_SOURCE", "POINT(10.0 20.0)", 20_037_509.0, 5))
+                .thenReturn(List.of());
+
+        assertThat(poiApplicationService.findNearestPois(10.0, 20.0, POIType.WATER_SOURCE, 5, null, tenantId))
+                .isEmpty();
+        verify(poiRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void findNearestPois_withInvalidArguments_shouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> poiApplicationService.findNearestPois(10.0, 20.0,
+                null, 5, null, tenantId));
+        assertThrows(ValidationException.class, () -> poiApplicationService.findNearestPois(10.0, 20.0,
+                POIType.WATER_SOURCE, 0, null, tenantId));
+        assertThrows(ValidationException.class, () -> poiApplicationService.findNearestPois(10.0, 20.0,
+                POIType.WATER_SOURCE, PointOfInterestApplicationServiceImpl.MAX_NEAREST_POIS + 1, null, tenantId));
+        assertThrows(ValidationException.class, () -> poiApplicationService.findNearestPois(10.0, 20.0,
+                POIType.WATER_SOURCE, 5, 0.0, tenantId));
+        assertThrows(ValidationException.class, () -> poiApplicationService.findNearestPois(181.0, 20.0,
+                POIType.WATER_SOURCE, 5, null, tenantId));
+        assertThrows(ValidationException.class, () -> poiApplicationService.findNearestPois(10.0, -91.0,
+                POIType.WATER_SOURCE, 5, null, tenantId));
+        verifyNoInteractions(poiRepository);
+    }
+
+    @Test
+    void findNearestPoisToPlot_whenPlotNotFound_shouldThrowResourceNotFoundException() {
+        when(plotRepository.findByPlotIdentifierAndTenantId(parentPlotId, tenantId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> poiApplicationService.findNearestPoisToPlot(
+                parentPlotId, POIType.WATER_SOURCE, 5, null, tenantId));
+        verifyNoInteractions(poiRepository);
+    }
+
+    private static PointOfInterestDistance poiDistance(UUID poiIdentifier, double distanceMeters) {
+        return new PointOfInterestDistance() {
+            @Override
+            public UUID getPoiIdentifier() {
+                return poiIdentifier;
+            }
+
+            @Override
+            public double getDistanceMeters() {
+                return distanceMeters;
+            }
+        };
+    }
+
     // Similar test for when Parent PLOT is not found can be added
 }
\ No newline at end of file
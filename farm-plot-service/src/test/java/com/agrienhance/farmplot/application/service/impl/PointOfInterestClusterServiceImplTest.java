@@ -0,0 +1,118 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestClusterResponse;
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestClusterTileResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import com.agrienhance.farmplot.domain.enums.POIType;
+import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestClusterCell;
+import com.agrienhance.farmplot.infrastructure.cache.PoiClusterCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointOfInterestClusterServiceImplTest {
+
+    @Mock
+    private PointOfInterestRepository poiRepository;
+    @Spy
+    private PoiClusterCache poiClusterCache = new PoiClusterCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+    @InjectMocks
+    private PointOfInterestClusterServiceImpl poiClusterService;
+
+    private final UUID tenantId = UUID.randomUUID();
+
+    @Test
+    void getClusterTile_shouldMergeTheTypesOfEachGridCellIntoOneCluster() {
+        when(poiRepository.findClusterCells(tenantId, 10, 612, 515, PointOfInterestClusterServiceImpl.GRID_CELLS))
+                .thenReturn(List.of(
+                        cell(0, 0, "WATER_SOURCE", 3, 30.0, 3.0),
+                        cell(0, 0, "SOIL_SENSOR", 1, 14.0, 5.0),
+                        cell(5, 2, "SOIL_SENSOR", 2, 22.0, 4.0)));
+
+        PointOfInterestClusterTileResponse tile = poiClusterService.getClusterTile(10, 612, 515, tenantId);
+
+        assertThat(tile.getZ()).isEqualTo(10);
+        assertThat(tile.getTotalCount()).isEqualTo(6);
+        assertThat(tile.getClusters()).hasSize(2);
+        PointOfInterestClusterResponse mixed = tile.getClusters().get(0);
+        assertThat(mixed.getPoiCount()).isEqualTo(4);
+        assertThat(mixed.getCountsByType()).isEqualTo(Map.of(POIType.WATER_SOURCE, 3L, POIType.SOIL_SENSOR, 1L));
+        assertThat(mixed.getCentroid().getCoordinates().get(0)).isCloseTo(11.0, within(1e-9));
+        assertThat(mixed.getCentroid().getCoordinates().get(1)).isCloseTo(2.0, within(1e-9));
+        PointOfInterestClusterResponse sensors = tile.getClusters().get(1);
+        assertThat(sensors.getPoiCount()).isEqualTo(2);
+        assertThat(sensors.getCentroid().getCoordinates()).containsExactly(11.0, 2.0);
+    }
+
+    @Test
+    void getClusterTile_shouldClusterATileOnlyOnce() {
+        when(poiRepository.findClusterCells(any(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+
+        PointOfInterestClusterTileResponse first = poiClusterService.getClusterTile(3, 4, 2, tenantId);
+        PointOfInterestClusterTileResponse second = poiClusterService.getClusterTile(3, 4, 2, tenantId);
+
+        assertThat(first.getClusters()).isEmpty();
+        assertThat(second).isSameAs(first);
+        verify(poiRepository, times(1)).findClusterCells(tenantId, 3, 4, 2, PointOfInterestClusterServiceImpl.GRID_CELLS);
+    }
+
+    @Test
+    void getClusterTile_withTileOutsideTheGrid_shouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> poiClusterService.getClusterTile(2, 4, 0, tenantId));
+        verifyNoInteractions(poiRepository);
+    }
+
+    private static PointOfInterestClusterCell cell(int cellX, int cellY, String poiType, long poiCount,
+            double sumLongitude, double sumLatitude) {
+        return new PointOfInterestClusterCell() {
+            @Override
+            public int getCellX() {
+                return cellX;
+            }
+
+            @Override
+            public int getCellY() {
+                return cellY;
+            }
+
+            @Override
+            public String getPoiType() {
+                return poiType;
+            }
+
+            @Override
+            public long getPoiCount() {
+                return poiCount;
+            }
+
+            @Override
+            public double getSumLongitude() {
+                return sumLongitude;
+            }
+
+            @Override
+            public double getSumLatitude() {
+                return sumLatitude;
+            }
+        };
+    }
+}
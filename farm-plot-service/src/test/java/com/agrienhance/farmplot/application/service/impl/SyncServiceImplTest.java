@@ -0,0 +1,121 @@
+package com.agrienhance.farmplot.application.service.impl;
+
+import com.agrienhance.farmplot.api.dto.plot.PlotResponse;
+import com.agrienhance.farmplot.api.dto.sync.SyncChangesResponse;
+import com.agrienhance.farmplot.api.dto.sync.SyncTombstoneResponse;
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import com.agrienhance.farmplot.application.mapper.FarmMapper;
+import com.agrienhance.farmplot.application.mapper.LandTenureMapper;
+import com.agrienhance.farmplot.application.mapper.PlotMapper;
+import com.agrienhance.farmplot.application.mapper.PointOfInterestMapper;
+import com.agrienhance.farmplot.application.pagination.SyncToken;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.enums.SyncEntityType;
+import com.agrienhance.farmplot.domain.repository.FarmRepository;
+import com.agrienhance.farmplot.domain.repository.LandTenureRepository;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import com.agrienhance.farmplot.domain.repository.PointOfInterestRepository;
+import com.agrienhance.farmplot.infrastructure.persistence.SyncChangeLog;
+import com.agrienhance.farmplot.infrastructure.persistence.SyncChangeLog.Change;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceImplTest {
+
+    @Mock
+    private SyncChangeLog syncChangeLog;
+    @Mock
+    private FarmRepository farmRepository;
+    @Mock
+    private PlotRepository plotRepository;
+    @Mock
+    private PointOfInterestRepository poiRepository;
+    @Mock
+    private LandTenureRepository landTenureRepository;
+    @Mock
+    private FarmMapper farmMapper;
+    @Mock
+    private PlotMapper plotMapper;
+    @Mock
+    private PointOfInterestMapper poiMapper;
+    @Mock
+    private LandTenureMapper landTenureMapper;
+
+    @InjectMocks
+    private SyncServiceImpl syncService;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    void getChangesSince_shouldLoadChangedRecordsAndReportDeletedOnesAsTombstones() {
+        Plot plot = Plot.builder().plotIdentifier(UUID.randomUUID()).build();
+        PlotResponse plotResponse = PlotResponse.builder().plotIdentifier(plot.getPlotIdentifier()).build();
+        Change plotChange = new Change(SyncEntityType.PLOT, plot.getPlotIdentifier(), 100L, false);
+        Change deletedFarm = new Change(SyncEntityType.FARM, UUID.randomUUID(), 101L, true);
+        when(syncChangeLog.findChangesAfter(tenantId, SyncToken.FIRST, 11)).thenReturn(List.of(plotChange, deletedFarm));
+        when(plotRepository.findAllByTenantIdAndPlotIdentifierIn(tenantId, List.of(plot.getPlotIdentifier())))
+                .thenReturn(List.of(plot));
+        when(plotMapper.plotToPlotResponse(plot)).thenReturn(plotResponse);
+
+        SyncChangesResponse response = syncService.getChangesSince(null, 10, tenantId);
+
+        assertThat(response.getPlots()).containsExactly(plotResponse);
+        assertThat(response.getFarms()).isEmpty();
+        assertThat(response.getTombstones())
+                .containsExactly(new SyncTombstoneResponse(SyncEntityType.FARM, deletedFarm.identifier()));
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(SyncToken.decode(response.getNextToken())).isEqualTo(deletedFarm.toToken());
+        // Nothing changed of these kinds, so they are not queried at all
+        verifyNoInteractions(farmRepository, poiRepository, landTenureRepository);
+    }
+
+    @Test
+    void getChangesSince_withMoreChangesThanLimit_shouldStopAtLimitAndFlagMore() {
+        Change first = new Change(SyncEntityType.FARM, UUID.randomUUID(), 100L, true);
+        Change second = new Change(SyncEntityType.PLOT, UUID.randomUUID(), 100L, true);
+        when(syncChangeLog.findChangesAfter(tenantId, SyncToken.FIRST, 2)).thenReturn(List.of(first, second));
+
+        SyncChangesResponse response = syncService.getChangesSince(null, 1, tenantId);
+
+        assertThat(response.getTombstones()).extracting(SyncTombstoneResponse::getIdentifier)
+                .containsExactly(first.identifier());
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(SyncToken.decode(response.getNextToken())).isEqualTo(first.toToken());
+    }
+
+    @Test
+    void getChangesSince_withNoChanges_shouldKeepTheClientsToken() {
+        SyncToken since = new SyncToken(500L, "PLOT", UUID.randomUUID());
+        when(syncChangeLog.findChangesAfter(tenantId, since, 51)).thenReturn(List.of());
+
+        SyncChangesResponse response = syncService.getChangesSince(since.encode(), 50, tenantId);
+
+        assertThat(response.getNextToken()).isEqualTo(since.encode());
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void getChangesSince_withOutOfRangeLimit_shouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> syncService.getChangesSince(null, 0, tenantId));
+        verify(syncChangeLog, never()).findChangesAfter(any(), any(), anyInt());
+    }
+}
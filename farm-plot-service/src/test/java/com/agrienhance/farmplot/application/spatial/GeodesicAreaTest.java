@@ -0,0 +1,93 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeodesicAreaTest {
+
+    // WGS84 semi-major axis and flattening
+    private static final double A = 6378137.0;
+    private static final double F = 1 / 298.257223563;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    void squareMeters_forOneDegreeCellAtEquator_shouldMatchEllipsoidalZoneArea() {
+        Polygon cell = square(0, 0, 1);
+
+        // The cell's top edge is a geodesic rather than the 1° parallel, which
+        // adds a few parts per hundred thousand to the zone area
+        assertThat(GeodesicArea.squareMeters(cell)).isCloseTo(zoneArea(1.0) / 360.0, within(1e-4 * 1.23e10));
+    }
+
+    @Test
+    void squareMeters_shouldShrinkTowardsThePoles() {
+        double atEquator = GeodesicArea.squareMeters(square(36.0, 0.0, 0.001));
+        double atSixtyNorth = GeodesicArea.squareMeters(square(36.0, 60.0, 0.001));
+
+        assertThat(atEquator).isCloseTo(12_308.8, within(1.0)); // ~1.23 ha field
+        assertThat(atSixtyNorth / atEquator).isCloseTo(0.5, within(0.01));
+    }
+
+    @Test
+    void squareMeters_shouldIgnoreRingOrientation() {
+        Polygon counterClockwise = square(10, 10, 0.01);
+        Polygon clockwise = counterClockwise.reverse();
+
+        assertThat(GeodesicArea.squareMeters(clockwise)).isEqualTo(GeodesicArea.squareMeters(counterClockwise));
+    }
+
+    @Test
+    void squareMeters_shouldSubtractHoles() {
+        Polygon outer = square(10, 10, 0.01);
+        Polygon inner = square(10.004, 10.004, 0.002);
+        Polygon withHole = geometryFactory.createPolygon(outer.getExteriorRing(),
+                new LinearRing[] { inner.getExteriorRing() });
+
+        assertThat(GeodesicArea.squareMeters(withHole)).isCloseTo(
+                GeodesicArea.squareMeters(outer) - GeodesicArea.squareMeters(inner), within(1e-6));
+    }
+
+    @Test
+    void squareMeters_ofGeometry_shouldSumPolygonsAndIgnoreLines() {
+        Polygon first = square(10, 10, 0.01);
+        Polygon second = square(20, 20, 0.01);
+        Geometry collection = geometryFactory.createGeometryCollection(new Geometry[] {
+                geometryFactory.createMultiPolygon(new Polygon[] { first, second }),
+                first.getExteriorRing() });
+
+        assertThat(GeodesicArea.squareMeters(collection)).isCloseTo(
+                GeodesicArea.squareMeters(first) + GeodesicArea.squareMeters(second), within(1e-6));
+        assertThat(GeodesicArea.squareMeters((Geometry) first.getExteriorRing())).isZero();
+    }
+
+    @Test
+    void hectares_shouldRoundToColumnScaleAndKeepNull() {
+        assertThat(GeodesicArea.hectares(square(36.0, 0.0, 0.001)).scale()).isEqualTo(4);
+        assertThat(GeodesicArea.hectares(square(36.0, 0.0, 0.001)).doubleValue()).isCloseTo(1.2309, within(1e-4));
+        assertThat(GeodesicArea.hectares(null)).isNull();
+    }
+
+    private Polygon square(double x, double y, double side) {
+        return (Polygon) geometryFactory.toGeometry(new Envelope(x, x + side, y, y + side));
+    }
+
+    // Area of the ellipsoid between the equator and latitude phi, over all longitudes
+    private static double zoneArea(double latitudeDegrees) {
+        double e2 = F * (2 - F);
+        double e = Math.sqrt(e2);
+        double b = A * (1 - F);
+        double sinPhi = Math.sin(Math.toRadians(latitudeDegrees));
+        return 2 * Math.PI * b * b * (sinPhi / (2 * (1 - e2 * sinPhi * sinPhi))
+                + Math.log((1 + e * sinPhi) / (1 - e * sinPhi)) / (4 * e));
+    }
+}
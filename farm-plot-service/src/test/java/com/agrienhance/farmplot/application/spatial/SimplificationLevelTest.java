@@ -0,0 +1,87 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimplificationLevelTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    void of_withoutParameters_shouldReturnNone() {
+        assertThat(SimplificationLevel.of(null, null)).isEqualTo(SimplificationLevel.NONE);
+        assertThat(SimplificationLevel.NONE.isNone()).isTrue();
+    }
+
+    @Test
+    void of_withTolerance_shouldUseItAsIs() {
+        assertThat(SimplificationLevel.of(0.0005, null).toleranceDegrees()).isEqualTo(0.0005);
+    }
+
+    @Test
+    void of_withZoom_shouldMatchOnePixelAtThatZoom() {
+        // A 256px tile at zoom 0 spans the full 360 degrees of longitude
+        assertThat(SimplificationLevel.of(null, 0).toleranceDegrees()).isCloseTo(360.0 / 256, within(1e-12));
+        assertThat(SimplificationLevel.of(null, 10).toleranceDegrees())
+                .isCloseTo(SimplificationLevel.of(null, 9).toleranceDegrees() / 2, within(1e-12));
+    }
+
+    @Test
+    void of_shouldRejectInvalidOrConflictingParameters() {
+        assertThrows(ValidationException.class, () -> SimplificationLevel.of(0.001, 10));
+        assertThrows(ValidationException.class, () -> SimplificationLevel.of(0.0, null));
+        assertThrows(ValidationException.class, () -> SimplificationLevel.of(-1.0, null));
+        assertThrows(ValidationException.class, () -> SimplificationLevel.of(Double.NaN, null));
+        assertThrows(ValidationException.class, () -> SimplificationLevel.of(null, -1));
+        assertThrows(ValidationException.class, () -> SimplificationLevel.of(null, TileCoordinate.MAX_ZOOM + 1));
+    }
+
+    @Test
+    void apply_shouldDropVerticesFinerThanTheToleranceAndKeepAValidPolygon() {
+        Polygon circle = circle(0.01, 500);
+
+        Polygon simplified = SimplificationLevel.forZoom(12).apply(circle);
+
+        assertThat(simplified.getNumPoints()).isLessThan(circle.getNumPoints()).isGreaterThanOrEqualTo(4);
+        assertThat(simplified.isValid()).isTrue();
+        assertThat(simplified.getArea()).isCloseTo(circle.getArea(), within(circle.getArea() * 0.05));
+    }
+
+    @Test
+    void apply_shouldNotCollapseAPlotSmallerThanTheTolerance() {
+        Polygon tinyPlot = circle(0.0001, 50);
+
+        Polygon simplified = SimplificationLevel.forZoom(0).apply(tinyPlot);
+
+        assertThat(simplified.isEmpty()).isFalse();
+        assertThat(simplified.isValid()).isTrue();
+    }
+
+    @Test
+    void apply_withNone_shouldReturnTheSameGeometry() {
+        Polygon circle = circle(0.01, 50);
+
+        assertThat(SimplificationLevel.NONE.apply(circle)).isSameAs(circle);
+        assertThat(SimplificationLevel.forZoom(10).apply(null)).isNull();
+    }
+
+    private Polygon circle(double radius, int vertices) {
+        Coordinate[] ring = new Coordinate[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            ring[i] = new Coordinate(20 + radius * Math.cos(angle), 50 + radius * Math.sin(angle));
+        }
+        ring[vertices] = ring[0];
+        LinearRing shell = geometryFactory.createLinearRing(ring);
+        return geometryFactory.createPolygon(shell);
+    }
+}
@@ -0,0 +1,200 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantPlotIndexTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final AtomicLong nanos = new AtomicLong();
+    private TenantPlotIndex index;
+    private UUID farmId;
+
+    @BeforeEach
+    void setUp() {
+        index = new TenantPlotIndex(Duration.ofMinutes(1), nanos::get);
+        farmId = UUID.randomUUID();
+    }
+
+    @Test
+    void findCovering_shouldReturnOnlyPlotsContainingThePointIncludingBoundary() {
+        IndexedPlot a = square("A", 0, 0);
+        IndexedPlot b = square("B", 2, 0);
+        index.load(List.of(a, b));
+
+        assertThat(index.findCovering(point(0.5, 0.5))).containsExactly(a);
+        assertThat(index.findCovering(point(1.0, 0.5))).containsExactly(a); // On A's edge
+        assertThat(index.findCovering(point(1.5, 0.5))).isEmpty(); // Between A and B
+    }
+
+    @Test
+    void findIntersecting_shouldReturnPlotsTouchingTheArea() {
+        IndexedPlot a = square("A", 0, 0);
+        IndexedPlot b = square("B", 2, 0);
+        IndexedPlot c = square("C", 10, 10);
+        index.load(List.of(a, b, c));
+
+        List<IndexedPlot> found = index.findIntersecting(geometryFactory.toGeometry(new Envelope(0.5, 2.5, 0.5, 0.6)));
+
+        assertThat(found).containsExactlyInAnyOrder(a, b);
+    }
+
+    @Test
+    void refresh_shouldMoveChangedPlotAndForgetDeletedOneWithoutRebuilding() {
+        IndexedPlot a = square("A", 0, 0);
+        IndexedPlot b = square("B", 2, 0);
+        index.load(List.of(a, b));
+        IndexedPlot movedA = new IndexedPlot(a.plotIdentifier(), farmId, "A moved",
+                square("A", 5, 5).geometry());
+
+        index.refresh(Set.of(a.plotIdentifier(), b.plotIdentifier()), List.of(movedA)); // B was deleted
+
+        assertThat(index.findCovering(point(0.5, 0.5))).isEmpty();
+        assertThat(index.findCovering(point(2.5, 0.5))).isEmpty();
+        assertThat(index.findCovering(point(5.5, 5.5))).containsExactly(movedA);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_withManyChanges_shouldStayCorrectAcrossRebuilds() {
+        List<IndexedPlot> plots = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            plots.add(square("P" + i, i * 2, 0));
+        }
+        index.load(plots);
+
+        // Change more plots than the rebuild threshold, one refresh at a time
+        for (int i = 0; i < TenantPlotIndex.MIN_REBUILD_CHANGES + 10; i++) {
+            IndexedPlot old = plots.get(i);
+            IndexedPlot moved = new IndexedPlot(old.plotIdentifier(), farmId, old.plotName(),
+                    square(old.plotName(), i * 2, 100).geometry());
+            index.refresh(Set.of(old.plotIdentifier()), List.of(moved));
+        }
+
+        assertThat(index.findCovering(point(0.5, 0.5))).isEmpty();
+        assertThat(index.findCovering(point(0.5, 100.5))).extracting(IndexedPlot::plotName).containsExactly("P0");
+        assertThat(index.findCovering(point(398.5, 0.5))).extracting(IndexedPlot::plotName).containsExactly("P199");
+        assertThat(index.size()).isEqualTo(200);
+    }
+
+    @Test
+    void removeFarm_shouldDropOnlyThatFarmsPlots() {
+        IndexedPlot a = square("A", 0, 0);
+        IndexedPlot other = new IndexedPlot(UUID.randomUUID(), UUID.randomUUID(), "Other",
+                square("Other", 0, 0).geometry());
+        index.load(List.of(a, other));
+
+        index.removeFarm(farmId);
+
+        assertThat(index.findCovering(point(0.5, 0.5))).containsExactly(other);
+    }
+
+    @Test
+    void drainDirty_shouldReturnMarkedPlotsOnce() {
+        UUID plotId = UUID.randomUUID();
+        index.markDirty(plotId);
+
+        assertThat(index.drainDirty()).containsExactly(plotId);
+        assertThat(index.drainDirty()).isEmpty();
+    }
+
+    @Test
+    void applyChanges_whenReloadFails_shouldMarkPlotsDirtyAgain() {
+        IndexedPlot a = square("A", 0, 0);
+        index.load(List.of(a));
+        index.markDirty(a.plotIdentifier());
+
+        assertThatThrownBy(() -> index.applyChanges(changed -> {
+            throw new IllegalStateException("reload failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        IndexedPlot movedA = new IndexedPlot(a.plotIdentifier(), farmId, "A moved",
+                PreparedGeometryFactory.prepare(geometryFactory.toGeometry(new Envelope(5, 6, 5, 6))));
+        assertThat(index.applyChanges(changed -> {
+            assertThat(changed).containsExactly(a.plotIdentifier());
+            return List.of(movedA);
+        })).isTrue();
+        assertThat(index.findCovering(point(5.5, 5.5))).containsExactly(movedA);
+        assertThat(index.applyChanges(changed -> List.of())).isFalse();
+    }
+
+    @Test
+    void loadIfStale_shouldLoadOnlyOnceAcrossConcurrentCallers() throws InterruptedException {
+        IndexedPlot a = square("A", 0, 0);
+        AtomicInteger loads = new AtomicInteger();
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            callers.add(Thread.ofVirtual().start(() -> index.loadIfStale(() -> {
+                loads.incrementAndGet();
+                return List.of(a);
+            })));
+        }
+        for (Thread caller : callers) {
+            caller.join();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.findCovering(point(0.5, 0.5))).containsExactly(a);
+        assertThat(index.loadIfStale(List::of)).isFalse();
+    }
+
+    @Test
+    void loadIfStale_shouldReloadOnceTheIndexReachesItsMaxAge() {
+        IndexedPlot a = square("A", 0, 0);
+        IndexedPlot b = square("B", 5, 5);
+        index.loadIfStale(() -> List.of(a));
+
+        nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertThat(index.loadIfStale(() -> List.of(b))).isFalse();
+        assertThat(index.findCovering(point(0.5, 0.5))).containsExactly(a);
+
+        // Changed through another instance: no plot was marked dirty here
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(index.loadIfStale(() -> List.of(b))).isTrue();
+        assertThat(index.findCovering(point(0.5, 0.5))).isEmpty();
+        assertThat(index.findCovering(point(5.5, 5.5))).containsExactly(b);
+    }
+
+    @Test
+    void loadIfStale_shouldKeepPlotsMarkedDirtyDuringTheReload() {
+        IndexedPlot a = square("A", 0, 0);
+        index.loadIfStale(List::of);
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // Committed while the reload read, possibly after it read the plot
+        index.loadIfStale(() -> {
+            index.markDirty(a.plotIdentifier());
+            return List.of();
+        });
+
+        assertThat(index.applyChanges(changed -> List.of(a))).isTrue();
+        assertThat(index.findCovering(point(0.5, 0.5))).containsExactly(a);
+    }
+
+    private IndexedPlot square(String name, double x, double y) {
+        return new IndexedPlot(UUID.randomUUID(), farmId, name, PreparedGeometryFactory.prepare(
+                geometryFactory.toGeometry(new Envelope(x, x + 1, y, y + 1))));
+    }
+
+    private Point point(double x, double y) {
+        return geometryFactory.createPoint(new Coordinate(x, y));
+    }
+}
@@ -0,0 +1,60 @@
+package com.agrienhance.farmplot.application.spatial;
+
+import com.agrienhance.farmplot.application.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TileCoordinateTest {
+
+    @Test
+    void toEnvelope_atZoomZero_shouldCoverTheWebMercatorWorld() {
+        Envelope envelope = new TileCoordinate(0, 0, 0).toEnvelope();
+
+        assertThat(envelope.getMinX()).isCloseTo(-180.0, within(1e-9));
+        assertThat(envelope.getMaxX()).isCloseTo(180.0, within(1e-9));
+        assertThat(envelope.getMinY()).isCloseTo(-85.0511287798, within(1e-9));
+        assertThat(envelope.getMaxY()).isCloseTo(85.0511287798, within(1e-9));
+    }
+
+    @Test
+    void toEnvelope_shouldReturnQuadrantBoundsAtZoomOne() {
+        // Tile 1/1/0 is the north-east quadrant
+        Envelope envelope = new TileCoordinate(1, 1, 0).toEnvelope();
+
+        assertThat(envelope.getMinX()).isCloseTo(0.0, within(1e-9));
+        assertThat(envelope.getMaxX()).isCloseTo(180.0, within(1e-9));
+        assertThat(envelope.getMinY()).isCloseTo(0.0, within(1e-9));
+        assertThat(envelope.getMaxY()).isCloseTo(85.0511287798, within(1e-9));
+    }
+
+    @Test
+    void toEnvelope_withBuffer_shouldGrowEverySide() {
+        TileCoordinate tile = new TileCoordinate(10, 600, 500);
+        Envelope plain = tile.toEnvelope();
+        Envelope buffered = tile.toEnvelope(0.5);
+
+        assertThat(buffered.getWidth()).isCloseTo(plain.getWidth() * 2, within(1e-9));
+        assertThat(buffered.getHeight()).isCloseTo(plain.getHeight() * 2, within(1e-9));
+        assertThat(buffered.contains(plain)).isTrue();
+    }
+
+    @Test
+    void simplificationTolerance_shouldHalveWithEachZoomLevel() {
+        double z10 = new TileCoordinate(10, 0, 0).simplificationTolerance();
+        double z11 = new TileCoordinate(11, 0, 0).simplificationTolerance();
+
+        assertThat(z11).isCloseTo(z10 / 2, within(1e-9));
+    }
+
+    @Test
+    void constructor_shouldRejectTilesOutsideTheGrid() {
+        assertThrows(ValidationException.class, () -> new TileCoordinate(2, 4, 0));
+        assertThrows(ValidationException.class, () -> new TileCoordinate(2, 0, -1));
+        assertThrows(ValidationException.class, () -> new TileCoordinate(-1, 0, 0));
+        assertThrows(ValidationException.class, () -> new TileCoordinate(TileCoordinate.MAX_ZOOM + 1, 0, 0));
+    }
+}
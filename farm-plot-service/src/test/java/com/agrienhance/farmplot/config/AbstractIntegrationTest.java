@@ -1,5 +1,7 @@
 package com.agrienhance.farmplot.config;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContextInitializer;
@@ -17,11 +19,21 @@ import com.agrienhance.farmplot.domain.entity.Farm;
 import com.agrienhance.farmplot.domain.entity.Plot;
 import com.agrienhance.farmplot.domain.enums.LandTenureType;
 
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.locationtech.jts.geom.*;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 // This class can be inherited by actual test classes
 // It does NOT need @Testcontainers itself if the @Container is in the subclass.
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
@@ -74,6 +86,51 @@ public abstract class AbstractIntegrationTest {
         return geometryFactory.createPoint(new Coordinate(x, y));
     }
 
+    /**
+     * The partitions of {@code table} that the statement reads when run with
+     * the given bind values, as the generic plan of a prepared statement: the
+     * plan the JDBC driver ends up reusing, where the tenant is a parameter
+     * and partitions are pruned when execution starts.
+     *
+     * @param sql a statement as Hibernate sends it, with {@code ?} placeholders
+     * @param binds one value per placeholder, in order, as SQL literals' text
+     */
+    protected Set<String> scannedPartitions(EntityManager entityManager, String table, String sql,
+            Object... binds) {
+        Matcher placeholders = Pattern.compile("\\?").matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int count = 0;
+        while (placeholders.find()) {
+            placeholders.appendReplacement(numbered, "\\$" + ++count);
+        }
+        placeholders.appendTail(numbered);
+        assertThat(binds).as("bind values of %s", sql).hasSize(count);
+        String execute = "EXPLAIN EXECUTE pruning_check" + (count == 0 ? "" : Arrays.stream(binds)
+                .map(bind -> "'" + bind.toString().replace("'", "''") + "'")
+                .collect(Collectors.joining(", ", "(", ")")));
+
+        List<String> plan = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE pruning_check AS " + numbered);
+                try (ResultSet rows = statement.executeQuery(execute)) {
+                    List<String> lines = new ArrayList<>();
+                    while (rows.next()) {
+                        lines.add(rows.getString(1));
+                    }
+                    return lines;
+                } finally {
+                    statement.execute("DEALLOCATE pruning_check");
+                }
+            }
+        });
+        Pattern partition = Pattern.compile("\\b" + Pattern.quote(table) + "_p\\d{2}\\b");
+        return plan.stream()
+                .flatMap(line -> partition.matcher(line).results())
+                .map(MatchResult::group)
+                .collect(Collectors.toSet());
+    }
+
     public static class DataSourceInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
         @Override
         public void initialize(ConfigurableApplicationContext applicationContext) {
@@ -86,6 +143,8 @@ public abstract class AbstractIntegrationTest {
                     "spring.jpa.hibernate.ddl-auto=none", // Flyway/Liquibase MUST handle schema. 'validate' is also an
                                                           // option.
                     "spring.flyway.enabled=true", // Ensure Flyway runs
+                    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                            + SqlCaptureInspector.class.getName(),
                     "spring.flyway.locations=classpath:db/migration,classpath:db/testdata" // Include test data if
                                                                                            // needed
             // "spring.liquibase.enabled=true" // Or Liquibase
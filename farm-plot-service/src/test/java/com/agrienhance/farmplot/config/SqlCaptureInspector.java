@@ -0,0 +1,34 @@
+package com.agrienhance.farmplot.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Records the SQL Hibernate sends from the current thread while capture is on,
+// so tests can examine the plans of the statements repositories really run
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    public static List<String> capture(Supplier<?> action) {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            action.get();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+}
@@ -0,0 +1,56 @@
+package com.agrienhance.farmplot.domain.identifier;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EntityUuidGeneratorTest {
+
+    @Test
+    void initialize_shouldDefaultToRandomUuids() {
+        EntityUuidGenerator generator = initialized(null);
+
+        assertThat(generator.getStrategy()).isEqualTo(EntityUuidStrategy.RANDOM);
+        assertThat(((UUID) generator.generate(null, null, null, null)).version()).isEqualTo(4);
+    }
+
+    @Test
+    void initialize_shouldUseTimeOrderedUuidsWhenConfigured() {
+        EntityUuidGenerator generator = initialized("time-ordered");
+
+        UUID first = (UUID) generator.generate(null, null, null, null);
+        UUID second = (UUID) generator.generate(null, null, null, null);
+        assertThat(first.version()).isEqualTo(7);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void initialize_shouldRejectUnknownStrategies() {
+        assertThrows(IllegalArgumentException.class, () -> initialized("sequential"));
+    }
+
+    private EntityUuidGenerator initialized(String setting) {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(EntityUuidGenerator.STRATEGY_SETTING, setting);
+        ConfigurationService configurationService = mock(ConfigurationService.class);
+        when(configurationService.getSettings()).thenReturn(settings);
+        ServiceRegistry serviceRegistry = mock(ServiceRegistry.class);
+        when(serviceRegistry.requireService(ConfigurationService.class)).thenReturn(configurationService);
+        GeneratorCreationContext context = mock(GeneratorCreationContext.class);
+        when(context.getServiceRegistry()).thenReturn(serviceRegistry);
+
+        EntityUuidGenerator generator = new EntityUuidGenerator();
+        generator.initialize(null, null, context);
+        return generator;
+    }
+}
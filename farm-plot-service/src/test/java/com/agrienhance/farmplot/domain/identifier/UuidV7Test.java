@@ -0,0 +1,62 @@
+package com.agrienhance.farmplot.domain.identifier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UuidV7Test {
+
+    @AfterEach
+    void resetLastIdentifier() {
+        UuidV7.reset(); // Don't leave later identifiers in this JVM stamped in the future
+    }
+
+    @Test
+    void next_shouldCarryVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.epochMillis(uuid)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void next_shouldIncreaseStrictlyWithinTheSameMillisecond() {
+        long now = UuidV7.epochMillis(UuidV7.next()) + 1000; // Ahead of anything generated so far
+        List<UUID> generated = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) { // More than the 12-bit sequence holds
+            generated.add(UuidV7.next(now));
+        }
+
+        assertThat(generated).isSorted().doesNotHaveDuplicates();
+        assertThat(UuidV7.epochMillis(generated.get(0))).isEqualTo(now);
+    }
+
+    @Test
+    void next_shouldNotGoBackwardsWhenTheClockDoes() {
+        UUID later = UuidV7.next(System.currentTimeMillis() + 120_000);
+        UUID afterClockStep = UuidV7.next(System.currentTimeMillis());
+
+        assertThat(afterClockStep).isGreaterThan(later);
+    }
+
+    @Test
+    void reset_shouldLetTheTimestampFollowTheClockAgain() {
+        UuidV7.next(System.currentTimeMillis() + 120_000);
+        UuidV7.reset();
+
+        assertThat(UuidV7.epochMillis(UuidV7.next())).isLessThan(System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    void epochMillis_shouldRejectOtherVersions() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.epochMillis(UUID.randomUUID()));
+    }
+}
@@ -14,8 +14,11 @@ import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException; // For testing constraints
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -119,6 +122,37 @@ public class FarmRepositoryIT extends AbstractIntegrationTest { // Extends the b
         });
     }
 
+    @Test
+    void findKeysetPageByTenantId_shouldWalkAllFarmsInNameOrderWithoutGapsOrDuplicates() {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        Farm unnamed = createAndSaveTestFarm(null, tenantId);
+        Farm alpha = createAndSaveTestFarm("Alpha", tenantId);
+        Farm bravo1 = createAndSaveTestFarm("Bravo", tenantId);
+        Farm bravo2 = createAndSaveTestFarm("Bravo", tenantId);
+        createAndSaveTestFarm("Alpha", UUID.randomUUID()); // Other tenant
+
+        // When: walk the listing two rows at a time
+        List<UUID> seen = new ArrayList<>();
+        String afterName = "";
+        UUID afterIdentifier = new UUID(0L, 0L);
+        List<Farm> page;
+        do {
+            page = farmRepository.findKeysetPageByTenantId(tenantId, afterName, afterIdentifier, 2);
+            page.forEach(farm -> seen.add(farm.getFarmIdentifier()));
+            if (!page.isEmpty()) {
+                Farm last = page.get(page.size() - 1);
+                afterName = last.getFarmName() != null ? last.getFarmName() : "";
+                afterIdentifier = last.getFarmIdentifier();
+            }
+        } while (page.size() == 2);
+
+        // Then
+        List<UUID> bravos = Stream.of(bravo1, bravo2).map(Farm::getFarmIdentifier).sorted().toList();
+        assertThat(seen).containsExactly(unnamed.getFarmIdentifier(), alpha.getFarmIdentifier(),
+                bravos.get(0), bravos.get(1));
+    }
+
     // Helper method to create and save a farm for tests
     private Farm createAndSaveTestFarm(String name, UUID tenantId) {
         Farm farm = Farm.builder()
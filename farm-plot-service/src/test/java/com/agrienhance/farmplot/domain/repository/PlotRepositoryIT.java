@@ -1,9 +1,12 @@
 package com.agrienhance.farmplot.domain.repository;
 
+import com.agrienhance.farmplot.application.spatial.GeodesicArea;
 import com.agrienhance.farmplot.config.AbstractIntegrationTest;
+import com.agrienhance.farmplot.config.SqlCaptureInspector;
 import com.agrienhance.farmplot.domain.entity.Farm;
 import com.agrienhance.farmplot.domain.entity.Plot;
 import com.agrienhance.farmplot.domain.enums.LandTenureType; // If you set this on Plot
+import com.agrienhance.farmplot.infrastructure.persistence.PlotBatchWriter;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.locationtech.jts.geom.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -22,8 +26,10 @@ import java.math.RoundingMode;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Transactional
@@ -39,6 +45,9 @@ public class PlotRepositoryIT extends AbstractIntegrationTest {
     @Autowired
     private FarmRepository farmRepository; // To create a parent Farm
 
+    @Autowired
+    private PlotBatchWriter plotBatchWriter;
+
     private Farm testFarm;
     private UUID tenantId;
 
@@ -237,4 +246,114 @@ public class PlotRepositoryIT extends AbstractIntegrationTest {
         assertThat(intersectingPlots).noneMatch(p -> p.getPlotName().equals("Plot Other Tenant"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void tenantScopedQueries_shouldBePrunedToOnePartition() {
+        Plot plot = createAndSavePlotForFarm("Pruned Plot", createSimpleSquarePolygon(0.01, 10.0, 10.0));
+        UUID plotId = plot.getPlotIdentifier();
+        Polygon area = createSimpleSquarePolygon(2.0, 9.0, 9.0);
+        entityManager.clear();
+
+        // The statements the repository sends, planned as generic plans with the tenant as a parameter
+        String intersecting = onlyStatement(SqlCaptureInspector.capture(
+                () -> plotRepository.findPlotsIntersecting(tenantId, area)));
+        String byIdentifiers = onlyStatement(SqlCaptureInspector.capture(
+                () -> plotRepository.findAllByTenantIdAndPlotIdentifierIn(tenantId, List.of(plotId))));
+        String byIdentifier = onlyStatement(SqlCaptureInspector.capture(
+                () -> plotRepository.findByPlotIdentifierAndTenantId(plotId, tenantId)));
+        String byIdentifierOnly = onlyStatement(SqlCaptureInspector.capture(
+                () -> plotRepository.findAllById(List.of(plotId))));
+
+        assertThat(scannedPartitions(entityManager, "plots", intersecting, tenantId, "SRID=4326;" + area.toText()))
+                .hasSize(1);
+        assertThat(scannedPartitions(entityManager, "plots", byIdentifiers, tenantId, plotId)).hasSize(1);
+        assertThat(scannedPartitions(entityManager, "plots", byIdentifier, plotId, tenantId)).hasSize(1);
+        assertThat(scannedPartitions(entityManager, "plots", byIdentifierOnly, plotId)).hasSize(16);
+    }
+
+    @Test
+    void delete_shouldBePrunedToTheTenantsPartition() {
+        Plot plot = createAndSavePlotForFarm("Deleted Plot", createSimpleSquarePolygon(0.01, 10.0, 10.0));
+
+        String delete = SqlCaptureInspector.capture(() -> {
+            plotRepository.delete(plot);
+            entityManager.flush();
+            return null;
+        }).stream().filter(sql -> sql.startsWith("delete from plots")).findFirst().orElseThrow();
+
+        // Bind values in the order of the WHERE clause's columns
+        Object[] binds = Pattern.compile("(\\w+)=\\?").matcher(delete).results()
+                .map(column -> switch (column.group(1)) {
+                    case "plot_identifier" -> plot.getPlotIdentifier();
+                    case "tenant_id" -> tenantId;
+                    case "version" -> plot.getVersion();
+                    default -> throw new AssertionError("Unexpected column in " + delete);
+                })
+                .toArray();
+        assertThat(delete).contains("tenant_id=?");
+        assertThat(scannedPartitions(entityManager, "plots", delete, binds)).hasSize(1);
+    }
+
+    @Test
+    void plotBatchWriter_shouldRejectAnIdentifierUsedByAnotherTenant() {
+        Plot existing = createAndSavePlotForFarm("Existing Plot", createSimpleSquarePolygon(0.01, 10.0, 10.0));
+        Plot sameIdentifier = Plot.builder()
+                .plotIdentifier(existing.getPlotIdentifier())
+                .farm(testFarm)
+                .plotName("Other Tenant Plot")
+                .plotGeometry(createSimpleSquarePolygon(0.01, 20.0, 20.0))
+                .tenantId(UUID.randomUUID())
+                .build();
+        Plot fresh = Plot.builder()
+                .plotIdentifier(UUID.randomUUID())
+                .farm(testFarm)
+                .plotName("Fresh Plot")
+                .plotGeometry(createSimpleSquarePolygon(0.01, 30.0, 30.0))
+                .tenantId(tenantId)
+                .build();
+
+        assertThrows(DuplicateKeyException.class, () -> plotBatchWriter.insertAll(List.of(sameIdentifier)));
+        assertThrows(DuplicateKeyException.class, () -> plotBatchWriter.insertAll(List.of(fresh, fresh)));
+    }
+
+    @Test
+    void calculateAreaInSquareMeters_shouldMatchInProcessGeodesicArea() {
+        List<Polygon> polygons = List.of(
+                createSimpleSquarePolygon(0.001, 36.0, -1.0), // ~1.2 ha field
+                createSimpleSquarePolygon(0.01, 10.0, 60.0),
+                createSimpleSquarePolygon(1.0, 0.0, 0.0));
+
+        for (Polygon polygon : polygons) {
+            double postgisArea = plotRepository.calculateAreaInSquareMeters(polygon.toText()).orElseThrow();
+            assertThat(GeodesicArea.squareMeters(polygon)).isCloseTo(postgisArea, withinPercentage(0.0001));
+        }
+    }
+
+    @Test
+    void findVectorTile_shouldRenderOnlyTenantPlotsInsideTheTile() {
+        // Arrange
+        createAndSavePlotForFarm("Tile Plot", createSimpleSquarePolygon(0.01, 10.0, 10.0));
+        entityManager.clear();
+
+        // Tile at zoom 12 containing (10.005, 10.005)
+        int z = 12;
+        int n = 1 << z;
+        double lat = Math.toRadians(10.005);
+        int x = (int) Math.floor((10.005 + 180.0) / 360.0 * n);
+        int y = (int) Math.floor((1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2 * n);
+
+        // Act
+        byte[] tile = plotRepository.findVectorTile(testFarm.getTenantId(), z, x, y, 1.0);
+        byte[] otherTenantTile = plotRepository.findVectorTile(UUID.randomUUID(), z, x, y, 1.0);
+        byte[] farAwayTile = plotRepository.findVectorTile(testFarm.getTenantId(), z, 0, 0, 1.0);
+
+        // Assert
+        assertThat(tile).isNotNull().isNotEmpty();
+        assertThat(otherTenantTile == null || otherTenantTile.length == 0).isTrue();
+        assertThat(farAwayTile == null || farAwayTile.length == 0).isTrue();
+    }
+
+    private static String onlyStatement(List<String> captured) {
+        assertThat(captured).hasSize(1);
+        return captured.get(0);
+    }
+}
@@ -1,11 +1,15 @@
 package com.agrienhance.farmplot.domain.repository;
 
 import com.agrienhance.farmplot.config.AbstractIntegrationTest;
+import com.agrienhance.farmplot.config.SqlCaptureInspector;
 import com.agrienhance.farmplot.domain.entity.Farm;
 import com.agrienhance.farmplot.domain.entity.Plot;
 import com.agrienhance.farmplot.domain.entity.PointOfInterest;
 import com.agrienhance.farmplot.domain.enums.POIType;
 import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestClusterCell;
+import com.agrienhance.farmplot.domain.repository.projection.PointOfInterestDistance;
+import com.agrienhance.farmplot.infrastructure.persistence.PointOfInterestBatchWriter;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.AfterEach;
@@ -17,6 +21,7 @@ import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +31,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Transactional
 public class PointOfInterestRepositoryIT extends AbstractIntegrationTest {
@@ -39,6 +46,9 @@ public class PointOfInterestRepositoryIT extends AbstractIntegrationTest {
     @Autowired
     private PlotRepository plotRepository;
 
+    @Autowired
+    private PointOfInterestBatchWriter poiBatchWriter;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -227,6 +237,169 @@ public class PointOfInterestRepositoryIT extends AbstractIntegrationTest {
                 .containsExactlyInAnyOrder(poi1.getPoiIdentifier(), poi2.getPoiIdentifier());
     }
 
+    @Test
+    void findNearestByType_shouldReturnClosestPoisOfTypeWithGeodesicDistances() {
+        // Given: OTHER POIs east of the origin along the equator (0.001 deg ~ 111 m)
+        PointOfInterest near = createAndSavePoiForParent("Near", createJtsPoint(30.001, 0.0),
+                testFarm.getFarmIdentifier(), ParentEntityType.FARM, tenantId);
+        PointOfInterest middle = createAndSavePoiForParent("Middle", createJtsPoint(30.003, 0.0),
+                testFarm.getFarmIdentifier(), ParentEntityType.FARM, tenantId);
+        createAndSavePoiForParent("Far", createJtsPoint(30.5, 0.0), testFarm.getFarmIdentifier(),
+                ParentEntityType.FARM, tenantId);
+        PointOfInterest wrongType = createAndSavePoiForParent("Closest but a hazard", createJtsPoint(30.0001, 0.0),
+                testFarm.getFarmIdentifier(), ParentEntityType.FARM, tenantId);
+        wrongType.setPoiType(POIType.HAZARD);
+        createAndSavePoiForParent("Other tenant", createJtsPoint(30.0, 0.0), testFarm.getFarmIdentifier(),
+                ParentEntityType.FARM, UUID.randomUUID());
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<PointOfInterestDistance> nearest = poiRepository.findNearestByType(tenantId, POIType.OTHER.name(),
+                "POINT(30 0)", 20_037_509, 2);
+
+        // Then
+        assertThat(nearest).extracting(PointOfInterestDistance::getPoiIdentifier)
+                .containsExactly(near.getPoiIdentifier(), middle.getPoiIdentifier());
+        assertThat(nearest.get(0).getDistanceMeters()).isCloseTo(111.3, within(0.5));
+        assertThat(nearest.get(1).getDistanceMeters()).isCloseTo(334.0, within(0.5));
+    }
+
+    @Test
+    void findNearestByType_shouldLeaveOutPoisBeyondMaxDistance() {
+        PointOfInterest near = createAndSavePoiForParent("Near", createJtsPoint(30.001, 0.0),
+                testFarm.getFarmIdentifier(), ParentEntityType.FARM, tenantId);
+        createAndSavePoiForParent("Far", createJtsPoint(30.01, 0.0), testFarm.getFarmIdentifier(),
+                ParentEntityType.FARM, tenantId);
+        entityManager.flush();
+
+        List<PointOfInterestDistance> nearest = poiRepository.findNearestByType(tenantId, POIType.OTHER.name(),
+                "POINT(30 0)", 500, 5);
+
+        assertThat(nearest).extracting(PointOfInterestDistance::getPoiIdentifier)
+                .containsExactly(near.getPoiIdentifier());
+    }
+
+    @Test
+    void findClusterCells_shouldCountTenantPoisPerGridCellAndType() {
+        // Tile 1/1/0 covers lon [0, 180] and lat [0, ~85]; with 8 cells per axis
+        // lon 30-32 falls into column 1, lon 100 into column 4, lat 10-11 into row 7
+        UUID farmId = testFarm.getFarmIdentifier();
+        createAndSavePoiForParent("Well A", createJtsPoint(30.0, 10.0), farmId, ParentEntityType.FARM, tenantId);
+        createAndSavePoiForParent("Well B", createJtsPoint(31.0, 11.0), farmId, ParentEntityType.FARM, tenantId);
+        PointOfInterest hazard = createAndSavePoiForParent("Erosion", createJtsPoint(32.0, 10.0), farmId,
+                ParentEntityType.FARM, tenantId);
+        hazard.setPoiType(POIType.HAZARD);
+        createAndSavePoiForParent("Far east", createJtsPoint(100.0, 10.0), farmId, ParentEntityType.FARM, tenantId);
+        createAndSavePoiForParent("Southern hemisphere", createJtsPoint(30.0, -10.0), farmId,
+                ParentEntityType.FARM, tenantId);
+        createAndSavePoiForParent("Other tenant", createJtsPoint(30.0, 10.0), farmId, ParentEntityType.FARM,
+                UUID.randomUUID());
+        entityManager.flush();
+
+        List<PointOfInterestClusterCell> cells = poiRepository.findClusterCells(tenantId, 1, 1, 0, 8);
+
+        assertThat(cells).hasSize(3);
+        assertThat(cells).extracting(PointOfInterestClusterCell::getCellX).containsExactly(1, 1, 4);
+        assertThat(cells).extracting(PointOfInterestClusterCell::getCellY).containsExactly(7, 7, 7);
+        assertThat(cells).extracting(PointOfInterestClusterCell::getPoiType)
+                .containsExactly("HAZARD", "OTHER", "OTHER");
+        assertThat(cells).extracting(PointOfInterestClusterCell::getPoiCount).containsExactly(1L, 2L, 1L);
+        assertThat(cells.get(1).getSumLongitude()).isCloseTo(61.0, within(1e-9));
+        assertThat(cells.get(1).getSumLatitude()).isCloseTo(21.0, within(1e-9));
+    }
+
+    @Test
+    void assignFarmPoisToContainingPlots_shouldMoveFarmLevelPoisToTheSmallestContainingPlot() {
+        // Given: a small plot nested in the corner of testPlot (0..0.001)
+        Plot innerPlot = plotRepository.saveAndFlush(Plot.builder()
+                .farm(testFarm)
+                .plotName("Inner plot")
+                .plotGeometry(createSimpleSquarePolygon(0.0004, 0.0, 0.0))
+                .tenantId(tenantId)
+                .build());
+        Farm otherFarm = farmRepository.saveAndFlush(Farm.builder()
+                .farmName("Other farm")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("PI")
+                .tenantId(tenantId)
+                .build());
+        UUID farmId = testFarm.getFarmIdentifier();
+        PointOfInterest inBoth = createAndSavePoiForParent("In both plots", createJtsPoint(0.0002, 0.0002), farmId,
+                ParentEntityType.FARM, tenantId);
+        PointOfInterest inOuter = createAndSavePoiForParent("In outer plot", createJtsPoint(0.0008, 0.0008), farmId,
+                ParentEntityType.FARM, tenantId);
+        PointOfInterest outside = createAndSavePoiForParent("Outside", createJtsPoint(0.5, 0.5), farmId,
+                ParentEntityType.FARM, tenantId);
+        PointOfInterest otherFarmPoi = createAndSavePoiForParent("Other farm", createJtsPoint(0.0008, 0.0008),
+                otherFarm.getFarmIdentifier(), ParentEntityType.FARM, tenantId);
+
+        // When
+        int assigned = poiRepository.assignFarmPoisToContainingPlots(tenantId, farmId);
+
+        // Then
+        assertThat(assigned).isEqualTo(2);
+        PointOfInterest reloadedInBoth = poiRepository.findById(inBoth.getPoiIdentifier()).orElseThrow();
+        assertThat(reloadedInBoth.getParentEntityType()).isEqualTo(ParentEntityType.PLOT);
+        assertThat(reloadedInBoth.getParentEntityIdentifier()).isEqualTo(innerPlot.getPlotIdentifier());
+        assertThat(reloadedInBoth.getVersion()).isEqualTo(inBoth.getVersion() + 1);
+        assertThat(poiRepository.findById(inOuter.getPoiIdentifier()).orElseThrow().getParentEntityIdentifier())
+                .isEqualTo(testPlot.getPlotIdentifier());
+        assertThat(poiRepository.findById(outside.getPoiIdentifier()).orElseThrow().getParentEntityType())
+                .isEqualTo(ParentEntityType.FARM);
+        assertThat(poiRepository.findById(otherFarmPoi.getPoiIdentifier()).orElseThrow().getParentEntityIdentifier())
+                .isEqualTo(otherFarm.getFarmIdentifier());
+        assertThat(poiRepository.countByParentEntityIdentifierAndParentEntityTypeAndTenantId(farmId,
+                ParentEntityType.FARM, tenantId)).isEqualTo(1);
+    }
+
+    @Test
+    void tenantScopedQueries_shouldBePrunedToOnePartition() {
+        PointOfInterest poi = createAndSavePoiForParent("Pruned POI",
+                geometryFactory.createPoint(new Coordinate(0.0005, 0.0005)),
+                testFarm.getFarmIdentifier(), ParentEntityType.FARM, tenantId);
+        UUID poiId = poi.getPoiIdentifier();
+        UUID farmId = testFarm.getFarmIdentifier();
+        entityManager.clear();
+
+        // The statements the repository sends, planned as generic plans with the tenant as a parameter
+        String byParent = onlyStatement(SqlCaptureInspector.capture(() -> poiRepository
+                .findAllByParentEntityIdentifierAndParentEntityTypeAndTenantId(farmId, ParentEntityType.FARM,
+                        tenantId)));
+        String byIdentifiers = onlyStatement(SqlCaptureInspector.capture(
+                () -> poiRepository.findAllByTenantIdAndPoiIdentifierIn(tenantId, List.of(poiId))));
+        String byIdentifierOnly = onlyStatement(SqlCaptureInspector.capture(
+                () -> poiRepository.findAllById(List.of(poiId))));
+
+        assertThat(scannedPartitions(entityManager, "points_of_interest", byParent, farmId, "FARM", tenantId))
+                .hasSize(1);
+        assertThat(scannedPartitions(entityManager, "points_of_interest", byIdentifiers, tenantId, poiId))
+                .hasSize(1);
+        assertThat(scannedPartitions(entityManager, "points_of_interest", byIdentifierOnly, poiId)).hasSize(16);
+    }
+
+    @Test
+    void pointOfInterestBatchWriter_shouldRejectAnIdentifierUsedByAnotherTenant() {
+        PointOfInterest existing = createAndSavePoiForParent("Existing POI", createJtsPoint(1.0, 1.0),
+                testFarm.getFarmIdentifier(), ParentEntityType.FARM, tenantId);
+        PointOfInterest sameIdentifier = PointOfInterest.builder()
+                .poiIdentifier(existing.getPoiIdentifier())
+                .parentEntityIdentifier(UUID.randomUUID())
+                .parentEntityType(ParentEntityType.FARM)
+                .poiName("Other Tenant POI")
+                .poiType(POIType.OTHER)
+                .coordinates(createJtsPoint(2.0, 2.0))
+                .tenantId(UUID.randomUUID())
+                .build();
+
+        assertThrows(DuplicateKeyException.class, () -> poiBatchWriter.insertAll(List.of(sameIdentifier)));
+    }
+
+    private static String onlyStatement(List<String> captured) {
+        assertThat(captured).hasSize(1);
+        return captured.get(0);
+    }
+
     // Helper to quickly create and save POIs for tests
     private PointOfInterest createAndSavePoiForParent(String name, Point coords, UUID parentId,
             ParentEntityType parentType, UUID tenantId) {
@@ -0,0 +1,77 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.domain.entity.Farm;
+import com.agrienhance.farmplot.domain.entity.LandTenure;
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.FarmUpdatedEvent;
+import com.agrienhance.farmplot.domain.event.LandTenureChangedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityReadCacheTest {
+
+    private EntityReadCache cache;
+    private UUID tenantId;
+    private Farm farm;
+    private Plot plot;
+    private LandTenure landTenure;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EntityReadCache(10, 10, 10, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        tenantId = UUID.randomUUID();
+        farm = Farm.builder().farmIdentifier(UUID.randomUUID()).tenantId(tenantId).build();
+        plot = Plot.builder().plotIdentifier(UUID.randomUUID()).farm(farm).tenantId(tenantId).build();
+        landTenure = LandTenure.builder().landTenureIdentifier(UUID.randomUUID()).plot(plot).tenantId(tenantId).build();
+        cache.farms().get(tenantId, farm.getFarmIdentifier(), () -> Optional.of(farm));
+        cache.plots().get(tenantId, plot.getPlotIdentifier(), () -> Optional.of(plot));
+        cache.landTenuresByPlot().get(tenantId, plot.getPlotIdentifier(), () -> Optional.of(landTenure));
+    }
+
+    @Test
+    void onFarmUpdated_shouldEvictOnlyTheFarm() {
+        cache.onFarmUpdated(new FarmUpdatedEvent(tenantId, farm.getFarmIdentifier()));
+
+        assertThat(cache.farms().size()).isZero();
+        assertThat(cache.plots().size()).isEqualTo(1);
+    }
+
+    @Test
+    void onFarmDeleted_shouldEvictTheFarmItsPlotsAndLandTenures() {
+        Plot otherFarmPlot = Plot.builder().plotIdentifier(UUID.randomUUID())
+                .farm(Farm.builder().farmIdentifier(UUID.randomUUID()).build()).tenantId(tenantId).build();
+        cache.plots().get(tenantId, otherFarmPlot.getPlotIdentifier(), () -> Optional.of(otherFarmPlot));
+
+        cache.onFarmDeleted(new FarmDeletedEvent(tenantId, farm.getFarmIdentifier()));
+
+        assertThat(cache.farms().size()).isZero();
+        assertThat(cache.plots().size()).isEqualTo(1);
+        assertThat(cache.landTenuresByPlot().size()).isZero();
+    }
+
+    @Test
+    void onPlotChanged_shouldEvictThePlotAndItsLandTenure() {
+        cache.onPlotChanged(new PlotChangedEvent(tenantId, plot.getPlotIdentifier(), null, null));
+
+        assertThat(cache.plots().size()).isZero();
+        assertThat(cache.landTenuresByPlot().size()).isZero();
+        assertThat(cache.farms().size()).isEqualTo(1);
+    }
+
+    @Test
+    void onLandTenureChanged_shouldEvictTheLandTenureAndItsPlot() {
+        cache.onLandTenureChanged(new LandTenureChangedEvent(tenantId, plot.getPlotIdentifier()));
+
+        assertThat(cache.landTenuresByPlot().size()).isZero();
+        assertThat(cache.plots().size()).isZero();
+    }
+}
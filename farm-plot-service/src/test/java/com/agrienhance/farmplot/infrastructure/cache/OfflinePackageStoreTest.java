@@ -0,0 +1,108 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OfflinePackageStoreTest {
+
+    private static final Duration GRACE_PERIOD = Duration.ofMinutes(15);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void store_shouldMakePackageFindableByHashAndReplaceOlderOnes() throws IOException {
+        OfflinePackageStore store = new OfflinePackageStore(directory, GRACE_PERIOD);
+        UUID farmId = UUID.randomUUID();
+
+        Path first = store.store(farmId, "v1-aaa", file -> Files.writeString(file, "first"));
+        assertThat(store.find(farmId, "v1-aaa")).contains(first);
+        builtAgo(first, Duration.ofDays(1));
+
+        Path second = store.store(farmId, "v1-bbb", file -> Files.writeString(file, "second"));
+        builtAgo(second, GRACE_PERIOD.plusMinutes(1));
+        Path third = store.store(farmId, "v1-ccc", file -> Files.writeString(file, "third"));
+
+        assertThat(store.find(farmId, "v1-ccc")).contains(third);
+        assertThat(Files.readString(third)).isEqualTo("third");
+        assertThat(store.find(farmId, "v1-aaa")).isEmpty();
+        assertThat(Files.list(directory)).containsExactlyInAnyOrder(second, third);
+    }
+
+    @Test
+    void store_shouldKeepTheReplacedPackageForTheGracePeriod() throws IOException {
+        OfflinePackageStore store = new OfflinePackageStore(directory, GRACE_PERIOD);
+        UUID farmId = UUID.randomUUID();
+        // Built long ago, but replaced only now; a download may still be serving it
+        Path first = store.store(farmId, "v1-aaa", file -> Files.writeString(file, "first"));
+        builtAgo(first, Duration.ofDays(1));
+
+        Path second = store.store(farmId, "v1-bbb", file -> Files.writeString(file, "second"));
+
+        assertThat(store.find(farmId, "v1-aaa")).contains(first);
+        assertThat(Files.readString(first)).isEqualTo("first");
+        assertThat(store.find(farmId, "v1-bbb")).contains(second);
+
+        // Once the replacement is older than the grace period, the next build removes it
+        builtAgo(second, GRACE_PERIOD.plusMinutes(1));
+        Path third = store.store(farmId, "v1-ccc", file -> Files.writeString(file, "third"));
+
+        assertThat(store.find(farmId, "v1-aaa")).isEmpty();
+        assertThat(Files.list(directory)).containsExactlyInAnyOrder(second, third);
+    }
+
+    @Test
+    void store_whenBuildFails_shouldLeaveNoFileBehind() {
+        OfflinePackageStore store = new OfflinePackageStore(directory, GRACE_PERIOD);
+        UUID farmId = UUID.randomUUID();
+
+        assertThrows(IOException.class, () -> store.store(farmId, "v1-aaa", file -> {
+            throw new IOException("disk full");
+        }));
+
+        assertThat(store.find(farmId, "v1-aaa")).isEmpty();
+        assertThat(directory.toFile().list()).isEmpty();
+    }
+
+    @Test
+    void onFarmDeleted_shouldRemoveOnlyThatFarmsPackages() throws IOException {
+        OfflinePackageStore store = new OfflinePackageStore(directory, GRACE_PERIOD);
+        UUID deletedFarm = UUID.randomUUID();
+        UUID otherFarm = UUID.randomUUID();
+        store.store(deletedFarm, "v1-aaa", file -> Files.writeString(file, "x"));
+        Path kept = store.store(otherFarm, "v1-aaa", file -> Files.writeString(file, "y"));
+
+        store.onFarmDeleted(new FarmDeletedEvent(UUID.randomUUID(), deletedFarm));
+
+        assertThat(store.find(deletedFarm, "v1-aaa")).isEmpty();
+        assertThat(store.find(otherFarm, "v1-aaa")).contains(kept);
+    }
+
+    @Test
+    void evict_shouldRemoveReplacedPackagesWithinTheGracePeriodToo() throws IOException {
+        OfflinePackageStore store = new OfflinePackageStore(directory, GRACE_PERIOD);
+        UUID farmId = UUID.randomUUID();
+        store.store(farmId, "v1-aaa", file -> Files.writeString(file, "first"));
+        store.store(farmId, "v1-bbb", file -> Files.writeString(file, "second"));
+
+        store.evict(farmId);
+
+        assertThat(directory.toFile().list()).isEmpty();
+    }
+
+    private static void builtAgo(Path file, Duration age) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.domain.enums.ParentEntityType;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParentExistenceCacheTest {
+
+    private final ParentExistenceCache cache = new ParentExistenceCache(100, Duration.ofSeconds(30),
+            new SimpleMeterRegistry());
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID farmId = UUID.randomUUID();
+    private final UUID plotId = UUID.randomUUID();
+    private final AtomicInteger checks = new AtomicInteger();
+
+    @Test
+    void exists_shouldCacheOnlyPositiveAnswers() {
+        assertThat(cache.exists(tenantId, ParentEntityType.FARM, farmId, () -> check(false))).isFalse();
+        assertThat(cache.exists(tenantId, ParentEntityType.FARM, farmId, () -> check(true))).isTrue();
+        assertThat(cache.exists(tenantId, ParentEntityType.FARM, farmId, () -> check(true))).isTrue();
+
+        assertThat(checks).hasValue(2);
+    }
+
+    @Test
+    void exists_shouldKeepParentTypesApart() {
+        cache.exists(tenantId, ParentEntityType.FARM, farmId, () -> check(true));
+
+        assertThat(cache.exists(tenantId, ParentEntityType.PLOT, farmId, () -> check(false))).isFalse();
+    }
+
+    @Test
+    void onPlotChanged_forDeletedPlot_shouldForgetIt() {
+        cache.exists(tenantId, ParentEntityType.PLOT, plotId, () -> check(true));
+
+        cache.onPlotChanged(new PlotChangedEvent(tenantId, plotId, new Envelope(0, 1, 0, 1), new Envelope(0, 2, 0, 2)));
+        assertThat(cache.exists(tenantId, ParentEntityType.PLOT, plotId, () -> check(false))).isTrue();
+
+        cache.onPlotChanged(new PlotChangedEvent(tenantId, plotId, new Envelope(0, 2, 0, 2), null));
+        assertThat(cache.exists(tenantId, ParentEntityType.PLOT, plotId, () -> check(false))).isFalse();
+    }
+
+    @Test
+    void onFarmDeleted_shouldForgetTheFarmAndTheTenantsPlots() {
+        cache.exists(tenantId, ParentEntityType.FARM, farmId, () -> check(true));
+        cache.exists(tenantId, ParentEntityType.PLOT, plotId, () -> check(true));
+
+        cache.onFarmDeleted(new FarmDeletedEvent(tenantId, farmId));
+
+        assertThat(cache.exists(tenantId, ParentEntityType.FARM, farmId, () -> check(false))).isFalse();
+        assertThat(cache.exists(tenantId, ParentEntityType.PLOT, plotId, () -> check(false))).isFalse();
+    }
+
+    private boolean check(boolean exists) {
+        checks.incrementAndGet();
+        return exists;
+    }
+}
@@ -0,0 +1,77 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.application.spatial.TenantPlotIndex;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import com.agrienhance.farmplot.domain.event.PlotsCreatedEvent;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlotSpatialIndexTest {
+
+    private final PlotSpatialIndex spatialIndex = new PlotSpatialIndex(2, Duration.ofMinutes(1));
+
+    @Test
+    void forTenant_shouldReturnSameIndexForSameTenant() {
+        UUID tenantId = UUID.randomUUID();
+
+        assertThat(spatialIndex.forTenant(tenantId)).isSameAs(spatialIndex.forTenant(tenantId));
+    }
+
+    @Test
+    void forTenant_shouldEvictLeastRecentlyUsedTenant() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        spatialIndex.forTenant(first);
+        spatialIndex.forTenant(second);
+        spatialIndex.forTenant(first);
+
+        spatialIndex.forTenant(UUID.randomUUID());
+
+        assertThat(spatialIndex.contains(first)).isTrue();
+        assertThat(spatialIndex.contains(second)).isFalse();
+    }
+
+    @Test
+    void onPlotChanged_shouldMarkPlotDirtyOnlyForIndexedTenants() {
+        UUID tenantId = UUID.randomUUID();
+        UUID plotId = UUID.randomUUID();
+        TenantPlotIndex index = spatialIndex.forTenant(tenantId);
+        UUID unindexedTenant = UUID.randomUUID();
+
+        spatialIndex.onPlotChanged(new PlotChangedEvent(tenantId, plotId, null, null));
+        spatialIndex.onPlotChanged(new PlotChangedEvent(unindexedTenant, UUID.randomUUID(), null, null));
+
+        assertThat(index.drainDirty()).containsExactly(plotId);
+        assertThat(spatialIndex.contains(unindexedTenant)).isFalse();
+    }
+
+    @Test
+    void onPlotsCreated_shouldMarkTheWholeBatchDirty() {
+        UUID tenantId = UUID.randomUUID();
+        TenantPlotIndex index = spatialIndex.forTenant(tenantId);
+        Set<UUID> plotIds = Set.of(UUID.randomUUID(), UUID.randomUUID());
+
+        spatialIndex.onPlotsCreated(new PlotsCreatedEvent(tenantId, plotIds, new Envelope(0, 1, 0, 1)));
+
+        assertThat(index.drainDirty()).isEqualTo(plotIds);
+    }
+
+    @Test
+    void onFarmDeleted_shouldRemoveFarmPlotsFromIndex() {
+        UUID tenantId = UUID.randomUUID();
+        TenantPlotIndex index = spatialIndex.forTenant(tenantId);
+        index.load(List.of());
+
+        spatialIndex.onFarmDeleted(new FarmDeletedEvent(tenantId, UUID.randomUUID()));
+
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,191 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.application.spatial.TileCoordinate;
+import com.agrienhance.farmplot.domain.event.FarmDeletedEvent;
+import com.agrienhance.farmplot.domain.event.PlotChangedEvent;
+import com.agrienhance.farmplot.domain.event.PlotsCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.locationtech.jts.geom.Envelope;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlotTileCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PlotTileCache cache;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PlotTileCache(3, Duration.ofMinutes(5), meterRegistry, nanos::get);
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    void put_shouldKeepTilesSeparatePerTenant() {
+        TileCoordinate tile = new TileCoordinate(5, 10, 10);
+        cache.put(tenantId, tile, new byte[] { 1 });
+
+        assertThat(cache.get(tenantId, tile)).contains(new byte[] { 1 });
+        assertThat(cache.get(UUID.randomUUID(), tile)).isEmpty();
+    }
+
+    @Test
+    void put_shouldBoundTheTilesOfEachTenant() {
+        UUID otherTenant = UUID.randomUUID();
+        for (int x = 0; x < 8; x++) {
+            cache.put(tenantId, new TileCoordinate(3, x, 0), new byte[0]);
+        }
+        cache.put(otherTenant, new TileCoordinate(3, 0, 0), new byte[0]);
+
+        assertThat(cache.size(tenantId)).isEqualTo(3);
+        assertThat(cache.size(otherTenant)).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldExpireTilesChangedThroughAnotherInstance() {
+        TileCoordinate tile = new TileCoordinate(2, 1, 1);
+        cache.put(tenantId, tile, new byte[] { 1 });
+
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertThat(cache.get(tenantId, tile)).isPresent();
+
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        assertThat(cache.get(tenantId, tile)).isEmpty();
+        assertThat(cache.get(tenantId, tile, () -> new byte[] { 2 })).containsExactly(2);
+    }
+
+    @Test
+    void get_shouldReportHitsAndMissesOfAllTenantsAsOneCache() {
+        TileCoordinate tile = new TileCoordinate(2, 1, 1);
+        cache.get(tenantId, tile, () -> new byte[] { 1 });
+        cache.get(tenantId, tile, () -> new byte[] { 1 });
+        cache.get(UUID.randomUUID(), tile, () -> new byte[] { 1 });
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PlotTileCache.CACHE_NAME)
+                .tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", PlotTileCache.CACHE_NAME)
+                .tag("result", "miss").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.size").tag("cache", PlotTileCache.CACHE_NAME).gauge().value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void onPlotChanged_shouldOnlyEvictTilesTouchingTheChangedExtents() {
+        // Zoom 1 quadrants: 0/0 is north-west, 1/1 is south-east
+        TileCoordinate northWest = new TileCoordinate(1, 0, 0);
+        TileCoordinate southEast = new TileCoordinate(1, 1, 1);
+        cache.put(tenantId, northWest, new byte[] { 1 });
+        cache.put(tenantId, southEast, new byte[] { 2 });
+
+        Envelope plotInNorthWest = new Envelope(-100.0, -99.0, 40.0, 41.0);
+        cache.onPlotChanged(new PlotChangedEvent(tenantId, UUID.randomUUID(), null, plotInNorthWest));
+
+        assertThat(cache.get(tenantId, northWest)).isEmpty();
+        assertThat(cache.get(tenantId, southEast)).isPresent();
+    }
+
+    @Test
+    void onPlotChanged_shouldEvictTilesOfPreviousAndCurrentExtent() {
+        TileCoordinate northWest = new TileCoordinate(1, 0, 0);
+        TileCoordinate southEast = new TileCoordinate(1, 1, 1);
+        cache.put(tenantId, northWest, new byte[] { 1 });
+        cache.put(tenantId, southEast, new byte[] { 2 });
+
+        // Plot moved from the north-west to the south-east quadrant
+        cache.onPlotChanged(new PlotChangedEvent(tenantId, UUID.randomUUID(),
+                new Envelope(-100.0, -99.0, 40.0, 41.0), new Envelope(30.0, 31.0, -20.0, -19.0)));
+
+        assertThat(cache.size(tenantId)).isZero();
+    }
+
+    @Test
+    void onPlotChanged_shouldNotTouchOtherTenants() {
+        UUID otherTenant = UUID.randomUUID();
+        TileCoordinate tile = new TileCoordinate(0, 0, 0);
+        cache.put(tenantId, tile, new byte[] { 1 });
+        cache.put(otherTenant, tile, new byte[] { 2 });
+
+        cache.onPlotChanged(new PlotChangedEvent(tenantId, UUID.randomUUID(),
+                new Envelope(1.0, 2.0, 1.0, 2.0), null));
+
+        assertThat(cache.get(tenantId, tile)).isEmpty();
+        assertThat(cache.get(otherTenant, tile)).isPresent();
+    }
+
+    @Test
+    void onPlotsCreated_shouldEvictTilesTouchingTheBatchExtentOnce() {
+        TileCoordinate northWest = new TileCoordinate(1, 0, 0);
+        TileCoordinate southEast = new TileCoordinate(1, 1, 1);
+        cache.put(tenantId, northWest, new byte[] { 1 });
+        cache.put(tenantId, southEast, new byte[] { 2 });
+
+        cache.onPlotsCreated(new PlotsCreatedEvent(tenantId, Set.of(UUID.randomUUID(), UUID.randomUUID()),
+                new Envelope(-100.0, -90.0, 40.0, 45.0)));
+
+        assertThat(cache.get(tenantId, northWest)).isEmpty();
+        assertThat(cache.get(tenantId, southEast)).isPresent();
+    }
+
+    @Test
+    void get_shouldRenderOnceAndServeTheCachedTile() {
+        TileCoordinate tile = new TileCoordinate(2, 1, 1);
+        AtomicInteger renders = new AtomicInteger();
+
+        cache.get(tenantId, tile, () -> new byte[] { (byte) renders.incrementAndGet() });
+        byte[] second = cache.get(tenantId, tile, () -> new byte[] { (byte) renders.incrementAndGet() });
+
+        assertThat(second).containsExactly(1);
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void get_shouldNotCacheATileRenderedWhileAPlotChangeWasEvicted() {
+        TileCoordinate northWest = new TileCoordinate(1, 0, 0);
+        byte[] staleTile = new byte[] { 1 };
+
+        // The render read the geometry before the change committed; the
+        // eviction after the commit runs before the render returns
+        byte[] rendered = cache.get(tenantId, northWest, () -> {
+            cache.onPlotChanged(new PlotChangedEvent(tenantId, UUID.randomUUID(), null,
+                    new Envelope(-100.0, -99.0, 40.0, 41.0)));
+            return staleTile;
+        });
+
+        assertThat(rendered).isSameAs(staleTile);
+        assertThat(cache.get(tenantId, northWest)).isEmpty();
+        assertThat(cache.get(tenantId, northWest, () -> new byte[] { 2 })).containsExactly(2);
+        assertThat(cache.get(tenantId, northWest)).contains(new byte[] { 2 });
+    }
+
+    @Test
+    void get_shouldNotCacheATileRenderedWhileTheTenantWasEvicted() {
+        TileCoordinate tile = new TileCoordinate(1, 0, 0);
+
+        cache.get(tenantId, tile, () -> {
+            cache.onFarmDeleted(new FarmDeletedEvent(tenantId, UUID.randomUUID()));
+            return new byte[] { 1 };
+        });
+
+        assertThat(cache.size(tenantId)).isZero();
+    }
+
+    @Test
+    void onFarmDeleted_shouldDropAllTilesOfTheTenant() {
+        cache.put(tenantId, new TileCoordinate(1, 0, 0), new byte[] { 1 });
+        cache.put(tenantId, new TileCoordinate(1, 1, 1), new byte[] { 2 });
+
+        cache.onFarmDeleted(new FarmDeletedEvent(tenantId, UUID.randomUUID()));
+
+        assertThat(cache.size(tenantId)).isZero();
+    }
+}
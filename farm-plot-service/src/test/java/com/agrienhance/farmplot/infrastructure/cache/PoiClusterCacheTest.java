@@ -0,0 +1,94 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.api.dto.poi.PointOfInterestClusterTileResponse;
+import com.agrienhance.farmplot.application.spatial.TileCoordinate;
+import com.agrienhance.farmplot.domain.event.PointOfInterestChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoiClusterCacheTest {
+
+    // At zoom 1 the western and eastern halves of the northern hemisphere
+    private static final TileCoordinate NORTH_WEST = new TileCoordinate(1, 0, 0);
+    private static final TileCoordinate NORTH_EAST = new TileCoordinate(1, 1, 0);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final PoiClusterCache cache = new PoiClusterCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry(),
+            nanos::get);
+    private final UUID tenantId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_shouldClusterEachTileOncePerTenant() {
+        cache.get(tenantId, NORTH_WEST, this::load);
+        cache.get(tenantId, NORTH_WEST, this::load);
+        cache.get(UUID.randomUUID(), NORTH_WEST, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void onPointOfInterestChanged_shouldOnlyEvictTilesContainingTheChangedLocations() {
+        UUID otherTenantId = UUID.randomUUID();
+        cache.get(tenantId, NORTH_WEST, this::load);
+        cache.get(tenantId, NORTH_EAST, this::load);
+        cache.get(otherTenantId, NORTH_WEST, this::load);
+
+        cache.onPointOfInterestChanged(new PointOfInterestChangedEvent(tenantId, null,
+                new Envelope(-20, -20, 10, 10)));
+
+        cache.get(tenantId, NORTH_WEST, this::load);
+        cache.get(tenantId, NORTH_EAST, this::load);
+        cache.get(otherTenantId, NORTH_WEST, this::load);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void onPointOfInterestChanged_shouldEvictTheTilesOfBothOldAndNewLocation() {
+        cache.get(tenantId, NORTH_WEST, this::load);
+        cache.get(tenantId, NORTH_EAST, this::load);
+
+        cache.onPointOfInterestChanged(new PointOfInterestChangedEvent(tenantId,
+                new Envelope(-20, -20, 10, 10), new Envelope(20, 20, 10, 10)));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldNotCacheATileClusteredWhileAnEvictionHappened() {
+        cache.get(tenantId, NORTH_WEST, () -> {
+            cache.evictIntersecting(tenantId, new Envelope(-20, -20, 10, 10));
+            return load();
+        });
+
+        cache.get(tenantId, NORTH_WEST, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_shouldReclusterOnceTheTtlExpires() {
+        cache.get(tenantId, NORTH_WEST, this::load);
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        cache.get(tenantId, NORTH_WEST, this::load);
+        assertThat(loads).hasValue(1);
+
+        // POIs may have changed through another instance; no event reaches this one
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        cache.get(tenantId, NORTH_WEST, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    private PointOfInterestClusterTileResponse load() {
+        loads.incrementAndGet();
+        return new PointOfInterestClusterTileResponse();
+    }
+}
@@ -0,0 +1,76 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import com.agrienhance.farmplot.application.spatial.SimplificationLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimplifiedGeometryCacheTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private SimplifiedGeometryCache cache;
+    private UUID plotIdentifier;
+    private Polygon geometry;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SimplifiedGeometryCache(2);
+        plotIdentifier = UUID.randomUUID();
+        geometry = circle(100);
+    }
+
+    @Test
+    void getSimplified_shouldReuseTheGeometryForTheSameVersionAndLevel() {
+        Polygon first = cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.forZoom(12));
+        Polygon second = cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.forZoom(12));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getNumPoints()).isLessThan(geometry.getNumPoints());
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void getSimplified_shouldKeepLevelsAndVersionsApart() {
+        Polygon coarse = cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.forZoom(10));
+        Polygon fine = cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.forZoom(16));
+        Polygon edited = cache.getSimplified(plotIdentifier, 1L, circle(20), SimplificationLevel.forZoom(10));
+
+        assertThat(fine.getNumPoints()).isGreaterThan(coarse.getNumPoints());
+        assertThat(edited).isNotSameAs(coarse);
+    }
+
+    @Test
+    void getSimplified_shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        Polygon first = cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.forZoom(10));
+        cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.forZoom(11));
+        cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.forZoom(12));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.forZoom(10)))
+                .isNotSameAs(first);
+    }
+
+    @Test
+    void getSimplified_withoutLevel_shouldNotCache() {
+        assertThat(cache.getSimplified(plotIdentifier, 0L, geometry, SimplificationLevel.NONE)).isSameAs(geometry);
+        assertThat(cache.size()).isZero();
+    }
+
+    private Polygon circle(int vertices) {
+        Coordinate[] ring = new Coordinate[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            ring[i] = new Coordinate(20 + 0.01 * Math.cos(angle), 50 + 0.01 * Math.sin(angle));
+        }
+        ring[vertices] = ring[0];
+        return geometryFactory.createPolygon(ring);
+    }
+}
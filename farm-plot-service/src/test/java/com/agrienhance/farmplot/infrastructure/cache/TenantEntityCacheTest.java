@@ -0,0 +1,94 @@
+package com.agrienhance.farmplot.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantEntityCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TenantEntityCache<String> cache = new TenantEntityCache<>("test", 10, Duration.ofMinutes(10),
+            meterRegistry);
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID identifier = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_shouldLoadOnceAndReportHitsAndMisses() {
+        assertThat(cache.get(tenantId, identifier, this::load)).contains("value");
+        assertThat(cache.get(tenantId, identifier, this::load)).contains("value");
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void get_shouldKeepTenantsApart() {
+        cache.get(tenantId, identifier, this::load);
+        cache.get(UUID.randomUUID(), identifier, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheAbsentEntities() {
+        cache.get(tenantId, identifier, Optional::empty);
+
+        assertThat(cache.get(tenantId, identifier, this::load)).contains("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_whenInvalidatedDuringLoad_shouldNotCacheTheLoadedValue() {
+        cache.get(tenantId, identifier, () -> {
+            cache.invalidate(tenantId, identifier);
+            return Optional.of("stale");
+        });
+
+        assertThat(cache.get(tenantId, identifier, this::load)).contains("value");
+    }
+
+    @Test
+    void get_insideReadWriteTransaction_shouldBypassTheCache() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            cache.get(tenantId, identifier, this::load);
+            cache.get(tenantId, identifier, this::load);
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidateIf_shouldOnlyDropMatchingEntriesOfTheTenant() {
+        UUID otherTenant = UUID.randomUUID();
+        UUID otherIdentifier = UUID.randomUUID();
+        cache.get(tenantId, identifier, this::load);
+        cache.get(tenantId, otherIdentifier, () -> Optional.of("kept"));
+        cache.get(otherTenant, identifier, this::load);
+
+        cache.invalidateIf(tenantId, "value"::equals);
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get(otherTenant, identifier, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<String> load() {
+        loads.incrementAndGet();
+        return Optional.of("value");
+    }
+}
@@ -0,0 +1,33 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTrackerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), nanos::get);
+
+    @Test
+    void wroteRecently_shouldHoldForTheWindowAfterAWrite() {
+        UUID tenantId = UUID.randomUUID();
+        tracker.recordWrite(tenantId);
+
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThat(tracker.wroteRecently(tenantId)).isTrue();
+        assertThat(tracker.wroteRecently(UUID.randomUUID())).isFalse();
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(tracker.wroteRecently(tenantId)).isFalse();
+    }
+
+    @Test
+    void wroteRecently_shouldBeFalseWithoutATenant() {
+        assertThat(tracker.wroteRecently(null)).isFalse();
+    }
+}
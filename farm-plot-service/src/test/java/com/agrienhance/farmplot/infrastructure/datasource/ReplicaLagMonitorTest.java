@@ -0,0 +1,154 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaLagMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(2),
+            meterRegistry, nanos::get);
+
+    private final AtomicReference<Long> primaryPosition = new AtomicReference<>(100L);
+    private final AtomicReference<Long> replayedPosition = new AtomicReference<>(100L);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        answer(primary, ReplicaLagMonitor.PRIMARY_LSN_SQL, primaryPosition);
+        answer(replica, ReplicaLagMonitor.REPLAY_LSN_SQL, replayedPosition);
+    }
+
+    @Test
+    void acceptsReads_shouldWaitForTheFirstMeasurement() {
+        assertThat(monitor.acceptsReads()).isFalse();
+        assertThat(lagGauge()).isNaN();
+    }
+
+    @Test
+    void measure_shouldAcceptReadsWithinTheMaximumLag() {
+        monitor.measure();
+        primaryPosition.set(200L);
+        advance(Duration.ofSeconds(1));
+        monitor.measure();
+        advance(Duration.ofMillis(1500));
+        monitor.measure();
+
+        assertThat(monitor.acceptsReads()).isTrue();
+        assertThat(lagGauge()).isEqualTo(1.5);
+    }
+
+    @Test
+    void measure_shouldRefuseReadsBeyondTheMaximumLag() {
+        monitor.measure();
+        primaryPosition.set(200L);
+        monitor.measure();
+        advance(Duration.ofMillis(2500));
+        monitor.measure();
+
+        assertThat(monitor.acceptsReads()).isFalse();
+        assertThat(lagGauge()).isEqualTo(2.5);
+    }
+
+    @Test
+    void measure_shouldAcceptReadsAgainOnceTheReplicaCatchesUp() {
+        monitor.measure();
+        primaryPosition.set(200L);
+        monitor.measure();
+        advance(Duration.ofSeconds(5));
+        monitor.measure();
+        replayedPosition.set(200L);
+        monitor.measure();
+
+        assertThat(monitor.acceptsReads()).isTrue();
+        assertThat(lagGauge()).isZero();
+    }
+
+    @Test
+    void measure_shouldCountAnIdleCaughtUpReplicaAsNotLagging() {
+        monitor.measure();
+        advance(Duration.ofMinutes(10));
+        monitor.measure();
+
+        assertThat(monitor.acceptsReads()).isTrue();
+    }
+
+    @Test
+    void measure_shouldRefuseReadsWhenTheReplicaStoppedReceivingWhileThePrimaryMovedOn() {
+        // The replica replayed all it received before its connection dropped;
+        // its receive and replay positions agree, but the primary is ahead
+        monitor.measure();
+        primaryPosition.set(150L);
+        advance(Duration.ofSeconds(1));
+        monitor.measure();
+        assertThat(monitor.acceptsReads()).isTrue();
+
+        advance(Duration.ofSeconds(3));
+        monitor.measure();
+
+        assertThat(monitor.acceptsReads()).isFalse();
+        assertThat(lagGauge()).isEqualTo(3.0);
+    }
+
+    @Test
+    void measure_shouldCountANonStandbyAsNotLagging() {
+        replayedPosition.set(null);
+        primaryPosition.set(500L);
+        monitor.measure();
+
+        assertThat(monitor.acceptsReads()).isTrue();
+    }
+
+    @Test
+    void measure_shouldRefuseReadsWhenTheReplicaCantBeReached() throws SQLException {
+        monitor.measure();
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        monitor.measure();
+
+        assertThat(monitor.acceptsReads()).isFalse();
+        assertThat(lagGauge()).isNaN();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void answer(DataSource dataSource, String sql, AtomicReference<Long> value) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(sql)).thenAnswer(invocation -> {
+            ResultSet resultSet = mock(ResultSet.class);
+            ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+            Long current = value.get();
+            when(resultSet.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnCount()).thenReturn(1);
+            when(resultSet.next()).thenReturn(true, false);
+            when(resultSet.getLong(1)).thenReturn(current == null ? 0L : current);
+            when(resultSet.wasNull()).thenReturn(current == null);
+            return resultSet;
+        });
+    }
+
+    private double lagGauge() {
+        return meterRegistry.get("farmplot.datasource.replica.lag").gauge().value();
+    }
+}
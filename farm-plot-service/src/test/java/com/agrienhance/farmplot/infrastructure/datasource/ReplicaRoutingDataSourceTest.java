@@ -0,0 +1,61 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+    private final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(mock(DataSource.class),
+            mock(DataSource.class), lagMonitor, tracker, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        TenantRoutingContext.restore(null);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldReadFromTheReplicaWhileItKeepsUp() {
+        when(lagMonitor.acceptsReads()).thenReturn(true);
+        TenantRoutingContext.enter(UUID.randomUUID());
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+        assertThat(reads("replica")).isEqualTo(1);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldReadFromThePrimaryWhenTheReplicaLags() {
+        when(lagMonitor.acceptsReads()).thenReturn(false);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        assertThat(reads("lag")).isEqualTo(1);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldKeepATenantThatJustWroteOnThePrimary() {
+        when(lagMonitor.acceptsReads()).thenReturn(true);
+        UUID writer = UUID.randomUUID();
+        tracker.recordWrite(writer);
+
+        TenantRoutingContext.enter(writer);
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        TenantRoutingContext.enter(UUID.randomUUID());
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+        assertThat(reads("read-your-writes")).isEqualTo(1);
+    }
+
+    private double reads(String reason) {
+        return meterRegistry.get("farmplot.datasource.reads").tag("reason", reason).counter().count();
+    }
+}
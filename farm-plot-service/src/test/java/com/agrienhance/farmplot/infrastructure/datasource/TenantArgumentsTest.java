@@ -0,0 +1,36 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantArgumentsTest {
+
+    @Test
+    void of_shouldReturnTheArgumentPassedAsTenantId() throws NoSuchMethodException {
+        Method method = Lookups.class.getMethod("find", UUID.class, UUID.class);
+        UUID plotIdentifier = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+
+        assertThat(TenantArguments.indexOf(method)).isEqualTo(1);
+        assertThat(TenantArguments.of(method, new Object[] { plotIdentifier, tenantId })).isEqualTo(tenantId);
+    }
+
+    @Test
+    void of_withoutATenantIdParameter_shouldReturnNull() throws NoSuchMethodException {
+        Method method = Lookups.class.getMethod("findAll", String.class, UUID.class);
+
+        assertThat(TenantArguments.indexOf(method)).isEqualTo(TenantArguments.NONE);
+        assertThat(TenantArguments.of(method, new Object[] { "tenantId", UUID.randomUUID() })).isNull();
+    }
+
+    public interface Lookups {
+        Object find(UUID plotIdentifier, UUID tenantId);
+
+        // A String tenantId or a UUID under another name doesn't count
+        Object findAll(String tenantId, UUID farmIdentifier);
+    }
+}
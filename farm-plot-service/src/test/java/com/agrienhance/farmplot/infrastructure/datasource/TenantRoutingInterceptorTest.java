@@ -0,0 +1,61 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import com.agrienhance.farmplot.application.service.impl.PlotLookupServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantRoutingInterceptorTest {
+
+    @Test
+    void invoke_shouldMakeTheTenantArgumentCurrentForTheCall() {
+        TenantService service = proxied(new TenantService());
+        UUID tenantId = UUID.randomUUID();
+
+        assertThat(service.currentTenant(tenantId)).isEqualTo(tenantId);
+        assertThat(TenantRoutingContext.currentTenant()).isNull();
+    }
+
+    @Test
+    void invoke_shouldRestoreTheOuterTenantAfterANestedCall() {
+        TenantService service = proxied(new TenantService());
+        UUID outer = UUID.randomUUID();
+        UUID inner = UUID.randomUUID();
+
+        assertThat(service.tenantsAroundNestedCall(outer, inner, service)).containsExactly(outer, inner, outer);
+    }
+
+    @Test
+    void pointcut_shouldMatchServiceMethodsTakingATenant() throws NoSuchMethodException {
+        var methodMatcher = TenantRoutingInterceptor.pointcut().getMethodMatcher();
+
+        assertThat(methodMatcher.matches(PlotLookupServiceImpl.class.getMethod("findPlotsAtPoint",
+                double.class, double.class, UUID.class), PlotLookupServiceImpl.class)).isTrue();
+        assertThat(methodMatcher.matches(TenantService.class.getMethod("currentTenant", UUID.class),
+                TenantService.class)).isFalse(); // Not an application service
+        assertThat(methodMatcher.matches(Object.class.getMethod("toString"), PlotLookupServiceImpl.class)).isFalse();
+    }
+
+    private static TenantService proxied(TenantService target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TenantRoutingInterceptor());
+        return (TenantService) proxyFactory.getProxy();
+    }
+
+    public static class TenantService {
+
+        public UUID currentTenant(UUID tenantId) {
+            return TenantRoutingContext.currentTenant();
+        }
+
+        public UUID[] tenantsAroundNestedCall(UUID tenantId, UUID nestedTenantId, TenantService self) {
+            UUID before = TenantRoutingContext.currentTenant();
+            UUID nested = self.currentTenant(nestedTenantId);
+            return new UUID[] { before, nested, TenantRoutingContext.currentTenant() };
+        }
+    }
+}
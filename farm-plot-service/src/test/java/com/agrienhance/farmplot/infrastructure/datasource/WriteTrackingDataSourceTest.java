@@ -0,0 +1,69 @@
+package com.agrienhance.farmplot.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WriteTrackingDataSourceTest {
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+    private WriteTrackingDataSource dataSource;
+    private final UUID tenantId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        dataSource = new WriteTrackingDataSource(primary, tracker);
+        TenantRoutingContext.enter(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantRoutingContext.restore(null);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_shouldRecordTheWriteOnceTheTransactionCommits() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dataSource.getConnection();
+        assertThat(tracker.wroteRecently(tenantId)).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(tracker.wroteRecently(tenantId)).isTrue();
+    }
+
+    @Test
+    void getConnection_shouldNotRecordReadOnlyTransactions() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        dataSource.getConnection();
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    void getConnection_shouldNotRecordOutsideOfATransaction() throws SQLException {
+        dataSource.getConnection();
+
+        assertThat(tracker.wroteRecently(tenantId)).isFalse();
+    }
+}
@@ -0,0 +1,154 @@
+package com.agrienhance.farmplot.infrastructure.metrics;
+
+import com.agrienhance.farmplot.domain.entity.Plot;
+import com.agrienhance.farmplot.domain.repository.PlotRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositoryMetricsInterceptorTest {
+
+    private static final UUID PREMIUM_TENANT = UUID.randomUUID();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RepositoryMetricsInterceptor interceptor = new RepositoryMetricsInterceptor(meterRegistry,
+            new TenantTiers(Map.of(PREMIUM_TENANT, "premium"), "standard"), "PlotRepository");
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    void invoke_shouldTimeTheCallTaggedWithTenantTierAndResultSize() throws Throwable {
+        Method method = PlotRepository.class.getMethod("findAllByFarm_FarmIdentifierAndTenantId", UUID.class,
+                UUID.class);
+        List<Plot> plots = List.of(plot(5), plot(50), plot(5));
+
+        Object result = interceptor.invoke(invocation(method, plots, UUID.randomUUID(), PREMIUM_TENANT));
+
+        assertThat(result).isSameAs(plots);
+        Timer timer = meterRegistry.get(RepositoryMetricsInterceptor.CALLS)
+                .tag("repository", "PlotRepository")
+                .tag("method", "findAllByFarm_FarmIdentifierAndTenantId")
+                .tag("tenant.tier", "premium")
+                .tag("result.size", "2-10")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void invoke_shouldTagTheHistogramTimerByRepositoryAndMethodOnly() throws Throwable {
+        Method method = PlotRepository.class.getMethod("findAllByFarm_FarmIdentifierAndTenantId", UUID.class,
+                UUID.class);
+        interceptor.invoke(invocation(method, List.of(plot(5)), UUID.randomUUID(), PREMIUM_TENANT));
+        interceptor.invoke(invocation(method, List.of(), UUID.randomUUID(), UUID.randomUUID()));
+
+        Timer invocations = meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS).timer();
+        assertThat(invocations.getId().getTags()).extracting(Tag::getKey).containsExactlyInAnyOrder(
+                "repository", "method");
+        assertThat(invocations.count()).isEqualTo(2);
+        // The breakdown by tier and result size goes to a separate timer
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.CALLS).timers()).hasSize(2);
+    }
+
+    @Test
+    void invoke_shouldRecordTheVertexCountOfEveryReturnedBoundary() throws Throwable {
+        Method method = PlotRepository.class.getMethod("findAllByFarm_FarmIdentifierAndTenantId", UUID.class,
+                UUID.class, Pageable.class);
+
+        interceptor.invoke(invocation(method, new PageImpl<>(List.of(plot(5), plot(50))), UUID.randomUUID(),
+                UUID.randomUUID(), Pageable.unpaged()));
+
+        DistributionSummary vertices = meterRegistry.get(RepositoryMetricsInterceptor.GEOMETRY_VERTICES)
+                .tag("method", "findAllByFarm_FarmIdentifierAndTenantId")
+                .summary();
+        assertThat(vertices.count()).isEqualTo(2);
+        // Closed rings repeat their first vertex
+        assertThat(vertices.totalAmount()).isEqualTo(6 + 51);
+        assertThat(vertices.max()).isEqualTo(51);
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.CALLS).tag("tenant.tier", "standard")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void invoke_shouldTagTheExceptionAndRethrowIt() throws Throwable {
+        Method method = PlotRepository.class.getMethod("findByPlotIdentifierAndTenantId", UUID.class, UUID.class);
+        MethodInvocation invocation = invocation(method, null, UUID.randomUUID(), UUID.randomUUID());
+        when(invocation.proceed()).thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThrows(EmptyResultDataAccessException.class, () -> interceptor.invoke(invocation));
+
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.CALLS)
+                .tag("exception", "EmptyResultDataAccessException")
+                .tag("result.size", RepositoryMetricsInterceptor.NOT_COUNTED)
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(RepositoryMetricsInterceptor.GEOMETRY_VERTICES).summary()).isNull();
+    }
+
+    @Test
+    void invoke_withoutTenantArgument_shouldTagNoTier() throws Throwable {
+        Method method = PlotRepository.class.getMethod("findById", Object.class);
+
+        interceptor.invoke(invocation(method, Optional.empty(), UUID.randomUUID()));
+
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.CALLS)
+                .tag("tenant.tier", TenantTiers.NO_TENANT)
+                .tag("result.size", "0")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void resultSize_shouldBucketRowsAndSkipNonRowResults() {
+        assertThat(RepositoryMetricsInterceptor.resultSize(null)).isEqualTo("0");
+        assertThat(RepositoryMetricsInterceptor.resultSize(Optional.of(plot(5)))).isEqualTo("1");
+        assertThat(RepositoryMetricsInterceptor.resultSize(plot(5))).isEqualTo("1");
+        assertThat(RepositoryMetricsInterceptor.resultSize(Collections.nCopies(100, "row"))).isEqualTo("11-100");
+        assertThat(RepositoryMetricsInterceptor.resultSize(Collections.nCopies(1001, "row"))).isEqualTo("1001+");
+        assertThat(RepositoryMetricsInterceptor.resultSize(42L)).isEqualTo(RepositoryMetricsInterceptor.NOT_COUNTED);
+        assertThat(RepositoryMetricsInterceptor.resultSize(true)).isEqualTo(RepositoryMetricsInterceptor.NOT_COUNTED);
+        assertThat(RepositoryMetricsInterceptor.resultSize(new byte[8]))
+                .isEqualTo(RepositoryMetricsInterceptor.NOT_COUNTED);
+        assertThat(RepositoryMetricsInterceptor.resultSize(Stream.of(plot(5))))
+                .isEqualTo(RepositoryMetricsInterceptor.NOT_COUNTED);
+    }
+
+    private MethodInvocation invocation(Method method, Object result, Object... arguments) throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        when(invocation.getArguments()).thenReturn(arguments);
+        when(invocation.proceed()).thenReturn(result);
+        return invocation;
+    }
+
+    private Plot plot(int vertexCount) {
+        Coordinate[] ring = new Coordinate[vertexCount + 1];
+        for (int i = 0; i < vertexCount; i++) {
+            double angle = 2 * Math.PI * i / vertexCount;
+            ring[i] = new Coordinate(Math.cos(angle), Math.sin(angle));
+        }
+        ring[vertexCount] = ring[0];
+        Polygon boundary = geometryFactory.createPolygon(ring);
+        return Plot.builder().plotGeometry(boundary).build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.agrienhance.farmplot.infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantTiersTest {
+
+    @Test
+    void tierOf_shouldUseConfiguredTiersAndFallBackToTheDefault() {
+        UUID premiumTenant = UUID.randomUUID();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("farmplot.metrics.tenant-tiers." + premiumTenant, "premium");
+
+        TenantTiers tenantTiers = new TenantTiers(environment, "standard");
+
+        assertThat(tenantTiers.tierOf(premiumTenant)).isEqualTo("premium");
+        assertThat(tenantTiers.tierOf(UUID.randomUUID())).isEqualTo("standard");
+        assertThat(tenantTiers.tierOf(null)).isEqualTo(TenantTiers.NO_TENANT);
+    }
+}
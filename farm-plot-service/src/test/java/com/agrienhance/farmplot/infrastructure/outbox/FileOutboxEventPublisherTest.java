@@ -0,0 +1,84 @@
+package com.agrienhance.farmplot.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileOutboxEventPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void publish_shouldAppendOneJsonLinePerMessageWithEmbeddedPayload() throws IOException {
+        Path file = directory.resolve("events/outbox.ndjson");
+        FileOutboxEventPublisher publisher = new FileOutboxEventPublisher(objectMapper, file);
+        UUID farmId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+
+        publisher.publish(List.of(message(1, farmId, tenantId, "FARM_CREATED", "{\"farmName\":\"A\"}")));
+        publisher.publish(List.of(message(2, farmId, tenantId, "FARM_UPDATED", "{\"farmName\":\"B\"}")));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("sequence").asLong()).isEqualTo(1);
+        assertThat(first.get("eventType").asText()).isEqualTo("FARM_CREATED");
+        assertThat(first.get("aggregateIdentifier").asText()).isEqualTo(farmId.toString());
+        assertThat(first.get("tenantId").asText()).isEqualTo(tenantId.toString());
+        assertThat(first.get("payload").get("farmName").asText()).isEqualTo("A");
+        assertThat(objectMapper.readTree(lines.get(1)).get("eventType").asText()).isEqualTo("FARM_UPDATED");
+    }
+
+    @Test
+    void publish_shouldKeepLinesIntactWhenBatchesArePublishedConcurrently() throws Exception {
+        Path file = directory.resolve("outbox.ndjson");
+        FileOutboxEventPublisher publisher = new FileOutboxEventPublisher(objectMapper, file);
+        UUID tenantId = UUID.randomUUID();
+        List<Thread> publishers = new ArrayList<>();
+        for (int batch = 0; batch < 8; batch++) {
+            List<OutboxMessage> messages = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                messages.add(message(batch * 50L + i, UUID.randomUUID(), tenantId, "FARM_CREATED", "{\"farmName\":\"A\"}"));
+            }
+            publishers.add(Thread.ofVirtual().start(() -> {
+                try {
+                    publisher.publish(messages);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        }
+        for (Thread thread : publishers) {
+            thread.join();
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        Set<Long> sequences = new HashSet<>();
+        for (String line : lines) {
+            sequences.add(objectMapper.readTree(line).get("sequence").asLong());
+        }
+        assertThat(lines).hasSize(400);
+        assertThat(sequences).hasSize(400);
+    }
+
+    private OutboxMessage message(long sequence, UUID aggregateId, UUID tenantId, String eventType, String payload) {
+        return new OutboxMessage(sequence, "FARM", aggregateId, tenantId, eventType, payload, OffsetDateTime.now());
+    }
+}
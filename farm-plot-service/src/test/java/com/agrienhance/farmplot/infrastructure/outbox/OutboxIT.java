@@ -0,0 +1,100 @@
+package com.agrienhance.farmplot.infrastructure.outbox;
+
+import com.agrienhance.farmplot.api.dto.farm.CreateFarmRequest;
+import com.agrienhance.farmplot.api.dto.farm.FarmResponse;
+import com.agrienhance.farmplot.api.dto.farm.UpdateFarmRequest;
+import com.agrienhance.farmplot.application.service.FarmApplicationService;
+import com.agrienhance.farmplot.config.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not @Transactional: events only reach the outbox when the service
+// transaction commits. The scheduled relay is slowed down so the test drives it.
+@TestPropertySource(properties = "farmplot.outbox.relay.interval=PT1H")
+public class OutboxIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private FarmApplicationService farmApplicationService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RelayedMessageCollector relayedMessages;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relayPending();
+        relayedMessages.clear();
+    }
+
+    @Test
+    void farmLifecycle_shouldRelayEventsInOrderAndEmptyTheOutbox() {
+        UUID tenantId = UUID.randomUUID();
+        FarmResponse farm = farmApplicationService.createFarm(CreateFarmRequest.builder()
+                .farmName("Outbox Farm")
+                .ownerReferenceId(UUID.randomUUID())
+                .countryCode("KE")
+                .build(), tenantId);
+        farmApplicationService.updateFarm(farm.getFarmIdentifier(), UpdateFarmRequest.builder()
+                .farmName("Renamed Outbox Farm")
+                .build(), tenantId);
+        farmApplicationService.deleteFarm(farm.getFarmIdentifier(), tenantId);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events WHERE aggregate_identifier = ?",
+                Long.class, farm.getFarmIdentifier())).isEqualTo(3);
+
+        outboxRelay.relayPending();
+
+        List<OutboxMessage> farmEvents = relayedMessages.messages().stream()
+                .filter(message -> message.aggregateIdentifier().equals(farm.getFarmIdentifier()))
+                .toList();
+        assertThat(farmEvents).extracting(OutboxMessage::eventType)
+                .containsExactly("FARM_CREATED", "FARM_UPDATED", "FARM_DELETED");
+        assertThat(farmEvents).allMatch(message -> message.tenantId().equals(tenantId));
+        assertThat(farmEvents.get(1).payload()).contains("Renamed Outbox Farm");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events", Long.class)).isZero();
+    }
+
+    @TestConfiguration
+    static class RelayedMessagesConfig {
+
+        @Bean
+        RelayedMessageCollector relayedMessageCollector() {
+            return new RelayedMessageCollector();
+        }
+    }
+
+    static class RelayedMessageCollector {
+
+        private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onMessage(OutboxMessage message) {
+            messages.add(message);
+        }
+
+        List<OutboxMessage> messages() {
+            return messages;
+        }
+
+        void clear() {
+            messages.clear();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.agrienhance.farmplot.infrastructure.threads;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry,
+            Duration.ofMillis(20));
+
+    @Test
+    void record_shouldTimeThePin() {
+        monitor.record(Duration.ofMillis(35), "com.agrienhance.Example.run:12");
+
+        Timer pinned = meterRegistry.get("farmplot.virtual-threads.pinned").timer();
+        assertThat(pinned.count()).isEqualTo(1);
+        assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(35);
+    }
+
+    // From Java 24 on, blocking inside synchronized no longer pins (JEP 491)
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_23)
+    void start_shouldPickUpVirtualThreadsBlockingInsideAMonitor() throws InterruptedException {
+        monitor.start();
+        try {
+            Object monitorLock = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitorLock) {
+                    sleep(Duration.ofMillis(100));
+                }
+            }).join();
+
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                    assertThat(meterRegistry.get("farmplot.virtual-threads.pinned").timer().count())
+                            .isGreaterThanOrEqualTo(1));
+        } finally {
+            monitor.stop();
+        }
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
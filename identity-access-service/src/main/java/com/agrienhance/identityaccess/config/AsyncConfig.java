@@ -0,0 +1,10 @@
+package com.agrienhance.identityaccess.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async methods run on Boot's applicationTaskExecutor, on virtual threads when spring.threads.virtual.enabled
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,82 @@
+package com.agrienhance.identityaccess.infrastructure.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Times and logs virtual threads pinned to their carrier for longer than the
+ * threshold, read from the JDK's {@code jdk.VirtualThreadPinned} flight
+ * recorder event, as {@code identity.virtual-threads.pinned}. Calls to
+ * Keycloak and the database block; doing so inside {@code synchronized}
+ * keeps a carrier busy, and there is only one per core.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final Timer pinned;
+    private final Duration threshold;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${identity.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.pinned = Timer.builder("identity.virtual-threads.pinned")
+                .description("Virtual threads pinned to their carrier for longer than the threshold")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> record(event.getDuration(), topFrame(event.getStackTrace())));
+        stream.startAsync();
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void record(Duration duration, String site) {
+        pinned.record(duration);
+        logger.warn("Virtual thread pinned to its carrier for {} ms at {}", duration.toMillis(), site);
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        return frames.stream()
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("unknown frame");
+    }
+}